@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.api.advice;
+
+import java.lang.reflect.Method;
+import org.apache.shardingsphere.agent.api.advice.InstanceMethodAroundAdvice;
+import org.apache.shardingsphere.agent.api.result.MethodInvocationResult;
+import org.apache.shardingsphere.agent.api.advice.AdviceTargetObject;
+import org.apache.shardingsphere.agent.metrics.api.reporter.MetricsReporter;
+import org.apache.shardingsphere.agent.metrics.api.constant.MethodNameConstant;
+
+/**
+ * Backend connection multiplexer advice.
+ */
+public final class BackendConnectionMultiplexerAdvice implements InstanceMethodAroundAdvice {
+    
+    private static final String BACKEND_CONNECTION_TOTAL = "proxy_backend_connection_total";
+    
+    private static final String SESSION_STATE_REPLAY_TOTAL = "proxy_session_state_replay_total";
+    
+    private static final String SESSION_STATE_REPLAY_LATENCY = "proxy_session_state_replay_latency_millis";
+    
+    private static final ThreadLocal<Long> REPLAY_START_TIME = new ThreadLocal<>();
+    
+    static {
+        MetricsReporter.registerGauge(BACKEND_CONNECTION_TOTAL, "the shardingsphere proxy backend connection total held by client connections");
+        MetricsReporter.registerCounter(SESSION_STATE_REPLAY_TOTAL, "the shardingsphere proxy session state replay statement total");
+        MetricsReporter.registerHistogram(SESSION_STATE_REPLAY_LATENCY, "the shardingsphere proxy session state replay latency millis");
+    }
+    
+    @Override
+    public void beforeMethod(final AdviceTargetObject target, final Method method, final Object[] args, final MethodInvocationResult result) {
+        String methodName = method.getName();
+        if (MethodNameConstant.BACKEND_CONNECTION_ACQUIRE.equals(methodName)) {
+            MetricsReporter.gaugeIncrement(BACKEND_CONNECTION_TOTAL);
+        } else if (MethodNameConstant.BACKEND_CONNECTION_RELEASE.equals(methodName)) {
+            MetricsReporter.gaugeDecrement(BACKEND_CONNECTION_TOTAL);
+        } else if (MethodNameConstant.SESSION_STATE_REPLAY.equals(methodName)) {
+            REPLAY_START_TIME.set(System.currentTimeMillis());
+        }
+    }
+    
+    @Override
+    public void afterMethod(final AdviceTargetObject target, final Method method, final Object[] args, final MethodInvocationResult result) {
+        if (!MethodNameConstant.SESSION_STATE_REPLAY.equals(method.getName()) || null == REPLAY_START_TIME.get()) {
+            return;
+        }
+        try {
+            MetricsReporter.counterIncrement(SESSION_STATE_REPLAY_TOTAL);
+            MetricsReporter.recordTime(SESSION_STATE_REPLAY_LATENCY, System.currentTimeMillis() - REPLAY_START_TIME.get());
+        } finally {
+            REPLAY_START_TIME.remove();
+        }
+    }
+}
@@ -39,4 +39,10 @@ public final class MethodNameConstant {
     public static final String COMMIT = "commit";
     
     public static final String ROLL_BACK = "rollback";
+    
+    public static final String BACKEND_CONNECTION_ACQUIRE = "acquire";
+    
+    public static final String BACKEND_CONNECTION_RELEASE = "release";
+    
+    public static final String SESSION_STATE_REPLAY = "execute";
 }
@@ -42,6 +42,10 @@ public final class MetricsPluginDefinitionService extends AbstractPluginDefiniti
     
     private static final String TRANSACTION_ADVICE_CLASS = "org.apache.shardingsphere.agent.metrics.api.advice.TransactionAdvice";
     
+    private static final String BACKEND_CONNECTION_MULTIPLEXER_ENHANCE_CLASS = "org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnectionMultiplexer";
+    
+    private static final String BACKEND_CONNECTION_MULTIPLEXER_ADVICE_CLASS = "org.apache.shardingsphere.agent.metrics.api.advice.BackendConnectionMultiplexerAdvice";
+    
     @Override
     public void defineInterceptors() {
         defineInterceptor(COMMAND_EXECUTOR_TASK_ENHANCE_CLASS)
@@ -61,6 +65,11 @@ public final class MetricsPluginDefinitionService extends AbstractPluginDefiniti
                 .aroundInstanceMethod(ElementMatchers.named(MethodNameConstant.COMMIT).or(ElementMatchers.named(MethodNameConstant.ROLL_BACK)))
                 .implement(TRANSACTION_ADVICE_CLASS)
                 .build();
+        defineInterceptor(BACKEND_CONNECTION_MULTIPLEXER_ENHANCE_CLASS)
+                .aroundInstanceMethod(ElementMatchers.named(MethodNameConstant.BACKEND_CONNECTION_ACQUIRE).or(ElementMatchers.named(MethodNameConstant.BACKEND_CONNECTION_RELEASE))
+                        .or(ElementMatchers.named(MethodNameConstant.SESSION_STATE_REPLAY)))
+                .implement(BACKEND_CONNECTION_MULTIPLEXER_ADVICE_CLASS)
+                .build();
     }
     
     @Override
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.api.advice;
+
+import org.apache.shardingsphere.agent.api.result.MethodInvocationResult;
+import org.apache.shardingsphere.agent.metrics.api.constant.MethodNameConstant;
+import org.apache.shardingsphere.agent.metrics.api.util.ReflectiveUtil;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class BackendConnectionMultiplexerAdviceTest extends MetricsAdviceBaseTest {
+    
+    private final BackendConnectionMultiplexerAdvice backendConnectionMultiplexerAdvice = new BackendConnectionMultiplexerAdvice();
+    
+    @Mock
+    private Method acquire;
+    
+    @Mock
+    private Method release;
+    
+    @Mock
+    private Method execute;
+    
+    @After
+    public void tearDown() {
+        ((Map<?, ?>) ReflectiveUtil.getFieldValue(getFixturemetricsregister(), "GAUGE_MAP")).remove("proxy_backend_connection_total");
+        ((Map<?, ?>) ReflectiveUtil.getFieldValue(getFixturemetricsregister(), "COUNTER_MAP")).remove("proxy_session_state_replay_total");
+        ((Map<?, ?>) ReflectiveUtil.getFieldValue(getFixturemetricsregister(), "HISTOGRAM_MAP")).remove("proxy_session_state_replay_latency_millis");
+    }
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    public void assertMethod() {
+        when(acquire.getName()).thenReturn(MethodNameConstant.BACKEND_CONNECTION_ACQUIRE);
+        when(release.getName()).thenReturn(MethodNameConstant.BACKEND_CONNECTION_RELEASE);
+        when(execute.getName()).thenReturn(MethodNameConstant.SESSION_STATE_REPLAY);
+        MockAdviceTargetObject targetObject = new MockAdviceTargetObject();
+        backendConnectionMultiplexerAdvice.beforeMethod(targetObject, acquire, new Object[]{}, new MethodInvocationResult());
+        backendConnectionMultiplexerAdvice.beforeMethod(targetObject, acquire, new Object[]{}, new MethodInvocationResult());
+        backendConnectionMultiplexerAdvice.beforeMethod(targetObject, release, new Object[]{}, new MethodInvocationResult());
+        backendConnectionMultiplexerAdvice.beforeMethod(targetObject, execute, new Object[]{}, new MethodInvocationResult());
+        backendConnectionMultiplexerAdvice.afterMethod(targetObject, execute, new Object[]{}, new MethodInvocationResult());
+        AtomicInteger backendConnectionTotal = ((Map<String, AtomicInteger>) ReflectiveUtil.getFieldValue(getFixturemetricsregister(), "GAUGE_MAP")).get("proxy_backend_connection_total");
+        assertNotNull(backendConnectionTotal);
+        assertThat(backendConnectionTotal.intValue(), is(1));
+        DoubleAdder replayTotal = ((Map<String, DoubleAdder>) ReflectiveUtil.getFieldValue(getFixturemetricsregister(), "COUNTER_MAP")).get("proxy_session_state_replay_total");
+        assertNotNull(replayTotal);
+        assertThat(replayTotal.intValue(), is(1));
+        assertNotNull(((Map<String, LongAdder>) ReflectiveUtil.getFieldValue(getFixturemetricsregister(), "HISTOGRAM_MAP")).get("proxy_session_state_replay_latency_millis"));
+    }
+}
@@ -65,4 +65,10 @@ public interface DatabasePacketCodecEngine<T extends DatabasePacket<?>> {
      * @return packet payload
      */
     PacketPayload createPacketPayload(ByteBuf message);
+    
+    /**
+     * Release buffers retained by codec engine.
+     */
+    default void release() {
+    }
 }
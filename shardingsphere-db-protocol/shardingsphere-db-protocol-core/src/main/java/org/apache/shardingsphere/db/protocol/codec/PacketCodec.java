@@ -56,4 +56,16 @@ public final class PacketCodec extends ByteToMessageCodec<DatabasePacket<?>> {
             log.debug("Write to client {} : \n {}", context.channel().id().asShortText(), ByteBufUtil.prettyHexDump(out));
         }
     }
+    
+    @Override
+    public void channelInactive(final ChannelHandlerContext context) throws Exception {
+        databasePacketCodecEngine.release();
+        super.channelInactive(context);
+    }
+    
+    @Override
+    public void handlerRemoved(final ChannelHandlerContext context) throws Exception {
+        databasePacketCodecEngine.release();
+        super.handlerRemoved(context);
+    }
 }
@@ -77,6 +77,10 @@ public enum CommonErrorCode implements SQLErrorCode {
     
     TABLE_LOCKED(1302, "C1302", "The table %s of schema %s is locked"),
     
+    MEMORY_LIMIT_EXCEEDED(1401, "C1401", "Can not reserve %s bytes, proxy memory pool size of %s bytes exceeded"),
+    
+    MEMORY_ADMISSION_TIMEOUT(1402, "C1402", "Proxy memory pool exhausted, admission wait timeout of %s ms exceeded"),
+    
     UNSUPPORTED_COMMAND(1998, "C1998", "Unsupported command: [%s]"),
     
     UNKNOWN_EXCEPTION(1999, "C1999", "Unknown exception: [%s]");
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.codec;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Deflater;
+
+/**
+ * Deflater pool.
+ *
+ * <p>Deflaters hold hundreds of KB native memory, so they are borrowed by event loops for each compressed packet instead of held by each channel.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DeflaterPool {
+    
+    private static final DeflaterPool INSTANCE = new DeflaterPool();
+    
+    private static final int MAX_IDLE_SIZE = Runtime.getRuntime().availableProcessors() * 2;
+    
+    private final Queue<Deflater> idleDeflaters = new ConcurrentLinkedQueue<>();
+    
+    private final AtomicInteger idleSize = new AtomicInteger();
+    
+    /**
+     * Get instance of deflater pool.
+     *
+     * @return instance of deflater pool
+     */
+    public static DeflaterPool getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Borrow deflater.
+     *
+     * @param level compression level
+     * @return deflater
+     */
+    public Deflater borrow(final int level) {
+        Deflater result = idleDeflaters.poll();
+        if (null == result) {
+            return new Deflater(level);
+        }
+        idleSize.decrementAndGet();
+        result.setLevel(level);
+        return result;
+    }
+    
+    /**
+     * Give back deflater.
+     *
+     * @param deflater deflater to give back
+     */
+    public void giveBack(final Deflater deflater) {
+        deflater.reset();
+        if (idleSize.incrementAndGet() > MAX_IDLE_SIZE) {
+            idleSize.decrementAndGet();
+            deflater.end();
+            return;
+        }
+        idleDeflaters.offer(deflater);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.handler.codec.CorruptedFrameException;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Compressed packet decoder for MySQL.
+ *
+ * <p>Unwraps compressed packets into raw MySQL packet bytes, which may split or join MySQL packets at any position.</p>
+ *
+ * @see <a href="https://dev.mysql.com/doc/internals/en/compressed-packet-header.html">Compressed Packet Header</a>
+ */
+@RequiredArgsConstructor
+public final class MySQLCompressedPacketDecoder extends ByteToMessageDecoder {
+    
+    static final int HEADER_LENGTH = 7;
+    
+    private final MySQLCompressionContext compressionContext;
+    
+    private final Inflater inflater = new Inflater();
+    
+    @Override
+    protected void decode(final ChannelHandlerContext context, final ByteBuf in, final List<Object> out) throws DataFormatException {
+        if (in.readableBytes() < HEADER_LENGTH) {
+            return;
+        }
+        int compressedLength = in.getUnsignedMediumLE(in.readerIndex());
+        if (in.readableBytes() < HEADER_LENGTH + compressedLength) {
+            return;
+        }
+        in.skipBytes(3);
+        compressionContext.setSequenceId(in.readUnsignedByte());
+        int uncompressedLength = in.readUnsignedMediumLE();
+        out.add(0 == uncompressedLength ? in.readRetainedSlice(compressedLength) : inflate(context, in, compressedLength, uncompressedLength));
+    }
+    
+    private ByteBuf inflate(final ChannelHandlerContext context, final ByteBuf in, final int compressedLength, final int uncompressedLength) throws DataFormatException {
+        inflater.reset();
+        inflater.setInput(ByteBufUtil.getBytes(in, in.readerIndex(), compressedLength, false));
+        in.skipBytes(compressedLength);
+        ByteBuf result = context.alloc().heapBuffer(uncompressedLength);
+        try {
+            int inflatedLength = 0;
+            while (!inflater.finished() && inflatedLength < uncompressedLength) {
+                int length = inflater.inflate(result.array(), result.arrayOffset() + inflatedLength, uncompressedLength - inflatedLength);
+                if (0 == length && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                inflatedLength += length;
+            }
+            if (inflatedLength != uncompressedLength || !inflater.finished()) {
+                throw new CorruptedFrameException(String.format("Expected %d bytes after inflating compressed packet, but got %d bytes.", uncompressedLength, inflatedLength));
+            }
+            return result.writerIndex(uncompressedLength);
+            // CHECKSTYLE:OFF
+        } catch (final DataFormatException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            result.release();
+            throw ex;
+        }
+    }
+    
+    @Override
+    protected void handlerRemoved0(final ChannelHandlerContext context) {
+        inflater.end();
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import lombok.RequiredArgsConstructor;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.zip.Deflater;
+
+/**
+ * Compressed packet encoder for MySQL.
+ *
+ * <p>MySQL packets written between flushes are gathered and compressed together, so that small rows of large result sets still compress well.
+ * Payload shorter than min compress length or not shrunk by compression is sent uncompressed.</p>
+ *
+ * @see <a href="https://dev.mysql.com/doc/internals/en/compressed-payload.html">Compressed Payload</a>
+ */
+@RequiredArgsConstructor
+public final class MySQLCompressedPacketEncoder extends ChannelOutboundHandlerAdapter {
+    
+    private final MySQLCompressionContext compressionContext;
+    
+    private final List<ChannelPromise> pendingPromises = new LinkedList<>();
+    
+    private CompositeByteBuf pendingMessages;
+    
+    @Override
+    public void write(final ChannelHandlerContext context, final Object message, final ChannelPromise promise) {
+        if (!(message instanceof ByteBuf)) {
+            context.write(message, promise);
+            return;
+        }
+        if (null == pendingMessages) {
+            pendingMessages = context.alloc().compositeBuffer(Integer.MAX_VALUE);
+        }
+        pendingMessages.addComponent(true, (ByteBuf) message);
+        pendingPromises.add(promise);
+        if (pendingMessages.readableBytes() >= MySQLPacketSplitter.MAX_PAYLOAD_LENGTH) {
+            writeCompressedPackets(context, false);
+        }
+    }
+    
+    @Override
+    public void flush(final ChannelHandlerContext context) {
+        writeCompressedPackets(context, true);
+        context.flush();
+    }
+    
+    private void writeCompressedPackets(final ChannelHandlerContext context, final boolean flushing) {
+        if (null == pendingMessages) {
+            return;
+        }
+        ChannelFuture lastFuture = null;
+        while (pendingMessages.readableBytes() >= MySQLPacketSplitter.MAX_PAYLOAD_LENGTH || flushing && pendingMessages.isReadable()) {
+            int payloadLength = Math.min(pendingMessages.readableBytes(), MySQLPacketSplitter.MAX_PAYLOAD_LENGTH);
+            lastFuture = context.write(compress(context, pendingMessages.readSlice(payloadLength)));
+        }
+        pendingMessages.discardReadComponents();
+        if (pendingMessages.isReadable()) {
+            return;
+        }
+        pendingMessages.release();
+        pendingMessages = null;
+        notifyPendingPromises(lastFuture);
+    }
+    
+    private ByteBuf compress(final ChannelHandlerContext context, final ByteBuf payload) {
+        int payloadLength = payload.readableBytes();
+        ByteBuf result = context.alloc().heapBuffer(MySQLCompressedPacketDecoder.HEADER_LENGTH + payloadLength);
+        int compressedLength = payloadLength >= compressionContext.getMinCompressLength() ? deflate(payload, result) : 0;
+        result.writeMediumLE(0 == compressedLength ? payloadLength : compressedLength);
+        result.writeByte(compressionContext.nextSequenceId());
+        result.writeMediumLE(0 == compressedLength ? 0 : payloadLength);
+        if (0 == compressedLength) {
+            result.writeBytes(payload);
+        } else {
+            result.writerIndex(MySQLCompressedPacketDecoder.HEADER_LENGTH + compressedLength);
+        }
+        return result;
+    }
+    
+    private int deflate(final ByteBuf payload, final ByteBuf out) {
+        int payloadLength = payload.readableBytes();
+        int outputOffset = out.arrayOffset() + MySQLCompressedPacketDecoder.HEADER_LENGTH;
+        Deflater deflater = DeflaterPool.getInstance().borrow(compressionContext.getCompressionLevel());
+        try {
+            deflater.setInput(ByteBufUtil.getBytes(payload, payload.readerIndex(), payloadLength, false));
+            deflater.finish();
+            int result = 0;
+            while (!deflater.finished() && result < payloadLength) {
+                result += deflater.deflate(out.array(), outputOffset + result, payloadLength - result);
+            }
+            return deflater.finished() && result < payloadLength ? result : 0;
+        } finally {
+            DeflaterPool.getInstance().giveBack(deflater);
+        }
+    }
+    
+    private void notifyPendingPromises(final ChannelFuture lastFuture) {
+        List<ChannelPromise> promises = new LinkedList<>(pendingPromises);
+        pendingPromises.clear();
+        if (null == lastFuture) {
+            promises.forEach(ChannelPromise::trySuccess);
+            return;
+        }
+        lastFuture.addListener(future -> {
+            for (ChannelPromise each : promises) {
+                if (future.isSuccess()) {
+                    each.trySuccess();
+                } else {
+                    each.tryFailure(future.cause());
+                }
+            }
+        });
+    }
+    
+    @Override
+    public void handlerRemoved(final ChannelHandlerContext context) {
+        if (null != pendingMessages) {
+            pendingMessages.release();
+            pendingMessages = null;
+        }
+        for (ChannelPromise each : pendingPromises) {
+            each.tryFailure(new IllegalStateException("Compressed packet encoder removed before flush."));
+        }
+        pendingPromises.clear();
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.codec;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Compression context for MySQL, shared by compressed packet decoder and encoder of the same channel.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class MySQLCompressionContext {
+    
+    private final int compressionLevel;
+    
+    private final int minCompressLength;
+    
+    @Setter
+    private int sequenceId;
+    
+    /**
+     * Get next sequence ID of compressed packet.
+     *
+     * @return next sequence ID
+     */
+    public int nextSequenceId() {
+        sequenceId = (sequenceId + 1) & 0xff;
+        return sequenceId;
+    }
+}
@@ -18,24 +18,56 @@
 package org.apache.shardingsphere.db.protocol.mysql.codec;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.codec.DatabasePacketCodecEngine;
 import org.apache.shardingsphere.db.protocol.error.CommonErrorCode;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLServerErrorCode;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 
+import java.util.LinkedList;
 import java.util.List;
 
 /**
  * Database packet codec for MySQL.
+ *
+ * <p>Payload reaching 16MB is split into multiple packets on encode and aggregated from multiple packets without copying on decode,
+ * so codec engine is stateful and must be created for each channel.
+ * Request whose aggregated payload exceeds max packet size is rejected with an error and the connection is closed.</p>
  */
+@RequiredArgsConstructor
 public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine<MySQLPacket> {
     
     private static final int PAYLOAD_LENGTH = 3;
     
     private static final int SEQUENCE_LENGTH = 1;
     
+    private static final int DEFAULT_MAX_PACKET_SIZE = 64 * 1024 * 1024;
+    
+    private final int maxPacketSize;
+    
+    private final List<ByteBuf> pendingMessages = new LinkedList<>();
+    
+    private long pendingPayloadLength;
+    
+    private boolean discarding;
+    
+    /**
+     * Sequence ID offset of current command, which is the count of extra packets received or sent beyond logical packets.
+     * Packets written to channel without this codec must add it to their sequence ID too.
+     */
+    @Getter
+    private int sequenceIdOffset;
+    
+    public MySQLPacketCodecEngine() {
+        this(DEFAULT_MAX_PACKET_SIZE);
+    }
+    
     @Override
     public boolean isValidHeader(final int readableBytes) {
         return readableBytes >= PAYLOAD_LENGTH + SEQUENCE_LENGTH;
@@ -43,30 +75,63 @@ public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine<M
     
     @Override
     public void decode(final ChannelHandlerContext context, final ByteBuf in, final List<Object> out, final int readableBytes) {
-        int payloadLength = in.markReaderIndex().readMediumLE();
+        if (discarding) {
+            in.skipBytes(readableBytes);
+            return;
+        }
+        int payloadLength = in.markReaderIndex().readUnsignedMediumLE();
+        if (pendingPayloadLength + payloadLength > maxPacketSize) {
+            rejectTooLargePacket(context, in);
+            return;
+        }
         int realPacketLength = payloadLength + PAYLOAD_LENGTH + SEQUENCE_LENGTH;
         if (readableBytes < realPacketLength) {
             in.resetReaderIndex();
             return;
         }
-        out.add(in.readRetainedSlice(payloadLength + SEQUENCE_LENGTH));
+        ByteBuf message = in.readRetainedSlice(payloadLength + SEQUENCE_LENGTH);
+        if (MySQLPacketSplitter.MAX_PAYLOAD_LENGTH == payloadLength) {
+            pendingMessages.add(pendingMessages.isEmpty() ? message : message.skipBytes(SEQUENCE_LENGTH));
+            pendingPayloadLength += payloadLength;
+            return;
+        }
+        sequenceIdOffset = pendingMessages.size();
+        out.add(pendingMessages.isEmpty() ? message : aggregateMessages(context, message.skipBytes(SEQUENCE_LENGTH)));
+    }
+    
+    private CompositeByteBuf aggregateMessages(final ChannelHandlerContext context, final ByteBuf lastMessage) {
+        CompositeByteBuf result = context.alloc().compositeBuffer(pendingMessages.size() + 1);
+        result.addComponents(true, pendingMessages);
+        result.addComponent(true, lastMessage);
+        pendingMessages.clear();
+        pendingPayloadLength = 0;
+        return result;
+    }
+    
+    private void rejectTooLargePacket(final ChannelHandlerContext context, final ByteBuf in) {
+        release();
+        discarding = true;
+        sequenceIdOffset = 0;
+        int sequenceId = in.readUnsignedByte();
+        in.skipBytes(in.readableBytes());
+        context.channel().writeAndFlush(new MySQLErrPacket(sequenceId + 1, MySQLServerErrorCode.ER_NET_PACKET_TOO_LARGE)).addListener(ChannelFutureListener.CLOSE);
     }
     
     @Override
     public void encode(final ChannelHandlerContext context, final MySQLPacket message, final ByteBuf out) {
-        MySQLPacketPayload payload = new MySQLPacketPayload(context.alloc().buffer());
+        int headerIndex = out.writerIndex();
+        out.writeMediumLE(0);
+        out.writeByte(0);
+        MySQLPacketPayload payload = new MySQLPacketPayload(out);
         try {
             message.write(payload);
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
-            payload.getByteBuf().resetWriterIndex();
+            out.writerIndex(headerIndex + PAYLOAD_LENGTH + SEQUENCE_LENGTH);
             new MySQLErrPacket(1, CommonErrorCode.UNKNOWN_EXCEPTION, ex.getMessage()).write(payload);
         } finally {
-            out.writeMediumLE(payload.getByteBuf().readableBytes());
-            out.writeByte(message.getSequenceId());
-            out.writeBytes(payload.getByteBuf());
-            payload.close();
+            sequenceIdOffset += MySQLPacketSplitter.split(out, headerIndex, message.getSequenceId() + sequenceIdOffset) - 1;
         }
     }
     
@@ -74,4 +139,11 @@ public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine<M
     public MySQLPacketPayload createPacketPayload(final ByteBuf message) {
         return new MySQLPacketPayload(message);
     }
+    
+    @Override
+    public void release() {
+        pendingMessages.forEach(ByteBuf::release);
+        pendingMessages.clear();
+        pendingPayloadLength = 0;
+    }
 }
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.codec;
+
+import io.netty.buffer.ByteBuf;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Packet splitter for MySQL.
+ *
+ * <p>Payload which reaches 16MB is sent as continuous packets with payload length 0xffffff and increasing sequence ID,
+ * terminated by a packet whose payload length is less than 0xffffff, which may be empty.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MySQLPacketSplitter {
+    
+    /**
+     * Max payload length of single packet.
+     */
+    public static final int MAX_PAYLOAD_LENGTH = 0xffffff;
+    
+    /**
+     * Header length of packet.
+     */
+    public static final int HEADER_LENGTH = 4;
+    
+    /**
+     * Write header for payload reserved from header index, and split payload into multiple packets if necessary.
+     *
+     * @param byteBuf byte buffer which header placeholder and payload are written into
+     * @param headerIndex index of header placeholder
+     * @param sequenceId sequence ID of first packet
+     * @return count of packets written
+     */
+    public static int split(final ByteBuf byteBuf, final int headerIndex, final int sequenceId) {
+        int payloadLength = byteBuf.writerIndex() - headerIndex - HEADER_LENGTH;
+        if (payloadLength < MAX_PAYLOAD_LENGTH) {
+            byteBuf.setMediumLE(headerIndex, payloadLength);
+            byteBuf.setByte(headerIndex + HEADER_LENGTH - 1, sequenceId);
+            return 1;
+        }
+        ByteBuf payload = byteBuf.copy(headerIndex + HEADER_LENGTH, payloadLength);
+        try {
+            byteBuf.writerIndex(headerIndex);
+            return writePackets(byteBuf, payload, sequenceId);
+        } finally {
+            payload.release();
+        }
+    }
+    
+    private static int writePackets(final ByteBuf byteBuf, final ByteBuf payload, final int sequenceId) {
+        int result = 0;
+        int length;
+        do {
+            length = Math.min(payload.readableBytes(), MAX_PAYLOAD_LENGTH);
+            byteBuf.writeMediumLE(length).writeByte(sequenceId + result);
+            byteBuf.writeBytes(payload, length);
+            result++;
+        } while (MAX_PAYLOAD_LENGTH == length);
+        return result;
+    }
+}
@@ -53,21 +53,29 @@ public final class MySQLTextResultSetRowPacket implements MySQLPacket {
     @Override
     public void write(final MySQLPacketPayload payload) {
         for (Object each : data) {
-            if (null == each) {
-                payload.writeInt1(NULL);
-            } else {
-                if (each instanceof byte[]) {
-                    payload.writeBytesLenenc((byte[]) each);
-                } else if ((each instanceof Timestamp) && (0 == ((Timestamp) each).getNanos())) {
-                    payload.writeStringLenenc(each.toString().split("\\.")[0]);
-                } else if (each instanceof BigDecimal) {
-                    payload.writeStringLenenc(((BigDecimal) each).toPlainString());
-                } else if (each instanceof Boolean) {
-                    payload.writeBytesLenenc((Boolean) each ? new byte[]{1} : new byte[]{0});
-                } else {
-                    payload.writeStringLenenc(each.toString());
-                }
-            }
+            writeValue(payload, each);
+        }
+    }
+    
+    /**
+     * Write value of text result set row.
+     *
+     * @param payload packet payload for MySQL
+     * @param value value to be written
+     */
+    public static void writeValue(final MySQLPacketPayload payload, final Object value) {
+        if (null == value) {
+            payload.writeInt1(NULL);
+        } else if (value instanceof byte[]) {
+            payload.writeBytesLenenc((byte[]) value);
+        } else if ((value instanceof Timestamp) && (0 == ((Timestamp) value).getNanos())) {
+            payload.writeStringLenenc(value.toString().split("\\.")[0]);
+        } else if (value instanceof BigDecimal) {
+            payload.writeStringLenenc(((BigDecimal) value).toPlainString());
+        } else if (value instanceof Boolean) {
+            payload.writeBytesLenenc((Boolean) value ? new byte[]{1} : new byte[]{0});
+        } else {
+            payload.writeStringLenenc(value.toString());
         }
     }
 }
@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.codec;
+
+import org.junit.Test;
+
+import java.util.zip.Deflater;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public final class DeflaterPoolTest {
+    
+    @Test
+    public void assertBorrowResetDeflater() {
+        Deflater deflater = DeflaterPool.getInstance().borrow(Deflater.BEST_SPEED);
+        deflater.setInput(new byte[]{1, 2, 3});
+        deflater.finish();
+        deflater.deflate(new byte[64]);
+        DeflaterPool.getInstance().giveBack(deflater);
+        Deflater actual = DeflaterPool.getInstance().borrow(Deflater.BEST_COMPRESSION);
+        assertFalse(actual.finished());
+        assertThat(actual.getTotalIn(), is(0));
+        DeflaterPool.getInstance().giveBack(actual);
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class MySQLCompressedPacketCodecTest {
+    
+    private static final int HEADER_LENGTH = 7;
+    
+    @Test
+    public void assertEncodeSmallPayloadUncompressed() {
+        EmbeddedChannel channel = createChannel();
+        channel.writeAndFlush(Unpooled.wrappedBuffer(new byte[]{1, 0, 0, 1, 0}));
+        ByteBuf actual = channel.readOutbound();
+        assertThat(actual.readUnsignedMediumLE(), is(5));
+        assertThat(actual.readUnsignedByte(), is((short) 1));
+        assertThat(actual.readUnsignedMediumLE(), is(0));
+        assertThat(actual.readableBytes(), is(5));
+        actual.release();
+        assertNull(channel.readOutbound());
+    }
+    
+    @Test
+    public void assertEncodeWritesBetweenFlushesTogether() {
+        EmbeddedChannel channel = createChannel();
+        final ChannelFuture first = channel.write(Unpooled.wrappedBuffer(createPayload(100)));
+        final ChannelFuture second = channel.write(Unpooled.wrappedBuffer(createPayload(100)));
+        assertNull(channel.readOutbound());
+        channel.flush();
+        assertTrue(first.isSuccess());
+        assertTrue(second.isSuccess());
+        ByteBuf actual = channel.readOutbound();
+        int compressedLength = actual.readUnsignedMediumLE();
+        assertThat(actual.readUnsignedByte(), is((short) 1));
+        assertThat(actual.readUnsignedMediumLE(), is(200));
+        assertThat(actual.readableBytes(), is(compressedLength));
+        assertTrue(compressedLength < 200);
+        actual.release();
+    }
+    
+    @Test
+    public void assertRoundTrip() {
+        EmbeddedChannel server = createChannel();
+        byte[] payload = createPayload(1000);
+        server.writeAndFlush(Unpooled.wrappedBuffer(payload));
+        server.writeAndFlush(Unpooled.wrappedBuffer(new byte[]{1, 0, 0, 2, 0}));
+        EmbeddedChannel client = createChannel();
+        client.writeInbound((ByteBuf) server.readOutbound(), (ByteBuf) server.readOutbound());
+        assertBytes(client.readInbound(), payload);
+        assertBytes(client.readInbound(), new byte[]{1, 0, 0, 2, 0});
+    }
+    
+    @Test
+    public void assertDecodeHalfPacketAndResponseSequence() {
+        byte[] compressed = deflate(createPayload(300));
+        ByteBuf packet = Unpooled.buffer();
+        packet.writeMediumLE(compressed.length);
+        packet.writeByte(0);
+        packet.writeMediumLE(300);
+        packet.writeBytes(compressed);
+        EmbeddedChannel channel = createChannel();
+        channel.writeInbound(packet.readRetainedSlice(HEADER_LENGTH + 1));
+        assertNull(channel.readInbound());
+        channel.writeInbound(packet);
+        assertBytes(channel.readInbound(), createPayload(300));
+        channel.writeAndFlush(Unpooled.wrappedBuffer(new byte[]{0}));
+        ByteBuf response = channel.readOutbound();
+        assertThat(response.getUnsignedByte(3), is((short) 1));
+        response.release();
+    }
+    
+    private EmbeddedChannel createChannel() {
+        MySQLCompressionContext compressionContext = new MySQLCompressionContext(Deflater.DEFAULT_COMPRESSION, 50);
+        return new EmbeddedChannel(new MySQLCompressedPacketDecoder(compressionContext), new MySQLCompressedPacketEncoder(compressionContext));
+    }
+    
+    private byte[] createPayload(final int length) {
+        byte[] result = new byte[length];
+        byte[] text = "SELECT * FROM t_order WHERE order_id = 1;".getBytes(StandardCharsets.US_ASCII);
+        for (int i = 0; i < length; i++) {
+            result[i] = text[i % text.length];
+        }
+        return result;
+    }
+    
+    private byte[] deflate(final byte[] payload) {
+        Deflater deflater = new Deflater();
+        deflater.setInput(payload);
+        deflater.finish();
+        byte[] buffer = new byte[payload.length];
+        int length = deflater.deflate(buffer);
+        deflater.end();
+        byte[] result = new byte[length];
+        System.arraycopy(buffer, 0, result, 0, length);
+        return result;
+    }
+    
+    private void assertBytes(final ByteBuf actual, final byte[] expected) {
+        byte[] actualBytes = new byte[actual.readableBytes()];
+        actual.readBytes(actualBytes);
+        actual.release();
+        assertThat(actualBytes, is(expected));
+    }
+}
@@ -19,14 +19,21 @@ package org.apache.shardingsphere.db.protocol.mysql.codec;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLServerErrorCode;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.nio.charset.StandardCharsets;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -34,6 +41,9 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -60,7 +70,7 @@ public final class MySQLPacketCodecEngineTest {
     @Test
     public void assertDecode() {
         when(byteBuf.markReaderIndex()).thenReturn(byteBuf);
-        when(byteBuf.readMediumLE()).thenReturn(50);
+        when(byteBuf.readUnsignedMediumLE()).thenReturn(50);
         when(byteBuf.readRetainedSlice(51)).thenReturn(byteBuf);
         List<Object> out = new LinkedList<>();
         new MySQLPacketCodecEngine().decode(context, byteBuf, out, 54);
@@ -70,7 +80,7 @@ public final class MySQLPacketCodecEngineTest {
     @Test
     public void assertDecodeWithEmptyPacket() {
         when(byteBuf.markReaderIndex()).thenReturn(byteBuf);
-        when(byteBuf.readMediumLE()).thenReturn(0);
+        when(byteBuf.readUnsignedMediumLE()).thenReturn(0);
         List<Object> out = new LinkedList<>();
         new MySQLPacketCodecEngine().decode(context, byteBuf, out, 4);
         assertThat(out.size(), is(1));
@@ -79,26 +89,116 @@ public final class MySQLPacketCodecEngineTest {
     @Test
     public void assertDecodeWithStickyPacket() {
         when(byteBuf.markReaderIndex()).thenReturn(byteBuf);
-        when(byteBuf.readMediumLE()).thenReturn(50);
+        when(byteBuf.readUnsignedMediumLE()).thenReturn(50);
         List<Object> out = new LinkedList<>();
         new MySQLPacketCodecEngine().decode(context, byteBuf, out, 40);
         assertTrue(out.isEmpty());
     }
     
+    @Test
+    public void assertDecodeWithMultiplePackets() {
+        when(context.alloc()).thenReturn(ByteBufAllocator.DEFAULT);
+        ByteBuf in = Unpooled.buffer();
+        in.writeMediumLE(MySQLPacketSplitter.MAX_PAYLOAD_LENGTH).writeByte(0).writeZero(MySQLPacketSplitter.MAX_PAYLOAD_LENGTH);
+        in.writeMediumLE(3).writeByte(1).writeBytes("foo".getBytes(StandardCharsets.UTF_8));
+        MySQLPacketCodecEngine engine = new MySQLPacketCodecEngine();
+        List<Object> out = new LinkedList<>();
+        engine.decode(context, in, out, in.readableBytes());
+        assertTrue(out.isEmpty());
+        engine.decode(context, in, out, in.readableBytes());
+        assertThat(out.size(), is(1));
+        ByteBuf actual = (ByteBuf) out.get(0);
+        assertThat(actual.readableBytes(), is(MySQLPacketSplitter.MAX_PAYLOAD_LENGTH + 4));
+        assertThat(actual.readUnsignedByte(), is((short) 0));
+        assertThat(actual.skipBytes(MySQLPacketSplitter.MAX_PAYLOAD_LENGTH).toString(StandardCharsets.UTF_8), is("foo"));
+        actual.release();
+        assertFalse(in.isReadable());
+        assertThat(engine.getSequenceIdOffset(), is(1));
+    }
+    
+    @Test
+    public void assertDecodeWithTooLargePacket() {
+        Channel channel = mock(Channel.class);
+        when(context.channel()).thenReturn(channel);
+        when(channel.writeAndFlush(any())).thenReturn(mock(ChannelFuture.class));
+        ByteBuf in = Unpooled.buffer();
+        in.writeMediumLE(20).writeByte(0).writeZero(10);
+        MySQLPacketCodecEngine engine = new MySQLPacketCodecEngine(10);
+        List<Object> out = new LinkedList<>();
+        engine.decode(context, in, out, in.readableBytes());
+        assertTrue(out.isEmpty());
+        assertFalse(in.isReadable());
+        verify(channel).writeAndFlush(argThat(each -> 1 == ((MySQLErrPacket) each).getSequenceId()
+                && MySQLServerErrorCode.ER_NET_PACKET_TOO_LARGE.getErrorCode() == ((MySQLErrPacket) each).getErrorCode()));
+        in.writeZero(10);
+        engine.decode(context, in, out, in.readableBytes());
+        assertTrue(out.isEmpty());
+        assertFalse(in.isReadable());
+    }
+    
+    @Test
+    public void assertRelease() {
+        ByteBuf in = Unpooled.buffer();
+        in.writeMediumLE(MySQLPacketSplitter.MAX_PAYLOAD_LENGTH).writeByte(0).writeZero(MySQLPacketSplitter.MAX_PAYLOAD_LENGTH);
+        MySQLPacketCodecEngine engine = new MySQLPacketCodecEngine();
+        engine.decode(context, in, new LinkedList<>(), in.readableBytes());
+        assertThat(in.refCnt(), is(2));
+        engine.release();
+        assertThat(in.refCnt(), is(1));
+    }
+    
     @Test
     public void assertEncode() {
-        ByteBufAllocator byteBufAllocator = mock(ByteBufAllocator.class);
-        when(context.alloc()).thenReturn(byteBufAllocator);
-        ByteBuf payloadByteBuf = mock(ByteBuf.class);
-        when(byteBufAllocator.buffer()).thenReturn(payloadByteBuf);
-        when(payloadByteBuf.readableBytes()).thenReturn(50);
         MySQLPacket actualMessage = mock(MySQLPacket.class);
         when(actualMessage.getSequenceId()).thenReturn(1);
-        new MySQLPacketCodecEngine().encode(context, actualMessage, byteBuf);
-        verify(actualMessage).write(ArgumentMatchers.any());
-        verify(byteBuf).writeMediumLE(50);
-        verify(byteBuf).writeByte(1);
-        verify(byteBuf).writeBytes(payloadByteBuf);
+        doAnswer(invocation -> {
+            ((MySQLPacketPayload) invocation.getArgument(0)).writeStringEOF("foo");
+            return null;
+        }).when(actualMessage).write(ArgumentMatchers.any());
+        ByteBuf out = Unpooled.buffer();
+        out.writeByte(0xff);
+        new MySQLPacketCodecEngine().encode(context, actualMessage, out);
+        assertThat(out.skipBytes(1).readMediumLE(), is(3));
+        assertThat(out.readUnsignedByte(), is((short) 1));
+        assertThat(out.toString(StandardCharsets.UTF_8), is("foo"));
+    }
+    
+    @Test
+    public void assertEncodeWithException() {
+        MySQLPacket actualMessage = mock(MySQLPacket.class);
+        when(actualMessage.getSequenceId()).thenReturn(1);
+        doAnswer(invocation -> {
+            ((MySQLPacketPayload) invocation.getArgument(0)).writeStringEOF("foo");
+            throw new IllegalStateException("mock");
+        }).when(actualMessage).write(ArgumentMatchers.any());
+        ByteBuf out = Unpooled.buffer();
+        new MySQLPacketCodecEngine().encode(context, actualMessage, out);
+        assertThat(out.readMediumLE(), is(out.readableBytes() - 1));
+        assertThat(out.readUnsignedByte(), is((short) 1));
+        assertThat(out.readUnsignedByte(), is((short) MySQLErrPacket.HEADER));
+    }
+    
+    @Test
+    public void assertEncodeWithMultiplePackets() {
+        MySQLPacket largeMessage = mock(MySQLPacket.class);
+        when(largeMessage.getSequenceId()).thenReturn(1);
+        doAnswer(invocation -> {
+            ((MySQLPacketPayload) invocation.getArgument(0)).getByteBuf().writeZero(MySQLPacketSplitter.MAX_PAYLOAD_LENGTH);
+            return null;
+        }).when(largeMessage).write(ArgumentMatchers.any());
+        MySQLPacket nextMessage = mock(MySQLPacket.class);
+        when(nextMessage.getSequenceId()).thenReturn(2);
+        ByteBuf out = Unpooled.buffer();
+        MySQLPacketCodecEngine engine = new MySQLPacketCodecEngine();
+        engine.encode(context, largeMessage, out);
+        engine.encode(context, nextMessage, out);
+        assertThat(out.readUnsignedMediumLE(), is(MySQLPacketSplitter.MAX_PAYLOAD_LENGTH));
+        assertThat(out.readUnsignedByte(), is((short) 1));
+        assertThat(out.skipBytes(MySQLPacketSplitter.MAX_PAYLOAD_LENGTH).readMediumLE(), is(0));
+        assertThat(out.readUnsignedByte(), is((short) 2));
+        assertThat(out.readMediumLE(), is(0));
+        assertThat(out.readUnsignedByte(), is((short) 3));
+        assertFalse(out.isReadable());
     }
     
     @Test
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public final class MySQLPacketSplitterTest {
+    
+    @Test
+    public void assertSplitWithSinglePacket() {
+        ByteBuf byteBuf = Unpooled.buffer();
+        byteBuf.writeByte(0xff).writeMediumLE(0).writeByte(0).writeZero(10);
+        assertThat(MySQLPacketSplitter.split(byteBuf, 1, 5), is(1));
+        assertThat(byteBuf.skipBytes(1).readMediumLE(), is(10));
+        assertThat(byteBuf.readUnsignedByte(), is((short) 5));
+        assertThat(byteBuf.readableBytes(), is(10));
+    }
+    
+    @Test
+    public void assertSplitWithMultiplePackets() {
+        ByteBuf byteBuf = Unpooled.buffer();
+        byteBuf.writeMediumLE(0).writeByte(0).writeZero(MySQLPacketSplitter.MAX_PAYLOAD_LENGTH + 10);
+        assertThat(MySQLPacketSplitter.split(byteBuf, 0, 255), is(2));
+        assertThat(byteBuf.readUnsignedMediumLE(), is(MySQLPacketSplitter.MAX_PAYLOAD_LENGTH));
+        assertThat(byteBuf.readUnsignedByte(), is((short) 255));
+        assertThat(byteBuf.skipBytes(MySQLPacketSplitter.MAX_PAYLOAD_LENGTH).readMediumLE(), is(10));
+        assertThat(byteBuf.readUnsignedByte(), is((short) 0));
+        assertFalse(byteBuf.skipBytes(10).isReadable());
+    }
+    
+    @Test
+    public void assertSplitWithExactMaxPayloadLength() {
+        ByteBuf byteBuf = Unpooled.buffer();
+        byteBuf.writeMediumLE(0).writeByte(0).writeZero(MySQLPacketSplitter.MAX_PAYLOAD_LENGTH);
+        assertThat(MySQLPacketSplitter.split(byteBuf, 0, 1), is(2));
+        assertThat(byteBuf.skipBytes(MySQLPacketSplitter.HEADER_LENGTH + MySQLPacketSplitter.MAX_PAYLOAD_LENGTH).readMediumLE(), is(0));
+        assertThat(byteBuf.readUnsignedByte(), is((short) 2));
+        assertFalse(byteBuf.isReadable());
+    }
+}
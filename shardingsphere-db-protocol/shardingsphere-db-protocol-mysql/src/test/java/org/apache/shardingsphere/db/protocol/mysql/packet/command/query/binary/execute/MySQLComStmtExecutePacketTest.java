@@ -17,10 +17,9 @@
 
 package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute;
 
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLServerErrorCode;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.MySQLBinaryStatementRegistry;
-import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.fixture.BinaryStatementRegistryUtil;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
-import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -32,6 +31,7 @@ import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -39,21 +39,22 @@ import static org.mockito.Mockito.when;
 @RunWith(MockitoJUnitRunner.class)
 public final class MySQLComStmtExecutePacketTest {
     
+    private static final int CONNECTION_ID = 1;
+    
     @Mock
     private MySQLPacketPayload payload;
     
     @Before
-    @After
-    public void reset() {
-        BinaryStatementRegistryUtil.reset();
+    public void setUp() {
+        MySQLBinaryStatementRegistry.getInstance().register(CONNECTION_ID);
+        MySQLBinaryStatementRegistry.getInstance().get(CONNECTION_ID).register("SELECT id FROM tbl WHERE id=?", 1);
     }
     
     @Test
     public void assertNewWithNotNullParameters() throws SQLException {
-        MySQLBinaryStatementRegistry.getInstance().register("SELECT id FROM tbl WHERE id=?", 1);
         when(payload.readInt4()).thenReturn(1);
         when(payload.readInt1()).thenReturn(0, 0, 1);
-        MySQLComStmtExecutePacket actual = new MySQLComStmtExecutePacket(payload);
+        MySQLComStmtExecutePacket actual = new MySQLComStmtExecutePacket(payload, CONNECTION_ID);
         assertThat(actual.getSequenceId(), is(0));
         assertThat(actual.getSql(), is("SELECT id FROM tbl WHERE id=?"));
         assertThat(actual.getParameters(), is(Collections.<Object>singletonList(1)));
@@ -61,21 +62,43 @@ public final class MySQLComStmtExecutePacketTest {
     
     @Test
     public void assertNewWithNullParameters() throws SQLException {
-        MySQLBinaryStatementRegistry.getInstance().register("SELECT id FROM tbl WHERE id=?", 1);
         when(payload.readInt4()).thenReturn(1);
         when(payload.readInt1()).thenReturn(0, 1);
-        MySQLComStmtExecutePacket actual = new MySQLComStmtExecutePacket(payload);
+        MySQLComStmtExecutePacket actual = new MySQLComStmtExecutePacket(payload, CONNECTION_ID);
         assertThat(actual.getSequenceId(), is(0));
         assertThat(actual.getSql(), is("SELECT id FROM tbl WHERE id=?"));
         assertThat(actual.getParameters(), is(Collections.singletonList(null)));
     }
     
+    @Test
+    public void assertNewWithUnknownStatementId() {
+        when(payload.readInt4()).thenReturn(100);
+        try {
+            new MySQLComStmtExecutePacket(payload, CONNECTION_ID);
+            fail("Expected SQLException for unknown statement id.");
+        } catch (final SQLException ex) {
+            assertThat(ex.getErrorCode(), is(MySQLServerErrorCode.ER_UNKNOWN_STMT_HANDLER.getErrorCode()));
+            assertThat(ex.getSQLState(), is("HY000"));
+            assertThat(ex.getMessage(), is("Unknown prepared statement handler (100) given to mysqld_stmt_execute"));
+        }
+    }
+    
+    @Test
+    public void assertNewWithUnregisteredConnection() {
+        when(payload.readInt4()).thenReturn(1);
+        try {
+            new MySQLComStmtExecutePacket(payload, CONNECTION_ID + 100);
+            fail("Expected SQLException for unregistered connection.");
+        } catch (final SQLException ex) {
+            assertThat(ex.getErrorCode(), is(MySQLServerErrorCode.ER_UNKNOWN_STMT_HANDLER.getErrorCode()));
+        }
+    }
+    
     @Test
     public void assertWrite() throws SQLException {
-        MySQLBinaryStatementRegistry.getInstance().register("SELECT id FROM tbl WHERE id=?", 1);
         when(payload.readInt4()).thenReturn(1);
         when(payload.readInt1()).thenReturn(0, 1);
-        MySQLComStmtExecutePacket actual = new MySQLComStmtExecutePacket(payload);
+        MySQLComStmtExecutePacket actual = new MySQLComStmtExecutePacket(payload, CONNECTION_ID);
         actual.write(payload);
         verify(payload, times(2)).writeInt4(1);
         verify(payload, times(4)).writeInt1(1);
@@ -115,10 +115,18 @@ public final class MySQLHandshakePacketTest {
         verify(payload).writeInt2(MySQLCapabilityFlag.calculateHandshakeCapabilityFlagsLower());
         verify(payload).writeInt1(MySQLServerInfo.CHARSET);
         verify(payload).writeInt2(MySQLStatusFlag.SERVER_STATUS_AUTOCOMMIT.getValue());
-        verify(payload).writeInt2(MySQLCapabilityFlag.CLIENT_PLUGIN_AUTH.getValue() >> 16);
+        verify(payload).writeInt2(MySQLCapabilityFlag.calculateHandshakeCapabilityFlagsUpper());
         verify(payload).writeInt1(authPluginData.getAuthenticationPluginData().length + 1);
         verify(payload).writeReserved(10);
         verify(payload).writeStringNul(new String(authPluginData.getAuthPluginDataPart2()));
         verify(payload).writeStringNul(MySQLAuthenticationMethod.SECURE_PASSWORD_AUTHENTICATION.getMethodName());
     }
+    
+    @Test
+    public void assertWriteWithCompression() {
+        MySQLHandshakePacket actual = new MySQLHandshakePacket(1000, new MySQLAuthPluginData(part1, part2));
+        actual.enableCompression();
+        actual.write(payload);
+        verify(payload).writeInt2(MySQLCapabilityFlag.calculateHandshakeCapabilityFlagsLower() | MySQLCapabilityFlag.CLIENT_COMPRESS.getValue());
+    }
 }
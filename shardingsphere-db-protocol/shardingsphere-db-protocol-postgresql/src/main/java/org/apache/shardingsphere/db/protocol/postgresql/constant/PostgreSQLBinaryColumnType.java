@@ -154,6 +154,8 @@ public enum PostgreSQLBinaryColumnType implements BinaryColumnType {
     
     private static final Map<Integer, PostgreSQLBinaryColumnType> JDBC_TYPE_AND_COLUMN_TYPE_MAP = new HashMap<>(values().length, 1);
     
+    private static final Map<String, PostgreSQLBinaryColumnType> COLUMN_TYPE_NAME_AND_COLUMN_TYPE_MAP = new HashMap<>(4, 1);
+    
     private final int value;
     
     static {
@@ -168,11 +170,17 @@ public enum PostgreSQLBinaryColumnType implements BinaryColumnType {
         JDBC_TYPE_AND_COLUMN_TYPE_MAP.put(Types.VARCHAR, POSTGRESQL_TYPE_VARCHAR);
         JDBC_TYPE_AND_COLUMN_TYPE_MAP.put(Types.BINARY, POSTGRESQL_TYPE_BYTEA);
         JDBC_TYPE_AND_COLUMN_TYPE_MAP.put(Types.BIT, POSTGRESQL_TYPE_BIT);
+        JDBC_TYPE_AND_COLUMN_TYPE_MAP.put(Types.BOOLEAN, POSTGRESQL_TYPE_BOOL);
         JDBC_TYPE_AND_COLUMN_TYPE_MAP.put(Types.DATE, POSTGRESQL_TYPE_DATE);
         JDBC_TYPE_AND_COLUMN_TYPE_MAP.put(Types.TIME, POSTGRESQL_TYPE_TIME);
         JDBC_TYPE_AND_COLUMN_TYPE_MAP.put(Types.TIMESTAMP, POSTGRESQL_TYPE_TIMESTAMP);
+        JDBC_TYPE_AND_COLUMN_TYPE_MAP.put(Types.TIMESTAMP_WITH_TIMEZONE, POSTGRESQL_TYPE_TIMESTAMPTZ);
         JDBC_TYPE_AND_COLUMN_TYPE_MAP.put(Types.OTHER, POSTGRESQL_TYPE_JSON);
         JDBC_TYPE_AND_COLUMN_TYPE_MAP.put(Types.SQLXML, POSTGRESQL_TYPE_XML);
+        COLUMN_TYPE_NAME_AND_COLUMN_TYPE_MAP.put("bool", POSTGRESQL_TYPE_BOOL);
+        COLUMN_TYPE_NAME_AND_COLUMN_TYPE_MAP.put("bytea", POSTGRESQL_TYPE_BYTEA);
+        COLUMN_TYPE_NAME_AND_COLUMN_TYPE_MAP.put("timestamptz", POSTGRESQL_TYPE_TIMESTAMPTZ);
+        COLUMN_TYPE_NAME_AND_COLUMN_TYPE_MAP.put("uuid", POSTGRESQL_TYPE_UUID);
     }
     
     /**
@@ -188,6 +196,20 @@ public enum PostgreSQLBinaryColumnType implements BinaryColumnType {
         throw new IllegalArgumentException(String.format("Cannot find JDBC type '%s' in PostgreSQL column type", jdbcType));
     }
     
+    /**
+     * Value of JDBC type and column type name.
+     * 
+     * <p>Column type name takes precedence, because some PostgreSQL types share one JDBC type, such as bool and bit, or timestamptz and timestamp.</p>
+     *
+     * @param jdbcType JDBC type
+     * @param columnTypeName column type name
+     * @return PostgreSQL column type enum
+     */
+    public static PostgreSQLBinaryColumnType valueOfJDBCType(final int jdbcType, final String columnTypeName) {
+        PostgreSQLBinaryColumnType result = null == columnTypeName ? null : COLUMN_TYPE_NAME_AND_COLUMN_TYPE_MAP.get(columnTypeName.toLowerCase());
+        return null == result ? valueOfJDBCType(jdbcType) : result;
+    }
+    
     /**
      * Value of.
      * 
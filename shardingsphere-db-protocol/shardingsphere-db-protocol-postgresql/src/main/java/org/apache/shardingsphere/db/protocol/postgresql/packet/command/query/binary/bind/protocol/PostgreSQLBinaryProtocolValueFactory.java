@@ -23,6 +23,8 @@ import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.db.protocol.binary.BinaryColumnType;
 import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLBinaryColumnType;
 
+import java.util.Collection;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -34,6 +36,13 @@ public final class PostgreSQLBinaryProtocolValueFactory {
     
     private static final Map<BinaryColumnType, PostgreSQLBinaryProtocolValue> BINARY_PROTOCOL_VALUES = new HashMap<>();
     
+    private static final Collection<PostgreSQLBinaryColumnType> BINARY_RESULT_COLUMN_TYPES = EnumSet.of(
+            PostgreSQLBinaryColumnType.POSTGRESQL_TYPE_INT2, PostgreSQLBinaryColumnType.POSTGRESQL_TYPE_INT4, PostgreSQLBinaryColumnType.POSTGRESQL_TYPE_INT8,
+            PostgreSQLBinaryColumnType.POSTGRESQL_TYPE_FLOAT4, PostgreSQLBinaryColumnType.POSTGRESQL_TYPE_FLOAT8, PostgreSQLBinaryColumnType.POSTGRESQL_TYPE_NUMERIC,
+            PostgreSQLBinaryColumnType.POSTGRESQL_TYPE_DATE, PostgreSQLBinaryColumnType.POSTGRESQL_TYPE_TIMESTAMP, PostgreSQLBinaryColumnType.POSTGRESQL_TYPE_TIMESTAMPTZ,
+            PostgreSQLBinaryColumnType.POSTGRESQL_TYPE_BOOL, PostgreSQLBinaryColumnType.POSTGRESQL_TYPE_BYTEA, PostgreSQLBinaryColumnType.POSTGRESQL_TYPE_UUID,
+            PostgreSQLBinaryColumnType.POSTGRESQL_TYPE_VARCHAR, PostgreSQLBinaryColumnType.POSTGRESQL_TYPE_CHAR);
+    
     static {
         setUnspecifiedBinaryProtocolValue();
         setStringLenencBinaryProtocolValue();
@@ -45,6 +54,10 @@ public final class PostgreSQLBinaryProtocolValueFactory {
         setNumericBinaryProtocolValue();
         setDateBinaryProtocolValue();
         setTimeBinaryProtocolValue();
+        setTimestampTzBinaryProtocolValue();
+        setBoolBinaryProtocolValue();
+        setByteaBinaryProtocolValue();
+        setUuidBinaryProtocolValue();
         setInt2ArrayBinaryProtocolValue();
         setInt4ArrayBinaryProtocolValue();
         setInt8ArrayBinaryProtocolValue();
@@ -105,6 +118,26 @@ public final class PostgreSQLBinaryProtocolValueFactory {
         BINARY_PROTOCOL_VALUES.put(PostgreSQLBinaryColumnType.POSTGRESQL_TYPE_TIMESTAMP, binaryProtocolValue);
     }
     
+    private static void setTimestampTzBinaryProtocolValue() {
+        PostgreSQLTimestampTzBinaryProtocolValue binaryProtocolValue = new PostgreSQLTimestampTzBinaryProtocolValue();
+        BINARY_PROTOCOL_VALUES.put(PostgreSQLBinaryColumnType.POSTGRESQL_TYPE_TIMESTAMPTZ, binaryProtocolValue);
+    }
+    
+    private static void setBoolBinaryProtocolValue() {
+        PostgreSQLBoolBinaryProtocolValue binaryProtocolValue = new PostgreSQLBoolBinaryProtocolValue();
+        BINARY_PROTOCOL_VALUES.put(PostgreSQLBinaryColumnType.POSTGRESQL_TYPE_BOOL, binaryProtocolValue);
+    }
+    
+    private static void setByteaBinaryProtocolValue() {
+        PostgreSQLByteaBinaryProtocolValue binaryProtocolValue = new PostgreSQLByteaBinaryProtocolValue();
+        BINARY_PROTOCOL_VALUES.put(PostgreSQLBinaryColumnType.POSTGRESQL_TYPE_BYTEA, binaryProtocolValue);
+    }
+    
+    private static void setUuidBinaryProtocolValue() {
+        PostgreSQLUuidBinaryProtocolValue binaryProtocolValue = new PostgreSQLUuidBinaryProtocolValue();
+        BINARY_PROTOCOL_VALUES.put(PostgreSQLBinaryColumnType.POSTGRESQL_TYPE_UUID, binaryProtocolValue);
+    }
+    
     private static void setInt2ArrayBinaryProtocolValue() {
         BINARY_PROTOCOL_VALUES.put(PostgreSQLBinaryColumnType.POSTGRESQL_TYPE_INT2_ARRAY, new PostgreSQLInt2ArrayBinaryProtocolValue());
     }
@@ -145,4 +178,14 @@ public final class PostgreSQLBinaryProtocolValueFactory {
         Preconditions.checkArgument(BINARY_PROTOCOL_VALUES.containsKey(binaryColumnType), "Cannot find PostgreSQL type '%s' in column type when process binary protocol value", binaryColumnType);
         return BINARY_PROTOCOL_VALUES.get(binaryColumnType);
     }
+    
+    /**
+     * Judge whether values of column type can be written in binary result format.
+     *
+     * @param binaryColumnType binary column type
+     * @return can be written in binary result format or not
+     */
+    public static boolean isBinaryResultSupported(final BinaryColumnType binaryColumnType) {
+        return BINARY_RESULT_COLUMN_TYPES.contains(binaryColumnType);
+    }
 }
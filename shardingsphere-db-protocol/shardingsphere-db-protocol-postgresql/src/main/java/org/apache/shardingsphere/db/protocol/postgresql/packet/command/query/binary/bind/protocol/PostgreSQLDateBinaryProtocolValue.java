@@ -19,25 +19,31 @@ package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.bi
 
 import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
 
+import java.sql.Date;
 import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 
 /**
- * Binary protocol value for date for PostgreSQL.
+ * Binary protocol value for date for PostgreSQL, which is days since 2000-01-01.
  */
 public final class PostgreSQLDateBinaryProtocolValue implements PostgreSQLBinaryProtocolValue {
     
+    private static final LocalDate POSTGRESQL_EPOCH = LocalDate.of(2000, 1, 1);
+    
     @Override
     public int getColumnLength(final Object value) {
-        return 8;
+        return 4;
     }
     
     @Override
     public Object read(final PostgreSQLPacketPayload payload, final int parameterValueLength) {
-        return payload.readInt8();
+        return Date.valueOf(POSTGRESQL_EPOCH.plusDays(payload.readInt4()));
     }
     
     @Override
     public void write(final PostgreSQLPacketPayload payload, final Object value) {
-        payload.writeInt8(((Timestamp) value).getTime());
+        LocalDate date = value instanceof Timestamp ? ((Timestamp) value).toLocalDateTime().toLocalDate() : ((Date) value).toLocalDate();
+        payload.writeInt4((int) ChronoUnit.DAYS.between(POSTGRESQL_EPOCH, date));
     }
 }
@@ -20,23 +20,49 @@ package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.bi
 import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
 
 import java.math.BigDecimal;
-import java.nio.charset.StandardCharsets;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.LinkedList;
 
 /**
- * Binary protocol value for numeric for PostgreSQL.
+ * Binary protocol value for numeric for PostgreSQL, which is base 10000 digits with weight, sign and display scale.
  */
 public final class PostgreSQLNumericBinaryProtocolValue implements PostgreSQLBinaryProtocolValue {
     
+    private static final int NUMERIC_POSITIVE = 0x0000;
+    
+    private static final int NUMERIC_NEGATIVE = 0x4000;
+    
+    private static final int NUMERIC_NAN = 0xC000;
+    
+    private static final int DECIMAL_DIGITS_PER_DIGIT = 4;
+    
+    private static final BigInteger NBASE = BigInteger.valueOf(10000L);
+    
     @Override
     public int getColumnLength(final Object value) {
-        return null == value ? 0 : value.toString().getBytes(StandardCharsets.UTF_8).length;
+        if (null == value) {
+            return 0;
+        }
+        BigDecimal decimal = toBigDecimal(value);
+        return 8 + 2 * trimTrailingZeroDigits(toDigits(decimal, getFractionDigitCount(decimal))).size();
     }
     
     @Override
     public Object read(final PostgreSQLPacketPayload payload, final int parameterValueLength) {
-        byte[] bytes = new byte[parameterValueLength];
-        payload.getByteBuf().readBytes(bytes);
-        return new BigDecimal(new String(bytes));
+        int digitCount = payload.readInt2();
+        int weight = (short) payload.readInt2();
+        int sign = payload.readInt2();
+        int displayScale = payload.readInt2();
+        if (NUMERIC_NAN == sign) {
+            return Double.NaN;
+        }
+        BigDecimal result = BigDecimal.ZERO;
+        for (int i = 0; i < digitCount; i++) {
+            result = result.add(BigDecimal.valueOf(payload.readInt2()).scaleByPowerOfTen(DECIMAL_DIGITS_PER_DIGIT * (weight - i)));
+        }
+        result = result.setScale(displayScale, RoundingMode.HALF_UP);
+        return NUMERIC_NEGATIVE == sign ? result.negate() : result;
     }
     
     @Override
@@ -44,6 +70,43 @@ public final class PostgreSQLNumericBinaryProtocolValue implements PostgreSQLBin
         if (null == value) {
             return;
         }
-        payload.writeBytes(value.toString().getBytes(StandardCharsets.UTF_8));
+        BigDecimal decimal = toBigDecimal(value);
+        int fractionDigitCount = getFractionDigitCount(decimal);
+        LinkedList<Integer> digits = toDigits(decimal, fractionDigitCount);
+        int weight = digits.size() - fractionDigitCount - 1;
+        trimTrailingZeroDigits(digits);
+        payload.writeInt2(digits.size());
+        payload.writeInt2(digits.isEmpty() ? 0 : weight);
+        payload.writeInt2(decimal.signum() < 0 ? NUMERIC_NEGATIVE : NUMERIC_POSITIVE);
+        payload.writeInt2(Math.max(decimal.scale(), 0));
+        for (int each : digits) {
+            payload.writeInt2(each);
+        }
+    }
+    
+    private BigDecimal toBigDecimal(final Object value) {
+        return value instanceof BigDecimal ? (BigDecimal) value : new BigDecimal(value.toString());
+    }
+    
+    private int getFractionDigitCount(final BigDecimal decimal) {
+        return (Math.max(decimal.scale(), 0) + DECIMAL_DIGITS_PER_DIGIT - 1) / DECIMAL_DIGITS_PER_DIGIT;
+    }
+    
+    private LinkedList<Integer> toDigits(final BigDecimal decimal, final int fractionDigitCount) {
+        LinkedList<Integer> result = new LinkedList<>();
+        BigInteger unscaledValue = decimal.abs().setScale(fractionDigitCount * DECIMAL_DIGITS_PER_DIGIT).unscaledValue();
+        while (unscaledValue.signum() > 0) {
+            BigInteger[] quotientAndRemainder = unscaledValue.divideAndRemainder(NBASE);
+            result.addFirst(quotientAndRemainder[1].intValue());
+            unscaledValue = quotientAndRemainder[0];
+        }
+        return result;
+    }
+    
+    private LinkedList<Integer> trimTrailingZeroDigits(final LinkedList<Integer> digits) {
+        while (!digits.isEmpty() && 0 == digits.getLast()) {
+            digits.removeLast();
+        }
+        return digits;
     }
 }
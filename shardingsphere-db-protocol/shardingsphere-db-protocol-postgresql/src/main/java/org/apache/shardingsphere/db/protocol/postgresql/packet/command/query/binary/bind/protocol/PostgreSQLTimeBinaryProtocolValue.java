@@ -20,12 +20,18 @@ package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.bi
 import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
 
 import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 
 /**
- * Binary protocol value for time for PostgreSQL.
+ * Binary protocol value for timestamp for PostgreSQL, which is microseconds since 2000-01-01 00:00:00 of local time.
  */
 public final class PostgreSQLTimeBinaryProtocolValue implements PostgreSQLBinaryProtocolValue {
     
+    private static final long POSTGRESQL_EPOCH_SECONDS = 946684800L;
+    
+    private static final long MICROS_PER_SECOND = 1000000L;
+    
     @Override
     public int getColumnLength(final Object value) {
         return 8;
@@ -33,11 +39,14 @@ public final class PostgreSQLTimeBinaryProtocolValue implements PostgreSQLBinary
     
     @Override
     public Object read(final PostgreSQLPacketPayload payload, final int parameterValueLength) {
-        return payload.readInt8();
+        long micros = payload.readInt8();
+        long seconds = Math.floorDiv(micros, MICROS_PER_SECOND) + POSTGRESQL_EPOCH_SECONDS;
+        return Timestamp.valueOf(LocalDateTime.ofEpochSecond(seconds, (int) Math.floorMod(micros, MICROS_PER_SECOND) * 1000, ZoneOffset.UTC));
     }
     
     @Override
     public void write(final PostgreSQLPacketPayload payload, final Object value) {
-        payload.writeInt8(((Timestamp) value).getTime());
+        LocalDateTime dateTime = value instanceof LocalDateTime ? (LocalDateTime) value : ((Timestamp) value).toLocalDateTime();
+        payload.writeInt8((dateTime.toEpochSecond(ZoneOffset.UTC) - POSTGRESQL_EPOCH_SECONDS) * MICROS_PER_SECOND + dateTime.getNano() / 1000L);
     }
 }
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.bind.protocol;
+
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+/**
+ * Binary protocol value for timestamp with time zone for PostgreSQL, which is microseconds since 2000-01-01 00:00:00 UTC.
+ */
+public final class PostgreSQLTimestampTzBinaryProtocolValue implements PostgreSQLBinaryProtocolValue {
+    
+    private static final long POSTGRESQL_EPOCH_SECONDS = 946684800L;
+    
+    private static final long MICROS_PER_SECOND = 1000000L;
+    
+    @Override
+    public int getColumnLength(final Object value) {
+        return 8;
+    }
+    
+    @Override
+    public Object read(final PostgreSQLPacketPayload payload, final int parameterValueLength) {
+        long micros = payload.readInt8();
+        return Timestamp.from(Instant.ofEpochSecond(Math.floorDiv(micros, MICROS_PER_SECOND) + POSTGRESQL_EPOCH_SECONDS, Math.floorMod(micros, MICROS_PER_SECOND) * 1000L));
+    }
+    
+    @Override
+    public void write(final PostgreSQLPacketPayload payload, final Object value) {
+        Instant instant = ((Timestamp) value).toInstant();
+        payload.writeInt8((instant.getEpochSecond() - POSTGRESQL_EPOCH_SECONDS) * MICROS_PER_SECOND + instant.getNano() / 1000L);
+    }
+}
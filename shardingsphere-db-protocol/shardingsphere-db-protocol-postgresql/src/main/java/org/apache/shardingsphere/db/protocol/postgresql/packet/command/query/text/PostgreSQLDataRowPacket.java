@@ -20,13 +20,14 @@ package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.te
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
-import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.bind.protocol.PostgreSQLBinaryProtocolValue;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.bind.protocol.PostgreSQLBinaryProtocolValueFactory;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLIdentifierPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLIdentifierTag;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLMessagePacketType;
 import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
 
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 import java.sql.SQLXML;
 import java.util.Collection;
@@ -38,6 +39,8 @@ import java.util.Collection;
 @Getter
 public final class PostgreSQLDataRowPacket implements PostgreSQLIdentifierPacket {
     
+    private static final Charset CLIENT_ENCODING = StandardCharsets.UTF_8;
+    
     private final Collection<Object> data;
     
     @Override
@@ -53,10 +56,14 @@ public final class PostgreSQLDataRowPacket implements PostgreSQLIdentifierPacket
     }
     
     private void writeBinaryValue(final PostgreSQLPacketPayload payload, final BinaryCell each) {
-        PostgreSQLBinaryProtocolValue binaryProtocolValue = PostgreSQLBinaryProtocolValueFactory.getBinaryProtocolValue(each.getColumnType());
         Object value = each.getData();
-        payload.writeInt4(binaryProtocolValue.getColumnLength(value));
-        binaryProtocolValue.write(payload, value);
+        if (null == value) {
+            payload.writeInt4(0xFFFFFFFF);
+            return;
+        }
+        int lengthIndex = writeLengthPlaceholder(payload);
+        PostgreSQLBinaryProtocolValueFactory.getBinaryProtocolValue(each.getColumnType()).write(payload, value);
+        fillLength(payload, lengthIndex);
     }
     
     private void writeTextValue(final PostgreSQLPacketPayload payload, final Object each) {
@@ -68,21 +75,34 @@ public final class PostgreSQLDataRowPacket implements PostgreSQLIdentifierPacket
         } else if (each instanceof SQLXML) {
             writeSQLXMLData(payload, each);
         } else {
-            String columnData = each.toString();
-            payload.writeInt4(columnData.getBytes().length);
-            payload.writeStringEOF(columnData);
+            writeString(payload, each.toString());
         }
     }
     
     private void writeSQLXMLData(final PostgreSQLPacketPayload payload, final Object data) {
         try {
-            payload.writeInt4(((SQLXML) data).getString().getBytes().length);
-            payload.writeStringEOF(((SQLXML) data).getString());
+            writeString(payload, ((SQLXML) data).getString());
         } catch (final SQLException ex) {
             throw new RuntimeException(ex.getMessage());
         }
     }
     
+    private void writeString(final PostgreSQLPacketPayload payload, final String value) {
+        int lengthIndex = writeLengthPlaceholder(payload);
+        payload.getByteBuf().writeCharSequence(value, CLIENT_ENCODING);
+        fillLength(payload, lengthIndex);
+    }
+    
+    private int writeLengthPlaceholder(final PostgreSQLPacketPayload payload) {
+        int result = payload.getByteBuf().writerIndex();
+        payload.writeInt4(0);
+        return result;
+    }
+    
+    private void fillLength(final PostgreSQLPacketPayload payload, final int lengthIndex) {
+        payload.getByteBuf().setInt(lengthIndex, payload.getByteBuf().writerIndex() - lengthIndex - 4);
+    }
+    
     @Override
     public PostgreSQLIdentifierTag getIdentifier() {
         return PostgreSQLMessagePacketType.DATA_ROW;
@@ -37,6 +37,15 @@ public final class PostgreSQLBinaryColumnTypeTest {
         PostgreSQLBinaryColumnType.valueOfJDBCType(Types.REF_CURSOR);
     }
     
+    @Test
+    public void assertValueOfJDBCTypeWithColumnTypeName() {
+        assertThat(PostgreSQLBinaryColumnType.valueOfJDBCType(Types.BIT, "bool"), is(PostgreSQLBinaryColumnType.POSTGRESQL_TYPE_BOOL));
+        assertThat(PostgreSQLBinaryColumnType.valueOfJDBCType(Types.TIMESTAMP, "timestamptz"), is(PostgreSQLBinaryColumnType.POSTGRESQL_TYPE_TIMESTAMPTZ));
+        assertThat(PostgreSQLBinaryColumnType.valueOfJDBCType(Types.OTHER, "uuid"), is(PostgreSQLBinaryColumnType.POSTGRESQL_TYPE_UUID));
+        assertThat(PostgreSQLBinaryColumnType.valueOfJDBCType(Types.TIMESTAMP, "timestamp"), is(PostgreSQLBinaryColumnType.POSTGRESQL_TYPE_TIMESTAMP));
+        assertThat(PostgreSQLBinaryColumnType.valueOfJDBCType(Types.BIGINT, null), is(PostgreSQLBinaryColumnType.POSTGRESQL_TYPE_INT8));
+    }
+    
     @Test
     public void assertValueOf() {
         PostgreSQLBinaryColumnType sqlColumnType = PostgreSQLBinaryColumnType.valueOf(PostgreSQLBinaryColumnType.POSTGRESQL_TYPE_INT8.getValue());
@@ -21,7 +21,9 @@ import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLBinar
 import org.junit.Test;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class PostgreSQLBinaryProtocolValueFactoryTest {
     
@@ -85,6 +87,37 @@ public final class PostgreSQLBinaryProtocolValueFactoryTest {
         assertThat(binaryProtocolValue, instanceOf(PostgreSQLTimeBinaryProtocolValue.class));
     }
     
+    @Test
+    public void assertGetTimestampTzBinaryProtocolValue() {
+        PostgreSQLBinaryProtocolValue binaryProtocolValue = PostgreSQLBinaryProtocolValueFactory.getBinaryProtocolValue(PostgreSQLBinaryColumnType.POSTGRESQL_TYPE_TIMESTAMPTZ);
+        assertThat(binaryProtocolValue, instanceOf(PostgreSQLTimestampTzBinaryProtocolValue.class));
+    }
+    
+    @Test
+    public void assertGetBoolBinaryProtocolValue() {
+        PostgreSQLBinaryProtocolValue binaryProtocolValue = PostgreSQLBinaryProtocolValueFactory.getBinaryProtocolValue(PostgreSQLBinaryColumnType.POSTGRESQL_TYPE_BOOL);
+        assertThat(binaryProtocolValue, instanceOf(PostgreSQLBoolBinaryProtocolValue.class));
+    }
+    
+    @Test
+    public void assertGetByteaBinaryProtocolValue() {
+        PostgreSQLBinaryProtocolValue binaryProtocolValue = PostgreSQLBinaryProtocolValueFactory.getBinaryProtocolValue(PostgreSQLBinaryColumnType.POSTGRESQL_TYPE_BYTEA);
+        assertThat(binaryProtocolValue, instanceOf(PostgreSQLByteaBinaryProtocolValue.class));
+    }
+    
+    @Test
+    public void assertGetUuidBinaryProtocolValue() {
+        PostgreSQLBinaryProtocolValue binaryProtocolValue = PostgreSQLBinaryProtocolValueFactory.getBinaryProtocolValue(PostgreSQLBinaryColumnType.POSTGRESQL_TYPE_UUID);
+        assertThat(binaryProtocolValue, instanceOf(PostgreSQLUuidBinaryProtocolValue.class));
+    }
+    
+    @Test
+    public void assertIsBinaryResultSupported() {
+        assertTrue(PostgreSQLBinaryProtocolValueFactory.isBinaryResultSupported(PostgreSQLBinaryColumnType.POSTGRESQL_TYPE_NUMERIC));
+        assertFalse(PostgreSQLBinaryProtocolValueFactory.isBinaryResultSupported(PostgreSQLBinaryColumnType.POSTGRESQL_TYPE_INT4_ARRAY));
+        assertFalse(PostgreSQLBinaryProtocolValueFactory.isBinaryResultSupported(PostgreSQLBinaryColumnType.POSTGRESQL_TYPE_JSON));
+    }
+    
     @Test(expected = IllegalArgumentException.class)
     public void assertGetBinaryProtocolValueExThrown() {
         PostgreSQLBinaryProtocolValueFactory.getBinaryProtocolValue(PostgreSQLBinaryColumnType.POSTGRESQL_TYPE_XML);
@@ -23,6 +23,7 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.sql.Date;
 import java.sql.Timestamp;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -38,19 +39,24 @@ public final class PostgreSQLDateBinaryProtocolValueTest {
     
     @Test
     public void assertGetColumnLength() {
-        assertThat(new PostgreSQLDateBinaryProtocolValue().getColumnLength(""), is(8));
+        assertThat(new PostgreSQLDateBinaryProtocolValue().getColumnLength(""), is(4));
     }
     
     @Test
     public void assertRead() {
-        when(payload.readInt8()).thenReturn(1L);
-        assertThat(new PostgreSQLDateBinaryProtocolValue().read(payload, 8), is(1L));
+        when(payload.readInt4()).thenReturn(1);
+        assertThat(new PostgreSQLDateBinaryProtocolValue().read(payload, 4), is(Date.valueOf("2000-01-02")));
     }
     
     @Test
     public void assertWrite() {
-        Timestamp data = new Timestamp(System.currentTimeMillis());
-        new PostgreSQLDateBinaryProtocolValue().write(payload, data);
-        verify(payload).writeInt8(data.getTime());
+        new PostgreSQLDateBinaryProtocolValue().write(payload, Date.valueOf("1999-12-31"));
+        verify(payload).writeInt4(-1);
+    }
+    
+    @Test
+    public void assertWriteTimestamp() {
+        new PostgreSQLDateBinaryProtocolValue().write(payload, Timestamp.valueOf("2000-01-03 10:00:00"));
+        verify(payload).writeInt4(2);
     }
 }
@@ -23,12 +23,10 @@ import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacket
 import org.junit.Test;
 
 import java.math.BigDecimal;
-import java.nio.charset.StandardCharsets;
 
 import static org.hamcrest.CoreMatchers.is;
-import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
-import static org.junit.Assert.assertTrue;
 
 public final class PostgreSQLNumericBinaryProtocolValueTest {
     
@@ -36,40 +34,40 @@ public final class PostgreSQLNumericBinaryProtocolValueTest {
     public void assertGetColumnLength() {
         PostgreSQLNumericBinaryProtocolValue binaryProtocolValue = new PostgreSQLNumericBinaryProtocolValue();
         assertThat(binaryProtocolValue.getColumnLength(null), is(0));
-        assertThat(binaryProtocolValue.getColumnLength(new BigDecimal("1234567890.12")), is(13));
+        assertThat(binaryProtocolValue.getColumnLength(new BigDecimal("1234567890.12")), is(16));
+        assertThat(binaryProtocolValue.getColumnLength(BigDecimal.ZERO), is(8));
     }
     
     @Test
-    public void assertRead() {
-        PostgreSQLNumericBinaryProtocolValue binaryProtocolValue = new PostgreSQLNumericBinaryProtocolValue();
-        String decimalText = "1234567890.12";
-        BigDecimal expectedDecimal = new BigDecimal(decimalText);
-        int columnLength = binaryProtocolValue.getColumnLength(expectedDecimal);
-        int expectedLength = 4 + columnLength;
-        ByteBuf byteBuf = ByteBufTestUtils.createByteBuf(expectedLength);
-        byteBuf.writeInt(columnLength);
-        byteBuf.writeBytes(decimalText.getBytes(StandardCharsets.UTF_8));
-        byteBuf.readInt();
-        PostgreSQLPacketPayload payload = new PostgreSQLPacketPayload(byteBuf);
-        Object result = binaryProtocolValue.read(payload, columnLength);
-        assertNotNull(result);
-        assertTrue(result instanceof BigDecimal);
-        assertThat(result, is(expectedDecimal));
-        assertThat(byteBuf.readerIndex(), is(expectedLength));
+    public void assertWrite() {
+        ByteBuf byteBuf = ByteBufTestUtils.createByteBuf(16);
+        new PostgreSQLNumericBinaryProtocolValue().write(new PostgreSQLPacketPayload(byteBuf), new BigDecimal("-1234567890.12"));
+        assertThat(byteBuf.readShort(), is((short) 4));
+        assertThat(byteBuf.readShort(), is((short) 2));
+        assertThat(byteBuf.readShort(), is((short) 0x4000));
+        assertThat(byteBuf.readShort(), is((short) 2));
+        assertThat(byteBuf.readShort(), is((short) 12));
+        assertThat(byteBuf.readShort(), is((short) 3456));
+        assertThat(byteBuf.readShort(), is((short) 7890));
+        assertThat(byteBuf.readShort(), is((short) 1200));
     }
     
     @Test
-    public void assertWrite() {
+    public void assertWriteAndRead() {
+        assertWriteAndRead(new BigDecimal("1234567890.12"));
+        assertWriteAndRead(new BigDecimal("-0.00012"));
+        assertWriteAndRead(new BigDecimal("100000"));
+        assertWriteAndRead(new BigDecimal("0.00"));
+        assertWriteAndRead(new BigDecimal("99999999999999999999.999999"));
+    }
+    
+    private void assertWriteAndRead(final BigDecimal decimal) {
         PostgreSQLNumericBinaryProtocolValue binaryProtocolValue = new PostgreSQLNumericBinaryProtocolValue();
-        String decimalText = "1234567890.12";
-        BigDecimal decimal = new BigDecimal(decimalText);
-        int columnLength = binaryProtocolValue.getColumnLength(decimal);
-        ByteBuf byteBuf = ByteBufTestUtils.createByteBuf(columnLength);
+        ByteBuf byteBuf = ByteBufTestUtils.createByteBuf(binaryProtocolValue.getColumnLength(decimal));
         PostgreSQLPacketPayload payload = new PostgreSQLPacketPayload(byteBuf);
         binaryProtocolValue.write(payload, decimal);
-        byte[] actualBytes = new byte[columnLength];
-        byteBuf.readBytes(actualBytes);
-        assertThat(new String(actualBytes, StandardCharsets.UTF_8), is(decimalText));
+        assertThat(byteBuf.readableBytes(), is(binaryProtocolValue.getColumnLength(decimal)));
+        assertThat(binaryProtocolValue.read(payload, byteBuf.readableBytes()), is(decimal));
+        assertFalse(byteBuf.isReadable());
     }
-    
 }
@@ -40,10 +40,9 @@ public final class PostgreSQLTimeBinaryProtocolValueTest {
     public void assertNewInstance() {
         PostgreSQLTimeBinaryProtocolValue actual = new PostgreSQLTimeBinaryProtocolValue();
         assertThat(actual.getColumnLength(null), is(8));
-        when(payload.readInt8()).thenReturn(1L);
-        assertThat(actual.read(payload, 8), is(1L));
-        Timestamp timestamp = new Timestamp(System.currentTimeMillis());
-        actual.write(payload, timestamp);
-        verify(payload).writeInt8(timestamp.getTime());
+        when(payload.readInt8()).thenReturn(86400000001L);
+        assertThat(actual.read(payload, 8), is(Timestamp.valueOf("2000-01-02 00:00:00.000001")));
+        actual.write(payload, Timestamp.valueOf("1999-12-31 23:59:59.5"));
+        verify(payload).writeInt8(-500000L);
     }
 }
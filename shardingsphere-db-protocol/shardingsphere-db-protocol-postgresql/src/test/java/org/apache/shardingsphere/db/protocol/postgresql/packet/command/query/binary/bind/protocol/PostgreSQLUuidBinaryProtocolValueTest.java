@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.bind.protocol;
+
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+import org.junit.Test;
+
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class PostgreSQLUuidBinaryProtocolValueTest {
+    
+    private final UUID uuid = UUID.fromString("a0eebc99-9c0b-4ef8-bb6d-6bb9bd380a11");
+    
+    @Test
+    public void assertGetColumnLength() {
+        assertThat(new PostgreSQLUuidBinaryProtocolValue().getColumnLength(uuid), is(16));
+    }
+    
+    @Test
+    public void assertWriteAndRead() {
+        PostgreSQLPacketPayload payload = new PostgreSQLPacketPayload(Unpooled.buffer());
+        PostgreSQLUuidBinaryProtocolValue binaryProtocolValue = new PostgreSQLUuidBinaryProtocolValue();
+        binaryProtocolValue.write(payload, uuid);
+        binaryProtocolValue.write(payload, uuid.toString());
+        assertThat(payload.getByteBuf().readableBytes(), is(32));
+        assertThat(binaryProtocolValue.read(payload, 16), is(uuid));
+        assertThat(binaryProtocolValue.read(payload, 16), is(uuid));
+    }
+}
@@ -17,17 +17,26 @@
 
 package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.text;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
+import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLBinaryColumnType;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.bind.protocol.PostgreSQLNumericBinaryProtocolValue;
 import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 import java.sql.SQLXML;
+import java.util.Arrays;
 import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
@@ -62,18 +71,38 @@ public final class PostgreSQLDataRowPacketTest {
     public void assertWriteWithSQLXML() throws SQLException {
         when(sqlxml.getString()).thenReturn("value");
         PostgreSQLDataRowPacket actual = new PostgreSQLDataRowPacket(Collections.singletonList(sqlxml));
-        actual.write(payload);
-        verify(payload).writeInt4("value".getBytes().length);
-        verify(payload).writeStringEOF("value");
+        ByteBuf byteBuf = Unpooled.buffer();
+        actual.write(new PostgreSQLPacketPayload(byteBuf));
+        assertThat(byteBuf.readShort(), is((short) 1));
+        assertThat(byteBuf.readInt(), is(5));
+        assertThat(byteBuf.toString(StandardCharsets.UTF_8), is("value"));
     }
     
     @Test
     public void assertWriteWithString() {
         PostgreSQLDataRowPacket actual = new PostgreSQLDataRowPacket(Collections.singletonList("value"));
         assertThat(actual.getData(), is(Collections.singletonList("value")));
-        actual.write(payload);
-        verify(payload).writeInt4("value".getBytes().length);
-        verify(payload).writeStringEOF("value");
+        ByteBuf byteBuf = Unpooled.buffer();
+        actual.write(new PostgreSQLPacketPayload(byteBuf));
+        assertThat(byteBuf.readShort(), is((short) 1));
+        assertThat(byteBuf.readInt(), is(5));
+        assertThat(byteBuf.toString(StandardCharsets.UTF_8), is("value"));
+    }
+    
+    @Test
+    public void assertWriteWithBinaryCells() {
+        PostgreSQLDataRowPacket actual = new PostgreSQLDataRowPacket(Arrays.asList(
+                new BinaryCell(PostgreSQLBinaryColumnType.POSTGRESQL_TYPE_INT4, 1), new BinaryCell(PostgreSQLBinaryColumnType.POSTGRESQL_TYPE_NUMERIC, new BigDecimal("1.5")),
+                new BinaryCell(PostgreSQLBinaryColumnType.POSTGRESQL_TYPE_BOOL, null)));
+        ByteBuf byteBuf = Unpooled.buffer();
+        actual.write(new PostgreSQLPacketPayload(byteBuf));
+        assertThat(byteBuf.readShort(), is((short) 3));
+        assertThat(byteBuf.readInt(), is(4));
+        assertThat(byteBuf.readInt(), is(1));
+        assertThat(byteBuf.readInt(), is(12));
+        assertThat(new PostgreSQLNumericBinaryProtocolValue().read(new PostgreSQLPacketPayload(byteBuf), 12), is(new BigDecimal("1.5")));
+        assertThat(byteBuf.readInt(), is(-1));
+        assertFalse(byteBuf.isReadable());
     }
     
     @Test(expected = RuntimeException.class)
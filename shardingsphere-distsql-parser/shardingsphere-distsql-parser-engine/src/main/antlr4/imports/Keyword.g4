@@ -70,3 +70,19 @@ PASSWORD
 NAME
     : N A M E
     ;
+
+METADATA
+    : M E T A D A T A
+    ;
+
+USAGE
+    : U S A G E
+    ;
+
+MEMORY
+    : M E M O R Y
+    ;
+
+RESERVATIONS
+    : R E S E R V A T I O N S
+    ;
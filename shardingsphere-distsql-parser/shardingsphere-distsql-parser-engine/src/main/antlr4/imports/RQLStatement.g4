@@ -23,6 +23,10 @@ showResources
     : SHOW RESOURCES (FROM schemaName)?
     ;
 
+showMetaDataUsage
+    : SHOW METADATA USAGE (FROM schemaName)?
+    ;
+
 schemaName
     : IDENTIFIER
     ;
@@ -17,11 +17,13 @@
 
 grammar ResourceStatement;
 
-import Symbol, RDLStatement, RQLStatement;
+import Symbol, RDLStatement, RQLStatement, RALStatement;
 
 execute
     : (addResource
     | dropResource
     | showResources
+    | showMetaDataUsage
+    | showMemoryReservations
     ) SEMI?
     ;
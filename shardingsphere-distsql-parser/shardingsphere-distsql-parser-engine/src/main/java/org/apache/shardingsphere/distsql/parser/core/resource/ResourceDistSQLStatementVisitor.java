@@ -23,10 +23,14 @@ import org.apache.shardingsphere.distsql.parser.autogen.ResourceStatementParser.
 import org.apache.shardingsphere.distsql.parser.autogen.ResourceStatementParser.DataSourceContext;
 import org.apache.shardingsphere.distsql.parser.autogen.ResourceStatementParser.DropResourceContext;
 import org.apache.shardingsphere.distsql.parser.autogen.ResourceStatementParser.SchemaNameContext;
+import org.apache.shardingsphere.distsql.parser.autogen.ResourceStatementParser.ShowMemoryReservationsContext;
+import org.apache.shardingsphere.distsql.parser.autogen.ResourceStatementParser.ShowMetaDataUsageContext;
 import org.apache.shardingsphere.distsql.parser.autogen.ResourceStatementParser.ShowResourcesContext;
 import org.apache.shardingsphere.distsql.parser.segment.DataSourceSegment;
 import org.apache.shardingsphere.distsql.parser.statement.rdl.create.AddResourceStatement;
+import org.apache.shardingsphere.distsql.parser.statement.ral.show.ShowMemoryReservationsStatement;
 import org.apache.shardingsphere.distsql.parser.statement.rdl.drop.DropResourceStatement;
+import org.apache.shardingsphere.distsql.parser.statement.rql.show.ShowMetaDataUsageStatement;
 import org.apache.shardingsphere.distsql.parser.statement.rql.show.ShowResourcesStatement;
 import org.apache.shardingsphere.sql.parser.api.visitor.ASTNode;
 import org.apache.shardingsphere.sql.parser.api.visitor.SQLVisitor;
@@ -61,6 +65,16 @@ public final class ResourceDistSQLStatementVisitor extends ResourceStatementBase
         return new ShowResourcesStatement(null == ctx.schemaName() ? null : (SchemaSegment) visit(ctx.schemaName()));
     }
     
+    @Override
+    public ASTNode visitShowMetaDataUsage(final ShowMetaDataUsageContext ctx) {
+        return new ShowMetaDataUsageStatement(null == ctx.schemaName() ? null : (SchemaSegment) visit(ctx.schemaName()));
+    }
+    
+    @Override
+    public ASTNode visitShowMemoryReservations(final ShowMemoryReservationsContext ctx) {
+        return new ShowMemoryReservationsStatement();
+    }
+    
     @Override
     public ASTNode visitSchemaName(final SchemaNameContext ctx) {
         return new SchemaSegment(ctx.getStart().getStartIndex(), ctx.getStop().getStopIndex(), new IdentifierValue(ctx.getText()));
@@ -18,8 +18,10 @@
 package org.apache.shardingsphere.distsql.parser.api;
 
 import org.apache.shardingsphere.distsql.parser.segment.DataSourceSegment;
+import org.apache.shardingsphere.distsql.parser.statement.ral.show.ShowMemoryReservationsStatement;
 import org.apache.shardingsphere.distsql.parser.statement.rdl.create.AddResourceStatement;
 import org.apache.shardingsphere.distsql.parser.statement.rdl.drop.DropResourceStatement;
+import org.apache.shardingsphere.distsql.parser.statement.rql.show.ShowMetaDataUsageStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.junit.Test;
 
@@ -43,6 +45,10 @@ public final class DistSQLStatementParserEngineTest {
     
     private static final String DROP_RESOURCE = "DROP RESOURCE ds_0,ds_1";
     
+    private static final String SHOW_METADATA_USAGE = "SHOW METADATA USAGE FROM sharding_db";
+    
+    private static final String SHOW_MEMORY_RESERVATIONS = "SHOW MEMORY RESERVATIONS";
+    
     private final DistSQLStatementParserEngine engine = new DistSQLStatementParserEngine();
     
     @Test
@@ -101,4 +107,18 @@ public final class DistSQLStatementParserEngineTest {
         assertThat(((DropResourceStatement) sqlStatement).getNames().size(), is(2));
         assertTrue(((DropResourceStatement) sqlStatement).getNames().containsAll(Arrays.asList("ds_0", "ds_1")));
     }
+    
+    @Test
+    public void assertParseShowMetaDataUsage() {
+        SQLStatement sqlStatement = engine.parse(SHOW_METADATA_USAGE);
+        assertTrue(sqlStatement instanceof ShowMetaDataUsageStatement);
+        assertTrue(((ShowMetaDataUsageStatement) sqlStatement).getSchema().isPresent());
+        assertThat(((ShowMetaDataUsageStatement) sqlStatement).getSchema().get().getIdentifier().getValue(), is("sharding_db"));
+    }
+    
+    @Test
+    public void assertParseShowMemoryReservations() {
+        SQLStatement sqlStatement = engine.parse(SHOW_MEMORY_RESERVATIONS);
+        assertTrue(sqlStatement instanceof ShowMemoryReservationsStatement);
+    }
 }
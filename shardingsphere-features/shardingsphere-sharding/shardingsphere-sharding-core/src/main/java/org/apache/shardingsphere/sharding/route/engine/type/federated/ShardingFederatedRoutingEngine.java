@@ -19,16 +19,31 @@ package org.apache.shardingsphere.sharding.route.engine.type.federated;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.route.context.ColocatedTables;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.NoneShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
 import org.apache.shardingsphere.sharding.route.engine.type.ShardingRouteEngine;
+import org.apache.shardingsphere.sharding.rule.BindingTableRule;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.sharding.rule.TableRule;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * Sharding federated routing engine.
+ * 
+ * <p>Binding tables whose data nodes are sharded by standard strategies are routed as co-located tables,
+ * so that joins of them on their sharding columns can be executed by data nodes.</p>
  */
 @RequiredArgsConstructor
 public final class ShardingFederatedRoutingEngine implements ShardingRouteEngine {
@@ -47,6 +62,7 @@ public final class ShardingFederatedRoutingEngine implements ShardingRouteEngine
                 fillRouteContext(routeContext, shardingRule, each);
             }
         }
+        fillColocatedTables(routeContext, shardingRule);
         routeContext.setFederated(true);
     }
     
@@ -58,4 +74,55 @@ public final class ShardingFederatedRoutingEngine implements ShardingRouteEngine
             routeContext.putRouteUnit(dataSource, table);
         }
     }
+    
+    private void fillColocatedTables(final RouteContext routeContext, final ShardingRule shardingRule) {
+        for (BindingTableRule each : shardingRule.getBindingTableRules()) {
+            List<TableRule> tableRules = each.getTableRules().stream().filter(tableRule -> logicTables.stream().anyMatch(tableRule.getLogicTable()::equalsIgnoreCase)).collect(Collectors.toList());
+            if (tableRules.size() > 1) {
+                createColocatedTables(shardingRule, tableRules).ifPresent(routeContext.getColocatedTables()::add);
+            }
+        }
+    }
+    
+    private Optional<ColocatedTables> createColocatedTables(final ShardingRule shardingRule, final List<TableRule> tableRules) {
+        Map<String, List<String>> joinColumns = new LinkedHashMap<>(tableRules.size(), 1);
+        int dataNodeCount = tableRules.get(0).getActualDataNodes().size();
+        for (TableRule each : tableRules) {
+            Optional<List<String>> shardingColumns = findShardingColumns(shardingRule, each);
+            if (!shardingColumns.isPresent() || dataNodeCount != each.getActualDataNodes().size()) {
+                return Optional.empty();
+            }
+            joinColumns.put(each.getLogicTable().toLowerCase(), shardingColumns.get());
+        }
+        if (1 != joinColumns.values().stream().map(List::size).distinct().count()) {
+            return Optional.empty();
+        }
+        Collection<Map<String, DataNode>> dataNodeGroups = new LinkedList<>();
+        for (int i = 0; i < dataNodeCount; i++) {
+            Map<String, DataNode> dataNodeGroup = new LinkedHashMap<>(tableRules.size(), 1);
+            for (TableRule each : tableRules) {
+                dataNodeGroup.put(each.getLogicTable().toLowerCase(), each.getActualDataNodes().get(i));
+            }
+            if (1 != dataNodeGroup.values().stream().map(DataNode::getDataSourceName).distinct().count()) {
+                return Optional.empty();
+            }
+            dataNodeGroups.add(dataNodeGroup);
+        }
+        return Optional.of(new ColocatedTables(joinColumns, dataNodeGroups));
+    }
+    
+    private Optional<List<String>> findShardingColumns(final ShardingRule shardingRule, final TableRule tableRule) {
+        List<String> result = new LinkedList<>();
+        for (ShardingStrategyConfiguration each : Arrays.asList(shardingRule.getDatabaseShardingStrategyConfiguration(tableRule), shardingRule.getTableShardingStrategyConfiguration(tableRule))) {
+            if (each instanceof StandardShardingStrategyConfiguration) {
+                String shardingColumn = ((StandardShardingStrategyConfiguration) each).getShardingColumn();
+                if (result.stream().noneMatch(shardingColumn::equalsIgnoreCase)) {
+                    result.add(shardingColumn);
+                }
+            } else if (null != each && !(each instanceof NoneShardingStrategyConfiguration)) {
+                return Optional.empty();
+            }
+        }
+        return result.isEmpty() ? Optional.empty() : Optional.of(result);
+    }
 }
@@ -23,6 +23,7 @@ import com.google.common.base.Splitter;
 import com.google.common.base.Strings;
 import com.google.common.collect.Sets;
 import com.google.common.eventbus.Subscribe;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmFactory;
 import org.apache.shardingsphere.infra.config.exception.ShardingSphereConfigurationException;
@@ -37,6 +38,7 @@ import org.apache.shardingsphere.infra.rule.type.DataNodeContainedRule;
 import org.apache.shardingsphere.infra.rule.type.TableContainedRule;
 import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
 import org.apache.shardingsphere.infra.spi.typed.TypedSPIRegistry;
+import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
 import org.apache.shardingsphere.sharding.algorithm.config.AlgorithmProvidedShardingRuleConfiguration;
 import org.apache.shardingsphere.sharding.algorithm.sharding.inline.InlineExpressionParser;
 import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
@@ -52,16 +54,20 @@ import org.apache.shardingsphere.sharding.rule.single.SingleTableRule;
 import org.apache.shardingsphere.sharding.rule.single.SingleTableRuleLoader;
 import org.apache.shardingsphere.sharding.spi.KeyGenerateAlgorithm;
 import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
+import org.apache.shardingsphere.sharding.yaml.swapper.rule.ShardingTableRuleConfigurationYamlSwapper;
 
 import javax.sql.DataSource;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
@@ -84,6 +90,12 @@ public final class ShardingRule implements FeatureRule, SchemaRule, DataNodeCont
     
     private final Map<String, KeyGenerateAlgorithm> keyGenerators = new LinkedHashMap<>();
     
+    @Getter(AccessLevel.NONE)
+    private final Map<String, ShardingTableRuleConfiguration> tableRuleConfigs;
+    
+    @Getter(AccessLevel.NONE)
+    private final String defaultGenerateKeyColumn;
+    
     private final Collection<TableRule> tableRules;
     
     private final Collection<BindingTableRule> bindingTableRules;
@@ -99,15 +111,22 @@ public final class ShardingRule implements FeatureRule, SchemaRule, DataNodeCont
     private final KeyGenerateAlgorithm defaultKeyGenerateAlgorithm;
     
     public ShardingRule(final ShardingRuleConfiguration config, final DatabaseType databaseType, final Map<String, DataSource> dataSourceMap) {
+        this(config, databaseType, dataSourceMap, null);
+    }
+    
+    public ShardingRule(final ShardingRuleConfiguration config, final DatabaseType databaseType, final Map<String, DataSource> dataSourceMap, final ShardingRule previousRule) {
         Preconditions.checkArgument(null != dataSourceMap && !dataSourceMap.isEmpty(), "Data sources cannot be empty.");
         dataSourceNames = getDataSourceNames(config.getTables(), config.getAutoTables(), dataSourceMap.keySet());
         config.getShardingAlgorithms().forEach((key, value) -> shardingAlgorithms.put(key, ShardingSphereAlgorithmFactory.createAlgorithm(value, ShardingAlgorithm.class)));
         config.getKeyGenerators().forEach((key, value) -> keyGenerators.put(key, ShardingSphereAlgorithmFactory.createAlgorithm(value, KeyGenerateAlgorithm.class)));
-        tableRules = new LinkedList<>(createTableRules(config.getTables(), config.getDefaultKeyGenerateStrategy()));
+        tableRuleConfigs = config.getTables().stream().collect(
+            Collectors.toMap(each -> each.getLogicTable().toLowerCase(), each -> each, (oldValue, currentValue) -> oldValue, LinkedHashMap::new));
+        defaultGenerateKeyColumn = getDefaultGenerateKeyColumn(config.getDefaultKeyGenerateStrategy());
+        tableRules = new LinkedList<>(createTableRules(config.getTables(), previousRule));
         tableRules.addAll(createAutoTableRules(config.getAutoTables(), config.getDefaultKeyGenerateStrategy()));
         broadcastTables = config.getBroadcastTables();
         bindingTableRules = createBindingTableRules(config.getBindingTableGroups());
-        singleTableRules = SingleTableRuleLoader.load(databaseType, dataSourceMap, getExcludedTables());
+        singleTableRules = loadSingleTableRules(databaseType, dataSourceMap, previousRule);
         defaultDatabaseShardingStrategyConfig = null == config.getDefaultDatabaseShardingStrategy() ? new NoneShardingStrategyConfiguration() : config.getDefaultDatabaseShardingStrategy();
         defaultTableShardingStrategyConfig = null == config.getDefaultTableShardingStrategy() ? new NoneShardingStrategyConfiguration() : config.getDefaultTableShardingStrategy();
         defaultKeyGenerateAlgorithm = null == config.getDefaultKeyGenerateStrategy()
@@ -120,7 +139,9 @@ public final class ShardingRule implements FeatureRule, SchemaRule, DataNodeCont
         dataSourceNames = getDataSourceNames(config.getTables(), config.getAutoTables(), dataSourceMap.keySet());
         shardingAlgorithms.putAll(config.getShardingAlgorithms());
         keyGenerators.putAll(config.getKeyGenerators());
-        tableRules = new LinkedList<>(createTableRules(config.getTables(), config.getDefaultKeyGenerateStrategy()));
+        tableRuleConfigs = Collections.emptyMap();
+        defaultGenerateKeyColumn = getDefaultGenerateKeyColumn(config.getDefaultKeyGenerateStrategy());
+        tableRules = new LinkedList<>(createTableRules(config.getTables(), null));
         tableRules.addAll(createAutoTableRules(config.getAutoTables(), config.getDefaultKeyGenerateStrategy()));
         broadcastTables = config.getBroadcastTables();
         bindingTableRules = createBindingTableRules(config.getBindingTableGroups());
@@ -155,8 +176,26 @@ public final class ShardingRule implements FeatureRule, SchemaRule, DataNodeCont
         return actualDataNodes.stream().map(each -> new DataNode(each).getDataSourceName()).collect(Collectors.toList());
     }
     
-    private Collection<TableRule> createTableRules(final Collection<ShardingTableRuleConfiguration> tableRuleConfigurations, final KeyGenerateStrategyConfiguration defaultKeyGenerateStrategyConfig) {
-        return tableRuleConfigurations.stream().map(each -> new TableRule(each, dataSourceNames, getDefaultGenerateKeyColumn(defaultKeyGenerateStrategyConfig))).collect(Collectors.toList());
+    private Collection<TableRule> createTableRules(final Collection<ShardingTableRuleConfiguration> tableRuleConfigurations, final ShardingRule previousRule) {
+        return tableRuleConfigurations.stream().map(
+            each -> findReusableTableRule(each, previousRule).orElseGet(() -> new TableRule(each, dataSourceNames, defaultGenerateKeyColumn))).collect(Collectors.toList());
+    }
+    
+    private Optional<TableRule> findReusableTableRule(final ShardingTableRuleConfiguration tableRuleConfig, final ShardingRule previousRule) {
+        if (null == previousRule || !new ArrayList<>(dataSourceNames).equals(new ArrayList<>(previousRule.dataSourceNames))
+                || !Objects.equals(defaultGenerateKeyColumn, previousRule.defaultGenerateKeyColumn)) {
+            return Optional.empty();
+        }
+        ShardingTableRuleConfiguration previousTableRuleConfig = previousRule.tableRuleConfigs.get(tableRuleConfig.getLogicTable().toLowerCase());
+        if (null == previousTableRuleConfig || !isSameTableRuleConfiguration(tableRuleConfig, previousTableRuleConfig)) {
+            return Optional.empty();
+        }
+        return previousRule.findTableRule(tableRuleConfig.getLogicTable());
+    }
+    
+    private boolean isSameTableRuleConfiguration(final ShardingTableRuleConfiguration tableRuleConfig, final ShardingTableRuleConfiguration previousTableRuleConfig) {
+        ShardingTableRuleConfigurationYamlSwapper swapper = new ShardingTableRuleConfigurationYamlSwapper();
+        return YamlEngine.marshal(swapper.swapToYamlConfiguration(tableRuleConfig)).equals(YamlEngine.marshal(swapper.swapToYamlConfiguration(previousTableRuleConfig)));
     }
     
     private Collection<TableRule> createAutoTableRules(final Collection<ShardingAutoTableRuleConfiguration> autoTableRuleConfigurations, 
@@ -183,6 +222,14 @@ public final class ShardingRule implements FeatureRule, SchemaRule, DataNodeCont
         return new BindingTableRule(Splitter.on(",").trimResults().splitToList(bindingTableGroup).stream().map(this::getTableRule).collect(Collectors.toList()));
     }
     
+    private Map<String, SingleTableRule> loadSingleTableRules(final DatabaseType databaseType, final Map<String, DataSource> dataSourceMap, final ShardingRule previousRule) {
+        Collection<String> excludedTables = getExcludedTables();
+        if (null == previousRule || !excludedTables.equals(previousRule.getExcludedTables())) {
+            return SingleTableRuleLoader.load(databaseType, dataSourceMap, excludedTables);
+        }
+        return new HashMap<>(previousRule.singleTableRules);
+    }
+    
     private Collection<String> getExcludedTables() {
         Collection<String> result = new HashSet<>(getTables());
         result.addAll(getAllActualTables());
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.sharding.rule.builder;
 
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.builder.level.FeatureRuleBuilder;
 import org.apache.shardingsphere.infra.rule.builder.scope.SchemaRuleBuilder;
 import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
@@ -25,6 +26,7 @@ import org.apache.shardingsphere.sharding.constant.ShardingOrder;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 
 import javax.sql.DataSource;
+import java.util.Collection;
 import java.util.Map;
 
 /**
@@ -37,6 +39,13 @@ public final class ShardingRuleBuilder implements FeatureRuleBuilder, SchemaRule
         return new ShardingRule(config, databaseType, dataSourceMap);
     }
     
+    @Override
+    public ShardingRule build(final String schemaName, final Map<String, DataSource> dataSourceMap, final DatabaseType databaseType, final ShardingRuleConfiguration config,
+                              final Collection<ShardingSphereRule> previousRules) {
+        ShardingRule previousRule = previousRules.stream().filter(each -> each instanceof ShardingRule).map(each -> (ShardingRule) each).findFirst().orElse(null);
+        return new ShardingRule(config, databaseType, dataSourceMap, previousRule);
+    }
+    
     @Override
     public int getOrder() {
         return ShardingOrder.ORDER;
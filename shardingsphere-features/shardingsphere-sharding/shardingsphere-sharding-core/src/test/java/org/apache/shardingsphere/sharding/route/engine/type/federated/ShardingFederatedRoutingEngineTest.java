@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.type.federated;
+
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.route.context.ColocatedTables;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.sharding.route.engine.fixture.AbstractRoutingEngineTest;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ShardingFederatedRoutingEngineTest extends AbstractRoutingEngineTest {
+    
+    @Test
+    public void assertRouteBindingTablesAsColocatedTables() {
+        RouteContext routeContext = new RouteContext();
+        new ShardingFederatedRoutingEngine(Arrays.asList("t_order", "t_order_item")).route(routeContext, createBindingShardingRule());
+        assertTrue(routeContext.isFederated());
+        assertThat(routeContext.getRouteUnits().size(), is(2));
+        Optional<ColocatedTables> actual = routeContext.findColocatedTables("t_order", "t_order_item");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getJoinColumns("t_order"), is(Arrays.asList("user_id", "order_id")));
+        assertThat(actual.get().getJoinColumns("t_order_item"), is(Arrays.asList("user_id", "order_id")));
+        assertThat(actual.get().getDataNodeGroups().size(), is(4));
+        Iterator<Map<String, DataNode>> dataNodeGroups = actual.get().getDataNodeGroups().iterator();
+        Map<String, DataNode> firstDataNodeGroup = dataNodeGroups.next();
+        assertThat(firstDataNodeGroup.get("t_order"), is(new DataNode("ds_0.t_order_0")));
+        assertThat(firstDataNodeGroup.get("t_order_item"), is(new DataNode("ds_0.t_order_item_0")));
+        Map<String, DataNode> secondDataNodeGroup = dataNodeGroups.next();
+        assertThat(secondDataNodeGroup.get("t_order"), is(new DataNode("ds_0.t_order_1")));
+        assertThat(secondDataNodeGroup.get("t_order_item"), is(new DataNode("ds_0.t_order_item_1")));
+    }
+    
+    @Test
+    public void assertRouteWithoutBindingTables() {
+        RouteContext routeContext = new RouteContext();
+        new ShardingFederatedRoutingEngine(Collections.singletonList("t_order")).route(routeContext, createBasedShardingRule());
+        assertTrue(routeContext.isFederated());
+        assertTrue(routeContext.getColocatedTables().isEmpty());
+    }
+}
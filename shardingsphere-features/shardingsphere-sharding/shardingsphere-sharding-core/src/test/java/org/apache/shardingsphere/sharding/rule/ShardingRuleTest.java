@@ -43,6 +43,8 @@ import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
@@ -334,6 +336,56 @@ public final class ShardingRuleTest {
         assertThat(shardingRule.getDataSourceNames(), is(new LinkedHashSet<>(Arrays.asList("ds_0", "ds_1"))));
     }
     
+    @Test
+    public void assertReuseUnchangedTableRulesOfPreviousRule() {
+        ShardingRuleConfiguration previousRuleConfig = new ShardingRuleConfiguration();
+        previousRuleConfig.getTables().add(createTableRuleConfiguration("LOGIC_TABLE", "ds_${0..1}.table_${0..2}"));
+        previousRuleConfig.getTables().add(createTableRuleConfiguration("SUB_LOGIC_TABLE", "ds_${0..1}.sub_table_${0..2}"));
+        ShardingRule previousRule = new ShardingRule(previousRuleConfig, mock(DatabaseType.class), createDataSourceMap());
+        ShardingRuleConfiguration ruleConfig = new ShardingRuleConfiguration();
+        ruleConfig.getTables().add(createTableRuleConfiguration("LOGIC_TABLE", "ds_${0..1}.table_${0..2}"));
+        ruleConfig.getTables().add(createTableRuleConfiguration("SUB_LOGIC_TABLE", "ds_${0..1}.sub_table_${0..3}"));
+        ShardingRule actual = new ShardingRule(ruleConfig, mock(DatabaseType.class), createDataSourceMap(), previousRule);
+        assertThat(actual.getTableRule("logic_table"), sameInstance(previousRule.getTableRule("logic_table")));
+        assertThat(actual.getTableRule("sub_logic_table"), not(sameInstance(previousRule.getTableRule("sub_logic_table"))));
+        assertThat(actual.getTableRule("sub_logic_table").getActualDataNodes().size(), is(8));
+    }
+    
+    @Test
+    public void assertNotReuseTableRulesWhenDataSourceNamesChanged() {
+        ShardingRuleConfiguration previousRuleConfig = new ShardingRuleConfiguration();
+        previousRuleConfig.getTables().add(createTableRuleConfiguration("LOGIC_TABLE", "ds_${0..1}.table_${0..2}"));
+        ShardingRule previousRule = new ShardingRule(previousRuleConfig, mock(DatabaseType.class), createDataSourceMap());
+        ShardingRuleConfiguration ruleConfig = new ShardingRuleConfiguration();
+        ruleConfig.getTables().add(createTableRuleConfiguration("LOGIC_TABLE", "ds_${0..1}.table_${0..2}"));
+        ruleConfig.getTables().add(createTableRuleConfiguration("OTHER_TABLE", "resource${0..1}.other_table"));
+        ShardingRule actual = new ShardingRule(ruleConfig, mock(DatabaseType.class), createDataSourceMap(), previousRule);
+        assertThat(actual.getTableRule("logic_table"), not(sameInstance(previousRule.getTableRule("logic_table"))));
+    }
+    
+    @Test
+    public void assertReuseSingleTableRulesWhenExcludedTablesUnchanged() {
+        ShardingRuleConfiguration ruleConfig = new ShardingRuleConfiguration();
+        ruleConfig.getTables().add(createTableRuleConfiguration("LOGIC_TABLE", "ds_${0..1}.table_${0..2}"));
+        ShardingRule previousRule = new ShardingRule(ruleConfig, mock(DatabaseType.class), createDataSourceMap());
+        previousRule.getSingleTableRules().put("single", new SingleTableRule("single", "ds_0"));
+        ShardingRule actual = new ShardingRule(ruleConfig, mock(DatabaseType.class), createDataSourceMap(), previousRule);
+        assertTrue(actual.getSingleTableRules().containsKey("single"));
+    }
+    
+    @Test
+    public void assertReloadSingleTableRulesWhenExcludedTablesChanged() {
+        ShardingRuleConfiguration previousRuleConfig = new ShardingRuleConfiguration();
+        previousRuleConfig.getTables().add(createTableRuleConfiguration("LOGIC_TABLE", "ds_${0..1}.table_${0..2}"));
+        ShardingRule previousRule = new ShardingRule(previousRuleConfig, mock(DatabaseType.class), createDataSourceMap());
+        previousRule.getSingleTableRules().put("single", new SingleTableRule("single", "ds_0"));
+        ShardingRuleConfiguration ruleConfig = new ShardingRuleConfiguration();
+        ruleConfig.getTables().add(createTableRuleConfiguration("LOGIC_TABLE", "ds_${0..1}.table_${0..2}"));
+        ruleConfig.getBroadcastTables().add("broadcast_table");
+        ShardingRule actual = new ShardingRule(ruleConfig, mock(DatabaseType.class), createDataSourceMap(), previousRule);
+        assertFalse(actual.getSingleTableRules().containsKey("single"));
+    }
+    
     private ShardingRule createMaximumShardingRule() {
         ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
         ShardingTableRuleConfiguration shardingTableRuleConfig = createTableRuleConfiguration("LOGIC_TABLE", "ds_${0..1}.table_${0..2}");
@@ -31,6 +31,9 @@ import org.apache.shardingsphere.governance.core.registry.config.event.rule.Rule
 import org.apache.shardingsphere.governance.core.registry.config.event.schema.SchemaChangedEvent;
 import org.apache.shardingsphere.governance.core.registry.metadata.event.SchemaAddedEvent;
 import org.apache.shardingsphere.governance.core.registry.metadata.event.SchemaDeletedEvent;
+import org.apache.shardingsphere.governance.core.registry.metadata.event.TableMetaDataChangeCompletedEvent;
+import org.apache.shardingsphere.governance.core.registry.metadata.event.TableMetaDataChangedEvent;
+import org.apache.shardingsphere.governance.core.registry.metadata.event.TableMetaDataDeletedEvent;
 import org.apache.shardingsphere.governance.core.registry.state.event.DisabledStateChangedEvent;
 import org.apache.shardingsphere.governance.core.registry.state.event.PrimaryStateChangedEvent;
 import org.apache.shardingsphere.governance.core.schema.GovernanceSchema;
@@ -50,9 +53,12 @@ import org.apache.shardingsphere.infra.lock.ShardingSphereLock;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.builder.util.TableMetaDataInterner;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.apache.shardingsphere.infra.metadata.user.ShardingSphereUser;
 import org.apache.shardingsphere.infra.metadata.user.ShardingSphereUsers;
 import org.apache.shardingsphere.infra.optimize.context.OptimizeContextFactory;
+import org.apache.shardingsphere.infra.optimize.core.metadata.FederateSchemaMetadata;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.builder.ShardingSphereRulesBuilder;
 import org.apache.shardingsphere.infra.rule.event.impl.DataSourceNameDisabledEvent;
@@ -182,7 +188,8 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
     @Subscribe
     public synchronized void renew(final SchemaAddedEvent event) throws SQLException {
         Map<String, ShardingSphereMetaData> metaDataMap = new HashMap<>(metaDataContexts.getMetaDataMap());
-        metaDataMap.put(event.getSchemaName(), buildMetaData(event));
+        ShardingSphereMetaData newMetaData = buildMetaData(event);
+        unregisterReplacedRules(metaDataMap.put(event.getSchemaName(), newMetaData), newMetaData);
         metaDataContexts = new StandardMetaDataContexts(metaDataMap, metaDataContexts.getGlobalRuleMetaData(), metaDataContexts.getExecutorEngine(), metaDataContexts.getProps());
         governanceFacade.getRegistryCenter().getSchemaService().persist(event.getSchemaName(), metaDataContexts.getMetaDataMap().get(event.getSchemaName()).getSchema());
         ShardingSphereEventBus.getInstance().post(new DataSourceChangeCompletedEvent(event.getSchemaName(), 
@@ -197,9 +204,10 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
     @Subscribe
     public synchronized void renew(final SchemaDeletedEvent event) {
         Map<String, ShardingSphereMetaData> metaDataMap = new HashMap<>(metaDataContexts.getMetaDataMap());
-        metaDataMap.remove(event.getSchemaName());
-        metaDataContexts = new StandardMetaDataContexts(
-                metaDataMap, metaDataContexts.getGlobalRuleMetaData(), metaDataContexts.getExecutorEngine(), metaDataContexts.getProps());
+        unregisterReplacedRules(metaDataMap.remove(event.getSchemaName()), null);
+        metaDataContexts.getOptimizeContextFactory().getSchemaMetadatas().remove(event.getSchemaName());
+        metaDataContexts = new StandardMetaDataContexts(metaDataMap, 
+                metaDataContexts.getGlobalRuleMetaData(), metaDataContexts.getExecutorEngine(), metaDataContexts.getProps(), metaDataContexts.getOptimizeContextFactory());
         governanceFacade.getRegistryCenter().getSchemaService().delete(event.getSchemaName());
     }
     
@@ -211,7 +219,8 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
     @Subscribe
     public synchronized void renew(final PropertiesChangedEvent event) {
         ConfigurationProperties props = new ConfigurationProperties(event.getProps());
-        metaDataContexts = new StandardMetaDataContexts(getChangedMataDataMap(), metaDataContexts.getGlobalRuleMetaData(), metaDataContexts.getExecutorEngine(), props);
+        metaDataContexts = new StandardMetaDataContexts(
+                getChangedMataDataMap(), metaDataContexts.getGlobalRuleMetaData(), metaDataContexts.getExecutorEngine(), props, metaDataContexts.getOptimizeContextFactory());
     }
     
     /**
@@ -221,8 +230,8 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
      */
     @Subscribe
     public synchronized void renew(final AuthorityChangedEvent event) {
-        metaDataContexts = new StandardMetaDataContexts(
-                metaDataContexts.getMetaDataMap(), getChangedGlobalRuleMetaData(event), metaDataContexts.getExecutorEngine(), metaDataContexts.getProps());
+        metaDataContexts = new StandardMetaDataContexts(metaDataContexts.getMetaDataMap(), 
+                getChangedGlobalRuleMetaData(event), metaDataContexts.getExecutorEngine(), metaDataContexts.getProps(), metaDataContexts.getOptimizeContextFactory());
     }
     
     /**
@@ -240,13 +249,62 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
                 ShardingSphereMetaData newMetaData = event.getSchemaName().equals(schemaName) ? getChangedMetaData(oldMetaData, event.getSchema(), schemaName) : oldMetaData;
                 newMetaDataMap.put(schemaName, newMetaData);
             }
-            metaDataContexts = new StandardMetaDataContexts(
-                    newMetaDataMap, metaDataContexts.getGlobalRuleMetaData(), metaDataContexts.getExecutorEngine(), metaDataContexts.getProps());
+            OptimizeContextFactory optimizeContextFactory = newMetaDataMap.containsKey(event.getSchemaName())
+                    ? metaDataContexts.getOptimizeContextFactory().copyWith(event.getSchemaName(), event.getSchema().getTables()) : metaDataContexts.getOptimizeContextFactory();
+            metaDataContexts = new StandardMetaDataContexts(newMetaDataMap, 
+                    metaDataContexts.getGlobalRuleMetaData(), metaDataContexts.getExecutorEngine(), metaDataContexts.getProps(), optimizeContextFactory);
         } finally {
             ShardingSphereEventBus.getInstance().post(new InnerLockReleasedEvent(LockNameUtil.getMetadataRefreshLockName()));
         }
     }
     
+    /**
+     * Renew meta data of the changed table.
+     *
+     * @param event table meta data changed event
+     */
+    @Subscribe
+    public synchronized void renew(final TableMetaDataChangedEvent event) {
+        ShardingSphereMetaData metaData = metaDataContexts.getMetaData(event.getSchemaName());
+        if (null == metaData) {
+            return;
+        }
+        TableMetaData tableMetaData = TableMetaDataInterner.intern(event.getTableMetaData());
+        metaData.getSchema().put(event.getTableName(), tableMetaData);
+        FederateSchemaMetadata federateSchemaMetadata = metaDataContexts.getOptimizeContextFactory().getSchemaMetadatas().getSchemaMetadataBySchemaName(event.getSchemaName());
+        if (null != federateSchemaMetadata) {
+            federateSchemaMetadata.renew(event.getTableName(), tableMetaData);
+        }
+    }
+    
+    /**
+     * Renew meta data of the deleted table.
+     *
+     * @param event table meta data deleted event
+     */
+    @Subscribe
+    public synchronized void renew(final TableMetaDataDeletedEvent event) {
+        ShardingSphereMetaData metaData = metaDataContexts.getMetaData(event.getSchemaName());
+        if (null == metaData) {
+            return;
+        }
+        metaData.getSchema().remove(event.getTableName());
+        FederateSchemaMetadata federateSchemaMetadata = metaDataContexts.getOptimizeContextFactory().getSchemaMetadatas().getSchemaMetadataBySchemaName(event.getSchemaName());
+        if (null != federateSchemaMetadata) {
+            federateSchemaMetadata.remove(event.getTableName());
+        }
+    }
+    
+    /**
+     * Acknowledge meta data refresh after all changed tables of the schema are renewed.
+     *
+     * @param event table meta data change completed event
+     */
+    @Subscribe
+    public synchronized void renew(final TableMetaDataChangeCompletedEvent event) {
+        ShardingSphereEventBus.getInstance().post(new InnerLockReleasedEvent(LockNameUtil.getMetadataRefreshLockName()));
+    }
+    
     /**
      * Renew rule configurations.
      *
@@ -255,13 +313,11 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
      */
     @Subscribe
     public synchronized void renew(final RuleConfigurationsChangedEvent event) throws SQLException {
-        Map<String, ShardingSphereMetaData> newMetaDataMap = new HashMap<>(metaDataContexts.getMetaDataMap());
         String schemaName = event.getSchemaName();
-        newMetaDataMap.remove(schemaName);
-        newMetaDataMap.put(schemaName, getChangedMetaData(metaDataContexts.getMetaDataMap().get(schemaName), event.getRuleConfigurations()));
-        metaDataContexts = new StandardMetaDataContexts(
-                newMetaDataMap, metaDataContexts.getGlobalRuleMetaData(), metaDataContexts.getExecutorEngine(), metaDataContexts.getProps());
-        governanceFacade.getRegistryCenter().getSchemaService().persist(schemaName, newMetaDataMap.get(schemaName).getSchema());
+        StandardMetaDataContexts newMetaDataContexts = getChangedMetaDataContexts(metaDataContexts.getMetaDataMap().get(schemaName), event.getRuleConfigurations());
+        unregisterReplacedRules(metaDataContexts.getMetaDataMap().get(schemaName), newMetaDataContexts.getMetaData(schemaName));
+        metaDataContexts = newMetaDataContexts;
+        governanceFacade.getRegistryCenter().getSchemaService().persist(schemaName, newMetaDataContexts.getMetaData(schemaName).getSchema());
     }
     
     /**
@@ -273,13 +329,11 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
     @Subscribe
     public synchronized void renew(final DataSourceChangedEvent event) throws SQLException {
         String schemaName = event.getSchemaName();
-        Map<String, ShardingSphereMetaData> newMetaDataMap = new HashMap<>(metaDataContexts.getMetaDataMap());
-        newMetaDataMap.remove(schemaName);
-        newMetaDataMap.put(schemaName, getChangedMetaData(metaDataContexts.getMetaDataMap().get(schemaName), event.getDataSourceConfigurations()));
-        metaDataContexts = new StandardMetaDataContexts(
-                newMetaDataMap, metaDataContexts.getGlobalRuleMetaData(), metaDataContexts.getExecutorEngine(), metaDataContexts.getProps());
+        StandardMetaDataContexts newMetaDataContexts = getChangedMetaDataContexts(metaDataContexts.getMetaDataMap().get(schemaName), event.getDataSourceConfigurations());
+        unregisterReplacedRules(metaDataContexts.getMetaDataMap().get(schemaName), newMetaDataContexts.getMetaData(schemaName));
+        metaDataContexts = newMetaDataContexts;
         ShardingSphereEventBus.getInstance().post(new DataSourceChangeCompletedEvent(event.getSchemaName(),
-                metaDataContexts.getMetaDataMap().get(event.getSchemaName()).getResource().getDatabaseType(), newMetaDataMap.get(event.getSchemaName()).getResource().getDataSources()));
+                newMetaDataContexts.getMetaData(schemaName).getResource().getDatabaseType(), newMetaDataContexts.getMetaData(schemaName).getResource().getDataSources()));
     }
     
     /**
@@ -325,8 +379,8 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
         if (!newGlobalConfigs.isEmpty()) {
             ShardingSphereRuleMetaData newGlobalRuleMetaData = new ShardingSphereRuleMetaData(newGlobalConfigs,
                     ShardingSphereRulesBuilder.buildGlobalRules(newGlobalConfigs, metaDataContexts.getMetaDataMap()));
-            metaDataContexts = new StandardMetaDataContexts(
-                    metaDataContexts.getMetaDataMap(), newGlobalRuleMetaData, metaDataContexts.getExecutorEngine(), metaDataContexts.getProps());
+            metaDataContexts = new StandardMetaDataContexts(metaDataContexts.getMetaDataMap(), 
+                    newGlobalRuleMetaData, metaDataContexts.getExecutorEngine(), metaDataContexts.getProps(), metaDataContexts.getOptimizeContextFactory());
         }
     }
     
@@ -348,6 +402,26 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
         return metaDataContextsBuilder.build().getMetaDataMap().get(schemaName);
     }
     
+    private void unregisterReplacedRules(final ShardingSphereMetaData oldMetaData, final ShardingSphereMetaData newMetaData) {
+        if (null == oldMetaData) {
+            return;
+        }
+        Collection<ShardingSphereRule> newRules = null == newMetaData ? Collections.emptyList() : newMetaData.getRuleMetaData().getRules();
+        for (ShardingSphereRule each : oldMetaData.getRuleMetaData().getRules()) {
+            if (newRules.stream().noneMatch(rule -> rule == each)) {
+                unregisterRule(each);
+            }
+        }
+    }
+    
+    private void unregisterRule(final ShardingSphereRule rule) {
+        try {
+            ShardingSphereEventBus.getInstance().unregister(rule);
+        } catch (final IllegalArgumentException ignored) {
+            // rule with subscribers is not registered when it is built without event bus, e.g. algorithm provided sharding rule
+        }
+    }
+    
     private Map<String, ShardingSphereMetaData> getChangedMataDataMap() {
         Map<String, ShardingSphereMetaData> result = new HashMap<>(metaDataContexts.getMetaDataMap().size());
         for (Entry<String, ShardingSphereMetaData> entry : metaDataContexts.getMetaDataMap().entrySet()) {
@@ -358,17 +432,18 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
     
     private ShardingSphereMetaData getChangedMetaData(final ShardingSphereMetaData oldMetaData, final ShardingSphereSchema schema, final String schemaName) {
         // TODO refresh table addressing mapper
+        oldMetaData.getSchema().getLazyTables().forEach(schema::putLazily);
         return new ShardingSphereMetaData(schemaName, oldMetaData.getResource(), oldMetaData.getRuleMetaData(), schema);
     }
     
-    private ShardingSphereMetaData getChangedMetaData(final ShardingSphereMetaData oldMetaData, final Collection<RuleConfiguration> ruleConfigs) throws SQLException {
+    private StandardMetaDataContexts getChangedMetaDataContexts(final ShardingSphereMetaData oldMetaData, final Collection<RuleConfiguration> ruleConfigs) throws SQLException {
         // TODO load global schema from reg center
         MetaDataContextsBuilder builder = new MetaDataContextsBuilder(Collections.singletonMap(oldMetaData.getName(), oldMetaData.getResource().getDataSources()),
                 Collections.singletonMap(oldMetaData.getName(), ruleConfigs), new LinkedList<>(), metaDataContexts.getProps().getProps());
-        return builder.build().getMetaDataMap().values().iterator().next();
+        return builder.build(oldMetaData, metaDataContexts, this);
     }
     
-    private ShardingSphereMetaData getChangedMetaData(final ShardingSphereMetaData oldMetaData, final Map<String, DataSourceConfiguration> newDataSourceConfigs) throws SQLException {
+    private StandardMetaDataContexts getChangedMetaDataContexts(final ShardingSphereMetaData oldMetaData, final Map<String, DataSourceConfiguration> newDataSourceConfigs) throws SQLException {
         Collection<String> deletedDataSources = getDeletedDataSources(oldMetaData, newDataSourceConfigs);
         Map<String, DataSource> modifiedDataSources = getModifiedDataSources(oldMetaData, newDataSourceConfigs);
         oldMetaData.getResource().close(deletedDataSources);
@@ -377,7 +452,7 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
                 getNewDataSources(oldMetaData.getResource().getDataSources(), getAddedDataSources(oldMetaData, newDataSourceConfigs), modifiedDataSources, deletedDataSources));
         // TODO load global schema from reg center
         return new MetaDataContextsBuilder(dataSourcesMap, Collections.singletonMap(oldMetaData.getName(), oldMetaData.getRuleMetaData().getConfigurations()), new LinkedList<>(),
-                metaDataContexts.getProps().getProps()).build().getMetaDataMap().get(oldMetaData.getName());
+                metaDataContexts.getProps().getProps()).build(oldMetaData, metaDataContexts, this);
     }
     
     private Map<String, DataSource> getNewDataSources(final Map<String, DataSource> oldDataSources, 
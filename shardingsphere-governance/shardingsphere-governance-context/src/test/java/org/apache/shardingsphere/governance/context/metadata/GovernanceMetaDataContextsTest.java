@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.governance.context.metadata;
 
+import com.google.common.eventbus.Subscribe;
+import lombok.Getter;
 import org.apache.shardingsphere.authority.api.config.AuthorityRuleConfiguration;
 import org.apache.shardingsphere.governance.context.authority.listener.event.AuthorityChangedEvent;
 import org.apache.shardingsphere.governance.core.GovernanceFacade;
@@ -26,6 +28,8 @@ import org.apache.shardingsphere.governance.core.registry.config.event.props.Pro
 import org.apache.shardingsphere.governance.core.registry.config.event.rule.GlobalRuleConfigurationsChangedEvent;
 import org.apache.shardingsphere.governance.core.registry.config.event.rule.RuleConfigurationsChangedEvent;
 import org.apache.shardingsphere.governance.core.registry.config.event.schema.SchemaChangedEvent;
+import org.apache.shardingsphere.governance.core.registry.metadata.event.TableMetaDataChangedEvent;
+import org.apache.shardingsphere.governance.core.registry.metadata.event.TableMetaDataDeletedEvent;
 import org.apache.shardingsphere.governance.core.registry.metadata.event.SchemaAddedEvent;
 import org.apache.shardingsphere.governance.core.registry.metadata.event.SchemaDeletedEvent;
 import org.apache.shardingsphere.governance.core.registry.state.event.DisabledStateChangedEvent;
@@ -37,12 +41,17 @@ import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties
 import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.metadata.impl.StandardMetaDataContexts;
 import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.resource.ShardingSphereResource;
 import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.apache.shardingsphere.infra.metadata.user.ShardingSphereUser;
+import org.apache.shardingsphere.infra.optimize.context.OptimizeContextFactory;
+import org.apache.shardingsphere.infra.optimize.core.metadata.FederateSchemaMetadata;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.test.mock.MockedDataSource;
 import org.junit.Before;
 import org.junit.Test;
@@ -61,12 +70,16 @@ import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -146,6 +159,16 @@ public final class GovernanceMetaDataContextsTest {
         assertNull(governanceMetaDataContexts.getMetaData("schema"));
     }
     
+    @Test
+    public void assertSchemaDeleteUnregistersRules() {
+        SubscribedRuleFixture rule = new SubscribedRuleFixture();
+        ShardingSphereEventBus.getInstance().register(rule);
+        when(metaData.getRuleMetaData().getRules()).thenReturn(Collections.singletonList(rule));
+        governanceMetaDataContexts.renew(new SchemaDeletedEvent("schema"));
+        ShardingSphereEventBus.getInstance().post(new RuleFixtureEvent());
+        assertThat(rule.getReceivedEvents(), is(0));
+    }
+    
     @Test
     public void assertPropertiesChanged() {
         Properties properties = new Properties();
@@ -170,12 +193,42 @@ public final class GovernanceMetaDataContextsTest {
         assertThat(governanceMetaDataContexts.getMetaData("schema"), not(metaData));
     }
     
+    @Test
+    public void assertTableMetaDataChanged() {
+        TableMetaData tableMetaData = new TableMetaData(Collections.emptyList(), Collections.emptyList());
+        governanceMetaDataContexts.renew(new TableMetaDataChangedEvent("schema", "t_order", tableMetaData));
+        assertThat(governanceMetaDataContexts.getMetaData("schema"), is(metaData));
+        verify(metaData.getSchema()).put(eq("t_order"), any(TableMetaData.class));
+        assertTrue(governanceMetaDataContexts.getOptimizeContextFactory().getSchemaMetadatas().getSchemaMetadataBySchemaName("schema").getTables().containsKey("t_order"));
+    }
+    
+    @Test
+    public void assertTableMetaDataDeleted() {
+        governanceMetaDataContexts.renew(new TableMetaDataDeletedEvent("schema", "t_order"));
+        assertThat(governanceMetaDataContexts.getMetaData("schema"), is(metaData));
+        verify(metaData.getSchema()).remove("t_order");
+    }
+    
     @Test
     public void assertRuleConfigurationsChanged() throws SQLException {
         assertThat(governanceMetaDataContexts.getMetaData("schema"), is(metaData));
-        RuleConfigurationsChangedEvent event = new RuleConfigurationsChangedEvent("schema", new LinkedList<>());
-        governanceMetaDataContexts.renew(event);
+        OptimizeContextFactory optimizeContextFactory = governanceMetaDataContexts.getOptimizeContextFactory();
+        FederateSchemaMetadata federateSchemaMetadata = optimizeContextFactory.getSchemaMetadatas().getSchemaMetadataBySchemaName("schema");
+        governanceMetaDataContexts.renew(new RuleConfigurationsChangedEvent("schema", new LinkedList<>()));
+        assertThat(optimizeContextFactory.getSchemaMetadatas().getSchemaMetadataBySchemaName("schema"), sameInstance(federateSchemaMetadata));
+        assertThat(governanceMetaDataContexts.getOptimizeContextFactory(), not(sameInstance(optimizeContextFactory)));
         assertThat(governanceMetaDataContexts.getMetaData("schema"), not(metaData));
+        assertThat(governanceMetaDataContexts.getMetaData("schema").getResource(), sameInstance(metaData.getResource()));
+    }
+    
+    @Test
+    public void assertRuleConfigurationsChangedUnregistersReplacedRules() throws SQLException {
+        SubscribedRuleFixture rule = new SubscribedRuleFixture();
+        ShardingSphereEventBus.getInstance().register(rule);
+        when(metaData.getRuleMetaData().getRules()).thenReturn(Collections.singletonList(rule));
+        governanceMetaDataContexts.renew(new RuleConfigurationsChangedEvent("schema", new LinkedList<>()));
+        ShardingSphereEventBus.getInstance().post(new RuleFixtureEvent());
+        assertThat(rule.getReceivedEvents(), is(0));
     }
     
     @Test
@@ -231,4 +284,18 @@ public final class GovernanceMetaDataContextsTest {
         RuleConfiguration ruleConfig = new AuthorityRuleConfiguration(Collections.emptyList(), new ShardingSphereAlgorithmConfiguration("NATIVE", new Properties()));
         return Collections.singleton(ruleConfig);
     }
+    
+    @Getter
+    private static final class SubscribedRuleFixture implements ShardingSphereRule {
+        
+        private int receivedEvents;
+        
+        @Subscribe
+        public void onEvent(final RuleFixtureEvent event) {
+            receivedEvents++;
+        }
+    }
+    
+    private static final class RuleFixtureEvent {
+    }
 }
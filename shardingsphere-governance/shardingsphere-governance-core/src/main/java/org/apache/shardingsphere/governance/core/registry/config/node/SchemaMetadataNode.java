@@ -38,6 +38,8 @@ public final class SchemaMetadataNode {
     
     private static final String SCHEMA_NODE = "schema";
     
+    private static final String TABLES_NODE = "tables";
+    
     /**
      * Get metadata data source path.
      *
@@ -87,6 +89,27 @@ public final class SchemaMetadataNode {
         return getFullMetadataPath(schemaName, SCHEMA_NODE);
     }
     
+    /**
+     * Get metadata tables path.
+     *
+     * @param schemaName schema name
+     * @return tables path
+     */
+    public static String getMetadataTablesPath(final String schemaName) {
+        return getFullMetadataPath(schemaName, TABLES_NODE);
+    }
+    
+    /**
+     * Get metadata table path.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @return table path
+     */
+    public static String getMetadataTablePath(final String schemaName, final String tableName) {
+        return Joiner.on("/").join(getMetadataTablesPath(schemaName), tableName);
+    }
+    
     private static String getFullMetadataPath(final String schemaName, final String node) {
         return Joiner.on("/").join("", ROOT_NODE, schemaName, node);
     }
@@ -114,4 +137,30 @@ public final class SchemaMetadataNode {
         Matcher matcher = pattern.matcher(schemaPath);
         return matcher.find() ? matcher.group(1) : "";
     }
+    
+    /**
+     * Get schema name by table path.
+     *
+     * @param tablePath table path
+     * @return schema name, empty if the path is not a table path
+     */
+    public static String getSchemaNameByTablePath(final String tablePath) {
+        Matcher matcher = getTablePathMatcher(tablePath);
+        return matcher.find() ? matcher.group(1) : "";
+    }
+    
+    /**
+     * Get table name by table path.
+     *
+     * @param tablePath table path
+     * @return table name, empty if the path is not a table path
+     */
+    public static String getTableNameByTablePath(final String tablePath) {
+        Matcher matcher = getTablePathMatcher(tablePath);
+        return matcher.find() ? matcher.group(2) : "";
+    }
+    
+    private static Matcher getTablePathMatcher(final String tablePath) {
+        return Pattern.compile(getMetadataNodePath() + "/(\\w+)/" + TABLES_NODE + "/([^/]+)$", Pattern.CASE_INSENSITIVE).matcher(tablePath);
+    }
 }
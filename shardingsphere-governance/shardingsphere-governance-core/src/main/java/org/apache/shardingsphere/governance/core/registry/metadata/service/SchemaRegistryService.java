@@ -23,14 +23,18 @@ import org.apache.shardingsphere.governance.core.registry.config.node.SchemaMeta
 import org.apache.shardingsphere.governance.core.registry.metadata.event.DatabaseCreatedSQLNotificationEvent;
 import org.apache.shardingsphere.governance.core.registry.metadata.event.DatabaseDroppedSQLNotificationEvent;
 import org.apache.shardingsphere.governance.core.yaml.schema.pojo.YamlSchema;
+import org.apache.shardingsphere.governance.core.yaml.schema.pojo.YamlTableMetaData;
 import org.apache.shardingsphere.governance.core.yaml.schema.swapper.SchemaYamlSwapper;
+import org.apache.shardingsphere.governance.core.yaml.schema.swapper.TableMetaDataYamlSwapper;
 import org.apache.shardingsphere.governance.repository.spi.RegistryCenterRepository;
 import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.refresher.event.SchemaAlteredEvent;
 import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
 
 import java.util.Collection;
+import java.util.LinkedList;
 import java.util.Optional;
 
 /**
@@ -53,6 +57,28 @@ public final class SchemaRegistryService {
      */
     public void persist(final String schemaName, final ShardingSphereSchema schema) {
         repository.persist(SchemaMetadataNode.getMetadataSchemaPath(schemaName), YamlEngine.marshal(new SchemaYamlSwapper().swapToYamlConfiguration(schema)));
+        repository.delete(SchemaMetadataNode.getMetadataTablesPath(schemaName));
+    }
+    
+    /**
+     * Persist table meta data.
+     *
+     * @param schemaName schema name
+     * @param tableName table name to be persisted
+     * @param tableMetaData table meta data to be persisted
+     */
+    public void persistTable(final String schemaName, final String tableName, final TableMetaData tableMetaData) {
+        repository.persist(SchemaMetadataNode.getMetadataTablePath(schemaName, tableName), YamlEngine.marshal(new TableMetaDataYamlSwapper().swapToYamlConfiguration(tableMetaData)));
+    }
+    
+    /**
+     * Mark table meta data as dropped.
+     *
+     * @param schemaName schema name
+     * @param tableName table name to be dropped
+     */
+    public void deleteTable(final String schemaName, final String tableName) {
+        repository.persist(SchemaMetadataNode.getMetadataTablePath(schemaName, tableName), "");
     }
     
     /**
@@ -72,7 +98,27 @@ public final class SchemaRegistryService {
      */
     public Optional<ShardingSphereSchema> load(final String schemaName) {
         String path = repository.get(SchemaMetadataNode.getMetadataSchemaPath(schemaName));
-        return Strings.isNullOrEmpty(path) ? Optional.empty() : Optional.of(new SchemaYamlSwapper().swapToObject(YamlEngine.unmarshal(path, YamlSchema.class)));
+        if (Strings.isNullOrEmpty(path)) {
+            return Optional.empty();
+        }
+        ShardingSphereSchema result = new SchemaYamlSwapper().swapToObject(YamlEngine.unmarshal(path, YamlSchema.class));
+        loadTables(schemaName, result);
+        return Optional.of(result);
+    }
+    
+    private void loadTables(final String schemaName, final ShardingSphereSchema schema) {
+        Collection<String> tableNames = repository.getChildrenKeys(SchemaMetadataNode.getMetadataTablesPath(schemaName));
+        if (null == tableNames) {
+            return;
+        }
+        for (String each : tableNames) {
+            String yamlContent = repository.get(SchemaMetadataNode.getMetadataTablePath(schemaName, each));
+            if (Strings.isNullOrEmpty(yamlContent)) {
+                schema.remove(each);
+            } else {
+                schema.put(each, new TableMetaDataYamlSwapper().swapToObject(YamlEngine.unmarshal(yamlContent, YamlTableMetaData.class)));
+            }
+        }
     }
     
     /**
@@ -96,12 +142,22 @@ public final class SchemaRegistryService {
     
     /**
      * Update when meta data altered.
+     * 
+     * <p>Tables path is written after all table paths, so that peers acknowledge meta data refresh once the whole alteration is applied.</p>
      *
      * @param event schema altered event
      */
     @Subscribe
     public void update(final SchemaAlteredEvent event) {
-        persist(event.getSchemaName(), event.getSchema());
+        if (event.getAlteredTables().isEmpty() && event.getDroppedTables().isEmpty()) {
+            persist(event.getSchemaName(), event.getSchema());
+            return;
+        }
+        event.getAlteredTables().forEach((key, value) -> persistTable(event.getSchemaName(), key, value));
+        event.getDroppedTables().forEach(each -> deleteTable(event.getSchemaName(), each));
+        Collection<String> changedTables = new LinkedList<>(event.getAlteredTables().keySet());
+        changedTables.addAll(event.getDroppedTables());
+        repository.persist(SchemaMetadataNode.getMetadataTablesPath(event.getSchemaName()), String.join(",", changedTables));
     }
     
     /**
@@ -28,12 +28,18 @@ import org.apache.shardingsphere.governance.core.registry.config.event.schema.Sc
 import org.apache.shardingsphere.governance.core.registry.config.node.SchemaMetadataNode;
 import org.apache.shardingsphere.governance.core.registry.metadata.event.SchemaAddedEvent;
 import org.apache.shardingsphere.governance.core.registry.metadata.event.SchemaDeletedEvent;
+import org.apache.shardingsphere.governance.core.registry.metadata.event.TableMetaDataChangeCompletedEvent;
+import org.apache.shardingsphere.governance.core.registry.metadata.event.TableMetaDataChangedEvent;
+import org.apache.shardingsphere.governance.core.registry.metadata.event.TableMetaDataDeletedEvent;
 import org.apache.shardingsphere.governance.core.yaml.schema.pojo.YamlSchema;
+import org.apache.shardingsphere.governance.core.yaml.schema.pojo.YamlTableMetaData;
 import org.apache.shardingsphere.governance.core.yaml.schema.swapper.SchemaYamlSwapper;
+import org.apache.shardingsphere.governance.core.yaml.schema.swapper.TableMetaDataYamlSwapper;
 import org.apache.shardingsphere.governance.repository.api.listener.DataChangedEvent;
 import org.apache.shardingsphere.governance.repository.api.listener.DataChangedEvent.Type;
 import org.apache.shardingsphere.infra.config.RuleConfiguration;
 import org.apache.shardingsphere.infra.config.datasource.DataSourceConfiguration;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.apache.shardingsphere.infra.yaml.config.YamlRuleConfiguration;
 import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
 import org.apache.shardingsphere.infra.yaml.swapper.YamlDataSourceConfigurationSwapper;
@@ -71,6 +77,13 @@ public final class MetaDataChangedWatcher implements GovernanceWatcher<Governanc
         if (!Strings.isNullOrEmpty(schemaName)) {
             return buildGovernanceEvent(schemaName, event);
         }
+        String tableSchemaName = SchemaMetadataNode.getSchemaNameByTablePath(event.getKey());
+        if (!Strings.isNullOrEmpty(tableSchemaName)) {
+            return buildTableGovernanceEvent(tableSchemaName, SchemaMetadataNode.getTableNameByTablePath(event.getKey()), event);
+        }
+        if (isTableChangeCompletedEvent(event)) {
+            return Optional.of(new TableMetaDataChangeCompletedEvent(SchemaMetadataNode.getSchemaName(event.getKey())));
+        }
         if (event.getType() != DataChangedEvent.Type.UPDATED) {
             return Optional.empty();
         }
@@ -107,6 +120,21 @@ public final class MetaDataChangedWatcher implements GovernanceWatcher<Governanc
         return Optional.empty();
     }
 
+    private Optional<GovernanceEvent> buildTableGovernanceEvent(final String schemaName, final String tableName, final DataChangedEvent event) {
+        if (event.getType() == DataChangedEvent.Type.DELETED) {
+            return Optional.empty();
+        }
+        if (Strings.isNullOrEmpty(event.getValue())) {
+            return Optional.of(new TableMetaDataDeletedEvent(schemaName, tableName));
+        }
+        TableMetaData tableMetaData = new TableMetaDataYamlSwapper().swapToObject(YamlEngine.unmarshal(event.getValue(), YamlTableMetaData.class));
+        return Optional.of(new TableMetaDataChangedEvent(schemaName, tableName, tableMetaData));
+    }
+    
+    private boolean isTableChangeCompletedEvent(final DataChangedEvent event) {
+        return event.getType() != DataChangedEvent.Type.DELETED && SchemaMetadataNode.getMetadataTablesPath(SchemaMetadataNode.getSchemaName(event.getKey())).equals(event.getKey());
+    }
+    
     private boolean isDataSourceChangedEvent(final String schemaName, final String eventPath) {
         return SchemaMetadataNode.getMetadataDataSourcePath(schemaName).equals(eventPath);
     }
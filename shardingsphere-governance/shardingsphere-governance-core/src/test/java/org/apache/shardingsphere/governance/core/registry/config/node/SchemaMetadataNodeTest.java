@@ -49,4 +49,16 @@ public class SchemaMetadataNodeTest {
     public void assertGetSchemaNameBySchemaPath() {
         assertThat(SchemaMetadataNode.getSchemaNameBySchemaPath("/metadata/logic_db"), is(DefaultSchema.LOGIC_NAME));
     }
+    
+    @Test
+    public void assertGetMetadataTablePath() {
+        assertThat(SchemaMetadataNode.getMetadataTablePath("sharding_db", "t_order"), is("/metadata/sharding_db/tables/t_order"));
+    }
+    
+    @Test
+    public void assertGetSchemaAndTableNameByTablePath() {
+        assertThat(SchemaMetadataNode.getSchemaNameByTablePath("/metadata/sharding_db/tables/t_order"), is("sharding_db"));
+        assertThat(SchemaMetadataNode.getTableNameByTablePath("/metadata/sharding_db/tables/t_order"), is("t_order"));
+        assertThat(SchemaMetadataNode.getSchemaNameByTablePath("/metadata/sharding_db/schema"), is(""));
+    }
 }
@@ -49,6 +49,7 @@ import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -73,6 +74,7 @@ public final class SchemaRegistryServiceTest {
         ShardingSphereSchema schema = new SchemaYamlSwapper().swapToObject(YamlEngine.unmarshal(readYAML(), YamlSchema.class));
         schemaRegistryService.persist("foo_db", schema);
         verify(registryCenterRepository).persist(eq("/metadata/foo_db/schema"), anyString());
+        verify(registryCenterRepository).delete("/metadata/foo_db/tables");
     }
     
     @Test
@@ -114,11 +116,33 @@ public final class SchemaRegistryServiceTest {
     
     @Test
     public void assertUpdateWithMetaDataAlteredEvent() {
-        SchemaAlteredEvent event = new SchemaAlteredEvent("foo_db", new SchemaYamlSwapper().swapToObject(YamlEngine.unmarshal(readYAML(), YamlSchema.class)));
+        ShardingSphereSchema schema = new SchemaYamlSwapper().swapToObject(YamlEngine.unmarshal(readYAML(), YamlSchema.class));
+        SchemaAlteredEvent event = new SchemaAlteredEvent("foo_db", schema, Collections.singletonMap("t_order", schema.get("t_order")), Collections.singletonList("t_order_item"));
         schemaRegistryService.update(event);
+        verify(registryCenterRepository).persist(eq("/metadata/foo_db/tables/t_order"), anyString());
+        verify(registryCenterRepository).persist("/metadata/foo_db/tables/t_order_item", "");
+        verify(registryCenterRepository).persist("/metadata/foo_db/tables", "t_order,t_order_item");
+        verify(registryCenterRepository, never()).persist(eq("/metadata/foo_db/schema"), anyString());
+    }
+    
+    @Test
+    public void assertUpdateWithEmptyMetaDataAlteredEvent() {
+        ShardingSphereSchema schema = new SchemaYamlSwapper().swapToObject(YamlEngine.unmarshal(readYAML(), YamlSchema.class));
+        schemaRegistryService.update(new SchemaAlteredEvent("foo_db", schema, Collections.emptyMap(), Collections.emptyList()));
         verify(registryCenterRepository).persist(eq("/metadata/foo_db/schema"), anyString());
     }
     
+    @Test
+    public void assertLoadWithTables() {
+        when(registryCenterRepository.get("/metadata/foo_db/schema")).thenReturn(readYAML());
+        when(registryCenterRepository.getChildrenKeys("/metadata/foo_db/tables")).thenReturn(Arrays.asList("t_order", "t_user"));
+        when(registryCenterRepository.get("/metadata/foo_db/tables/t_order")).thenReturn("");
+        when(registryCenterRepository.get("/metadata/foo_db/tables/t_user")).thenReturn("columns:\n  id:\n    name: id\n");
+        Optional<ShardingSphereSchema> actual = schemaRegistryService.load("foo_db");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getAllTableNames(), is(Collections.singleton("t_user")));
+    }
+    
     @Test
     public void assertUpdateWithDatabaseDroppedSQLNotificationEvent() {
         DatabaseDroppedSQLNotificationEvent event = new DatabaseDroppedSQLNotificationEvent("foo_db");
@@ -18,13 +18,20 @@
 package org.apache.shardingsphere.governance.core.registry.metadata.watcher;
 
 import org.apache.shardingsphere.governance.core.registry.GovernanceEvent;
+import org.apache.shardingsphere.governance.core.registry.metadata.event.TableMetaDataChangeCompletedEvent;
+import org.apache.shardingsphere.governance.core.registry.metadata.event.TableMetaDataChangedEvent;
+import org.apache.shardingsphere.governance.core.registry.metadata.event.TableMetaDataDeletedEvent;
 import org.apache.shardingsphere.governance.repository.api.listener.DataChangedEvent;
 import org.apache.shardingsphere.governance.repository.api.listener.DataChangedEvent.Type;
 import org.junit.Test;
 
+import java.util.Collections;
 import java.util.Optional;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
 public final class MetaDataChangedWatcherTest {
@@ -99,6 +106,38 @@ public final class MetaDataChangedWatcherTest {
         assertTrue(actual.isPresent());
     }
     
+    @Test
+    public void assertCreateTableMetaDataChangedEvent() {
+        String key = "/metadata/sharding_db/tables/t_order";
+        Optional<GovernanceEvent> actual = createEvent(key, "columns:\n  id:\n    name: id\n", Type.ADDED);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), instanceOf(TableMetaDataChangedEvent.class));
+        assertThat(((TableMetaDataChangedEvent) actual.get()).getSchemaName(), is("sharding_db"));
+        assertThat(((TableMetaDataChangedEvent) actual.get()).getTableName(), is("t_order"));
+        assertThat(((TableMetaDataChangedEvent) actual.get()).getTableMetaData().getColumns().keySet(), is(Collections.singleton("id")));
+    }
+    
+    @Test
+    public void assertCreateTableMetaDataDeletedEvent() {
+        String key = "/metadata/sharding_db/tables/t_order";
+        Optional<GovernanceEvent> actual = createEvent(key, "", Type.UPDATED);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), instanceOf(TableMetaDataDeletedEvent.class));
+        assertThat(((TableMetaDataDeletedEvent) actual.get()).getTableName(), is("t_order"));
+        assertFalse(createEvent(key, "", Type.DELETED).isPresent());
+    }
+    
+    @Test
+    public void assertCreateTableMetaDataChangeCompletedEvent() {
+        String key = "/metadata/sharding_db/tables";
+        Optional<GovernanceEvent> actual = createEvent(key, "t_order,t_order_item", Type.ADDED);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), instanceOf(TableMetaDataChangeCompletedEvent.class));
+        assertThat(((TableMetaDataChangeCompletedEvent) actual.get()).getSchemaName(), is("sharding_db"));
+        assertTrue(createEvent(key, "t_order", Type.UPDATED).isPresent());
+        assertFalse(createEvent(key, "", Type.DELETED).isPresent());
+    }
+    
     private Optional<GovernanceEvent> createEvent(final String key, final String value, final Type type) {
         DataChangedEvent dataChangedEvent = new DataChangedEvent(key, value, type);
         Optional<GovernanceEvent> actual = new MetaDataChangedWatcher().createGovernanceEvent(dataChangedEvent);
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.governance.core.yaml.schema.swapper;
+
+import org.apache.shardingsphere.governance.core.yaml.schema.pojo.YamlColumnMetaData;
+import org.apache.shardingsphere.governance.core.yaml.schema.pojo.YamlTableMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.IndexMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.junit.Test;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public final class TableMetaDataYamlSwapperTest {
+    
+    private final TableMetaDataYamlSwapper swapper = new TableMetaDataYamlSwapper();
+    
+    @Test
+    public void assertSwapToYamlConfiguration() {
+        YamlTableMetaData actual = swapper.swapToYamlConfiguration(createTableMetaData());
+        assertThat(actual.getColumns().keySet(), is(new LinkedHashSet<>(Arrays.asList("order_id", "status"))));
+        YamlColumnMetaData orderId = actual.getColumns().get("order_id");
+        assertThat(orderId.getName(), is("order_id"));
+        assertThat(orderId.getDataType(), is(Types.BIGINT));
+        assertThat(orderId.getDataTypeName(), nullValue());
+        assertThat(orderId.isPrimaryKey(), is(true));
+        assertThat(orderId.isGenerated(), is(true));
+        assertThat(orderId.isCaseSensitive(), is(false));
+        assertThat(actual.getColumns().get("status").getDataType(), is(Types.VARCHAR));
+        assertThat(actual.getIndexes().keySet(), is(Collections.singleton("idx_status")));
+    }
+    
+    @Test
+    public void assertSwapRoundTrip() {
+        TableMetaData expected = createTableMetaData();
+        TableMetaData actual = swapper.swapToObject(swapper.swapToYamlConfiguration(expected));
+        assertThat(actual.getColumns(), is(expected.getColumns()));
+        assertThat(actual.getColumns().get("order_id").getDataType(), is(Types.BIGINT));
+        assertThat(actual.getColumns().get("status").getDataType(), is(Types.VARCHAR));
+        assertThat(actual.getIndexes().keySet(), is(expected.getIndexes().keySet()));
+    }
+    
+    private TableMetaData createTableMetaData() {
+        return new TableMetaData(Arrays.asList(new ColumnMetaData("order_id", Types.BIGINT, true, true, false), new ColumnMetaData("status", Types.VARCHAR, false, false, true)),
+                Collections.singletonList(new IndexMetaData("idx_status")));
+    }
+}
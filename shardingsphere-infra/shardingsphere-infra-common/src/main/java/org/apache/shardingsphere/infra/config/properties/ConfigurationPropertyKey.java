@@ -48,11 +48,37 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     MAX_CONNECTIONS_SIZE_PER_QUERY("max-connections-size-per-query", String.valueOf(1), int.class),
     
+    /**
+     * Max buffered rows of each actual table when scanning actual tables in parallel for federate query, 0 means scanning serially.
+     */
+    FEDERATE_SCAN_PREFETCH_SIZE("federate-scan-prefetch-size", String.valueOf(1024), int.class),
+    
+    /**
+     * Max rows of build side kept in memory by hash join for federate query, rows are spilled to disk when exceeded, 0 means never spilling.
+     */
+    FEDERATE_JOIN_MEMORY_ROWS("federate-join-memory-rows", String.valueOf(100000), int.class),
+    
+    /**
+     * Max join keys of build side broadcast into the SQL of probe side by hash join for federate query, 0 means never broadcasting.
+     */
+    FEDERATE_BROADCAST_JOIN_MAX_KEYS("federate-broadcast-join-max-keys", String.valueOf(1000), int.class),
+    
     /**
      * Whether validate table meta data consistency when application startup or updated.
      */
     CHECK_TABLE_METADATA_ENABLED("check-table-metadata-enabled", String.valueOf(Boolean.FALSE), boolean.class),
     
+    /**
+     * Whether load meta data of tables which are not configured by rules on first access, only table names are loaded when application startup.
+     */
+    SCHEMA_METADATA_LAZY_LOADING_ENABLED("schema-metadata-lazy-loading-enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Directory of schema meta data snapshots, meta data is loaded from snapshot when application startup and reconciled with storage nodes in background.
+     * Snapshot is disabled if the value is empty.
+     */
+    SCHEMA_METADATA_SNAPSHOT_PATH("schema-metadata-snapshot-path", "", String.class),
+    
     /**
      * Frontend database protocol type for ShardingSphere-Proxy.
      */
@@ -63,6 +89,78 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_FRONTEND_FLUSH_THRESHOLD("proxy-frontend-flush-threshold", String.valueOf(128), int.class),
     
+    /**
+     * Zlib compression level (1-9) of MySQL compressed protocol offered to clients by ShardingSphere-Proxy, 0 means compression is not offered.
+     */
+    PROXY_FRONTEND_COMPRESSION_LEVEL("proxy-frontend-compression-level", String.valueOf(0), int.class),
+    
+    /**
+     * Min payload bytes to compress when sending to clients using compressed protocol of ShardingSphere-Proxy, smaller payloads are sent uncompressed.
+     */
+    PROXY_FRONTEND_COMPRESSION_MIN_LENGTH("proxy-frontend-compression-min-length", String.valueOf(50), int.class),
+    
+    /**
+     * Max payload bytes of a request from clients of ShardingSphere-Proxy, larger requests are rejected and the connection is closed.
+     * Only MySQL protocol is supported.
+     */
+    PROXY_FRONTEND_MAX_PACKET_SIZE("proxy-frontend-max-packet-size", String.valueOf(64 * 1024 * 1024), int.class),
+    
+    /**
+     * Acceptor threads count of ShardingSphere-Proxy, more than 1 binds the port for each acceptor with SO_REUSEPORT and takes effect on Linux with epoll only.
+     */
+    PROXY_FRONTEND_ACCEPTOR_SIZE("proxy-frontend-acceptor-size", String.valueOf(1), int.class),
+    
+    /**
+     * I/O threads count of ShardingSphere-Proxy, 0 means twice of available processors.
+     */
+    PROXY_FRONTEND_EXECUTOR_SIZE("proxy-frontend-executor-size", String.valueOf(0), int.class),
+    
+    /**
+     * Max pending connections in accept queue of ShardingSphere-Proxy.
+     */
+    PROXY_FRONTEND_BACKLOG("proxy-frontend-backlog", String.valueOf(128), int.class),
+    
+    /**
+     * Bytes pending to write to client connection of ShardingSphere-Proxy, below which the connection becomes writable again.
+     */
+    PROXY_FRONTEND_WRITE_BUFFER_LOW_WATER_MARK("proxy-frontend-write-buffer-low-water-mark", String.valueOf(32 * 1024), int.class),
+    
+    /**
+     * Bytes pending to write to client connection of ShardingSphere-Proxy, above which the connection becomes unwritable and query results stop being read.
+     */
+    PROXY_FRONTEND_WRITE_BUFFER_HIGH_WATER_MARK("proxy-frontend-write-buffer-high-water-mark", String.valueOf(64 * 1024), int.class),
+    
+    /**
+     * Whether enable TCP_QUICKACK on client connections of ShardingSphere-Proxy, takes effect on Linux with epoll only.
+     */
+    PROXY_FRONTEND_TCP_QUICKACK_ENABLED("proxy-frontend-tcp-quickack-enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Whether relay raw column bytes from databases to client for queries routed to single data node without result decoration for ShardingSphere-Proxy.
+     * Only MySQL text protocol is supported.
+     */
+    PROXY_BACKEND_QUERY_PASSTHROUGH_ENABLED("proxy-backend-query-passthrough-enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Max bytes of query results held in memory by all queries of ShardingSphere-Proxy, 0 means unlimited.
+     */
+    PROXY_MEMORY_POOL_SIZE("proxy-memory-pool-size", String.valueOf(0L), long.class),
+    
+    /**
+     * Max milliseconds a query merging results of multiple data nodes waits for exhausted memory pool of ShardingSphere-Proxy before rejected.
+     */
+    PROXY_MEMORY_ADMISSION_TIMEOUT_MILLISECONDS("proxy-memory-admission-timeout-milliseconds", String.valueOf(3000L), long.class),
+    
+    /**
+     * Whether share backend connections between sessions of ShardingSphere-Proxy out of transactions, re-applying session variables lazily.
+     */
+    PROXY_BACKEND_CONNECTION_MULTIPLEXING_ENABLED("proxy-backend-connection-multiplexing-enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Milliseconds above which a command of ShardingSphere-Proxy is logged with latency of each phase and data node, 0 means disabled.
+     */
+    PROXY_SLOW_QUERY_LOG_THRESHOLD_MILLISECONDS("proxy-slow-query-log-threshold-milliseconds", String.valueOf(0L), long.class),
+    
     /**
      * Transaction type of proxy.
      *
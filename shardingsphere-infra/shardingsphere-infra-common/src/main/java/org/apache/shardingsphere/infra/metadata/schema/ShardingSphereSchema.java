@@ -17,16 +17,23 @@
 
 package org.apache.shardingsphere.infra.metadata.schema;
 
+import lombok.AccessLevel;
 import lombok.Getter;
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+import org.apache.shardingsphere.infra.metadata.schema.builder.loader.LazyTableMetaDataLoader;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 
 /**
  * ShardingSphere schema.
@@ -36,6 +43,11 @@ public final class ShardingSphereSchema {
     
     private final Map<String, TableMetaData> tables;
     
+    private final Map<String, LazyTableMetaDataLoader> lazyTables = new ConcurrentHashMap<>();
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, FutureTask<Optional<TableMetaData>>> loadingTables = new ConcurrentHashMap<>();
+    
     @SuppressWarnings("CollectionWithoutInitialCapacity")
     public ShardingSphereSchema() {
         tables = new ConcurrentHashMap<>();
@@ -52,7 +64,12 @@ public final class ShardingSphereSchema {
      * @return all table names
      */
     public Collection<String> getAllTableNames() {
-        return tables.keySet();
+        if (lazyTables.isEmpty()) {
+            return tables.keySet();
+        }
+        Collection<String> result = new LinkedHashSet<>(tables.keySet());
+        result.addAll(lazyTables.keySet());
+        return result;
     }
     
     /**
@@ -62,7 +79,41 @@ public final class ShardingSphereSchema {
      * @return table mata data
      */
     public TableMetaData get(final String tableName) {
-        return tables.get(tableName.toLowerCase());
+        String lowerTableName = tableName.toLowerCase();
+        TableMetaData result = tables.get(lowerTableName);
+        return null == result && !lazyTables.isEmpty() ? loadLazily(lowerTableName) : result;
+    }
+    
+    private TableMetaData loadLazily(final String tableName) {
+        FutureTask<Optional<TableMetaData>> task = loadingTables.computeIfAbsent(tableName, this::createLoadingTask);
+        if (null == task) {
+            return tables.get(tableName);
+        }
+        task.run();
+        try {
+            Optional<TableMetaData> loaded = task.get();
+            loadingTables.computeIfPresent(tableName, (key, value) -> value == task ? publishLazily(tableName, loaded.orElse(null)) : value);
+            return tables.get(tableName);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ShardingSphereException(ex);
+        } catch (final ExecutionException ex) {
+            loadingTables.remove(tableName, task);
+            throw new ShardingSphereException(String.format("Can not load meta data of table `%s`.", tableName), ex);
+        }
+    }
+    
+    private FutureTask<Optional<TableMetaData>> publishLazily(final String tableName, final TableMetaData tableMetaData) {
+        LazyTableMetaDataLoader loader = lazyTables.remove(tableName);
+        if (null != tableMetaData && null == tables.putIfAbsent(tableName, tableMetaData) && null != loader) {
+            loader.onLoaded(tableName, tableMetaData);
+        }
+        return null;
+    }
+    
+    private FutureTask<Optional<TableMetaData>> createLoadingTask(final String tableName) {
+        LazyTableMetaDataLoader loader = lazyTables.get(tableName);
+        return null == loader ? null : new FutureTask<>(() -> loader.load(tableName));
     }
     
     /**
@@ -72,9 +123,23 @@ public final class ShardingSphereSchema {
      * @param tableMetaData table meta data
      */
     public void put(final String tableName, final TableMetaData tableMetaData) {
+        loadingTables.remove(tableName.toLowerCase());
+        lazyTables.remove(tableName.toLowerCase());
         tables.put(tableName.toLowerCase(), tableMetaData);
     }
     
+    /**
+     * Add table whose meta data will be loaded on first access.
+     *
+     * @param tableName table name
+     * @param loader lazy table meta data loader
+     */
+    public void putLazily(final String tableName, final LazyTableMetaDataLoader loader) {
+        if (!tables.containsKey(tableName.toLowerCase())) {
+            lazyTables.put(tableName.toLowerCase(), loader);
+        }
+    }
+    
     /**
      * Add table meta data map.
      *
@@ -92,6 +157,8 @@ public final class ShardingSphereSchema {
      * @param tableName table name
      */
     public void remove(final String tableName) {
+        loadingTables.remove(tableName.toLowerCase());
+        lazyTables.remove(tableName.toLowerCase());
         tables.remove(tableName.toLowerCase());
     }
     
@@ -102,7 +169,7 @@ public final class ShardingSphereSchema {
      * @return contains table from table meta data or not
      */
     public boolean containsTable(final String tableName) {
-        return tables.containsKey(tableName.toLowerCase());
+        return tables.containsKey(tableName.toLowerCase()) || lazyTables.containsKey(tableName.toLowerCase());
     }
     
     /**
@@ -113,7 +180,8 @@ public final class ShardingSphereSchema {
      * @return contains column name or not
      */
     public boolean containsColumn(final String tableName, final String columnName) {
-        return containsTable(tableName) && get(tableName).getColumns().containsKey(columnName.toLowerCase());
+        TableMetaData tableMetaData = containsTable(tableName) ? get(tableName) : null;
+        return null != tableMetaData && tableMetaData.getColumns().containsKey(columnName.toLowerCase());
     }
     
     /**
@@ -123,6 +191,7 @@ public final class ShardingSphereSchema {
      * @return column names
      */
     public List<String> getAllColumnNames(final String tableName) {
-        return containsTable(tableName) ? new ArrayList<>(get(tableName).getColumns().keySet()) : Collections.emptyList();
+        TableMetaData tableMetaData = containsTable(tableName) ? get(tableName) : null;
+        return null == tableMetaData ? Collections.emptyList() : new ArrayList<>(tableMetaData.getColumns().keySet());
     }
 }
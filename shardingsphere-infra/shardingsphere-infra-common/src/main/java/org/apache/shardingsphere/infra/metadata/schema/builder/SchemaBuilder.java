@@ -20,12 +20,14 @@ package org.apache.shardingsphere.infra.metadata.schema.builder;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.metadata.schema.builder.loader.ColumnMetaDataLoader;
 import org.apache.shardingsphere.infra.metadata.schema.builder.loader.SchemaMetaDataLoader;
 import org.apache.shardingsphere.infra.metadata.schema.builder.loader.adapter.MetaDataLoaderConnectionAdapter;
 import org.apache.shardingsphere.infra.metadata.schema.builder.spi.DialectTableMetaDataLoader;
+import org.apache.shardingsphere.infra.metadata.schema.builder.util.TableMetaDataInterner;
 import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
@@ -41,6 +43,7 @@ import java.util.Map.Entry;
 import java.util.HashMap;
 import java.util.Optional;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -80,9 +83,48 @@ public final class SchemaBuilder {
         return result;
     }
     
+    /**
+     * Load names of tables which are not configured by rules, their meta data will be loaded on first access.
+     *
+     * @param materials schema builder materials
+     * @param loadedTables names of loaded tables
+     * @return data source names of lazy tables, key is table name
+     * @throws SQLException SQL exception
+     */
+    public static Map<String, String> loadLazyTables(final SchemaBuilderMaterials materials, final Collection<String> loadedTables) throws SQLException {
+        Map<String, Future<Collection<String>>> futures = new LinkedHashMap<>(materials.getDataSourceMap().size(), 1);
+        for (Entry<String, DataSource> entry : materials.getDataSourceMap().entrySet()) {
+            futures.put(entry.getKey(), EXECUTOR_SERVICE.submit(() -> SchemaMetaDataLoader.loadAllTableNames(entry.getValue(), materials.getDatabaseType())));
+        }
+        Collection<String> existedTables = getExistedTables(materials.getRules(), Collections.emptyMap());
+        existedTables.addAll(loadedTables);
+        Map<String, String> result = new LinkedHashMap<>();
+        for (Entry<String, Future<Collection<String>>> entry : futures.entrySet()) {
+            for (String each : getFutureResult(entry.getValue())) {
+                if (!existedTables.contains(each)) {
+                    result.putIfAbsent(each, entry.getKey());
+                }
+            }
+        }
+        return result;
+    }
+    
+    private static <T> T getFutureResult(final Future<T> future) throws SQLException {
+        try {
+            return future.get();
+        } catch (final InterruptedException | ExecutionException ex) {
+            if (ex.getCause() instanceof SQLException) {
+                throw (SQLException) ex.getCause();
+            }
+            throw new ShardingSphereException(ex);
+        }
+    }
+    
     private static Map<String, TableMetaData> appendRemainTables(final SchemaBuilderMaterials materials) throws SQLException {
         Map<String, TableMetaData> result = new HashMap<>();
-        appendRemainTables(materials, result);
+        if (!materials.getProps().<Boolean>getValue(ConfigurationPropertyKey.SCHEMA_METADATA_LAZY_LOADING_ENABLED)) {
+            appendRemainTables(materials, result);
+        }
         for (ShardingSphereRule rule : materials.getRules()) {
             if (rule instanceof TableContainedRule) {
                 for (String table : ((TableContainedRule) rule).getTables()) {
@@ -135,14 +177,7 @@ public final class SchemaBuilder {
             futures.add(EXECUTOR_SERVICE.submit(() -> dialectLoader.load(each, existedTables)));
         }
         for (Future<Map<String, TableMetaData>> each : futures) {
-            try {
-                tables.putAll(each.get());
-            } catch (final InterruptedException | ExecutionException ex) {
-                if (ex.getCause() instanceof SQLException) {
-                    throw (SQLException) ex.getCause();
-                }
-                throw new ShardingSphereException(ex);
-            }
+            getFutureResult(each).forEach((key, value) -> tables.put(key, TableMetaDataInterner.intern(value)));
         }
     }
     
@@ -162,7 +197,7 @@ public final class SchemaBuilder {
         try (Connection connection = new MetaDataLoaderConnectionAdapter(databaseType, dataSource.getConnection())) {
             result.getColumns().putAll(loadColumnMetaDataMap(tableName, databaseType, connection));
         }
-        return result;
+        return TableMetaDataInterner.intern(result);
     }
     
     private static Map<String, ColumnMetaData> loadColumnMetaDataMap(final String tableName, final DatabaseType databaseType, final Connection connection) throws SQLException {
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.schema.builder.loader;
+
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+
+import java.sql.SQLException;
+import java.util.Optional;
+
+/**
+ * Lazy table meta data loader.
+ */
+public interface LazyTableMetaDataLoader {
+    
+    /**
+     * Load table meta data on first access.
+     *
+     * @param tableName table name
+     * @return table meta data
+     * @throws SQLException SQL exception
+     */
+    Optional<TableMetaData> load(String tableName) throws SQLException;
+    
+    /**
+     * Callback after loaded table meta data is published to the schema.
+     *
+     * <p>It is not called if the table was dropped or replaced while loading.</p>
+     *
+     * @param tableName table name
+     * @param tableMetaData loaded table meta data
+     */
+    default void onLoaded(final String tableName, final TableMetaData tableMetaData) {
+    }
+}
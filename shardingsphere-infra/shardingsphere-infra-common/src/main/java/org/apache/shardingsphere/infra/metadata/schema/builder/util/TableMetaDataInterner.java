@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.schema.builder.util;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.IndexMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+/**
+ * Table meta data interner.
+ * 
+ * <p>Structurally identical table meta data, such as actual tables of the same logic table, share one canonical instance.
+ * Interned table meta data must not be modified, create a new one to change it.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TableMetaDataInterner {
+    
+    private static final Interner<TableMetaData> TABLE_INTERNER = Interners.newWeakInterner();
+    
+    private static final Interner<ColumnMetaData> COLUMN_INTERNER = Interners.newWeakInterner();
+    
+    private static final Interner<IndexMetaData> INDEX_INTERNER = Interners.newWeakInterner();
+    
+    /**
+     * Intern table meta data.
+     *
+     * @param tableMetaData table meta data
+     * @return canonical table meta data
+     */
+    public static TableMetaData intern(final TableMetaData tableMetaData) {
+        Collection<ColumnMetaData> columns = new ArrayList<>(tableMetaData.getColumns().size());
+        for (ColumnMetaData each : tableMetaData.getColumns().values()) {
+            columns.add(COLUMN_INTERNER.intern(each));
+        }
+        Collection<IndexMetaData> indexes = new ArrayList<>(tableMetaData.getIndexes().size());
+        for (IndexMetaData each : tableMetaData.getIndexes().values()) {
+            indexes.add(INDEX_INTERNER.intern(each));
+        }
+        return TABLE_INTERNER.intern(new TableMetaData(columns, indexes));
+    }
+}
@@ -20,6 +20,10 @@ package org.apache.shardingsphere.infra.metadata.schema.refresher.event;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+
+import java.util.Collection;
+import java.util.Map;
 
 /**
  * Schema altered event.
@@ -31,4 +35,8 @@ public final class SchemaAlteredEvent {
     private final String schemaName;
     
     private final ShardingSphereSchema schema;
+    
+    private final Map<String, TableMetaData> alteredTables;
+    
+    private final Collection<String> droppedTables;
 }
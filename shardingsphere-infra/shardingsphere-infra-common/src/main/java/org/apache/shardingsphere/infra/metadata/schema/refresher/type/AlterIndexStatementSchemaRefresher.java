@@ -28,6 +28,8 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.ddl.AlterIndexS
 import org.apache.shardingsphere.sql.parser.sql.dialect.handler.ddl.AlterIndexStatementHandler;
 
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -46,9 +48,11 @@ public final class AlterIndexStatementSchemaRefresher implements SchemaRefresher
         if (logicTableName.isPresent()) {
             TableMetaData tableMetaData = schema.get(logicTableName.get());
             Preconditions.checkNotNull(tableMetaData, String.format("Can not get the table '%s' metadata!", logicTableName.get()));
-            tableMetaData.getIndexes().remove(indexName);
+            Map<String, IndexMetaData> indexes = new LinkedHashMap<>(tableMetaData.getIndexes());
+            indexes.remove(indexName);
             String renameIndexName = renameIndex.get().getIdentifier().getValue();
-            tableMetaData.getIndexes().put(renameIndexName, new IndexMetaData(renameIndexName));
+            indexes.put(renameIndexName, new IndexMetaData(renameIndexName));
+            schema.put(logicTableName.get(), new TableMetaData(tableMetaData.getColumns().values(), indexes.values()));
         }
     }
     
@@ -22,10 +22,12 @@ import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.schema.builder.SchemaBuilderMaterials;
 import org.apache.shardingsphere.infra.metadata.schema.builder.util.IndexMetaDataUtil;
 import org.apache.shardingsphere.infra.metadata.schema.model.IndexMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.refresher.SchemaRefresher;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.ddl.CreateIndexStatement;
 
 import java.util.Collection;
+import java.util.LinkedList;
 
 /**
  * ShardingSphere schema refresher for create index statement.
@@ -39,6 +41,9 @@ public final class CreateIndexStatementSchemaRefresher implements SchemaRefreshe
             return;
         }
         String tableName = sqlStatement.getTable().getTableName().getIdentifier().getValue();
-        schema.get(tableName).getIndexes().put(indexName, new IndexMetaData(indexName));
+        TableMetaData tableMetaData = schema.get(tableName);
+        Collection<IndexMetaData> indexes = new LinkedList<>(tableMetaData.getIndexes().values());
+        indexes.add(new IndexMetaData(indexName));
+        schema.put(tableName, new TableMetaData(tableMetaData.getColumns().values(), indexes));
     }
 }
@@ -21,6 +21,7 @@ import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.schema.builder.SchemaBuilderMaterials;
+import org.apache.shardingsphere.infra.metadata.schema.model.IndexMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.refresher.SchemaRefresher;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
@@ -28,7 +29,10 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.ddl.DropIndexSt
 import org.apache.shardingsphere.sql.parser.sql.dialect.handler.ddl.DropIndexStatementHandler;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -42,27 +46,31 @@ public final class DropIndexStatementSchemaRefresher implements SchemaRefresher<
         Collection<String> indexNames = getIndexNames(sqlStatement);
         Optional<SimpleTableSegment> simpleTableSegment = DropIndexStatementHandler.getSimpleTableSegment(sqlStatement);
         String tableName = simpleTableSegment.map(tableSegment -> tableSegment.getTableName().getIdentifier().getValue()).orElse("");
-        TableMetaData tableMetaData = schema.get(tableName);
         if (!Strings.isNullOrEmpty(tableName)) {
-            for (String each : indexNames) {
-                tableMetaData.getIndexes().remove(each);
-            }
+            removeIndexes(schema, tableName, indexNames);
             return;
         }
+        String logicTableName = null;
         for (String each : indexNames) {
             Optional<String> logicTableNameOptional = findLogicTableName(schema, each);
             if (logicTableNameOptional.isPresent()) {
-                String logicTableName = logicTableNameOptional.orElse("");
-                Preconditions.checkArgument(!Strings.isNullOrEmpty(logicTableName), "Cannot get the table name!");
-                if (null == tableMetaData) {
-                    tableMetaData = schema.get(logicTableName);
+                Preconditions.checkArgument(!Strings.isNullOrEmpty(logicTableNameOptional.get()), "Cannot get the table name!");
+                if (null == logicTableName) {
+                    logicTableName = logicTableNameOptional.get();
                 }
-                Preconditions.checkNotNull(tableMetaData, "Cannot get the table metadata!");
-                tableMetaData.getIndexes().remove(each);
+                Preconditions.checkNotNull(schema.get(logicTableName), "Cannot get the table metadata!");
+                removeIndexes(schema, logicTableName, Collections.singletonList(each));
             }
         }
     }
     
+    private void removeIndexes(final ShardingSphereSchema schema, final String tableName, final Collection<String> indexNames) {
+        TableMetaData tableMetaData = schema.get(tableName);
+        Map<String, IndexMetaData> indexes = new LinkedHashMap<>(tableMetaData.getIndexes());
+        indexes.keySet().removeAll(indexNames);
+        schema.put(tableName, new TableMetaData(tableMetaData.getColumns().values(), indexes.values()));
+    }
+    
     private Collection<String> getIndexNames(final DropIndexStatement dropIndexStatement) {
         return dropIndexStatement.getIndexes().stream().map(each -> each.getIdentifier().getValue()).collect(Collectors.toCollection(LinkedList::new));
     }
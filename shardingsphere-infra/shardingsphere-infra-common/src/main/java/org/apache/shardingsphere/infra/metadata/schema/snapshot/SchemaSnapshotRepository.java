@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.schema.snapshot;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+/**
+ * Schema snapshot repository which stores snapshots as local files.
+ */
+@Slf4j
+public final class SchemaSnapshotRepository {
+    
+    private static final String FILE_SUFFIX = ".snapshot";
+    
+    private final Path directory;
+    
+    public SchemaSnapshotRepository(final String directory) {
+        this.directory = Paths.get(directory);
+    }
+    
+    /**
+     * Load schema snapshot.
+     *
+     * @param schemaName schema name
+     * @param fingerprint fingerprint of current data sources and rules
+     * @return schema snapshot, empty if snapshot is absent, broken or stale
+     */
+    public Optional<SchemaSnapshot> load(final String schemaName, final String fingerprint) {
+        Path file = getFile(schemaName);
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            SchemaSnapshot result = SchemaSnapshotSerializer.deserialize(in);
+            return fingerprint.equals(result.getFingerprint()) ? Optional.of(result) : Optional.empty();
+        } catch (final IOException ex) {
+            log.warn("Ignore broken schema snapshot `{}`.", file, ex);
+            return Optional.empty();
+        }
+    }
+    
+    /**
+     * Persist schema snapshot.
+     *
+     * @param schemaName schema name
+     * @param snapshot schema snapshot
+     */
+    public void persist(final String schemaName, final SchemaSnapshot snapshot) {
+        Path file = getFile(schemaName);
+        try {
+            Files.createDirectories(directory);
+            Path tempFile = Files.createTempFile(directory, schemaName, FILE_SUFFIX + ".tmp");
+            try {
+                write(snapshot, tempFile);
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        } catch (final IOException ex) {
+            log.warn("Can not persist schema snapshot `{}`.", file, ex);
+        }
+    }
+    
+    private void write(final SchemaSnapshot snapshot, final Path file) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            SchemaSnapshotSerializer.serialize(snapshot, out);
+        }
+    }
+    
+    private Path getFile(final String schemaName) {
+        return directory.resolve(schemaName + FILE_SUFFIX);
+    }
+}
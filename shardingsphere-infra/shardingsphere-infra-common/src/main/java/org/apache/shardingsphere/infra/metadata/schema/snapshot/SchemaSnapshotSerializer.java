@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.schema.snapshot;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.metadata.schema.builder.util.TableMetaDataInterner;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.IndexMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Schema snapshot serializer.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SchemaSnapshotSerializer {
+    
+    private static final int MAGIC_NUMBER = 0x53535353;
+    
+    private static final int VERSION = 1;
+    
+    /**
+     * Serialize schema snapshot.
+     *
+     * @param snapshot schema snapshot
+     * @param out output stream
+     * @throws IOException IO exception
+     */
+    public static void serialize(final SchemaSnapshot snapshot, final OutputStream out) throws IOException {
+        DataOutputStream dataOut = new DataOutputStream(out);
+        dataOut.writeInt(MAGIC_NUMBER);
+        dataOut.writeInt(VERSION);
+        dataOut.writeUTF(snapshot.getFingerprint());
+        writeTables(snapshot.getActualTables(), dataOut);
+        writeTables(snapshot.getLogicTables(), dataOut);
+        dataOut.flush();
+    }
+    
+    private static void writeTables(final Map<String, TableMetaData> tables, final DataOutputStream out) throws IOException {
+        out.writeInt(tables.size());
+        for (Entry<String, TableMetaData> entry : tables.entrySet()) {
+            out.writeUTF(entry.getKey());
+            writeTable(entry.getValue(), out);
+        }
+    }
+    
+    private static void writeTable(final TableMetaData table, final DataOutputStream out) throws IOException {
+        Collection<ColumnMetaData> columns = new ArrayList<>(table.getColumns().values());
+        out.writeInt(columns.size());
+        for (ColumnMetaData each : columns) {
+            out.writeUTF(each.getName());
+            out.writeInt(each.getDataType());
+            out.writeByte((each.isPrimaryKey() ? 1 : 0) | (each.isGenerated() ? 2 : 0) | (each.isCaseSensitive() ? 4 : 0));
+        }
+        Collection<IndexMetaData> indexes = new ArrayList<>(table.getIndexes().values());
+        out.writeInt(indexes.size());
+        for (IndexMetaData each : indexes) {
+            out.writeUTF(each.getName());
+        }
+    }
+    
+    /**
+     * Deserialize schema snapshot.
+     *
+     * @param in input stream
+     * @return schema snapshot
+     * @throws IOException IO exception
+     */
+    public static SchemaSnapshot deserialize(final InputStream in) throws IOException {
+        DataInputStream dataIn = new DataInputStream(in);
+        if (MAGIC_NUMBER != dataIn.readInt()) {
+            throw new IOException("Invalid schema snapshot.");
+        }
+        int version = dataIn.readInt();
+        if (VERSION != version) {
+            throw new IOException(String.format("Unsupported schema snapshot version `%s`.", version));
+        }
+        String fingerprint = dataIn.readUTF();
+        Map<String, TableMetaData> actualTables = readTables(dataIn);
+        Map<String, TableMetaData> logicTables = readTables(dataIn);
+        return new SchemaSnapshot(fingerprint, actualTables, logicTables);
+    }
+    
+    private static Map<String, TableMetaData> readTables(final DataInputStream in) throws IOException {
+        int size = in.readInt();
+        Map<String, TableMetaData> result = new LinkedHashMap<>(size, 1);
+        for (int i = 0; i < size; i++) {
+            result.put(in.readUTF(), readTable(in));
+        }
+        return result;
+    }
+    
+    private static TableMetaData readTable(final DataInputStream in) throws IOException {
+        int columnSize = in.readInt();
+        Collection<ColumnMetaData> columns = new ArrayList<>(columnSize);
+        for (int i = 0; i < columnSize; i++) {
+            String name = in.readUTF();
+            int dataType = in.readInt();
+            int flags = in.readByte();
+            columns.add(new ColumnMetaData(name, dataType, 0 != (flags & 1), 0 != (flags & 2), 0 != (flags & 4)));
+        }
+        int indexSize = in.readInt();
+        Collection<IndexMetaData> indexes = new ArrayList<>(indexSize);
+        for (int i = 0; i < indexSize; i++) {
+            indexes.add(new IndexMetaData(in.readUTF()));
+        }
+        return TableMetaDataInterner.intern(new TableMetaData(columns, indexes));
+    }
+}
@@ -32,6 +32,7 @@ import org.apache.shardingsphere.infra.spi.ordered.OrderedSPIRegistry;
 
 import javax.sql.DataSource;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.Map;
@@ -59,12 +60,27 @@ public final class ShardingSphereRulesBuilder {
      * @param dataSourceMap data source map
      * @return built schema rules
      */
-    @SuppressWarnings({"unchecked", "rawtypes"})
     public static Collection<ShardingSphereRule> buildSchemaRules(final String schemaName, final Collection<RuleConfiguration> schemaRuleConfigurations,
                                                                   final DatabaseType databaseType, final Map<String, DataSource> dataSourceMap) {
+        return buildSchemaRules(schemaName, schemaRuleConfigurations, databaseType, dataSourceMap, Collections.emptyList());
+    }
+    
+    /**
+     * Build schema rules with rules built before for the same schema and data sources.
+     *
+     * @param schemaName schema name
+     * @param schemaRuleConfigurations schema rule configurations
+     * @param databaseType database type
+     * @param dataSourceMap data source map
+     * @param previousRules rules built before for the same schema and data sources
+     * @return built schema rules
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static Collection<ShardingSphereRule> buildSchemaRules(final String schemaName, final Collection<RuleConfiguration> schemaRuleConfigurations,
+                                                                  final DatabaseType databaseType, final Map<String, DataSource> dataSourceMap, final Collection<ShardingSphereRule> previousRules) {
         Map<RuleConfiguration, SchemaRuleBuilder> builders = OrderedSPIRegistry.getRegisteredServices(schemaRuleConfigurations, SchemaRuleBuilder.class);
         appendDefaultKernelSchemaRuleConfigurationBuilder(builders);
-        return builders.entrySet().stream().map(entry -> entry.getValue().build(schemaName, dataSourceMap, databaseType, entry.getKey())).collect(Collectors.toList());
+        return builders.entrySet().stream().map(entry -> entry.getValue().build(schemaName, dataSourceMap, databaseType, entry.getKey(), previousRules)).collect(Collectors.toList());
     }
     
     @SuppressWarnings("rawtypes")
@@ -19,9 +19,11 @@ package org.apache.shardingsphere.infra.rule.builder.scope;
 
 import org.apache.shardingsphere.infra.config.RuleConfiguration;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.scope.SchemaRule;
 
 import javax.sql.DataSource;
+import java.util.Collection;
 import java.util.Map;
 
 /**
@@ -41,4 +43,20 @@ public interface SchemaRuleBuilder<T extends RuleConfiguration> extends RuleBuil
      * @return built schema rule
      */
     SchemaRule build(String schemaName, Map<String, DataSource> dataSourceMap, DatabaseType databaseType, T config);
+    
+    /**
+     * Build schema rule with rules built before for the same schema and data sources.
+     * 
+     * <p>Builders which can reuse parts of the previous rules should override this method, others build from scratch.</p>
+     *
+     * @param schemaName schema name
+     * @param dataSourceMap dataSource map
+     * @param databaseType database type
+     * @param config rule configuration
+     * @param previousRules rules built before for the same schema and data sources
+     * @return built schema rule
+     */
+    default SchemaRule build(String schemaName, Map<String, DataSource> dataSourceMap, DatabaseType databaseType, T config, Collection<ShardingSphereRule> previousRules) {
+        return build(schemaName, dataSourceMap, databaseType, config);
+    }
 }
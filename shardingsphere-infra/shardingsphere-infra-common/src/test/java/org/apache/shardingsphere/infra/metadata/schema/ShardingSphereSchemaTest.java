@@ -19,17 +19,36 @@ package org.apache.shardingsphere.infra.metadata.schema;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.Uninterruptibles;
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+import org.apache.shardingsphere.infra.metadata.schema.builder.loader.LazyTableMetaDataLoader;
 import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.junit.Test;
 
+import java.sql.SQLException;
 import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public final class ShardingSphereSchemaTest {
     
@@ -81,4 +100,108 @@ public final class ShardingSphereSchemaTest {
         TableMetaData tableMetaData = new TableMetaData(Collections.singletonList(new ColumnMetaData("col", 0, false, false, false)), Collections.emptyList());
         assertThat(new ShardingSphereSchema(ImmutableMap.of("tbl1", tableMetaData)).getAllColumnNames("tbl2"), is(Collections.<String>emptyList()));
     }
+    
+    @Test
+    public void assertGetLazily() {
+        ShardingSphereSchema actual = new ShardingSphereSchema(Collections.emptyMap());
+        TableMetaData tableMetaData = mock(TableMetaData.class);
+        AtomicInteger loadCount = new AtomicInteger();
+        actual.putLazily("TBL", tableName -> {
+            loadCount.incrementAndGet();
+            return Optional.of(tableMetaData);
+        });
+        assertTrue(actual.containsTable("tbl"));
+        assertThat(actual.getAllTableNames(), is(Sets.newHashSet("tbl")));
+        assertTrue(actual.getTables().isEmpty());
+        assertThat(actual.get("tbl"), is(tableMetaData));
+        assertThat(actual.get("tbl"), is(tableMetaData));
+        assertThat(loadCount.get(), is(1));
+        assertTrue(actual.getLazyTables().isEmpty());
+    }
+    
+    @Test
+    public void assertGetLazilyConcurrently() throws InterruptedException, ExecutionException {
+        ShardingSphereSchema actual = new ShardingSphereSchema(Collections.emptyMap());
+        TableMetaData tableMetaData = mock(TableMetaData.class);
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch loadingLatch = new CountDownLatch(1);
+        actual.putLazily("tbl", tableName -> {
+            loadCount.incrementAndGet();
+            Uninterruptibles.awaitUninterruptibly(loadingLatch);
+            return Optional.of(tableMetaData);
+        });
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Future<TableMetaData> first = executorService.submit(() -> actual.get("tbl"));
+            Future<TableMetaData> second = executorService.submit(() -> actual.get("tbl"));
+            loadingLatch.countDown();
+            assertThat(first.get(), is(tableMetaData));
+            assertThat(second.get(), is(tableMetaData));
+        } finally {
+            executorService.shutdown();
+        }
+        assertThat(loadCount.get(), is(1));
+    }
+    
+    @Test
+    public void assertGetLazilyAgainAfterFailure() {
+        ShardingSphereSchema actual = new ShardingSphereSchema(Collections.emptyMap());
+        TableMetaData tableMetaData = mock(TableMetaData.class);
+        AtomicInteger loadCount = new AtomicInteger();
+        actual.putLazily("tbl", tableName -> {
+            if (1 == loadCount.incrementAndGet()) {
+                throw new SQLException("mock");
+            }
+            return Optional.of(tableMetaData);
+        });
+        try {
+            actual.get("tbl");
+            fail("Expected ShardingSphereException for failed loading.");
+        } catch (final ShardingSphereException ignored) {
+            assertTrue(actual.containsTable("tbl"));
+        }
+        assertThat(actual.get("tbl"), is(tableMetaData));
+    }
+    
+    @Test
+    public void assertGetLazilyWhenTableNotExisted() {
+        ShardingSphereSchema actual = new ShardingSphereSchema(Collections.emptyMap());
+        actual.putLazily("tbl", tableName -> Optional.empty());
+        assertNull(actual.get("tbl"));
+        assertFalse(actual.containsTable("tbl"));
+    }
+    
+    @Test
+    public void assertRemoveLazyTable() {
+        ShardingSphereSchema actual = new ShardingSphereSchema(Collections.emptyMap());
+        actual.putLazily("tbl", tableName -> Optional.of(mock(TableMetaData.class)));
+        actual.remove("tbl");
+        assertFalse(actual.containsTable("tbl"));
+    }
+    
+    @Test
+    public void assertGetLazilyNotifiesLoader() throws SQLException {
+        ShardingSphereSchema actual = new ShardingSphereSchema(Collections.emptyMap());
+        TableMetaData tableMetaData = mock(TableMetaData.class);
+        LazyTableMetaDataLoader loader = mock(LazyTableMetaDataLoader.class);
+        when(loader.load("tbl")).thenReturn(Optional.of(tableMetaData));
+        actual.putLazily("tbl", loader);
+        assertThat(actual.get("tbl"), is(tableMetaData));
+        assertThat(actual.get("tbl"), is(tableMetaData));
+        verify(loader, times(1)).onLoaded("tbl", tableMetaData);
+    }
+    
+    @Test
+    public void assertRemoveLazyTableWhileLoading() throws SQLException {
+        ShardingSphereSchema actual = new ShardingSphereSchema(Collections.emptyMap());
+        LazyTableMetaDataLoader loader = mock(LazyTableMetaDataLoader.class);
+        when(loader.load("tbl")).thenAnswer(invocation -> {
+            actual.remove("tbl");
+            return Optional.of(mock(TableMetaData.class));
+        });
+        actual.putLazily("tbl", loader);
+        assertNull(actual.get("tbl"));
+        assertFalse(actual.containsTable("tbl"));
+        verify(loader, never()).onLoaded(anyString(), any());
+    }
 }
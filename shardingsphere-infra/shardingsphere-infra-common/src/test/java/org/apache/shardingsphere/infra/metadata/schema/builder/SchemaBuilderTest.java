@@ -19,6 +19,7 @@ package org.apache.shardingsphere.infra.metadata.schema.builder;
 
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.metadata.schema.fixture.rule.CommonFixtureRule;
 import org.apache.shardingsphere.infra.metadata.schema.fixture.rule.DataNodeContainedFixtureRule;
@@ -74,6 +75,7 @@ public final class SchemaBuilderTest {
     
     @Before
     public void setUp() {
+        when(props.getValue(ConfigurationPropertyKey.SCHEMA_METADATA_LAZY_LOADING_ENABLED)).thenReturn(false);
         schemaBuilderMaterials = new SchemaBuilderMaterials(
                 databaseType, Collections.singletonMap("logic_db", dataSource), Arrays.asList(new CommonFixtureRule(), new DataNodeContainedFixtureRule()), props);
     }
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.schema.builder.util;
+
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.IndexMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.junit.Test;
+
+import java.sql.Types;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public final class TableMetaDataInternerTest {
+    
+    @Test
+    public void assertInternIdenticalTables() {
+        TableMetaData actual = TableMetaDataInterner.intern(createTableMetaData(Types.INTEGER));
+        TableMetaData expected = TableMetaDataInterner.intern(createTableMetaData(Types.INTEGER));
+        assertThat(actual, sameInstance(expected));
+        assertThat(actual.getColumns().get("id"), sameInstance(expected.getColumns().get("id")));
+    }
+    
+    @Test
+    public void assertInternDifferentTables() {
+        TableMetaData actual = TableMetaDataInterner.intern(createTableMetaData(Types.INTEGER));
+        TableMetaData expected = TableMetaDataInterner.intern(createTableMetaData(Types.BIGINT));
+        assertThat(actual, not(sameInstance(expected)));
+        assertThat(actual.getIndexes().get("idx_id"), sameInstance(expected.getIndexes().get("idx_id")));
+    }
+    
+    @Test
+    public void assertInternKeepsStructure() {
+        TableMetaData actual = TableMetaDataInterner.intern(createTableMetaData(Types.INTEGER));
+        assertThat(actual, is(createTableMetaData(Types.INTEGER)));
+    }
+    
+    private TableMetaData createTableMetaData(final int dataType) {
+        return new TableMetaData(Collections.singletonList(new ColumnMetaData(new String("id"), dataType, true, false, false)), Collections.singletonList(new IndexMetaData(new String("idx_id"))));
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.schema.snapshot;
+
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SchemaSnapshotRepositoryTest {
+    
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
+    @Test
+    public void assertPersistAndLoad() throws IOException {
+        SchemaSnapshotRepository repository = new SchemaSnapshotRepository(temporaryFolder.newFolder().getAbsolutePath());
+        repository.persist("logic_db", new SchemaSnapshot("fingerprint", Collections.emptyMap(), Collections.singletonMap("t_order", new TableMetaData())));
+        Optional<SchemaSnapshot> actual = repository.load("logic_db", "fingerprint");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getLogicTables().keySet(), is(Collections.singleton("t_order")));
+    }
+    
+    @Test
+    public void assertLoadWithStaleFingerprint() throws IOException {
+        SchemaSnapshotRepository repository = new SchemaSnapshotRepository(temporaryFolder.newFolder().getAbsolutePath());
+        repository.persist("logic_db", new SchemaSnapshot("fingerprint", Collections.emptyMap(), Collections.emptyMap()));
+        assertFalse(repository.load("logic_db", "other_fingerprint").isPresent());
+    }
+    
+    @Test
+    public void assertLoadWithoutSnapshot() throws IOException {
+        assertFalse(new SchemaSnapshotRepository(temporaryFolder.newFolder().getAbsolutePath()).load("logic_db", "fingerprint").isPresent());
+    }
+    
+    @Test
+    public void assertLoadBrokenSnapshot() throws IOException {
+        String directory = temporaryFolder.newFolder().getAbsolutePath();
+        Files.write(Paths.get(directory, "logic_db.snapshot"), new byte[]{1, 2, 3});
+        assertFalse(new SchemaSnapshotRepository(directory).load("logic_db", "fingerprint").isPresent());
+    }
+}
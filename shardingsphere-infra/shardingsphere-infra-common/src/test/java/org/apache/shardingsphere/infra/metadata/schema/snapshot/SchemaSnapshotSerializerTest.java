@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.schema.snapshot;
+
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.IndexMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class SchemaSnapshotSerializerTest {
+    
+    @Test
+    public void assertSerializeAndDeserialize() throws IOException {
+        TableMetaData actualTable = new TableMetaData(Arrays.asList(new ColumnMetaData("id", Types.INTEGER, true, true, false),
+                new ColumnMetaData("name", Types.VARCHAR, false, false, true)), Collections.singletonList(new IndexMetaData("idx_name")));
+        TableMetaData logicTable = new TableMetaData(Collections.singletonList(new ColumnMetaData("id", Types.BIGINT, true, false, false)), Collections.emptyList());
+        SchemaSnapshot snapshot = new SchemaSnapshot("fingerprint", Collections.singletonMap("t_order_0", actualTable), Collections.singletonMap("t_order", logicTable));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SchemaSnapshotSerializer.serialize(snapshot, out);
+        SchemaSnapshot actual = SchemaSnapshotSerializer.deserialize(new ByteArrayInputStream(out.toByteArray()));
+        assertThat(actual.getFingerprint(), is("fingerprint"));
+        assertThat(actual.getActualTables(), is(snapshot.getActualTables()));
+        assertThat(actual.getLogicTables(), is(snapshot.getLogicTables()));
+        assertThat(actual.getActualTables().get("t_order_0").getPrimaryKeyColumns(), is(Collections.singletonList("id")));
+    }
+    
+    @Test(expected = IOException.class)
+    public void assertDeserializeInvalidSnapshot() throws IOException {
+        SchemaSnapshotSerializer.deserialize(new ByteArrayInputStream(new byte[]{0, 0, 0, 0, 0, 0, 0, 1}));
+    }
+}
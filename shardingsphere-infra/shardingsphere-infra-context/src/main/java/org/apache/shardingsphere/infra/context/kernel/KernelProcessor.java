@@ -23,6 +23,8 @@ import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKe
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContextBuilder;
 import org.apache.shardingsphere.infra.executor.sql.log.SQLLogger;
+import org.apache.shardingsphere.infra.executor.sql.trace.SQLExecutionPhase;
+import org.apache.shardingsphere.infra.executor.sql.trace.SQLExecutionTraceHolder;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
 import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
@@ -51,12 +53,18 @@ public final class KernelProcessor {
     }
     
     private RouteContext route(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ConfigurationProperties props) {
-        return new SQLRouteEngine(metaData.getRuleMetaData().getRules(), props).route(logicSQL, metaData);
+        long beginNanos = SQLExecutionTraceHolder.begin();
+        RouteContext result = new SQLRouteEngine(metaData.getRuleMetaData().getRules(), props).route(logicSQL, metaData);
+        SQLExecutionTraceHolder.end(SQLExecutionPhase.ROUTE, beginNanos);
+        return result;
     }
     
     private SQLRewriteResult rewrite(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ConfigurationProperties props, final RouteContext routeContext) {
-        return new SQLRewriteEntry(
+        long beginNanos = SQLExecutionTraceHolder.begin();
+        SQLRewriteResult result = new SQLRewriteEntry(
                 metaData.getSchema(), props, metaData.getRuleMetaData().getRules()).rewrite(logicSQL.getSql(), logicSQL.getParameters(), logicSQL.getSqlStatementContext(), routeContext);
+        SQLExecutionTraceHolder.end(SQLExecutionPhase.REWRITE, beginNanos);
+        return result;
     }
     
     private ExecutionContext createExecutionContext(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final RouteContext routeContext, final SQLRewriteResult rewriteResult) {
@@ -17,11 +17,15 @@
 
 package org.apache.shardingsphere.infra.context.metadata;
 
+import com.google.common.base.Strings;
+import com.google.common.hash.Hashing;
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.config.DatabaseAccessConfiguration;
 import org.apache.shardingsphere.infra.config.RuleConfiguration;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.metadata.impl.StandardMetaDataContexts;
+import org.apache.shardingsphere.infra.context.metadata.snapshot.SchemaSnapshotReconciler;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeRecognizer;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
@@ -33,16 +37,26 @@ import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.schema.builder.SchemaBuilder;
 import org.apache.shardingsphere.infra.metadata.schema.builder.SchemaBuilderMaterials;
+import org.apache.shardingsphere.infra.metadata.schema.builder.loader.LazyTableMetaDataLoader;
+import org.apache.shardingsphere.infra.metadata.schema.builder.loader.TableMetaDataLoader;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.snapshot.SchemaSnapshot;
+import org.apache.shardingsphere.infra.metadata.schema.snapshot.SchemaSnapshotRepository;
 import org.apache.shardingsphere.infra.optimize.context.OptimizeContextFactory;
+import org.apache.shardingsphere.infra.optimize.core.metadata.FederateSchemaMetadata;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.builder.ShardingSphereRulesBuilder;
+import org.apache.shardingsphere.infra.rule.type.TableContainedRule;
+import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
+import org.apache.shardingsphere.infra.yaml.swapper.YamlRuleConfigurationSwapperEngine;
 
 import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
@@ -50,6 +64,8 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.TreeMap;
+import java.util.TreeSet;
 
 /**
  * Meta data contexts builder.
@@ -64,7 +80,7 @@ public final class MetaDataContextsBuilder {
     
     private final ConfigurationProperties props;
     
-    private final ExecutorEngine executorEngine;
+    private final SchemaSnapshotRepository snapshotRepository;
     
     public MetaDataContextsBuilder(final Map<String, Map<String, DataSource>> dataSources, final Map<String, Collection<RuleConfiguration>> schemaRuleConfigs, final Properties props) {
         this(dataSources, schemaRuleConfigs, new LinkedList<>(), props);
@@ -77,7 +93,8 @@ public final class MetaDataContextsBuilder {
         this.schemaRuleConfigs = schemaRuleConfigs;
         this.globalRuleConfigs = globalRuleConfigs;
         this.props = new ConfigurationProperties(null == props ? new Properties() : props);
-        executorEngine = new ExecutorEngine(this.props.<Integer>getValue(ConfigurationPropertyKey.EXECUTOR_SIZE));
+        String snapshotPath = this.props.getValue(ConfigurationPropertyKey.SCHEMA_METADATA_SNAPSHOT_PATH);
+        snapshotRepository = Strings.isNullOrEmpty(snapshotPath) ? null : new SchemaSnapshotRepository(snapshotPath);
     }
     
     /**
@@ -89,22 +106,81 @@ public final class MetaDataContextsBuilder {
     public StandardMetaDataContexts build() throws SQLException {
         Map<String, ShardingSphereMetaData> metaDataMap = new HashMap<>(schemaRuleConfigs.size(), 1);
         Map<String, ShardingSphereMetaData> actualMetaDataMap = new HashMap<>(schemaRuleConfigs.size(), 1);
+        Map<String, Map<String, String>> lazyTablesMap = new HashMap<>(schemaRuleConfigs.size(), 1);
+        Map<String, SchemaSnapshot> snapshotMap = new HashMap<>(schemaRuleConfigs.size(), 1);
+        Map<String, SchemaBuilderMaterials> materialsMap = new HashMap<>(schemaRuleConfigs.size(), 1);
         for (String each : schemaRuleConfigs.keySet()) {
             Map<String, DataSource> dataSourceMap = dataSources.get(each);
             Collection<RuleConfiguration> ruleConfigs = schemaRuleConfigs.get(each);
             DatabaseType databaseType = DatabaseTypeRecognizer.getDatabaseType(dataSourceMap.values());
             Collection<ShardingSphereRule> rules = ShardingSphereRulesBuilder.buildSchemaRules(each, ruleConfigs, databaseType, dataSourceMap);
-            Map<Map<String, TableMetaData>, Map<String, TableMetaData>> tableMetaDataMap = SchemaBuilder.build(new SchemaBuilderMaterials(databaseType, dataSourceMap, rules, props));
+            SchemaBuilderMaterials materials = new SchemaBuilderMaterials(databaseType, dataSourceMap, rules, props);
+            Map<String, DatabaseAccessConfiguration> databaseAccessConfigs = getDatabaseAccessConfigurationMap(dataSourceMap);
+            String fingerprint = getSnapshotFingerprint(databaseType, databaseAccessConfigs, ruleConfigs, rules);
+            Optional<SchemaSnapshot> snapshot = null == snapshotRepository ? Optional.empty() : snapshotRepository.load(each, fingerprint);
+            Map<Map<String, TableMetaData>, Map<String, TableMetaData>> tableMetaDataMap = snapshot.isPresent()
+                    ? Collections.singletonMap(snapshot.get().getActualTables(), snapshot.get().getLogicTables()) : SchemaBuilder.build(materials);
             ShardingSphereRuleMetaData ruleMetaData = new ShardingSphereRuleMetaData(ruleConfigs, rules);
-            ShardingSphereResource resource = buildResource(databaseType, dataSourceMap);
+            ShardingSphereResource resource = buildResource(databaseType, dataSourceMap, databaseAccessConfigs);
             ShardingSphereSchema actualSchema = new ShardingSphereSchema(tableMetaDataMap.keySet().iterator().next());
             actualMetaDataMap.put(each, new ShardingSphereMetaData(each, resource, ruleMetaData, actualSchema));
-            metaDataMap.put(each, new ShardingSphereMetaData(each, resource, ruleMetaData, buildSchema(tableMetaDataMap)));
+            ShardingSphereSchema schema = buildSchema(tableMetaDataMap);
+            if (null != snapshotRepository) {
+                if (snapshot.isPresent()) {
+                    snapshotMap.put(each, snapshot.get());
+                    materialsMap.put(each, materials);
+                } else {
+                    snapshotRepository.persist(each, new SchemaSnapshot(fingerprint, tableMetaDataMap.keySet().iterator().next(), tableMetaDataMap.values().iterator().next()));
+                }
+            }
+            if (props.<Boolean>getValue(ConfigurationPropertyKey.SCHEMA_METADATA_LAZY_LOADING_ENABLED)) {
+                lazyTablesMap.put(each, SchemaBuilder.loadLazyTables(materials, schema.getAllTableNames()));
+            }
+            metaDataMap.put(each, new ShardingSphereMetaData(each, resource, ruleMetaData, schema));
         }
         OptimizeContextFactory optimizeContextFactory = new OptimizeContextFactory(actualMetaDataMap);
-        return new StandardMetaDataContexts(metaDataMap, buildGlobalSchemaMetaData(metaDataMap), executorEngine, props, optimizeContextFactory);
+        ExecutorEngine executorEngine = new ExecutorEngine(props.<Integer>getValue(ConfigurationPropertyKey.EXECUTOR_SIZE));
+        StandardMetaDataContexts result = new StandardMetaDataContexts(metaDataMap, buildGlobalSchemaMetaData(metaDataMap), executorEngine, props, optimizeContextFactory);
+        lazyTablesMap.forEach((key, value) -> appendLazyTables(result, key, metaDataMap.get(key).getSchema(), value));
+        snapshotMap.forEach((key, value) -> new SchemaSnapshotReconciler(key, metaDataMap.get(key).getSchema(), value, materialsMap.get(key), snapshotRepository, result).reconcileAsync());
+        return result;
     }
-
+    
+    /**
+     * Build meta data contexts with meta data of one schema built incrementally.
+     * 
+     * <p>If the data sources of the schema are unchanged, the resource of the previous meta data is reused and rule builders may reuse parts of the previous rules.
+     * The built meta data and the federate schema meta data of the schema are published together by the returned meta data contexts, the given ones are unchanged.
+     * Lazy tables of the schema resolve their data source from the lazy table meta data contexts when they are loaded.</p>
+     *
+     * @param previousMetaData previous meta data of the schema
+     * @param metaDataContexts meta data contexts which hold the previous meta data
+     * @param lazyTableMetaDataContexts meta data contexts which lazy tables resolve their data sources from
+     * @exception SQLException SQL exception
+     * @return meta data contexts with the built meta data
+     */
+    public StandardMetaDataContexts build(final ShardingSphereMetaData previousMetaData, 
+                                          final StandardMetaDataContexts metaDataContexts, final MetaDataContexts lazyTableMetaDataContexts) throws SQLException {
+        String schemaName = previousMetaData.getName();
+        Map<String, DataSource> dataSourceMap = dataSources.get(schemaName);
+        Collection<RuleConfiguration> ruleConfigs = schemaRuleConfigs.get(schemaName);
+        boolean dataSourcesChanged = !dataSourceMap.equals(previousMetaData.getResource().getDataSources());
+        DatabaseType databaseType = dataSourcesChanged ? DatabaseTypeRecognizer.getDatabaseType(dataSourceMap.values()) : previousMetaData.getResource().getDatabaseType();
+        Collection<ShardingSphereRule> rules = ShardingSphereRulesBuilder.buildSchemaRules(
+                schemaName, ruleConfigs, databaseType, dataSourceMap, dataSourcesChanged ? Collections.emptyList() : previousMetaData.getRuleMetaData().getRules());
+        SchemaBuilderMaterials materials = new SchemaBuilderMaterials(databaseType, dataSourceMap, rules, props);
+        Map<Map<String, TableMetaData>, Map<String, TableMetaData>> tableMetaDataMap = SchemaBuilder.build(materials);
+        ShardingSphereResource resource = dataSourcesChanged ? buildResource(databaseType, dataSourceMap, getDatabaseAccessConfigurationMap(dataSourceMap)) : previousMetaData.getResource();
+        ShardingSphereSchema schema = buildSchema(tableMetaDataMap);
+        if (props.<Boolean>getValue(ConfigurationPropertyKey.SCHEMA_METADATA_LAZY_LOADING_ENABLED)) {
+            appendLazyTables(lazyTableMetaDataContexts, schemaName, schema, SchemaBuilder.loadLazyTables(materials, schema.getAllTableNames()));
+        }
+        Map<String, ShardingSphereMetaData> metaDataMap = new HashMap<>(metaDataContexts.getMetaDataMap());
+        metaDataMap.put(schemaName, new ShardingSphereMetaData(schemaName, resource, new ShardingSphereRuleMetaData(ruleConfigs, rules), schema));
+        return new StandardMetaDataContexts(metaDataMap, metaDataContexts.getGlobalRuleMetaData(), metaDataContexts.getExecutorEngine(), metaDataContexts.getProps(), 
+                metaDataContexts.getOptimizeContextFactory().copyWith(schemaName, tableMetaDataMap.keySet().iterator().next()));
+    }
+    
     private ShardingSphereSchema buildSchema(final Map<Map<String, TableMetaData>, Map<String, TableMetaData>> tableMetaDataMap) {
         Map<String, TableMetaData> tables = new HashMap<>(tableMetaDataMap.size(), 1);
         tables.putAll(tableMetaDataMap.keySet().iterator().next());
@@ -112,12 +188,36 @@ public final class MetaDataContextsBuilder {
         return new ShardingSphereSchema(tables);
     }
 
+    private void appendLazyTables(final MetaDataContexts metaDataContexts, final String schemaName, final ShardingSphereSchema schema, final Map<String, String> lazyTables) {
+        for (Entry<String, String> entry : lazyTables.entrySet()) {
+            schema.putLazily(entry.getKey(), new DataSourceLazyTableMetaDataLoader(metaDataContexts, schemaName, entry.getValue()));
+        }
+    }
+    
     private ShardingSphereRuleMetaData buildGlobalSchemaMetaData(final Map<String, ShardingSphereMetaData> mataDataMap) {
         return new ShardingSphereRuleMetaData(globalRuleConfigs, ShardingSphereRulesBuilder.buildGlobalRules(globalRuleConfigs, mataDataMap));
     }
     
-    private ShardingSphereResource buildResource(final DatabaseType databaseType, final Map<String, DataSource> dataSourceMap) throws SQLException {
-        DataSourcesMetaData dataSourceMetas = new DataSourcesMetaData(databaseType, getDatabaseAccessConfigurationMap(dataSourceMap));
+    private String getSnapshotFingerprint(final DatabaseType databaseType, final Map<String, DatabaseAccessConfiguration> databaseAccessConfigs, 
+                                          final Collection<RuleConfiguration> ruleConfigs, final Collection<ShardingSphereRule> rules) {
+        StringBuilder result = new StringBuilder(databaseType.getName());
+        for (Entry<String, DatabaseAccessConfiguration> entry : new TreeMap<>(databaseAccessConfigs).entrySet()) {
+            result.append(';').append(entry.getKey()).append('=').append(entry.getValue().getUsername()).append('@').append(entry.getValue().getUrl());
+        }
+        result.append(';').append(YamlEngine.marshal(new YamlRuleConfigurationSwapperEngine().swapToYamlRuleConfigurations(ruleConfigs)));
+        Collection<String> tables = new TreeSet<>();
+        for (ShardingSphereRule each : rules) {
+            if (each instanceof TableContainedRule) {
+                tables.addAll(((TableContainedRule) each).getTables());
+            }
+        }
+        result.append(';').append(tables);
+        return Hashing.sha256().hashString(result, StandardCharsets.UTF_8).toString();
+    }
+    
+    private ShardingSphereResource buildResource(final DatabaseType databaseType, final Map<String, DataSource> dataSourceMap,
+                                                 final Map<String, DatabaseAccessConfiguration> databaseAccessConfigs) throws SQLException {
+        DataSourcesMetaData dataSourceMetas = new DataSourcesMetaData(databaseType, databaseAccessConfigs);
         CachedDatabaseMetaData cachedDatabaseMetaData = createCachedDatabaseMetaData(dataSourceMap).orElse(null);
         return new ShardingSphereResource(dataSourceMap, dataSourceMetas, cachedDatabaseMetaData, databaseType);
     }
@@ -142,5 +242,29 @@ public final class MetaDataContextsBuilder {
             return Optional.of(new CachedDatabaseMetaData(connection.getMetaData()));
         }
     }
-
+    
+    @RequiredArgsConstructor
+    private static final class DataSourceLazyTableMetaDataLoader implements LazyTableMetaDataLoader {
+        
+        private final MetaDataContexts metaDataContexts;
+        
+        private final String schemaName;
+        
+        private final String dataSourceName;
+        
+        @Override
+        public Optional<TableMetaData> load(final String tableName) throws SQLException {
+            ShardingSphereMetaData metaData = metaDataContexts.getMetaData(schemaName);
+            DataSource dataSource = null == metaData ? null : metaData.getResource().getDataSources().get(dataSourceName);
+            return null == dataSource ? Optional.empty() : TableMetaDataLoader.load(dataSource, tableName, metaData.getResource().getDatabaseType());
+        }
+        
+        @Override
+        public void onLoaded(final String tableName, final TableMetaData tableMetaData) {
+            FederateSchemaMetadata federateSchemaMetadata = metaDataContexts.getOptimizeContextFactory().getSchemaMetadatas().getSchemaMetadataBySchemaName(schemaName);
+            if (null != federateSchemaMetadata) {
+                federateSchemaMetadata.renew(tableName, tableMetaData);
+            }
+        }
+    }
 }
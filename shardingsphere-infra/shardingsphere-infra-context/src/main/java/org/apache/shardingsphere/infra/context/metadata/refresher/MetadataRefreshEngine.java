@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.context.metadata.refresher;
 
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.lock.LockNameUtil;
@@ -27,6 +28,7 @@ import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.mapper.SQLStatementEventMapper;
 import org.apache.shardingsphere.infra.metadata.mapper.SQLStatementEventMapperFactory;
 import org.apache.shardingsphere.infra.metadata.schema.builder.SchemaBuilderMaterials;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.refresher.SchemaRefresher;
 import org.apache.shardingsphere.infra.metadata.schema.refresher.event.SchemaAlteredEvent;
 import org.apache.shardingsphere.infra.optimize.core.metadata.FederateSchemaMetadata;
@@ -35,8 +37,14 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Properties;
 
 /**
  * Metadata refresh engine.
@@ -47,7 +55,7 @@ public final class MetadataRefreshEngine {
     
     private final FederateSchemaMetadata federateMetadata;
     
-    private final SchemaBuilderMaterials materials;
+    private final ConfigurationProperties properties;
     
     private final ShardingSphereLock shardingSphereLock;
     
@@ -55,8 +63,8 @@ public final class MetadataRefreshEngine {
                                  final FederateSchemaMetadata federateMetadata, final ConfigurationProperties properties, final ShardingSphereLock shardingSphereLock) {
         this.schemaMetadata = schemaMetadata;
         this.federateMetadata = federateMetadata;
+        this.properties = properties;
         this.shardingSphereLock = shardingSphereLock;
-        materials = new SchemaBuilderMaterials(schemaMetadata.getResource().getDatabaseType(), schemaMetadata.getResource().getDataSources(), schemaMetadata.getRuleMetaData().getRules(), properties);
     }
     
     /**
@@ -102,14 +110,58 @@ public final class MetadataRefreshEngine {
     
     @SuppressWarnings({"unchecked", "rawtypes"})
     private void refreshWithoutLock(final SQLStatement sqlStatement, final Collection<String> routeDataSourceNames, final Collection<MetadataRefresher> refreshers) throws SQLException {
+        SchemaBuilderMaterials materials = new SchemaBuilderMaterials(
+                schemaMetadata.getResource().getDatabaseType(), schemaMetadata.getResource().getDataSources(), schemaMetadata.getRuleMetaData().getRules(), getRefreshProperties());
+        Map<String, TableMetaData> originalTables = new HashMap<>(schemaMetadata.getSchema().getTables());
+        boolean schemaRefreshed = false;
         for (MetadataRefresher each : refreshers) {
             if (each instanceof SchemaRefresher) {
                 ((SchemaRefresher) each).refresh(schemaMetadata.getSchema(), routeDataSourceNames, sqlStatement, materials);
+                schemaRefreshed = true;
             }
-            if (each instanceof FederateRefresher) {
-                ((FederateRefresher) each).refresh(federateMetadata, routeDataSourceNames, sqlStatement, materials);
+        }
+        Map<String, TableMetaData> alteredTables = getAlteredTables(originalTables);
+        Collection<String> droppedTables = getDroppedTables(originalTables);
+        if (schemaRefreshed) {
+            alteredTables.forEach(federateMetadata::renew);
+            droppedTables.forEach(federateMetadata::remove);
+        } else {
+            for (MetadataRefresher each : refreshers) {
+                if (each instanceof FederateRefresher) {
+                    ((FederateRefresher) each).refresh(federateMetadata, routeDataSourceNames, sqlStatement, materials);
+                }
+            }
+        }
+        ShardingSphereEventBus.getInstance().post(new SchemaAlteredEvent(schemaMetadata.getName(), schemaMetadata.getSchema(), alteredTables, droppedTables));
+    }
+    
+    private ConfigurationProperties getRefreshProperties() {
+        if (!properties.<Boolean>getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED)) {
+            return properties;
+        }
+        Properties result = new Properties();
+        result.putAll(properties.getProps());
+        result.setProperty(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED.getKey(), Boolean.FALSE.toString());
+        return new ConfigurationProperties(result);
+    }
+    
+    private Map<String, TableMetaData> getAlteredTables(final Map<String, TableMetaData> originalTables) {
+        Map<String, TableMetaData> result = new LinkedHashMap<>();
+        for (Entry<String, TableMetaData> entry : schemaMetadata.getSchema().getTables().entrySet()) {
+            if (entry.getValue() != originalTables.get(entry.getKey())) {
+                result.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return result;
+    }
+    
+    private Collection<String> getDroppedTables(final Map<String, TableMetaData> originalTables) {
+        Collection<String> result = new LinkedList<>();
+        for (String each : originalTables.keySet()) {
+            if (!schemaMetadata.getSchema().getTables().containsKey(each)) {
+                result.add(each);
             }
         }
-        ShardingSphereEventBus.getInstance().post(new SchemaAlteredEvent(schemaMetadata.getName(), schemaMetadata.getSchema()));
+        return result;
     }
 }
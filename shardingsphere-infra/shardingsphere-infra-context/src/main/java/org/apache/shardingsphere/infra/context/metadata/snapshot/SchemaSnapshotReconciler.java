@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.metadata.snapshot;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.context.metadata.MetaDataContexts;
+import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.builder.SchemaBuilder;
+import org.apache.shardingsphere.infra.metadata.schema.builder.SchemaBuilderMaterials;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.refresher.event.SchemaAlteredEvent;
+import org.apache.shardingsphere.infra.metadata.schema.snapshot.SchemaSnapshot;
+import org.apache.shardingsphere.infra.metadata.schema.snapshot.SchemaSnapshotRepository;
+import org.apache.shardingsphere.infra.optimize.core.metadata.FederateSchemaMetadata;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Schema snapshot reconciler, which validates schema loaded from snapshot against storage nodes.
+ * 
+ * <p>Tables changed on storage nodes are patched into both the schema and the federate schema meta data built from the snapshot.</p>
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class SchemaSnapshotReconciler implements Runnable {
+    
+    private static final ExecutorService EXECUTOR_SERVICE = Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-SchemaSnapshotReconciler-%d").build());
+    
+    private final String schemaName;
+    
+    private final ShardingSphereSchema schema;
+    
+    private final SchemaSnapshot snapshot;
+    
+    private final SchemaBuilderMaterials materials;
+    
+    private final SchemaSnapshotRepository repository;
+    
+    private final MetaDataContexts metaDataContexts;
+    
+    /**
+     * Reconcile schema in background.
+     */
+    public void reconcileAsync() {
+        EXECUTOR_SERVICE.execute(this);
+    }
+    
+    @Override
+    public void run() {
+        try {
+            reconcile();
+        } catch (final SQLException | ShardingSphereException ex) {
+            log.warn("Reconcile schema `{}` with storage nodes failed, meta data is kept as snapshot.", schemaName, ex);
+        }
+    }
+    
+    /**
+     * Reconcile schema.
+     *
+     * @throws SQLException SQL exception
+     */
+    public void reconcile() throws SQLException {
+        Map<Map<String, TableMetaData>, Map<String, TableMetaData>> tableMetaDataMap = SchemaBuilder.build(materials);
+        Map<String, TableMetaData> actualTables = tableMetaDataMap.keySet().iterator().next();
+        Map<String, TableMetaData> logicTables = tableMetaDataMap.values().iterator().next();
+        Map<String, TableMetaData> oldTables = merge(snapshot.getActualTables(), snapshot.getLogicTables());
+        Map<String, TableMetaData> newTables = merge(actualTables, logicTables);
+        Map<String, TableMetaData> alteredTables = new HashMap<>();
+        for (Entry<String, TableMetaData> entry : newTables.entrySet()) {
+            if (!entry.getValue().equals(oldTables.get(entry.getKey()))) {
+                schema.put(entry.getKey(), entry.getValue());
+                alteredTables.put(entry.getKey(), entry.getValue());
+            }
+        }
+        Collection<String> droppedTables = new LinkedList<>();
+        for (String each : oldTables.keySet()) {
+            if (!newTables.containsKey(each)) {
+                schema.remove(each);
+                droppedTables.add(each);
+            }
+        }
+        renewFederateMetadata(actualTables);
+        if (!alteredTables.isEmpty() || !droppedTables.isEmpty()) {
+            ShardingSphereEventBus.getInstance().post(new SchemaAlteredEvent(schemaName, schema, alteredTables, droppedTables));
+            repository.persist(schemaName, new SchemaSnapshot(snapshot.getFingerprint(), actualTables, logicTables));
+        }
+    }
+    
+    private void renewFederateMetadata(final Map<String, TableMetaData> actualTables) {
+        FederateSchemaMetadata federateMetadata = metaDataContexts.getOptimizeContextFactory().getSchemaMetadatas().getSchemaMetadataBySchemaName(schemaName);
+        if (null == federateMetadata) {
+            return;
+        }
+        for (Entry<String, TableMetaData> entry : actualTables.entrySet()) {
+            if (!entry.getValue().equals(snapshot.getActualTables().get(entry.getKey()))) {
+                federateMetadata.renew(entry.getKey(), entry.getValue());
+            }
+        }
+        for (String each : snapshot.getActualTables().keySet()) {
+            if (!actualTables.containsKey(each)) {
+                federateMetadata.remove(each);
+            }
+        }
+    }
+    
+    private Map<String, TableMetaData> merge(final Map<String, TableMetaData> actualTables, final Map<String, TableMetaData> logicTables) {
+        Map<String, TableMetaData> result = new HashMap<>(actualTables.size() + logicTables.size(), 1);
+        actualTables.forEach((key, value) -> result.put(key.toLowerCase(), value));
+        logicTables.forEach((key, value) -> result.put(key.toLowerCase(), value));
+        return result;
+    }
+}
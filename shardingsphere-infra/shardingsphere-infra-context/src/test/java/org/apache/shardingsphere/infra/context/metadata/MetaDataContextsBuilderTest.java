@@ -21,7 +21,9 @@ import org.apache.shardingsphere.authority.api.config.AuthorityRuleConfiguration
 import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.fixture.FixtureRule;
 import org.apache.shardingsphere.infra.context.fixture.FixtureRuleConfiguration;
+import org.apache.shardingsphere.infra.context.metadata.impl.StandardMetaDataContexts;
 import org.apache.shardingsphere.infra.metadata.user.ShardingSphereUser;
+import org.apache.shardingsphere.infra.optimize.core.metadata.FederateSchemaMetadata;
 import org.apache.shardingsphere.test.mock.MockedDataSource;
 import org.hamcrest.CoreMatchers;
 import org.junit.Test;
@@ -33,6 +35,7 @@ import java.util.Collections;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -86,6 +89,19 @@ public final class MetaDataContextsBuilderTest {
         assertThat(actual.getProps().getValue(ConfigurationPropertyKey.EXECUTOR_SIZE), is(1));
     }
     
+    @Test
+    public void assertBuildIncrementallyWithoutChangingPreviousMetaDataContexts() throws SQLException {
+        MetaDataContextsBuilder builder = new MetaDataContextsBuilder(
+                Collections.singletonMap("logic_db", Collections.emptyMap()), Collections.singletonMap("logic_db", Collections.singleton(new FixtureRuleConfiguration())), new Properties());
+        StandardMetaDataContexts previous = builder.build();
+        FederateSchemaMetadata previousFederateSchemaMetadata = previous.getOptimizeContextFactory().getSchemaMetadatas().getSchemaMetadataBySchemaName("logic_db");
+        StandardMetaDataContexts actual = builder.build(previous.getMetaData("logic_db"), previous, previous);
+        assertRules(actual);
+        assertThat(previous.getOptimizeContextFactory().getSchemaMetadatas().getSchemaMetadataBySchemaName("logic_db"), is(previousFederateSchemaMetadata));
+        assertThat(actual.getOptimizeContextFactory().getSchemaMetadatas().getSchemaMetadataBySchemaName("logic_db"), not(previousFederateSchemaMetadata));
+        assertThat(actual.getExecutorEngine(), is(previous.getExecutorEngine()));
+    }
+    
     private void assertRules(final MetaDataContexts actual) {
         assertThat(actual.getMetaData("logic_db").getRuleMetaData().getRules().size(), is(1));
         assertThat(actual.getMetaData("logic_db").getRuleMetaData().getRules().iterator().next(), CoreMatchers.instanceOf(FixtureRule.class));
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.metadata.snapshot;
+
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.context.metadata.MetaDataContexts;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.builder.SchemaBuilderMaterials;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.snapshot.SchemaSnapshot;
+import org.apache.shardingsphere.infra.metadata.schema.snapshot.SchemaSnapshotRepository;
+import org.apache.shardingsphere.infra.optimize.core.metadata.FederateSchemaMetadata;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class SchemaSnapshotReconcilerTest {
+    
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
+    @Test
+    public void assertReconcileDroppedTable() throws SQLException, IOException {
+        Map<String, TableMetaData> actualTables = Collections.singletonMap("t_order", new TableMetaData());
+        ShardingSphereSchema schema = new ShardingSphereSchema(new HashMap<>(actualTables));
+        FederateSchemaMetadata federateMetadata = new FederateSchemaMetadata("logic_db", actualTables);
+        MetaDataContexts metaDataContexts = mock(MetaDataContexts.class, RETURNS_DEEP_STUBS);
+        when(metaDataContexts.getOptimizeContextFactory().getSchemaMetadatas().getSchemaMetadataBySchemaName("logic_db")).thenReturn(federateMetadata);
+        SchemaBuilderMaterials materials = new SchemaBuilderMaterials(
+                new MySQLDatabaseType(), Collections.emptyMap(), Collections.emptyList(), new ConfigurationProperties(new Properties()));
+        SchemaSnapshotRepository repository = new SchemaSnapshotRepository(temporaryFolder.newFolder().getAbsolutePath());
+        new SchemaSnapshotReconciler("logic_db", schema, new SchemaSnapshot("fingerprint", actualTables, Collections.emptyMap()), materials, repository, metaDataContexts).reconcile();
+        assertFalse(schema.containsTable("t_order"));
+        assertFalse(federateMetadata.getTables().containsKey("t_order"));
+        assertTrue(repository.load("logic_db", "fingerprint").isPresent());
+    }
+}
@@ -130,6 +130,9 @@ public final class ExecutorEngine implements AutoCloseable {
         if (exception.getCause() instanceof SQLException) {
             throw (SQLException) exception.getCause();
         }
+        if (exception.getCause() instanceof RuntimeException) {
+            throw (RuntimeException) exception.getCause();
+        }
         throw new ShardingSphereException(exception);
     }
     
@@ -31,4 +31,8 @@ public final class JDBCMemoryQueryResult extends AbstractMemoryQueryResult {
     public JDBCMemoryQueryResult(final ResultSet resultSet) throws SQLException {
         super(new JDBCQueryResultMetaData(resultSet.getMetaData()), JDBCRowsLoader.load(resultSet.getMetaData().getColumnCount(), resultSet).iterator());
     }
+    
+    public JDBCMemoryQueryResult(final ResultSet resultSet, final JDBCRowsLoadListener listener) throws SQLException {
+        super(new JDBCQueryResultMetaData(resultSet.getMetaData()), JDBCRowsLoader.load(resultSet.getMetaData().getColumnCount(), resultSet, listener).iterator());
+    }
 }
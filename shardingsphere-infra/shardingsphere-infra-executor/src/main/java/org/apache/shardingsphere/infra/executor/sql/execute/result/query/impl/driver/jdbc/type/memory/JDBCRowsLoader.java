@@ -37,6 +37,8 @@ import java.util.List;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class JDBCRowsLoader {
     
+    private static final long NOTIFY_SIZE_THRESHOLD = 64 * 1024L;
+    
     /**
      * Load rows.
      * 
@@ -46,14 +48,38 @@ public final class JDBCRowsLoader {
      * @throws SQLException SQL exception
      */
     public static Collection<MemoryQueryResultDataRow> load(final int columnCount, final ResultSet resultSet) throws SQLException {
+        return load(columnCount, resultSet, estimatedSize -> {
+        });
+    }
+    
+    /**
+     * Load rows and notify estimated size of loaded rows every time it reaches threshold.
+     * 
+     * @param columnCount column count
+     * @param resultSet result set of JDBC
+     * @param listener rows load listener
+     * @return Query result data rows
+     * @throws SQLException SQL exception
+     */
+    public static Collection<MemoryQueryResultDataRow> load(final int columnCount, final ResultSet resultSet, final JDBCRowsLoadListener listener) throws SQLException {
         Collection<MemoryQueryResultDataRow> result = new LinkedList<>();
+        long unnotifiedSize = 0L;
         while (resultSet.next()) {
             List<Object> rowData = new ArrayList<>(columnCount);
             for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
                 Object rowValue = loadRowValue(resultSet, columnIndex);
                 rowData.add(resultSet.wasNull() ? null : rowValue);
             }
-            result.add(new MemoryQueryResultDataRow(rowData));
+            MemoryQueryResultDataRow row = new MemoryQueryResultDataRow(rowData);
+            result.add(row);
+            unnotifiedSize += row.estimateSize();
+            if (unnotifiedSize >= NOTIFY_SIZE_THRESHOLD) {
+                listener.onRowsLoaded(unnotifiedSize);
+                unnotifiedSize = 0L;
+            }
+        }
+        if (unnotifiedSize > 0L) {
+            listener.onRowsLoaded(unnotifiedSize);
         }
         return result;
     }
@@ -20,6 +20,8 @@ package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.m
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.List;
 
 /**
@@ -29,5 +31,72 @@ import java.util.List;
 @Getter
 public final class MemoryQueryResultDataRow {
     
+    /**
+     * Shallow sizes of data row, its array list and the array header, assuming 64-bit JVM with 8 bytes object alignment.
+     */
+    private static final int ROW_SIZE = 56;
+    
+    /**
+     * Size of reference to each value, uncompressed to keep the estimation an upper bound.
+     */
+    private static final int REFERENCE_SIZE = 8;
+    
+    /**
+     * Shallow sizes of string and its char array header, characters are counted separately as 2 bytes each.
+     */
+    private static final int STRING_SIZE = 40;
+    
+    /**
+     * Header size of byte array, bytes are counted separately.
+     */
+    private static final int ARRAY_SIZE = 16;
+    
+    /**
+     * Size of boxed primitive value, such as integer, long, double or boolean.
+     */
+    private static final int NUMBER_SIZE = 24;
+    
+    /**
+     * Size of big decimal or big integer with its magnitude array of ordinary precision.
+     */
+    private static final int BIG_NUMBER_SIZE = 64;
+    
+    /**
+     * Size of other values, such as date, time and timestamp.
+     */
+    private static final int OBJECT_SIZE = 32;
+    
     private final List<Object> value;
+    
+    /**
+     * Estimate heap size of row.
+     * 
+     * @return estimated heap size in bytes
+     */
+    public long estimateSize() {
+        long result = ROW_SIZE + (long) REFERENCE_SIZE * value.size();
+        for (Object each : value) {
+            result += estimateSize(each);
+        }
+        return result;
+    }
+    
+    private long estimateSize(final Object value) {
+        if (null == value) {
+            return 0L;
+        }
+        if (value instanceof String) {
+            return STRING_SIZE + 2L * ((String) value).length();
+        }
+        if (value instanceof byte[]) {
+            return ARRAY_SIZE + ((byte[]) value).length;
+        }
+        if (value instanceof BigDecimal || value instanceof BigInteger) {
+            return BIG_NUMBER_SIZE;
+        }
+        if (value instanceof Number || value instanceof Boolean) {
+            return NUMBER_SIZE;
+        }
+        return OBJECT_SIZE;
+    }
 }
@@ -17,9 +17,13 @@
 
 package org.apache.shardingsphere.infra.executor.sql.federate.execute;
 
+import org.apache.calcite.adapter.enumerable.EnumerableRules;
 import org.apache.calcite.config.CalciteConnectionProperty;
 import org.apache.calcite.jdbc.CalciteConnection;
+import org.apache.calcite.plan.RelOptPlanner;
+import org.apache.calcite.runtime.Hook;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
@@ -28,6 +32,9 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.J
 import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.federate.join.FederateColocatedJoinRule;
+import org.apache.shardingsphere.infra.executor.sql.federate.join.FederateHashJoinRule;
+import org.apache.shardingsphere.infra.executor.sql.federate.limit.FederateSortLimitRule;
 import org.apache.shardingsphere.infra.executor.sql.federate.schema.FederateLogicSchema;
 import org.apache.shardingsphere.infra.executor.sql.federate.schema.row.FederateRowExecutor;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
@@ -43,6 +50,7 @@ import java.sql.Statement;
 import java.util.Collections;
 import java.util.List;
 import java.util.Properties;
+import java.util.function.Consumer;
 
 /**
  * Federate JDBC executor.
@@ -102,12 +110,25 @@ public final class FederateJDBCExecutor implements FederateExecutor {
     private ResultSet execute(final ExecutionContext executionContext, final JDBCExecutorCallback<? extends ExecuteResult> callback, 
                               final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine) throws SQLException {
         SQLUnit sqlUnit = executionContext.getExecutionUnits().iterator().next().getSqlUnit();
-        PreparedStatement statement = getConnection(executionContext, callback, prepareEngine).prepareStatement(SQLUtil.trimSemicolon(sqlUnit.getSql()));
+        PreparedStatement statement;
+        try (Hook.Closeable ignored = Hook.PLANNER.addThread((Consumer<RelOptPlanner>) planner -> registerRules(planner, executionContext))) {
+            statement = getConnection(executionContext, callback, prepareEngine).prepareStatement(SQLUtil.trimSemicolon(sqlUnit.getSql()));
+        }
         setParameters(statement, sqlUnit.getParameters());
         this.statement = statement;
         return statement.executeQuery();
     }
     
+    private void registerRules(final RelOptPlanner planner, final ExecutionContext executionContext) {
+        planner.removeRule(EnumerableRules.ENUMERABLE_JOIN_RULE);
+        planner.addRule(new FederateHashJoinRule(props.getValue(ConfigurationPropertyKey.FEDERATE_JOIN_MEMORY_ROWS), props.getValue(ConfigurationPropertyKey.FEDERATE_BROADCAST_JOIN_MAX_KEYS)));
+        planner.addRule(FederateSortLimitRule.SORT_LIMIT);
+        planner.addRule(FederateSortLimitRule.LIMIT);
+        if (!executionContext.getRouteContext().getColocatedTables().isEmpty()) {
+            planner.addRule(new FederateColocatedJoinRule(executionContext.getRouteContext()));
+        }
+    }
+    
     private Connection getConnection(final ExecutionContext executionContext, final JDBCExecutorCallback<? extends ExecuteResult> callback, 
                                      final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine) throws SQLException {
         Connection result = DriverManager.getConnection(CONNECTION_URL, getProperties());
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.federate.join;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.DataContext;
+import org.apache.calcite.interpreter.Interpreter;
+import org.apache.calcite.linq4j.AbstractEnumerable;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.shardingsphere.infra.executor.sql.federate.schema.table.FederateFilterableTable;
+
+/**
+ * Federate co-located join enumerable.
+ * 
+ * <p>Co-located tables are joined by data nodes if possible, otherwise they are scanned and joined by hash join.</p>
+ */
+@RequiredArgsConstructor
+public final class FederateColocatedJoinEnumerable extends AbstractEnumerable<Object[]> {
+    
+    private final DataContext root;
+    
+    private final FederateColocatedJoinContext context;
+    
+    @Override
+    public Enumerator<Object[]> enumerator() {
+        FederateFilterableTable leftTable = context.getLeftScan().getTable().unwrap(FederateFilterableTable.class);
+        FederateFilterableTable rightTable = context.getRightScan().getTable().unwrap(FederateFilterableTable.class);
+        return leftTable.scanColocatedJoin(root, rightTable, context.getJoin()).orElseGet(() -> new FederateHashJoinEnumerator(
+                root, new Interpreter(root, context.getLeftScan()), new Interpreter(root, context.getRightScan()), context.getHashJoinContext()));
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.federate.join;
+
+import org.apache.calcite.adapter.enumerable.EnumerableInterpreter;
+import org.apache.calcite.interpreter.Bindables.BindableTableScan;
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelRule;
+import org.apache.calcite.rel.core.JoinInfo;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.sql.type.SqlTypeUtil;
+import org.apache.shardingsphere.infra.executor.sql.federate.schema.table.FederateFilterableTable;
+import org.apache.shardingsphere.infra.executor.sql.federate.schema.table.generator.FederateColocatedJoin;
+import org.apache.shardingsphere.infra.route.context.ColocatedTables;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Federate co-located join rule, which pushes hash join of co-located tables down into the SQL of actual tables.
+ * 
+ * <p>Tables are co-located if they are routed to the same data node groups, and joined on all of their sharding columns.</p>
+ */
+public final class FederateColocatedJoinRule extends RelRule<RelRule.Config> {
+    
+    private static final Config CONFIG = Config.EMPTY.withDescription("FederateColocatedJoinRule").withOperandSupplier(
+        b0 -> b0.operand(FederateHashJoin.class).inputs(
+            b1 -> b1.operand(EnumerableInterpreter.class).oneInput(
+                b2 -> b2.operand(BindableTableScan.class).predicate(FederateColocatedJoinRule::isFederateTableScan).noInputs()),
+            b3 -> b3.operand(EnumerableInterpreter.class).oneInput(
+                b4 -> b4.operand(BindableTableScan.class).predicate(FederateColocatedJoinRule::isFederateTableScan).noInputs())));
+    
+    private final RouteContext routeContext;
+    
+    public FederateColocatedJoinRule(final RouteContext routeContext) {
+        super(CONFIG);
+        this.routeContext = routeContext;
+    }
+    
+    private static boolean isFederateTableScan(final BindableTableScan scan) {
+        return null != scan.getTable().unwrap(FederateFilterableTable.class);
+    }
+    
+    @Override
+    public void onMatch(final RelOptRuleCall call) {
+        FederateHashJoin join = call.rel(0);
+        BindableTableScan leftScan = call.rel(2);
+        BindableTableScan rightScan = call.rel(4);
+        JoinInfo joinInfo = join.analyzeCondition();
+        int[] leftKeys = getTableKeys(leftScan, joinInfo.leftKeys);
+        int[] rightKeys = getTableKeys(rightScan, joinInfo.rightKeys);
+        if (!isColocated(leftScan, rightScan, leftKeys, rightKeys)) {
+            return;
+        }
+        FederateColocatedJoin colocatedJoin = new FederateColocatedJoin(leftScan.filters, leftScan.projects.toIntArray(), rightScan.filters, rightScan.projects.toIntArray(), leftKeys, rightKeys);
+        FederateColocatedJoinContext context = new FederateColocatedJoinContext(leftScan, rightScan, colocatedJoin, join.createContext(false));
+        call.transformTo(new FederateColocatedJoinScan(join.getCluster(), join.getTraitSet(), join.getRowType(), call.getMetadataQuery().getRowCount(join), context));
+    }
+    
+    private int[] getTableKeys(final BindableTableScan scan, final List<Integer> keys) {
+        return keys.stream().mapToInt(scan.projects::get).toArray();
+    }
+    
+    private boolean isColocated(final BindableTableScan leftScan, final BindableTableScan rightScan, final int[] leftKeys, final int[] rightKeys) {
+        FederateFilterableTable leftTable = leftScan.getTable().unwrap(FederateFilterableTable.class);
+        FederateFilterableTable rightTable = rightScan.getTable().unwrap(FederateFilterableTable.class);
+        Optional<ColocatedTables> colocatedTables = routeContext.findColocatedTables(leftTable.getMetadata().getName(), rightTable.getMetadata().getName());
+        if (!colocatedTables.isPresent()) {
+            return false;
+        }
+        List<String> leftJoinColumns = colocatedTables.get().getJoinColumns(leftTable.getMetadata().getName());
+        List<String> rightJoinColumns = colocatedTables.get().getJoinColumns(rightTable.getMetadata().getName());
+        for (int i = 0; i < leftJoinColumns.size(); i++) {
+            if (!isJoinedOn(leftScan, rightScan, leftKeys, rightKeys, leftJoinColumns.get(i), rightJoinColumns.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean isJoinedOn(final BindableTableScan leftScan, final BindableTableScan rightScan, final int[] leftKeys, final int[] rightKeys, 
+                               final String leftColumn, final String rightColumn) {
+        List<String> leftColumnNames = leftScan.getTable().unwrap(FederateFilterableTable.class).getMetadata().getColumnNames();
+        List<String> rightColumnNames = rightScan.getTable().unwrap(FederateFilterableTable.class).getMetadata().getColumnNames();
+        for (int i = 0; i < leftKeys.length; i++) {
+            if (leftColumn.equalsIgnoreCase(leftColumnNames.get(leftKeys[i])) && rightColumn.equalsIgnoreCase(rightColumnNames.get(rightKeys[i]))
+                    && isEqualityPushable(leftScan.getTable().getRowType().getFieldList().get(leftKeys[i]).getType())
+                    && isEqualityPushable(rightScan.getTable().getRowType().getFieldList().get(rightKeys[i]).getType())) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private boolean isEqualityPushable(final RelDataType type) {
+        // Equality of characters depends on collations of data nodes, which may differ from the equality judged by Calcite.
+        return SqlTypeUtil.isNumeric(type) || SqlTypeUtil.isDatetime(type) || SqlTypeUtil.isBoolean(type);
+    }
+}
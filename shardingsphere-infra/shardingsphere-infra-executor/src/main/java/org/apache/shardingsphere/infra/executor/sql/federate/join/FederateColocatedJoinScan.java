@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.federate.join;
+
+import org.apache.calcite.DataContext;
+import org.apache.calcite.adapter.enumerable.EnumerableRel;
+import org.apache.calcite.adapter.enumerable.EnumerableRelImplementor;
+import org.apache.calcite.adapter.enumerable.JavaRowFormat;
+import org.apache.calcite.adapter.enumerable.PhysTypeImpl;
+import org.apache.calcite.linq4j.tree.Blocks;
+import org.apache.calcite.linq4j.tree.Expressions;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelOptCost;
+import org.apache.calcite.plan.RelOptPlanner;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.AbstractRelNode;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelWriter;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.shardingsphere.infra.executor.sql.federate.schema.table.generator.FederateColocatedJoin;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Federate co-located join scan, which scans co-located tables joined by actual tables in each data node group.
+ */
+public final class FederateColocatedJoinScan extends AbstractRelNode implements EnumerableRel {
+    
+    // Cheaper than EnumerableInterpreter, whose cost factor is 0.5, because only joined rows are fetched from data nodes.
+    private static final double COST_FACTOR = 0.4;
+    
+    private final RelDataType joinRowType;
+    
+    private final double joinRowCount;
+    
+    private final FederateColocatedJoinContext context;
+    
+    public FederateColocatedJoinScan(final RelOptCluster cluster, final RelTraitSet traitSet, final RelDataType joinRowType, final double joinRowCount, 
+                                     final FederateColocatedJoinContext context) {
+        super(cluster, traitSet);
+        this.joinRowType = joinRowType;
+        this.joinRowCount = joinRowCount;
+        this.context = context;
+    }
+    
+    @Override
+    public RelNode copy(final RelTraitSet traitSet, final List<RelNode> inputs) {
+        return new FederateColocatedJoinScan(getCluster(), traitSet, joinRowType, joinRowCount, context);
+    }
+    
+    @Override
+    protected RelDataType deriveRowType() {
+        return joinRowType;
+    }
+    
+    @Override
+    public double estimateRowCount(final RelMetadataQuery mq) {
+        return joinRowCount;
+    }
+    
+    @Override
+    public RelOptCost computeSelfCost(final RelOptPlanner planner, final RelMetadataQuery mq) {
+        return planner.getCostFactory().makeCost(joinRowCount, 0, 0).multiplyBy(COST_FACTOR);
+    }
+    
+    @Override
+    public RelWriter explainTerms(final RelWriter pw) {
+        FederateColocatedJoin join = context.getJoin();
+        return super.explainTerms(pw).item("left", context.getLeftScan().getTable().getQualifiedName()).item("right", context.getRightScan().getTable().getQualifiedName())
+                .item("leftFilters", join.getLeftFilters().toString()).item("leftProjects", Arrays.toString(join.getLeftProjects()))
+                .item("rightFilters", join.getRightFilters().toString()).item("rightProjects", Arrays.toString(join.getRightProjects()))
+                .item("leftKeys", Arrays.toString(join.getLeftKeys())).item("rightKeys", Arrays.toString(join.getRightKeys()));
+    }
+    
+    @Override
+    public Result implement(final EnumerableRelImplementor implementor, final Prefer pref) {
+        return implementor.result(PhysTypeImpl.of(implementor.getTypeFactory(), getRowType(), JavaRowFormat.ARRAY, false), 
+                Blocks.toBlock(Expressions.new_(FederateColocatedJoinEnumerable.class, DataContext.ROOT, implementor.stash(context, FederateColocatedJoinContext.class))));
+    }
+}
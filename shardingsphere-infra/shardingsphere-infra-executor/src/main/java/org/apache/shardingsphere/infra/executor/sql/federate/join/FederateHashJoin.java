@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.federate.join;
+
+import org.apache.calcite.DataContext;
+import org.apache.calcite.adapter.enumerable.EnumerableInterpreter;
+import org.apache.calcite.adapter.enumerable.EnumerableRel;
+import org.apache.calcite.adapter.enumerable.EnumerableRelImplementor;
+import org.apache.calcite.adapter.enumerable.EnumerableTableScan;
+import org.apache.calcite.adapter.enumerable.JavaRowFormat;
+import org.apache.calcite.adapter.enumerable.PhysTypeImpl;
+import org.apache.calcite.interpreter.Bindables.BindableTableScan;
+import org.apache.calcite.linq4j.tree.BlockBuilder;
+import org.apache.calcite.linq4j.tree.Expression;
+import org.apache.calcite.linq4j.tree.Expressions;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelOptCost;
+import org.apache.calcite.plan.RelOptPlanner;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.Join;
+import org.apache.calcite.rel.core.JoinInfo;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.calcite.util.ImmutableIntList;
+import org.apache.shardingsphere.infra.executor.sql.federate.schema.table.FederateFilterableTable;
+
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Federate hash join, which is an inner equi-join building hash table on the side with less rows according to row count statistics.
+ */
+public final class FederateHashJoin extends Join implements EnumerableRel {
+    
+    private final int memoryRows;
+    
+    private final int broadcastMaxKeys;
+    
+    public FederateHashJoin(final RelOptCluster cluster, final RelTraitSet traitSet, final RelNode left, final RelNode right, final RexNode condition, 
+                            final int memoryRows, final int broadcastMaxKeys) {
+        super(cluster, traitSet, Collections.emptyList(), left, right, condition, Collections.emptySet(), JoinRelType.INNER);
+        this.memoryRows = memoryRows;
+        this.broadcastMaxKeys = broadcastMaxKeys;
+    }
+    
+    @Override
+    public FederateHashJoin copy(final RelTraitSet traitSet, final RexNode condition, final RelNode left, final RelNode right, final JoinRelType joinType, final boolean semiJoinDone) {
+        return new FederateHashJoin(getCluster(), traitSet, left, right, condition, memoryRows, broadcastMaxKeys);
+    }
+    
+    @Override
+    public RelOptCost computeSelfCost(final RelOptPlanner planner, final RelMetadataQuery mq) {
+        return planner.getCostFactory().makeCost(mq.getRowCount(this) + mq.getRowCount(getLeft()) + mq.getRowCount(getRight()), 0, 0);
+    }
+    
+    @Override
+    public Result implement(final EnumerableRelImplementor implementor, final Prefer pref) {
+        BlockBuilder builder = new BlockBuilder();
+        Expression leftRows = implementInput(implementor, builder, 0, "left");
+        Expression rightRows = implementInput(implementor, builder, 1, "right");
+        builder.add(Expressions.new_(FederateHashJoinEnumerable.class, DataContext.ROOT, leftRows, rightRows, implementor.stash(createContext(true), FederateHashJoinContext.class)));
+        return implementor.result(PhysTypeImpl.of(implementor.getTypeFactory(), getRowType(), JavaRowFormat.ARRAY, false), builder.toBlock());
+    }
+    
+    FederateHashJoinContext createContext(final boolean withBroadcastScan) {
+        JoinInfo joinInfo = analyzeCondition();
+        RelMetadataQuery mq = getCluster().getMetadataQuery();
+        boolean buildLeft = mq.getRowCount(getLeft()) < mq.getRowCount(getRight());
+        FederateBroadcastScan broadcastScan = withBroadcastScan ? createBroadcastScan(buildLeft ? getRight() : getLeft(), buildLeft ? joinInfo.rightKeys : joinInfo.leftKeys).orElse(null) : null;
+        return new FederateHashJoinContext(joinInfo.leftKeys.toIntArray(), joinInfo.rightKeys.toIntArray(), 
+                getLeft().getRowType().getFieldCount(), getRight().getRowType().getFieldCount(), buildLeft, memoryRows, broadcastScan);
+    }
+    
+    private Expression implementInput(final EnumerableRelImplementor implementor, final BlockBuilder builder, final int ordinal, final String name) {
+        Result result = implementor.visitChild(this, ordinal, (EnumerableRel) getInput(ordinal), Prefer.ARRAY);
+        Expression rows = builder.append(name, result.block);
+        return JavaRowFormat.ARRAY == result.physType.getFormat() ? rows : builder.append(name + "Rows", result.physType.convertTo(rows, JavaRowFormat.ARRAY));
+    }
+    
+    private Optional<FederateBroadcastScan> createBroadcastScan(final RelNode probe, final ImmutableIntList probeKeys) {
+        if (broadcastMaxKeys <= 0 || 1 != probeKeys.size()) {
+            return Optional.empty();
+        }
+        Optional<BindableTableScan> scan = findTableScan(probe);
+        if (!scan.isPresent() || null == scan.get().getTable().unwrap(FederateFilterableTable.class)) {
+            return Optional.empty();
+        }
+        int keyColumnIndex = scan.get().projects.get(probeKeys.get(0));
+        SqlTypeName keyColumnType = scan.get().getTable().getRowType().getFieldList().get(keyColumnIndex).getType().getSqlTypeName();
+        return Optional.of(new FederateBroadcastScan(scan.get(), keyColumnIndex, keyColumnType, broadcastMaxKeys));
+    }
+    
+    private Optional<BindableTableScan> findTableScan(final RelNode probe) {
+        if (probe instanceof EnumerableTableScan) {
+            return Optional.of(BindableTableScan.create(probe.getCluster(), probe.getTable()));
+        }
+        if (probe instanceof EnumerableInterpreter && probe.getInput(0) instanceof BindableTableScan) {
+            return Optional.of((BindableTableScan) probe.getInput(0));
+        }
+        return Optional.empty();
+    }
+}
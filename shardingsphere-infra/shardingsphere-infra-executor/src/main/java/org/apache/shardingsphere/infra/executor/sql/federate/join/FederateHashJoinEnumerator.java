@@ -0,0 +1,326 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.federate.join;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.DataContext;
+import org.apache.calcite.interpreter.Interpreter;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.Linq4j;
+import org.apache.shardingsphere.infra.executor.sql.federate.schema.table.FederateScanDataContext;
+import org.apache.shardingsphere.infra.executor.sql.federate.schema.table.generator.FederateInCondition;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Federate hash join enumerator.
+ * 
+ * <p>Rows of build side are kept in a hash table. When they exceed memory rows, rows of both sides are partitioned by join key into spill files,
+ * and each pair of partitions is joined in turn. A pair whose build partition still exceeds memory rows is partitioned again by other bits of the key hash,
+ * and when it is too deep to partition, which happens for skewed keys, its build partition is loaded in chunks of memory rows and its probe partition is read once per chunk.
+ * When build side is small enough and probe side is a scan of actual tables, join keys of build side are broadcast into the SQL of probe side as an in condition.</p>
+ */
+public final class FederateHashJoinEnumerator implements Enumerator<Object[]> {
+    
+    private static final int SPILL_PARTITION_BITS = 4;
+    
+    private static final int SPILL_PARTITION_COUNT = 1 << SPILL_PARTITION_BITS;
+    
+    private static final int MAX_SPILL_DEPTH = 3;
+    
+    private final DataContext root;
+    
+    private final Enumerable<Object[]> buildRows;
+    
+    private final Enumerable<Object[]> probeRows;
+    
+    private final int[] buildKeys;
+    
+    private final int[] probeKeys;
+    
+    private final FederateHashJoinContext context;
+    
+    private final Map<Object, List<Object[]>> hashTable = new HashMap<>();
+    
+    private final Deque<SpillPartition> pendingPartitions = new LinkedList<>();
+    
+    private final Collection<FederateSpillFile> spillFiles = new LinkedList<>();
+    
+    private boolean initialized;
+    
+    private Enumerator<Object[]> probeEnumerator;
+    
+    private Iterator<Object[]> probeIterator = Collections.emptyIterator();
+    
+    private Iterator<Object[]> matchedIterator = Collections.emptyIterator();
+    
+    private SpillPartition currentPartition;
+    
+    private Iterator<Object[]> buildIterator = Collections.emptyIterator();
+    
+    private Object[] probeRow;
+    
+    private Object[] currentRow;
+    
+    public FederateHashJoinEnumerator(final DataContext root, final Enumerable<Object[]> left, final Enumerable<Object[]> right, final FederateHashJoinContext context) {
+        this.root = root;
+        buildRows = context.isBuildLeft() ? left : right;
+        probeRows = context.isBuildLeft() ? right : left;
+        buildKeys = context.isBuildLeft() ? context.getLeftKeys() : context.getRightKeys();
+        probeKeys = context.isBuildLeft() ? context.getRightKeys() : context.getLeftKeys();
+        this.context = context;
+    }
+    
+    @Override
+    public Object[] current() {
+        return currentRow;
+    }
+    
+    @Override
+    public boolean moveNext() {
+        if (!initialized) {
+            initialized = true;
+            initialize();
+        }
+        while (true) {
+            if (matchedIterator.hasNext()) {
+                currentRow = join(probeRow, matchedIterator.next());
+                return true;
+            }
+            if (probeIterator.hasNext()) {
+                probeRow = probeIterator.next();
+                matchedIterator = hashTable.getOrDefault(getKey(probeRow, probeKeys), Collections.emptyList()).iterator();
+                continue;
+            }
+            if (buildIterator.hasNext()) {
+                loadBuildChunk();
+                probeIterator = currentPartition.getProbe().read();
+                continue;
+            }
+            closeCurrentPartition();
+            if (pendingPartitions.isEmpty()) {
+                currentRow = null;
+                return false;
+            }
+            loadPartition(pendingPartitions.poll());
+        }
+    }
+    
+    private void initialize() {
+        FederateSpillFile[] buildPartitions = build();
+        if (null == buildPartitions) {
+            if (!hashTable.isEmpty()) {
+                probeEnumerator = createProbeEnumerator();
+                probeIterator = Linq4j.enumeratorIterator(probeEnumerator);
+            }
+            return;
+        }
+        FederateSpillFile[] probePartitions = createPartitions();
+        try (Enumerator<Object[]> enumerator = probeRows.enumerator()) {
+            while (enumerator.moveNext()) {
+                Object key = getKey(enumerator.current(), probeKeys);
+                if (null != key) {
+                    probePartitions[getPartition(key, 0)].write(enumerator.current());
+                }
+            }
+        }
+        for (int i = 0; i < SPILL_PARTITION_COUNT; i++) {
+            pendingPartitions.add(new SpillPartition(buildPartitions[i], probePartitions[i], 0));
+        }
+    }
+    
+    private FederateSpillFile[] build() {
+        FederateSpillFile[] result = null;
+        int rowCount = 0;
+        try (Enumerator<Object[]> enumerator = buildRows.enumerator()) {
+            while (enumerator.moveNext()) {
+                Object key = getKey(enumerator.current(), buildKeys);
+                if (null == key) {
+                    continue;
+                }
+                if (null != result) {
+                    result[getPartition(key, 0)].write(enumerator.current());
+                    continue;
+                }
+                hashTable.computeIfAbsent(key, unused -> new LinkedList<>()).add(enumerator.current());
+                rowCount++;
+                if (context.getMemoryRows() > 0 && rowCount > context.getMemoryRows()) {
+                    result = spillHashTable();
+                }
+            }
+        }
+        return result;
+    }
+    
+    private FederateSpillFile[] spillHashTable() {
+        FederateSpillFile[] result = createPartitions();
+        for (Entry<Object, List<Object[]>> entry : hashTable.entrySet()) {
+            for (Object[] each : entry.getValue()) {
+                result[getPartition(entry.getKey(), 0)].write(each);
+            }
+        }
+        hashTable.clear();
+        return result;
+    }
+    
+    private FederateSpillFile[] createPartitions() {
+        FederateSpillFile[] result = new FederateSpillFile[SPILL_PARTITION_COUNT];
+        for (int i = 0; i < SPILL_PARTITION_COUNT; i++) {
+            result[i] = new FederateSpillFile();
+            spillFiles.add(result[i]);
+        }
+        return result;
+    }
+    
+    private int getPartition(final Object key, final int depth) {
+        return (Integer.reverse(key.hashCode()) >>> (SPILL_PARTITION_BITS * depth)) & (SPILL_PARTITION_COUNT - 1);
+    }
+    
+    private void loadPartition(final SpillPartition partition) {
+        if (partition.getBuild().getRowCount() > context.getMemoryRows() && partition.getDepth() < MAX_SPILL_DEPTH) {
+            repartition(partition);
+            return;
+        }
+        currentPartition = partition;
+        if (0 == partition.getBuild().getRowCount()) {
+            return;
+        }
+        buildIterator = partition.getBuild().read();
+        loadBuildChunk();
+        probeIterator = partition.getProbe().read();
+    }
+    
+    private void repartition(final SpillPartition partition) {
+        int depth = partition.getDepth() + 1;
+        FederateSpillFile[] buildPartitions = createPartitions();
+        Iterator<Object[]> iterator = partition.getBuild().read();
+        while (iterator.hasNext()) {
+            Object[] row = iterator.next();
+            buildPartitions[getPartition(getKey(row, buildKeys), depth)].write(row);
+        }
+        FederateSpillFile[] probePartitions = createPartitions();
+        iterator = partition.getProbe().read();
+        while (iterator.hasNext()) {
+            Object[] row = iterator.next();
+            probePartitions[getPartition(getKey(row, probeKeys), depth)].write(row);
+        }
+        partition.close();
+        for (int i = SPILL_PARTITION_COUNT - 1; i >= 0; i--) {
+            pendingPartitions.addFirst(new SpillPartition(buildPartitions[i], probePartitions[i], depth));
+        }
+    }
+    
+    private void loadBuildChunk() {
+        hashTable.clear();
+        int rowCount = 0;
+        while (buildIterator.hasNext() && rowCount < context.getMemoryRows()) {
+            Object[] row = buildIterator.next();
+            hashTable.computeIfAbsent(getKey(row, buildKeys), unused -> new LinkedList<>()).add(row);
+            rowCount++;
+        }
+    }
+    
+    private void closeCurrentPartition() {
+        if (null != currentPartition) {
+            currentPartition.close();
+            currentPartition = null;
+            buildIterator = Collections.emptyIterator();
+        }
+    }
+    
+    private Enumerator<Object[]> createProbeEnumerator() {
+        FederateBroadcastScan broadcastScan = context.getBroadcastScan();
+        if (null == broadcastScan || hashTable.size() > broadcastScan.getMaxKeys()) {
+            return probeRows.enumerator();
+        }
+        FederateInCondition inCondition = new FederateInCondition(broadcastScan.getKeyColumnIndex(), broadcastScan.getKeyColumnType(), new ArrayList<>(hashTable.keySet()));
+        return new Interpreter(new FederateScanDataContext(root, FederateInCondition.DATA_CONTEXT_KEY, inCondition), broadcastScan.getScan()).enumerator();
+    }
+    
+    private Object getKey(final Object[] row, final int[] keys) {
+        if (1 == keys.length) {
+            return normalize(row[keys[0]]);
+        }
+        List<Object> result = new ArrayList<>(keys.length);
+        for (int each : keys) {
+            Object value = normalize(row[each]);
+            if (null == value) {
+                return null;
+            }
+            result.add(value);
+        }
+        return result;
+    }
+    
+    private Object normalize(final Object value) {
+        return value instanceof Integer || value instanceof Short || value instanceof Byte ? ((Number) value).longValue() : value;
+    }
+    
+    private Object[] join(final Object[] probeSideRow, final Object[] buildSideRow) {
+        Object[] result = new Object[context.getLeftFieldCount() + context.getRightFieldCount()];
+        Object[] leftRow = context.isBuildLeft() ? buildSideRow : probeSideRow;
+        Object[] rightRow = context.isBuildLeft() ? probeSideRow : buildSideRow;
+        System.arraycopy(leftRow, 0, result, 0, context.getLeftFieldCount());
+        System.arraycopy(rightRow, 0, result, context.getLeftFieldCount(), context.getRightFieldCount());
+        return result;
+    }
+    
+    @Override
+    public void reset() {
+    }
+    
+    @Override
+    public void close() {
+        if (null != probeEnumerator) {
+            probeEnumerator.close();
+        }
+        for (FederateSpillFile each : spillFiles) {
+            each.close();
+        }
+        hashTable.clear();
+        currentRow = null;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class SpillPartition implements AutoCloseable {
+        
+        private final FederateSpillFile build;
+        
+        private final FederateSpillFile probe;
+        
+        private final int depth;
+        
+        @Override
+        public void close() {
+            build.close();
+            probe.close();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.federate.join;
+
+import org.apache.calcite.adapter.enumerable.EnumerableConvention;
+import org.apache.calcite.adapter.enumerable.EnumerableRules;
+import org.apache.calcite.plan.Convention;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.convert.ConverterRule;
+import org.apache.calcite.rel.core.JoinInfo;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.logical.LogicalJoin;
+
+/**
+ * Federate hash join rule, which replaces Calcite's enumerable join rule.
+ * 
+ * <p>Inner equi-joins are converted to {@link FederateHashJoin}, other joins are still converted by Calcite's enumerable join rule.</p>
+ */
+public final class FederateHashJoinRule extends ConverterRule {
+    
+    private final int memoryRows;
+    
+    private final int broadcastMaxKeys;
+    
+    public FederateHashJoinRule(final int memoryRows, final int broadcastMaxKeys) {
+        super(Config.INSTANCE.withConversion(LogicalJoin.class, Convention.NONE, EnumerableConvention.INSTANCE, "FederateHashJoinRule"));
+        this.memoryRows = memoryRows;
+        this.broadcastMaxKeys = broadcastMaxKeys;
+    }
+    
+    @Override
+    public RelNode convert(final RelNode rel) {
+        LogicalJoin join = (LogicalJoin) rel;
+        JoinInfo joinInfo = join.analyzeCondition();
+        if (JoinRelType.INNER != join.getJoinType() || !joinInfo.isEqui() || joinInfo.leftKeys.isEmpty()) {
+            return ((ConverterRule) EnumerableRules.ENUMERABLE_JOIN_RULE).convert(rel);
+        }
+        RelNode left = convert(join.getLeft(), join.getLeft().getTraitSet().replace(EnumerableConvention.INSTANCE));
+        RelNode right = convert(join.getRight(), join.getRight().getTraitSet().replace(EnumerableConvention.INSTANCE));
+        return new FederateHashJoin(join.getCluster(), join.getTraitSet().replace(EnumerableConvention.INSTANCE), left, right, join.getCondition(), memoryRows, broadcastMaxKeys);
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.federate.join;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Federate spill file, which keeps rows on local disk when they exceed memory budget.
+ * 
+ * <p>Rows are encoded by {@link FederateSpillRowCodec}, and they can be read several times after writing is finished.</p>
+ */
+public final class FederateSpillFile implements AutoCloseable {
+    
+    private final Path path;
+    
+    private final DataOutputStream output;
+    
+    private DataInputStream input;
+    
+    @Getter
+    private int rowCount;
+    
+    public FederateSpillFile() {
+        try {
+            path = Files.createTempFile("federate-join-", ".spill");
+            output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)));
+        } catch (final IOException ex) {
+            throw new ShardingSphereException(ex);
+        }
+    }
+    
+    /**
+     * Write row.
+     *
+     * @param row row
+     */
+    public void write(final Object[] row) {
+        try {
+            FederateSpillRowCodec.write(output, row);
+            rowCount++;
+        } catch (final IOException ex) {
+            throw new ShardingSphereException(ex);
+        }
+    }
+    
+    /**
+     * Finish writing and read rows from the beginning.
+     *
+     * @return rows
+     */
+    public Iterator<Object[]> read() {
+        try {
+            output.close();
+            if (null != input) {
+                input.close();
+            }
+            input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)));
+        } catch (final IOException ex) {
+            throw new ShardingSphereException(ex);
+        }
+        DataInputStream currentInput = input;
+        return new Iterator<Object[]>() {
+            
+            private int remaining = rowCount;
+            
+            @Override
+            public boolean hasNext() {
+                return remaining > 0;
+            }
+            
+            @Override
+            public Object[] next() {
+                if (remaining <= 0) {
+                    throw new NoSuchElementException();
+                }
+                remaining--;
+                return readRow(currentInput);
+            }
+        };
+    }
+    
+    private Object[] readRow(final DataInputStream currentInput) {
+        try {
+            return FederateSpillRowCodec.read(currentInput);
+        } catch (final IOException ex) {
+            throw new ShardingSphereException(ex);
+        }
+    }
+    
+    @Override
+    public void close() {
+        try {
+            output.close();
+            if (null != input) {
+                input.close();
+            }
+            Files.deleteIfExists(path);
+        } catch (final IOException ex) {
+            throw new ShardingSphereException(ex);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.federate.limit;
+
+import org.apache.calcite.adapter.enumerable.EnumerableInterpreter;
+import org.apache.calcite.adapter.enumerable.EnumerableLimit;
+import org.apache.calcite.adapter.enumerable.EnumerableSort;
+import org.apache.calcite.interpreter.Bindables.BindableTableScan;
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelRule;
+import org.apache.calcite.rel.RelCollation;
+import org.apache.calcite.rel.RelCollations;
+import org.apache.calcite.rel.RelFieldCollation;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.sql.type.SqlTypeUtil;
+import org.apache.shardingsphere.infra.executor.sql.federate.schema.table.FederateFilterableTable;
+import org.apache.shardingsphere.infra.executor.sql.federate.schema.table.generator.FederateSortLimit;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Federate sort limit rule, which pushes sort and limit down into the scan of federate table.
+ */
+public final class FederateSortLimitRule extends RelRule<RelRule.Config> {
+    
+    public static final FederateSortLimitRule SORT_LIMIT = new FederateSortLimitRule(Config.EMPTY.withDescription("FederateSortLimitRule:SortLimit").withOperandSupplier(
+        b0 -> b0.operand(EnumerableLimit.class).predicate(each -> null != each.fetch).oneInput(
+            b1 -> b1.operand(EnumerableSort.class).oneInput(
+                b2 -> b2.operand(EnumerableInterpreter.class).oneInput(
+                    b3 -> b3.operand(BindableTableScan.class).predicate(FederateSortLimitRule::isFederateTableScan).noInputs())))));
+    
+    public static final FederateSortLimitRule LIMIT = new FederateSortLimitRule(Config.EMPTY.withDescription("FederateSortLimitRule:Limit").withOperandSupplier(
+        b0 -> b0.operand(EnumerableLimit.class).predicate(each -> null != each.fetch).oneInput(
+            b1 -> b1.operand(EnumerableInterpreter.class).oneInput(
+                b2 -> b2.operand(BindableTableScan.class).predicate(FederateSortLimitRule::isFederateTableScan).noInputs()))));
+    
+    private FederateSortLimitRule(final Config config) {
+        super(config);
+    }
+    
+    private static boolean isFederateTableScan(final BindableTableScan scan) {
+        return null != scan.getTable().unwrap(FederateFilterableTable.class);
+    }
+    
+    @Override
+    public void onMatch(final RelOptRuleCall call) {
+        EnumerableLimit limit = call.rel(0);
+        Optional<EnumerableSort> sort = 4 == call.rels.length ? Optional.of(call.rel(1)) : Optional.empty();
+        EnumerableInterpreter interpreter = call.rel(call.rels.length - 2);
+        BindableTableScan scan = call.rel(call.rels.length - 1);
+        RelCollation collation = sort.map(each -> each.collation).orElse(RelCollations.EMPTY);
+        Optional<List<RelFieldCollation>> tableCollations = getTableCollations(collation, scan);
+        if (!tableCollations.isPresent()) {
+            return;
+        }
+        RelNode result = new FederateSortLimitScan(interpreter.getCluster(), interpreter.getTraitSet(), scan, new FederateSortLimit(tableCollations.get(), limit.offset, limit.fetch));
+        if (sort.isPresent()) {
+            result = sort.get().copy(sort.get().getTraitSet(), result, collation);
+        }
+        call.transformTo(limit.copy(limit.getTraitSet(), Collections.singletonList(result)));
+    }
+    
+    private Optional<List<RelFieldCollation>> getTableCollations(final RelCollation collation, final BindableTableScan scan) {
+        List<RelFieldCollation> result = new ArrayList<>(collation.getFieldCollations().size());
+        for (RelFieldCollation each : collation.getFieldCollations()) {
+            if (!isOrderPushable(scan.getRowType().getFieldList().get(each.getFieldIndex()).getType())) {
+                return Optional.empty();
+            }
+            result.add(each.withFieldIndex(scan.projects.get(each.getFieldIndex())));
+        }
+        return Optional.of(result);
+    }
+    
+    private boolean isOrderPushable(final RelDataType type) {
+        // Order of characters depends on collations of data nodes, which may differ from the order sorted by Calcite.
+        return SqlTypeUtil.isNumeric(type) || SqlTypeUtil.isDatetime(type) || SqlTypeUtil.isBoolean(type);
+    }
+}
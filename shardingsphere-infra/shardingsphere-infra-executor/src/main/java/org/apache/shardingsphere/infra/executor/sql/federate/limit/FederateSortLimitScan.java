@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.federate.limit;
+
+import org.apache.calcite.DataContext;
+import org.apache.calcite.adapter.enumerable.EnumerableRel;
+import org.apache.calcite.adapter.enumerable.EnumerableRelImplementor;
+import org.apache.calcite.adapter.enumerable.JavaRowFormat;
+import org.apache.calcite.adapter.enumerable.PhysTypeImpl;
+import org.apache.calcite.interpreter.Interpreter;
+import org.apache.calcite.linq4j.tree.Blocks;
+import org.apache.calcite.linq4j.tree.Expression;
+import org.apache.calcite.linq4j.tree.Expressions;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelOptCost;
+import org.apache.calcite.plan.RelOptPlanner;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelWriter;
+import org.apache.calcite.rel.SingleRel;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.util.BuiltInMethod;
+import org.apache.shardingsphere.infra.executor.sql.federate.schema.table.FederateScanDataContext;
+import org.apache.shardingsphere.infra.executor.sql.federate.schema.table.generator.FederateSortLimit;
+
+import java.util.List;
+
+/**
+ * Federate sort limit scan, which interprets a bindable scan of federate table with sort and limit pushed down into the SQL of actual tables.
+ */
+public final class FederateSortLimitScan extends SingleRel implements EnumerableRel {
+    
+    // Cheaper than EnumerableInterpreter, whose cost factor is 0.5, because rows fetched from data nodes are limited.
+    private static final double COST_FACTOR = 0.4;
+    
+    private final FederateSortLimit sortLimit;
+    
+    public FederateSortLimitScan(final RelOptCluster cluster, final RelTraitSet traitSet, final RelNode input, final FederateSortLimit sortLimit) {
+        super(cluster, traitSet, input);
+        this.sortLimit = sortLimit;
+    }
+    
+    @Override
+    public RelNode copy(final RelTraitSet traitSet, final List<RelNode> inputs) {
+        return new FederateSortLimitScan(getCluster(), traitSet, sole(inputs), sortLimit);
+    }
+    
+    @Override
+    public double estimateRowCount(final RelMetadataQuery mq) {
+        double result = mq.getRowCount(getInput());
+        if (!(sortLimit.getFetch() instanceof RexLiteral) || null != sortLimit.getOffset() && !(sortLimit.getOffset() instanceof RexLiteral)) {
+            return result;
+        }
+        int offset = null == sortLimit.getOffset() ? 0 : RexLiteral.intValue(sortLimit.getOffset());
+        return Math.min(result, offset + RexLiteral.intValue(sortLimit.getFetch()));
+    }
+    
+    @Override
+    public RelOptCost computeSelfCost(final RelOptPlanner planner, final RelMetadataQuery mq) {
+        return planner.getCostFactory().makeCost(estimateRowCount(mq), 0, 0).multiplyBy(COST_FACTOR);
+    }
+    
+    @Override
+    public RelWriter explainTerms(final RelWriter pw) {
+        return super.explainTerms(pw).item("collation", sortLimit.getCollations()).itemIf("offset", sortLimit.getOffset(), null != sortLimit.getOffset()).item("fetch", sortLimit.getFetch());
+    }
+    
+    @Override
+    public Result implement(final EnumerableRelImplementor implementor, final Prefer pref) {
+        Expression root = Expressions.new_(FederateScanDataContext.class, 
+                DataContext.ROOT, Expressions.constant(FederateSortLimit.DATA_CONTEXT_KEY), implementor.stash(sortLimit, FederateSortLimit.class));
+        Expression interpreter = Expressions.new_(Interpreter.class, root, implementor.stash(getInput(), RelNode.class));
+        return implementor.result(PhysTypeImpl.of(implementor.getTypeFactory(), getRowType(), JavaRowFormat.ARRAY), 
+                Blocks.toBlock(1 == getRowType().getFieldCount() ? Expressions.call(BuiltInMethod.SLICE0.method, interpreter) : interpreter));
+    }
+}
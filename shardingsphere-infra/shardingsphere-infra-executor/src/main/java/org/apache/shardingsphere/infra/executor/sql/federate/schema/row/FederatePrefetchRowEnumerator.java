@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.federate.schema.row;
+
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Federate prefetch row enumerator.
+ * 
+ * <p>Query results are read in parallel into bounded buffers and consumed one by one.
+ * Query results which the executor service rejects to prefetch are read directly by the consumer.</p>
+ */
+public final class FederatePrefetchRowEnumerator implements Enumerator<Object[]> {
+    
+    private final List<FederateRowPrefetcher> prefetchers;
+    
+    private final Iterator<FederateRowPrefetcher> iterator;
+    
+    private FederateRowPrefetcher currentPrefetcher;
+    
+    private Object[] currentRow;
+    
+    public FederatePrefetchRowEnumerator(final Collection<QueryResult> queryResults, final ExecutorService executorService, final int bufferSize) {
+        prefetchers = new ArrayList<>(queryResults.size());
+        for (QueryResult each : queryResults) {
+            prefetchers.add(new FederateRowPrefetcher(each, bufferSize));
+        }
+        for (FederateRowPrefetcher each : prefetchers) {
+            try {
+                executorService.execute(each);
+            } catch (final RejectedExecutionException ignored) {
+                break;
+            }
+        }
+        iterator = prefetchers.iterator();
+        currentPrefetcher = iterator.next();
+    }
+    
+    @Override
+    public Object[] current() {
+        return currentRow;
+    }
+    
+    @Override
+    public boolean moveNext() {
+        try {
+            return moveNext0();
+        } catch (final SQLException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+    
+    private boolean moveNext0() throws SQLException {
+        while (true) {
+            currentRow = currentPrefetcher.next();
+            if (null != currentRow) {
+                return true;
+            }
+            if (!iterator.hasNext()) {
+                return false;
+            }
+            currentPrefetcher = iterator.next();
+        }
+    }
+    
+    @Override
+    public void reset() {
+    }
+    
+    @Override
+    public void close() {
+        try {
+            for (FederateRowPrefetcher each : prefetchers) {
+                each.close();
+            }
+            currentRow = null;
+        } catch (final SQLException ex) {
+            throw new ShardingSphereException(ex);
+        }
+    }
+}
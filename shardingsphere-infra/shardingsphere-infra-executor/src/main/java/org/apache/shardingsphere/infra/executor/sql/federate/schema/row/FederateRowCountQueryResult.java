@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.federate.schema.row;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.optimize.core.metadata.FederateTableMetadata;
+
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.util.Calendar;
+
+/**
+ * Federate row count query result.
+ * 
+ * <p>Counts rows of a full scan of an actual table and records the count of its data node into table metadata,
+ * which is used as row count statistic by the optimizer.</p>
+ */
+@RequiredArgsConstructor
+public final class FederateRowCountQueryResult implements QueryResult {
+    
+    private final QueryResult delegate;
+    
+    private final FederateTableMetadata metadata;
+    
+    private final DataNode dataNode;
+    
+    private long rowCount;
+    
+    private boolean finished;
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (delegate.next()) {
+            rowCount++;
+            return true;
+        }
+        if (!finished) {
+            finished = true;
+            metadata.updateRowCount(dataNode, rowCount);
+        }
+        return false;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        return delegate.getValue(columnIndex, type);
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
+        return delegate.getCalendarValue(columnIndex, type, calendar);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        return delegate.getInputStream(columnIndex, type);
+    }
+    
+    @Override
+    public boolean wasNull() throws SQLException {
+        return delegate.wasNull();
+    }
+    
+    @Override
+    public QueryResultMetaData getMetaData() {
+        return delegate.getMetaData();
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        delegate.close();
+    }
+}
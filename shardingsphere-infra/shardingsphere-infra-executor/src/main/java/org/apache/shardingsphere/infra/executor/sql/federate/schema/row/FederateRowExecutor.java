@@ -19,26 +19,48 @@ package org.apache.shardingsphere.infra.executor.sql.federate.schema.row;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.calcite.DataContext;
+import org.apache.calcite.linq4j.Enumerator;
 import org.apache.calcite.rex.RexNode;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.federate.schema.table.generator.FederateColocatedJoin;
+import org.apache.shardingsphere.infra.executor.sql.federate.schema.table.generator.FederateColocatedJoinExecutionContextGenerator;
+import org.apache.shardingsphere.infra.executor.sql.federate.schema.table.generator.FederateColocatedJoinSQLGenerator;
 import org.apache.shardingsphere.infra.executor.sql.federate.schema.table.generator.FederateExecutionContextGenerator;
 import org.apache.shardingsphere.infra.executor.sql.federate.schema.table.generator.FederateExecutionSQLGenerator;
+import org.apache.shardingsphere.infra.executor.sql.federate.schema.table.generator.FederateInCondition;
+import org.apache.shardingsphere.infra.executor.sql.federate.schema.table.generator.FederateSortLimit;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
 import org.apache.shardingsphere.infra.executor.sql.process.ExecuteProcessEngine;
 import org.apache.shardingsphere.infra.optimize.core.metadata.FederateTableMetadata;
+import org.apache.shardingsphere.infra.route.context.ColocatedTables;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -47,6 +69,11 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public final class FederateRowExecutor {
     
+    private static final Collection<String> LIMIT_DATABASE_TYPES = Arrays.asList("MySQL", "PostgreSQL");
+    
+    private static final ExecutorService PREFETCH_EXECUTOR = new ThreadPoolExecutor(0, Runtime.getRuntime().availableProcessors() * 2, 60L, TimeUnit.SECONDS, 
+            new SynchronousQueue<>(), ExecutorThreadFactoryBuilder.build("Federate-Prefetch-%d"));
+    
     private final ConfigurationProperties props;
     
     private final JDBCExecutor jdbcExecutor;
@@ -57,6 +84,26 @@ public final class FederateRowExecutor {
     
     private final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine;
     
+    /**
+     * Execute join of co-located tables by data nodes.
+     *
+     * @param leftMetadata metadata of left table
+     * @param rightMetadata metadata of right table
+     * @param root root
+     * @param join co-located join
+     * @return joined row enumerator, or empty if the join can not be exactly executed by data nodes
+     */
+    public Optional<Enumerator<Object[]>> executeColocatedJoin(final FederateTableMetadata leftMetadata, final FederateTableMetadata rightMetadata, 
+                                                               final DataContext root, final FederateColocatedJoin join) {
+        Optional<ColocatedTables> colocatedTables = routeExecutionContext.getRouteContext().findColocatedTables(leftMetadata.getName(), rightMetadata.getName());
+        FederateColocatedJoinSQLGenerator generator = new FederateColocatedJoinSQLGenerator(root, join, leftMetadata.getColumnNames(), rightMetadata.getColumnNames());
+        if (!colocatedTables.isPresent() || !generator.isExact()) {
+            return Optional.empty();
+        }
+        return Optional.of(execute(new FederateColocatedJoinExecutionContextGenerator(
+                leftMetadata.getName(), rightMetadata.getName(), colocatedTables.get(), routeExecutionContext, generator).generate(), null));
+    }
+    
     /**
      * Execute.
      *
@@ -64,25 +111,90 @@ public final class FederateRowExecutor {
      * @param root root
      * @param filters filter
      * @param projects projects
-     * @return a query result list
+     * @return row enumerator
      */
-    public Collection<QueryResult> execute(final FederateTableMetadata metadata, final DataContext root, final List<RexNode> filters, final int[] projects) {
+    public Enumerator<Object[]> execute(final FederateTableMetadata metadata, final DataContext root, final List<RexNode> filters, final int[] projects) {
+        return execute(metadata, root, filters, projects, null, null);
+    }
+    
+    /**
+     * Execute with conditions pushed down by the optimizer.
+     *
+     * @param metadata metadata
+     * @param root root
+     * @param filters filter
+     * @param projects projects
+     * @param inCondition in condition
+     * @param sortLimit sort limit
+     * @return row enumerator
+     */
+    public Enumerator<Object[]> execute(final FederateTableMetadata metadata, final DataContext root, final List<RexNode> filters, final int[] projects, 
+                                        final FederateInCondition inCondition, final FederateSortLimit sortLimit) {
+        FederateSortLimit actualSortLimit = isLimitSupported() ? sortLimit : null;
         FederateExecutionContextGenerator generator = new FederateExecutionContextGenerator(metadata.getName(), routeExecutionContext, 
-                new FederateExecutionSQLGenerator(root, filters, projects, metadata.getColumnNames()));
-        return execute(generator.generate());
+                new FederateExecutionSQLGenerator(root, filters, projects, metadata.getColumnNames(), inCondition, actualSortLimit));
+        boolean fullScan = (null == filters || filters.isEmpty()) && null == inCondition && null == actualSortLimit;
+        return execute(generator.generate(), fullScan ? metadata : null);
     }
     
-    private Collection<QueryResult> execute(final ExecutionContext context) {
+    private Enumerator<Object[]> execute(final ExecutionContext context, final FederateTableMetadata rowCountMetadata) {
         try {
             ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = prepareEngine.prepare(context.getRouteContext(), context.getExecutionUnits());
             ExecuteProcessEngine.initialize(context.getSqlStatementContext(), executionGroupContext, props);
-            Collection<QueryResult> result = jdbcExecutor.execute(executionGroupContext, callback).stream().map(each -> (QueryResult) each).collect(Collectors.toList());
+            Collection<QueryResult> queryResults = jdbcExecutor.execute(executionGroupContext, callback).stream().map(each -> (QueryResult) each).collect(Collectors.toList());
             ExecuteProcessEngine.finish(executionGroupContext.getExecutionID());
-            return result;
+            return createEnumerator(executionGroupContext, null == rowCountMetadata ? queryResults : countRows(rowCountMetadata, executionGroupContext, queryResults));
         } catch (final SQLException ex) {
             throw new ShardingSphereException(ex);
         } finally {
             ExecuteProcessEngine.clean();
         }
     }
+    
+    private boolean isLimitSupported() {
+        return null != callback.getDatabaseType() && LIMIT_DATABASE_TYPES.contains(callback.getDatabaseType().getName());
+    }
+    
+    private Collection<QueryResult> countRows(final FederateTableMetadata metadata, final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, final Collection<QueryResult> queryResults) {
+        List<DataNode> dataNodes = getDataNodes(executionGroupContext);
+        if (dataNodes.size() != queryResults.size()) {
+            return queryResults;
+        }
+        Collection<QueryResult> result = new ArrayList<>(queryResults.size());
+        Iterator<DataNode> dataNodeIterator = dataNodes.iterator();
+        for (QueryResult each : queryResults) {
+            result.add(new FederateRowCountQueryResult(each, metadata, dataNodeIterator.next()));
+        }
+        return result;
+    }
+    
+    private List<DataNode> getDataNodes(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext) {
+        List<DataNode> result = new LinkedList<>();
+        for (ExecutionGroup<JDBCExecutionUnit> eachGroup : executionGroupContext.getInputGroups()) {
+            for (JDBCExecutionUnit each : eachGroup.getInputs()) {
+                ExecutionUnit executionUnit = each.getExecutionUnit();
+                result.add(new DataNode(executionUnit.getDataSourceName(), executionUnit.getSqlUnit().getTableRouteMappers().iterator().next().getActualName()));
+            }
+        }
+        return result;
+    }
+    
+    private Enumerator<Object[]> createEnumerator(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, final Collection<QueryResult> queryResults) {
+        int prefetchSize = props.getValue(ConfigurationPropertyKey.FEDERATE_SCAN_PREFETCH_SIZE);
+        if (prefetchSize <= 0 || queryResults.size() <= 1 || !isMemoryStrictly(executionGroupContext)) {
+            return new FederateRowEnumerator(queryResults);
+        }
+        return new FederatePrefetchRowEnumerator(queryResults, PREFETCH_EXECUTOR, prefetchSize);
+    }
+    
+    private boolean isMemoryStrictly(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext) {
+        for (ExecutionGroup<JDBCExecutionUnit> eachGroup : executionGroupContext.getInputGroups()) {
+            for (JDBCExecutionUnit each : eachGroup.getInputs()) {
+                if (ConnectionMode.MEMORY_STRICTLY != each.getConnectionMode()) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
 }
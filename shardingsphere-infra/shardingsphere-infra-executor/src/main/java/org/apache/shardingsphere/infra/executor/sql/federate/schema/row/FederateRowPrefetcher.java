@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.federate.schema.row;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Federate row prefetcher.
+ * 
+ * <p>Reads rows of one query result into a bounded buffer, the reading thread waits until it is signaled when the buffer is full.
+ * If no executor thread has started prefetching when the rows are consumed, the consumer reads the query result directly.</p>
+ */
+public final class FederateRowPrefetcher implements Runnable {
+    
+    private static final int UNCLAIMED = 0;
+    
+    private static final int PREFETCHER_CLAIMED = 1;
+    
+    private static final int CONSUMER_CLAIMED = 2;
+    
+    private final QueryResult queryResult;
+    
+    private final int bufferSize;
+    
+    private final Queue<Object[]> buffer;
+    
+    private final Lock lock = new ReentrantLock();
+    
+    private final Condition notFull = lock.newCondition();
+    
+    private final Condition notEmpty = lock.newCondition();
+    
+    private final AtomicInteger owner = new AtomicInteger(UNCLAIMED);
+    
+    private final CountDownLatch finished = new CountDownLatch(1);
+    
+    private boolean ended;
+    
+    private volatile boolean closed;
+    
+    private volatile SQLException failure;
+    
+    public FederateRowPrefetcher(final QueryResult queryResult, final int bufferSize) {
+        this.queryResult = queryResult;
+        this.bufferSize = bufferSize;
+        buffer = new ArrayDeque<>(bufferSize);
+    }
+    
+    @Override
+    public void run() {
+        if (!owner.compareAndSet(UNCLAIMED, PREFETCHER_CLAIMED)) {
+            return;
+        }
+        boolean completed = false;
+        try {
+            while (!closed && queryResult.next()) {
+                put(readRow());
+            }
+            completed = true;
+        } catch (final SQLException ex) {
+            failure = ex;
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (!completed && null == failure) {
+                failure = new SQLException("Prefetch rows of federate query failed.");
+            }
+            putEndOfRows();
+            finished.countDown();
+        }
+    }
+    
+    private void put(final Object[] row) throws InterruptedException {
+        lock.lock();
+        try {
+            while (!closed && buffer.size() >= bufferSize) {
+                notFull.await();
+            }
+            if (!closed) {
+                buffer.add(row);
+                notEmpty.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private void putEndOfRows() {
+        lock.lock();
+        try {
+            ended = true;
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private Object[] readRow() throws SQLException {
+        int columnCount = queryResult.getMetaData().getColumnCount();
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = queryResult.getValue(i + 1, Object.class);
+        }
+        return result;
+    }
+    
+    /**
+     * Get next row.
+     * 
+     * @return next row, null if there is no more row
+     * @throws SQLException SQL exception
+     */
+    public Object[] next() throws SQLException {
+        owner.compareAndSet(UNCLAIMED, CONSUMER_CLAIMED);
+        if (CONSUMER_CLAIMED == owner.get()) {
+            return queryResult.next() ? readRow() : null;
+        }
+        Object[] result = take();
+        if (null == result && null != failure) {
+            throw failure;
+        }
+        return result;
+    }
+    
+    private Object[] take() throws SQLException {
+        lock.lock();
+        try {
+            while (buffer.isEmpty() && !ended) {
+                notEmpty.await();
+            }
+            Object[] result = buffer.poll();
+            if (null != result) {
+                notFull.signal();
+            }
+            return result;
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Close.
+     * 
+     * @throws SQLException SQL exception
+     */
+    public void close() throws SQLException {
+        closed = true;
+        owner.compareAndSet(UNCLAIMED, CONSUMER_CLAIMED);
+        lock.lock();
+        try {
+            buffer.clear();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            if (PREFETCHER_CLAIMED == owner.get()) {
+                finished.await();
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            queryResult.close();
+        }
+    }
+}
@@ -22,23 +22,33 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.rel.type.RelDataTypeFactory;
+import org.apache.calcite.schema.Statistic;
+import org.apache.calcite.schema.Statistics;
 import org.apache.calcite.schema.impl.AbstractTable;
 import org.apache.shardingsphere.infra.executor.sql.federate.schema.row.FederateRowExecutor;
 import org.apache.shardingsphere.infra.optimize.core.metadata.FederateTableMetadata;
 
+import java.util.Collections;
+
 /**
  * Abstract Federate table.
  */
-@Getter(AccessLevel.PROTECTED)
 @RequiredArgsConstructor
 public abstract class AbstractFederateTable extends AbstractTable {
     
+    @Getter
     private final FederateTableMetadata metadata;
     
+    @Getter(AccessLevel.PROTECTED)
     private final FederateRowExecutor executor;
     
     @Override
     public final RelDataType getRowType(final RelDataTypeFactory typeFactory) {
         return metadata.getRelProtoDataType().apply(typeFactory);
     }
+    
+    @Override
+    public final Statistic getStatistic() {
+        return Statistics.of(metadata.getRowCount(), Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+    }
 }
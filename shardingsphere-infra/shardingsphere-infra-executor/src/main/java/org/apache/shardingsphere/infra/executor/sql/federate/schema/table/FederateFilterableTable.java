@@ -23,11 +23,14 @@ import org.apache.calcite.linq4j.Enumerable;
 import org.apache.calcite.linq4j.Enumerator;
 import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.schema.ProjectableFilterableTable;
-import org.apache.shardingsphere.infra.executor.sql.federate.schema.row.FederateRowEnumerator;
 import org.apache.shardingsphere.infra.executor.sql.federate.schema.row.FederateRowExecutor;
+import org.apache.shardingsphere.infra.executor.sql.federate.schema.table.generator.FederateColocatedJoin;
+import org.apache.shardingsphere.infra.executor.sql.federate.schema.table.generator.FederateInCondition;
+import org.apache.shardingsphere.infra.executor.sql.federate.schema.table.generator.FederateSortLimit;
 import org.apache.shardingsphere.infra.optimize.core.metadata.FederateTableMetadata;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Federate filterable Table.
@@ -44,8 +47,24 @@ public final class FederateFilterableTable extends AbstractFederateTable impleme
         return new AbstractEnumerable<Object[]>() {
             @Override
             public Enumerator<Object[]> enumerator() {
-                return new FederateRowEnumerator(getExecutor().execute(getMetadata(), root, filters, projects));
+                if (null == root) {
+                    return getExecutor().execute(getMetadata(), null, filters, projects);
+                }
+                return getExecutor().execute(getMetadata(), root, filters, projects, 
+                        (FederateInCondition) root.get(FederateInCondition.DATA_CONTEXT_KEY), (FederateSortLimit) root.get(FederateSortLimit.DATA_CONTEXT_KEY));
             }
         };
     }
+    
+    /**
+     * Scan rows of this table joined with rows of the co-located table by data nodes.
+     *
+     * @param root root
+     * @param rightTable co-located table on right side
+     * @param join co-located join
+     * @return joined row enumerator, or empty if the join can not be exactly executed by data nodes
+     */
+    public Optional<Enumerator<Object[]>> scanColocatedJoin(final DataContext root, final FederateFilterableTable rightTable, final FederateColocatedJoin join) {
+        return getExecutor().executeColocatedJoin(getMetadata(), rightTable.getMetadata(), root, join);
+    }
 }
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.federate.schema.table.generator;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.rex.RexNode;
+
+import java.util.List;
+
+/**
+ * Federate co-located join, which joins actual tables of co-located tables in each data node group when scanning actual tables.
+ * 
+ * <p>Filters and projects reference columns of each table, and keys are indexes of join columns in each table.</p>
+ */
+@RequiredArgsConstructor
+@Getter
+public final class FederateColocatedJoin {
+    
+    private final List<RexNode> leftFilters;
+    
+    private final int[] leftProjects;
+    
+    private final List<RexNode> rightFilters;
+    
+    private final int[] rightProjects;
+    
+    private final int[] leftKeys;
+    
+    private final int[] rightKeys;
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.federate.schema.table.generator;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.route.context.ColocatedTables;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+/**
+ * Federate co-located join execution context generator, which generates an execution unit for each data node group of co-located tables.
+ */
+@RequiredArgsConstructor
+public final class FederateColocatedJoinExecutionContextGenerator {
+    
+    private final String leftTable;
+    
+    private final String rightTable;
+    
+    private final ColocatedTables colocatedTables;
+    
+    private final ExecutionContext routeExecutionContext;
+    
+    private final FederateColocatedJoinSQLGenerator generator;
+    
+    /**
+     * Create execution context.
+     *
+     * @return execution context
+     */
+    public ExecutionContext generate() {
+        RouteContext routeContext = new RouteContext();
+        Collection<ExecutionUnit> executionUnits = new LinkedHashSet<>();
+        for (Map<String, DataNode> each : colocatedTables.getDataNodeGroups()) {
+            DataNode leftDataNode = each.get(leftTable.toLowerCase());
+            DataNode rightDataNode = each.get(rightTable.toLowerCase());
+            RouteMapper dataSourceMapper = new RouteMapper(leftDataNode.getDataSourceName(), leftDataNode.getDataSourceName());
+            RouteMapper leftTableMapper = new RouteMapper(leftTable, leftDataNode.getTableName());
+            RouteMapper rightTableMapper = new RouteMapper(rightTable, rightDataNode.getTableName());
+            routeContext.putRouteUnit(dataSourceMapper, leftTableMapper);
+            routeContext.putRouteUnit(dataSourceMapper, rightTableMapper);
+            executionUnits.add(new ExecutionUnit(leftDataNode.getDataSourceName(), new SQLUnit(generator.generate(leftDataNode.getTableName(), rightDataNode.getTableName()), 
+                    Collections.emptyList(), Arrays.asList(leftTableMapper, rightTableMapper))));
+        }
+        return new ExecutionContext(routeExecutionContext.getSqlStatementContext(), executionUnits, routeContext);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.federate.schema.table.generator;
+
+import com.google.common.base.Joiner;
+import org.apache.calcite.DataContext;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Federate co-located join SQL generator, which generates SQL joining actual tables of co-located tables in the same data node group.
+ * 
+ * <p>The join is executed by data nodes only when all filters of both tables are exactly evaluated by data nodes,
+ * because Calcite does not evaluate filters of the joined rows again.</p>
+ */
+public final class FederateColocatedJoinSQLGenerator {
+    
+    private static final String LEFT_ALIAS = "l";
+    
+    private static final String RIGHT_ALIAS = "r";
+    
+    private final FederateColocatedJoin join;
+    
+    private final List<String> leftColumnNames;
+    
+    private final List<String> rightColumnNames;
+    
+    private final FederateExecutionSQLGenerator leftGenerator;
+    
+    private final FederateExecutionSQLGenerator rightGenerator;
+    
+    public FederateColocatedJoinSQLGenerator(final DataContext root, final FederateColocatedJoin join, final List<String> leftColumnNames, final List<String> rightColumnNames) {
+        this.join = join;
+        this.leftColumnNames = qualify(LEFT_ALIAS, leftColumnNames);
+        this.rightColumnNames = qualify(RIGHT_ALIAS, rightColumnNames);
+        leftGenerator = new FederateExecutionSQLGenerator(root, join.getLeftFilters(), join.getLeftProjects(), this.leftColumnNames);
+        rightGenerator = new FederateExecutionSQLGenerator(root, join.getRightFilters(), join.getRightProjects(), this.rightColumnNames);
+    }
+    
+    private List<String> qualify(final String alias, final List<String> columnNames) {
+        return columnNames.stream().map(each -> String.format("%s.%s", alias, each)).collect(Collectors.toList());
+    }
+    
+    /**
+     * Judge whether the join is exactly executed by data nodes.
+     *
+     * @return exactly executed by data nodes or not
+     */
+    public boolean isExact() {
+        return leftGenerator.isAllConditionsExact() && rightGenerator.isAllConditionsExact();
+    }
+    
+    /**
+     * Generate sql.
+     *
+     * @param leftTable actual table of left side
+     * @param rightTable actual table of right side
+     * @return sql
+     */
+    public String generate(final String leftTable, final String rightTable) {
+        Collection<String> columns = new LinkedList<>(leftGenerator.getProjectionColumns());
+        columns.addAll(rightGenerator.getProjectionColumns());
+        Collection<String> joinConditions = new LinkedList<>();
+        for (int i = 0; i < join.getLeftKeys().length; i++) {
+            joinConditions.add(String.format("%s = %s", leftColumnNames.get(join.getLeftKeys()[i]), rightColumnNames.get(join.getRightKeys()[i])));
+        }
+        StringBuilder result = new StringBuilder(String.format("SELECT %s FROM %s %s INNER JOIN %s %s ON %s", 
+                Joiner.on(", ").join(columns), leftTable, LEFT_ALIAS, rightTable, RIGHT_ALIAS, Joiner.on(" AND ").join(joinConditions)));
+        Collection<String> conditions = new LinkedList<>(leftGenerator.getConditions());
+        conditions.addAll(rightGenerator.getConditions());
+        if (!conditions.isEmpty()) {
+            result.append(" WHERE ").append(Joiner.on(" AND ").join(conditions));
+        }
+        return result.toString();
+    }
+}
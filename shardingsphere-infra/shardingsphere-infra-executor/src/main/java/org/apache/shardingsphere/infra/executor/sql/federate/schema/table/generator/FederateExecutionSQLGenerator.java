@@ -20,19 +20,43 @@ package org.apache.shardingsphere.infra.executor.sql.federate.schema.table.gener
 import com.google.common.base.Joiner;
 import lombok.RequiredArgsConstructor;
 import org.apache.calcite.DataContext;
+import org.apache.calcite.avatica.util.DateTimeUtils;
+import org.apache.calcite.rel.RelFieldCollation;
+import org.apache.calcite.rel.RelFieldCollation.NullDirection;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexDynamicParam;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexLiteral;
 import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.calcite.sql.type.SqlTypeUtil;
 
+import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
  * Federate execution sql generator.
+ * 
+ * <p>Projections and the filters which can be expressed in plain SQL are pushed down into the actual table SQL.
+ * Filters are still kept in Calcite's filter list, so pushed down predicates only narrow the rows fetched from data nodes.
+ * An in condition, such as join keys broadcast from the other side of a join, is pushed down in the same way.
+ * Sort and limit are pushed down only when all filters are exactly evaluated by data nodes, because each data node must return the first rows of the final result.
+ * They are still evaluated by Calcite after rows of all data nodes are merged.</p>
  */
 @RequiredArgsConstructor
 public final class FederateExecutionSQLGenerator {
     
+    private static final Map<SqlKind, String> BINARY_OPERATORS = new EnumMap<>(SqlKind.class);
+    
     private final DataContext root;
     
     private final List<RexNode> filters;
@@ -41,6 +65,24 @@ public final class FederateExecutionSQLGenerator {
     
     private final List<String> columnNames;
     
+    private final FederateInCondition inCondition;
+    
+    private final FederateSortLimit sortLimit;
+    
+    static {
+        BINARY_OPERATORS.put(SqlKind.EQUALS, "=");
+        BINARY_OPERATORS.put(SqlKind.NOT_EQUALS, "<>");
+        BINARY_OPERATORS.put(SqlKind.GREATER_THAN, ">");
+        BINARY_OPERATORS.put(SqlKind.GREATER_THAN_OR_EQUAL, ">=");
+        BINARY_OPERATORS.put(SqlKind.LESS_THAN, "<");
+        BINARY_OPERATORS.put(SqlKind.LESS_THAN_OR_EQUAL, "<=");
+        BINARY_OPERATORS.put(SqlKind.LIKE, "LIKE");
+    }
+    
+    public FederateExecutionSQLGenerator(final DataContext root, final List<RexNode> filters, final int[] projects, final List<String> columnNames) {
+        this(root, filters, projects, columnNames, null, null);
+    }
+    
     /**
      * Generate sql.
      *
@@ -48,8 +90,207 @@ public final class FederateExecutionSQLGenerator {
      * @return sql
      */
     public String generate(final String table) {
-        // TODO generate sql with filters
-        Collection<String> actualColumnNames = null == projects ? columnNames : Arrays.stream(projects).mapToObj(columnNames::get).collect(Collectors.toList());
-        return String.format("SELECT %s FROM %s", Joiner.on(", ").join(actualColumnNames), table);
+        StringBuilder result = new StringBuilder(String.format("SELECT %s FROM %s", Joiner.on(", ").join(getProjectionColumns()), table));
+        Collection<String> conditions = getConditions();
+        if (!conditions.isEmpty()) {
+            result.append(" WHERE ").append(Joiner.on(" AND ").join(conditions));
+        }
+        generateSortLimit().ifPresent(each -> result.append(' ').append(each));
+        return result.toString();
+    }
+    
+    Collection<String> getProjectionColumns() {
+        return null == projects ? columnNames : Arrays.stream(projects).mapToObj(columnNames::get).collect(Collectors.toList());
+    }
+    
+    Collection<String> getConditions() {
+        Collection<String> result = new LinkedList<>();
+        if (null != filters) {
+            for (RexNode each : filters) {
+                generateCondition(each, false).ifPresent(result::add);
+            }
+        }
+        if (null != inCondition) {
+            generateInCondition().ifPresent(result::add);
+        }
+        return result;
+    }
+    
+    private Optional<String> generateInCondition() {
+        Collection<String> values = new LinkedList<>();
+        for (Object each : inCondition.getValues()) {
+            Optional<String> value = generateLiteral(each, inCondition.getColumnType(), SqlKind.EQUALS, false);
+            if (!value.isPresent()) {
+                return Optional.empty();
+            }
+            values.add(value.get());
+        }
+        return values.isEmpty() ? Optional.empty() : Optional.of(String.format("%s IN (%s)", columnNames.get(inCondition.getColumnIndex()), Joiner.on(", ").join(values)));
+    }
+    
+    private Optional<String> generateSortLimit() {
+        if (null == sortLimit || null != inCondition || !isAllConditionsExact()) {
+            return Optional.empty();
+        }
+        Optional<Long> rowCount = getSortLimitRowCount();
+        if (!rowCount.isPresent()) {
+            return Optional.empty();
+        }
+        if (sortLimit.getCollations().isEmpty()) {
+            return Optional.of(String.format("LIMIT %d", rowCount.get()));
+        }
+        Collection<String> orderByItems = new LinkedList<>();
+        for (RelFieldCollation each : sortLimit.getCollations()) {
+            String columnName = columnNames.get(each.getFieldIndex());
+            NullDirection nullDirection = NullDirection.UNSPECIFIED == each.nullDirection ? each.getDirection().defaultNullDirection() : each.nullDirection;
+            // Null ordering differs among databases, so it is specified explicitly to fetch the same first rows as Calcite sorts.
+            orderByItems.add(String.format("CASE WHEN %s IS NULL THEN %d ELSE %d END", columnName, NullDirection.FIRST == nullDirection ? 0 : 1, NullDirection.FIRST == nullDirection ? 1 : 0));
+            orderByItems.add(String.format("%s %s", columnName, each.getDirection().isDescending() ? "DESC" : "ASC"));
+        }
+        return Optional.of(String.format("ORDER BY %s LIMIT %d", Joiner.on(", ").join(orderByItems), rowCount.get()));
+    }
+    
+    private Optional<Long> getSortLimitRowCount() {
+        Optional<Object> offset = null == sortLimit.getOffset() ? Optional.of(0) : getValue(sortLimit.getOffset());
+        Optional<Object> fetch = getValue(sortLimit.getFetch());
+        if (!(offset.orElse(null) instanceof Number) || !(fetch.orElse(null) instanceof Number)) {
+            return Optional.empty();
+        }
+        return Optional.of(((Number) offset.get()).longValue() + ((Number) fetch.get()).longValue());
+    }
+    
+    boolean isAllConditionsExact() {
+        return null == filters || filters.stream().allMatch(this::isExactCondition);
+    }
+    
+    private boolean isExactCondition(final RexNode filter) {
+        if (!(filter instanceof RexCall)) {
+            return false;
+        }
+        RexCall call = (RexCall) filter;
+        SqlKind kind = call.getKind();
+        if (SqlKind.AND == kind || SqlKind.OR == kind || SqlKind.NOT == kind) {
+            return call.getOperands().stream().allMatch(this::isExactCondition);
+        }
+        if (SqlKind.IS_NULL == kind || SqlKind.IS_NOT_NULL == kind) {
+            return call.getOperands().get(0) instanceof RexInputRef;
+        }
+        if (!BINARY_OPERATORS.containsKey(kind) || SqlKind.LIKE == kind || 2 != call.getOperands().size()) {
+            return false;
+        }
+        RexNode left = call.getOperands().get(0);
+        RexNode right = call.getOperands().get(1);
+        if ((left instanceof RexInputRef) == (right instanceof RexInputRef)) {
+            return false;
+        }
+        RexNode operand = left instanceof RexInputRef ? right : left;
+        RelDataType type = operand.getType();
+        return (SqlTypeUtil.isNumeric(type) || SqlTypeUtil.isBoolean(type) || SqlTypeUtil.isDatetime(type)) && generateComparisonOperand(operand, kind, false).isPresent();
+    }
+    
+    private Optional<String> generateCondition(final RexNode filter, final boolean negated) {
+        if (!(filter instanceof RexCall)) {
+            return Optional.empty();
+        }
+        RexCall call = (RexCall) filter;
+        SqlKind kind = call.getKind();
+        if (SqlKind.AND == kind || SqlKind.OR == kind) {
+            return generateLogicCondition(call, negated);
+        }
+        if (SqlKind.NOT == kind) {
+            return generateCondition(call.getOperands().get(0), !negated).map(each -> String.format("NOT (%s)", each));
+        }
+        if (SqlKind.IS_NULL == kind || SqlKind.IS_NOT_NULL == kind) {
+            return generateColumn(call.getOperands().get(0)).map(each -> String.format("%s %s", each, SqlKind.IS_NULL == kind ? "IS NULL" : "IS NOT NULL"));
+        }
+        if (BINARY_OPERATORS.containsKey(kind) && 2 == call.getOperands().size()) {
+            return generateComparison(call, negated);
+        }
+        return Optional.empty();
+    }
+    
+    private Optional<String> generateLogicCondition(final RexCall call, final boolean negated) {
+        Collection<String> conditions = new LinkedList<>();
+        for (RexNode each : call.getOperands()) {
+            Optional<String> condition = generateCondition(each, negated);
+            if (condition.isPresent()) {
+                conditions.add(condition.get());
+            } else if (negated || SqlKind.OR == call.getKind()) {
+                return Optional.empty();
+            }
+        }
+        if (conditions.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(String.format("(%s)", Joiner.on(SqlKind.AND == call.getKind() ? " AND " : " OR ").join(conditions)));
+    }
+    
+    private Optional<String> generateComparison(final RexCall call, final boolean negated) {
+        Optional<String> left = generateComparisonOperand(call.getOperands().get(0), call.getKind(), negated);
+        Optional<String> right = generateComparisonOperand(call.getOperands().get(1), call.getKind(), negated);
+        if (!left.isPresent() || !right.isPresent() || (call.getOperands().get(0) instanceof RexInputRef) == (call.getOperands().get(1) instanceof RexInputRef)) {
+            return Optional.empty();
+        }
+        return Optional.of(String.format("%s %s %s", left.get(), BINARY_OPERATORS.get(call.getKind()), right.get()));
+    }
+    
+    private Optional<String> generateComparisonOperand(final RexNode operand, final SqlKind kind, final boolean negated) {
+        if (operand instanceof RexInputRef) {
+            return generateColumn(operand);
+        }
+        return getValue(operand).flatMap(each -> generateLiteral(each, operand.getType().getSqlTypeName(), kind, negated));
+    }
+    
+    private Optional<String> generateColumn(final RexNode operand) {
+        return operand instanceof RexInputRef ? Optional.of(columnNames.get(((RexInputRef) operand).getIndex())) : Optional.empty();
+    }
+    
+    private Optional<Object> getValue(final RexNode operand) {
+        if (operand instanceof RexLiteral) {
+            return Optional.ofNullable(((RexLiteral) operand).getValue3());
+        }
+        if (operand instanceof RexDynamicParam && null != root) {
+            return Optional.ofNullable(root.get("?" + ((RexDynamicParam) operand).getIndex()));
+        }
+        return Optional.empty();
+    }
+    
+    private Optional<String> generateLiteral(final Object value, final SqlTypeName type, final SqlKind kind, final boolean negated) {
+        if (SqlTypeName.CHAR_TYPES.contains(type)) {
+            return value instanceof String && isCharacterComparisonPushable((String) value, kind, negated) ? Optional.of(String.format("'%s'", ((String) value).replace("'", "''"))) : Optional.empty();
+        }
+        if (SqlKind.LIKE == kind) {
+            return Optional.empty();
+        }
+        if (SqlTypeName.NUMERIC_TYPES.contains(type) && value instanceof Number) {
+            return Optional.of(value instanceof BigDecimal ? ((BigDecimal) value).toPlainString() : value.toString());
+        }
+        if (SqlTypeName.BOOLEAN == type && value instanceof Boolean) {
+            return Optional.of(value.toString());
+        }
+        return value instanceof Number ? generateDatetimeLiteral((Number) value, type) : Optional.empty();
+    }
+    
+    private Optional<String> generateDatetimeLiteral(final Number value, final SqlTypeName type) {
+        // Calcite represents dates as days and times as milliseconds since epoch, which must be rendered as datetime literals for data nodes.
+        switch (type) {
+            case DATE:
+                return Optional.of(String.format("DATE '%s'", DateTimeUtils.unixDateToString(value.intValue())));
+            case TIME:
+                return Optional.of(String.format("TIME '%s'", DateTimeUtils.unixTimeToString(value.intValue(), getMillisPrecision(value.longValue()))));
+            case TIMESTAMP:
+                return Optional.of(String.format("TIMESTAMP '%s'", DateTimeUtils.unixTimestampToString(value.longValue(), getMillisPrecision(value.longValue()))));
+            default:
+                return Optional.empty();
+        }
+    }
+    
+    private int getMillisPrecision(final long millis) {
+        return 0 == millis % 1000 ? 0 : 3;
+    }
+    
+    private boolean isCharacterComparisonPushable(final String value, final SqlKind kind, final boolean negated) {
+        // Collations of data nodes may be case-insensitive or pad trailing spaces, so only predicates which can widen the fetched rows are pushed down.
+        return !negated && (SqlKind.EQUALS == kind || SqlKind.LIKE == kind) && !value.contains("\\");
     }
 }
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.federate.schema.table.generator;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.rel.RelFieldCollation;
+import org.apache.calcite.rex.RexNode;
+
+import java.util.List;
+
+/**
+ * Federate sort limit, which keeps only the first rows of actual tables in the given order when scanning actual tables.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class FederateSortLimit {
+    
+    /**
+     * Name of the data context variable which holds the sort limit of a table scan.
+     */
+    public static final String DATA_CONTEXT_KEY = "federateSortLimit";
+    
+    private final List<RelFieldCollation> collations;
+    
+    private final RexNode offset;
+    
+    private final RexNode fetch;
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.log;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.executor.sql.trace.SQLExecutionPhase;
+import org.apache.shardingsphere.infra.executor.sql.trace.SQLExecutionTrace;
+import org.apache.shardingsphere.infra.executor.sql.trace.ShardExecutionTrace;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Slow SQL logger.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j(topic = "ShardingSphere-SQL-Slow")
+public final class SlowSQLLogger {
+    
+    /**
+     * Log SQL execution trace if slower than threshold.
+     * 
+     * @param trace SQL execution trace
+     * @param thresholdMilliseconds threshold milliseconds
+     * @return logged or not
+     */
+    public static boolean logIfSlow(final SQLExecutionTrace trace, final long thresholdMilliseconds) {
+        long elapsedNanos = System.nanoTime() - trace.getStartNanos();
+        if (elapsedNanos < TimeUnit.MILLISECONDS.toNanos(thresholdMilliseconds)) {
+            return false;
+        }
+        log.warn(format(trace, elapsedNanos));
+        return true;
+    }
+    
+    /**
+     * Format SQL execution trace as one line of key value pairs, elapsed time of phases and shards are in microseconds.
+     * 
+     * @param trace SQL execution trace
+     * @param elapsedNanos total elapsed nanoseconds
+     * @return formatted trace
+     */
+    public static String format(final SQLExecutionTrace trace, final long elapsedNanos) {
+        StringBuilder result = new StringBuilder(256);
+        result.append("elapsed_ms=").append(TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        for (SQLExecutionPhase each : SQLExecutionPhase.values()) {
+            result.append(' ').append(each.getDisplayName()).append("_us=").append(TimeUnit.NANOSECONDS.toMicros(trace.getPhaseNanos(each)));
+        }
+        result.append(" rows=").append(trace.getRowCount()).append(" shards=").append(trace.getShardTraces().size());
+        for (ShardExecutionTrace each : trace.getShardTraces()) {
+            result.append(" [data_source=").append(each.getDataSourceName()).append(" elapsed_us=").append(TimeUnit.NANOSECONDS.toMicros(each.getElapsedNanos()));
+            if (each.getRowCount() >= 0) {
+                result.append(" rows=").append(each.getRowCount());
+            }
+            result.append(" sql=").append(each.getSql()).append(']');
+        }
+        result.append(" logic_sql=").append(String.join("; ", trace.getSqls()));
+        return result.toString();
+    }
+}
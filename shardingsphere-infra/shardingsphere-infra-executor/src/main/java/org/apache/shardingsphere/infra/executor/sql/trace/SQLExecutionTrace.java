@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.trace;
+
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * SQL execution trace of one command, phases are recorded by the thread handling the command and shards are recorded by executor threads.
+ */
+public final class SQLExecutionTrace {
+    
+    @Getter
+    private final long startNanos = System.nanoTime();
+    
+    private final long[] phaseNanos = new long[SQLExecutionPhase.values().length];
+    
+    @Getter
+    private final Collection<String> sqls = new LinkedList<>();
+    
+    @Getter
+    private final Collection<ShardExecutionTrace> shardTraces = new ConcurrentLinkedQueue<>();
+    
+    @Getter
+    private long rowCount;
+    
+    /**
+     * Record elapsed nanoseconds of phase.
+     * 
+     * @param phase SQL execution phase
+     * @param elapsedNanos elapsed nanoseconds
+     */
+    public void record(final SQLExecutionPhase phase, final long elapsedNanos) {
+        phaseNanos[phase.ordinal()] += elapsedNanos;
+    }
+    
+    /**
+     * Get total elapsed nanoseconds of phase.
+     * 
+     * @param phase SQL execution phase
+     * @return elapsed nanoseconds
+     */
+    public long getPhaseNanos(final SQLExecutionPhase phase) {
+        return phaseNanos[phase.ordinal()];
+    }
+    
+    /**
+     * Add logic SQL.
+     * 
+     * @param sql logic SQL
+     */
+    public void addSQL(final String sql) {
+        sqls.add(sql);
+    }
+    
+    /**
+     * Add shard execution trace.
+     * 
+     * @param shardTrace shard execution trace
+     */
+    public void addShardTrace(final ShardExecutionTrace shardTrace) {
+        shardTraces.add(shardTrace);
+    }
+    
+    /**
+     * Increase count of rows returned to client.
+     * 
+     * @param count count of rows
+     */
+    public void increaseRowCount(final long count) {
+        rowCount += count;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.trace;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorDataMap;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * SQL execution trace holder.
+ * 
+ * <p>Trace is held in executor data map, so that it is visible to executor threads of the same command.
+ * All methods are no-op and return immediately if trace is not started.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLExecutionTraceHolder {
+    
+    private static final String SQL_EXECUTION_TRACE = "SQL_EXECUTION_TRACE";
+    
+    /**
+     * Start trace for current thread.
+     */
+    public static void start() {
+        ExecutorDataMap.getValue().put(SQL_EXECUTION_TRACE, new SQLExecutionTrace());
+    }
+    
+    /**
+     * Get trace of current thread.
+     * 
+     * @return SQL execution trace
+     */
+    public static Optional<SQLExecutionTrace> get() {
+        return get(ExecutorDataMap.getValue());
+    }
+    
+    /**
+     * Get trace from executor data map.
+     * 
+     * @param dataMap executor data map
+     * @return SQL execution trace
+     */
+    public static Optional<SQLExecutionTrace> get(final Map<String, Object> dataMap) {
+        return Optional.ofNullable((SQLExecutionTrace) dataMap.get(SQL_EXECUTION_TRACE));
+    }
+    
+    /**
+     * Begin phase.
+     * 
+     * @return begin nanoseconds, 0 if trace is not started
+     */
+    public static long begin() {
+        return ExecutorDataMap.getValue().containsKey(SQL_EXECUTION_TRACE) ? System.nanoTime() : 0L;
+    }
+    
+    /**
+     * End phase.
+     * 
+     * @param phase SQL execution phase
+     * @param beginNanos begin nanoseconds returned by {@link #begin()}
+     */
+    public static void end(final SQLExecutionPhase phase, final long beginNanos) {
+        SQLExecutionTrace trace = (SQLExecutionTrace) ExecutorDataMap.getValue().get(SQL_EXECUTION_TRACE);
+        if (null != trace) {
+            trace.record(phase, System.nanoTime() - beginNanos);
+        }
+    }
+    
+    /**
+     * Finish trace of current thread.
+     * 
+     * @return finished SQL execution trace
+     */
+    public static Optional<SQLExecutionTrace> finish() {
+        return Optional.ofNullable((SQLExecutionTrace) ExecutorDataMap.getValue().remove(SQL_EXECUTION_TRACE));
+    }
+}
@@ -26,6 +26,7 @@ import org.junit.Test;
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
@@ -102,4 +103,14 @@ public final class ExecutorEngineTest {
         latch.countDown();
         assertThat(actual.size(), is(0));
     }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertParallelExecuteWithUncheckedExceptionThrown() throws SQLException {
+        executorEngine.execute(executionGroupContext, (inputs, isTrunkThread, dataMap) -> {
+            if (!isTrunkThread) {
+                throw new IllegalStateException("Failed in executor thread.");
+            }
+            return Collections.emptyList();
+        });
+    }
 }
@@ -37,6 +37,9 @@ import java.sql.Time;
 import java.sql.Timestamp;
 import java.sql.Types;
 import java.util.Calendar;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
@@ -77,6 +80,25 @@ public final class JDBCMemoryQueryResultTest {
         assertFalse(actual.next());
     }
     
+    @Test
+    public void assertNotifyEstimatedSizeWhileLoading() throws SQLException {
+        ResultSet resultSet = getMockedResultSet(Types.VARCHAR);
+        when(resultSet.getString(1)).thenReturn("value");
+        List<Long> actual = new LinkedList<>();
+        new JDBCMemoryQueryResult(resultSet, actual::add);
+        assertThat(actual, is(Collections.singletonList(114L)));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertFailFastWhileLoading() throws SQLException {
+        ResultSet resultSet = getMockedResultSet(Types.VARCHAR);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getString(1)).thenReturn("value");
+        new JDBCMemoryQueryResult(resultSet, estimatedSize -> {
+            throw new IllegalStateException("Memory limit exceeded.");
+        });
+    }
+    
     @Test
     public void assertGetValueByBoolean() throws SQLException {
         ResultSet resultSet = getMockedResultSet(Types.BOOLEAN);
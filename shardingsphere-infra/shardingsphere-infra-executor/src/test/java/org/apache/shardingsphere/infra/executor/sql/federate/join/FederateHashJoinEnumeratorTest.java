@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.federate.join;
+
+import org.apache.calcite.DataContext;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.Linq4j;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public final class FederateHashJoinEnumeratorTest {
+    
+    private final Enumerable<Object[]> orders = Linq4j.asEnumerable(Arrays.asList(new Object[]{1, 10}, new Object[]{2, 10}, new Object[]{3, 11}, new Object[]{4, null}));
+    
+    private final Enumerable<Object[]> users = Linq4j.asEnumerable(Arrays.asList(new Object[]{10L, "foo"}, new Object[]{11L, "bar"}, new Object[]{12L, "baz"}));
+    
+    @Test
+    public void assertJoinInMemory() {
+        FederateHashJoinContext context = new FederateHashJoinContext(new int[]{1}, new int[]{0}, 2, 2, false, 100, null);
+        assertThat(join(context), is(Arrays.asList("[1, 10, 10, foo]", "[2, 10, 10, foo]", "[3, 11, 11, bar]")));
+    }
+    
+    @Test
+    public void assertJoinWithBuildLeft() {
+        FederateHashJoinContext context = new FederateHashJoinContext(new int[]{1}, new int[]{0}, 2, 2, true, 100, null);
+        assertThat(join(context), is(Arrays.asList("[1, 10, 10, foo]", "[2, 10, 10, foo]", "[3, 11, 11, bar]")));
+    }
+    
+    @Test
+    public void assertJoinWithSpill() {
+        FederateHashJoinContext context = new FederateHashJoinContext(new int[]{1}, new int[]{0}, 2, 2, true, 1, null);
+        List<String> actual = join(context);
+        actual.sort(String::compareTo);
+        assertThat(actual, is(Arrays.asList("[1, 10, 10, foo]", "[2, 10, 10, foo]", "[3, 11, 11, bar]")));
+    }
+    
+    @Test
+    public void assertJoinWithSpillSkewedKeys() {
+        Enumerable<Object[]> skewedOrders = Linq4j.asEnumerable(Arrays.asList(new Object[]{1, 10}, new Object[]{2, 10}, new Object[]{3, 10}, new Object[]{4, 10}, new Object[]{5, 11}));
+        FederateHashJoinContext context = new FederateHashJoinContext(new int[]{1}, new int[]{0}, 2, 2, true, 2, null);
+        List<String> actual = new LinkedList<>();
+        try (Enumerator<Object[]> enumerator = new FederateHashJoinEnumerable(mock(DataContext.class), skewedOrders, users, context).enumerator()) {
+            while (enumerator.moveNext()) {
+                actual.add(Arrays.toString(enumerator.current()));
+            }
+        }
+        actual.sort(String::compareTo);
+        assertThat(actual, is(Arrays.asList("[1, 10, 10, foo]", "[2, 10, 10, foo]", "[3, 10, 10, foo]", "[4, 10, 10, foo]", "[5, 11, 11, bar]")));
+    }
+    
+    @Test
+    public void assertJoinWithCompositeKeys() {
+        Enumerable<Object[]> items = Linq4j.asEnumerable(Arrays.asList(new Object[]{1, 10, "a"}, new Object[]{2, 10, "b"}, new Object[]{3, null, "c"}));
+        Enumerable<Object[]> details = Linq4j.asEnumerable(Arrays.asList(new Object[]{1L, 10L}, new Object[]{2L, 11L}, new Object[]{3L, null}));
+        FederateHashJoinContext context = new FederateHashJoinContext(new int[]{0, 1}, new int[]{0, 1}, 3, 2, false, 100, null);
+        List<String> actual = new LinkedList<>();
+        try (Enumerator<Object[]> enumerator = new FederateHashJoinEnumerable(mock(DataContext.class), items, details, context).enumerator()) {
+            while (enumerator.moveNext()) {
+                actual.add(Arrays.toString(enumerator.current()));
+            }
+        }
+        assertThat(actual, is(Arrays.asList("[1, 10, a, 1, 10]")));
+    }
+    
+    private List<String> join(final FederateHashJoinContext context) {
+        List<String> result = new LinkedList<>();
+        try (Enumerator<Object[]> enumerator = new FederateHashJoinEnumerable(mock(DataContext.class), orders, users, context).enumerator()) {
+            while (enumerator.moveNext()) {
+                result.add(Arrays.toString(enumerator.current()));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.federate.join;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.Blob;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Iterator;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class FederateSpillFileTest {
+    
+    @Test
+    public void assertReadTwice() {
+        Timestamp timestamp = Timestamp.valueOf("2021-06-01 10:20:30.123456789");
+        try (FederateSpillFile spillFile = new FederateSpillFile()) {
+            spillFile.write(new Object[]{1, 2L, "foo", new BigDecimal("1.50"), timestamp, null, new byte[]{1, 2}});
+            for (int i = 0; i < 2; i++) {
+                Iterator<Object[]> actual = spillFile.read();
+                Object[] row = actual.next();
+                assertThat(row[0], is(1));
+                assertThat(row[1], is(2L));
+                assertThat(row[2], is("foo"));
+                assertThat(row[3], is(new BigDecimal("1.50")));
+                assertThat(row[4], is(timestamp));
+                assertNull(row[5]);
+                assertThat(row[6], is(new byte[]{1, 2}));
+                assertFalse(actual.hasNext());
+            }
+        }
+    }
+    
+    @Test
+    public void assertWriteNotSerializableValues() throws SQLException {
+        Blob blob = mock(Blob.class);
+        when(blob.length()).thenReturn(2L);
+        when(blob.getBytes(1L, 2)).thenReturn(new byte[]{1, 2});
+        try (FederateSpillFile spillFile = new FederateSpillFile()) {
+            spillFile.write(new Object[]{blob, new NotSerializableValue()});
+            Object[] actual = spillFile.read().next();
+            assertThat(actual[0], instanceOf(Blob.class));
+            assertThat(((Blob) actual[0]).getBytes(1L, 2), is(new byte[]{1, 2}));
+            assertThat(actual[1], is("not serializable"));
+        }
+    }
+    
+    private static final class NotSerializableValue {
+        
+        @Override
+        public String toString() {
+            return "not serializable";
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.federate.schema.row;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.junit.After;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class FederatePrefetchRowEnumeratorTest {
+    
+    private final ExecutorService executorService = Executors.newFixedThreadPool(1);
+    
+    @After
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+    
+    @Test
+    public void assertMoveNext() throws SQLException {
+        QueryResult queryResult1 = mockQueryResult(1, 2, 3);
+        QueryResult queryResult2 = mockQueryResult(4, 5);
+        QueryResult queryResult3 = mockQueryResult(6);
+        FederatePrefetchRowEnumerator enumerator = new FederatePrefetchRowEnumerator(Arrays.asList(queryResult1, queryResult2, queryResult3), executorService, 1);
+        List<Object> actual = new LinkedList<>();
+        while (enumerator.moveNext()) {
+            actual.add(enumerator.current()[0]);
+        }
+        assertThat(actual, is(Arrays.<Object>asList(1, 2, 3, 4, 5, 6)));
+        assertFalse(enumerator.moveNext());
+        enumerator.close();
+        verify(queryResult1).close();
+        verify(queryResult2).close();
+        verify(queryResult3).close();
+    }
+    
+    @Test
+    public void assertMoveNextWhenPrefetchRejected() throws SQLException {
+        ExecutorService rejectedExecutorService = mock(ExecutorService.class);
+        doThrow(RejectedExecutionException.class).when(rejectedExecutorService).execute(any());
+        FederatePrefetchRowEnumerator enumerator = new FederatePrefetchRowEnumerator(Arrays.asList(mockQueryResult(1, 2), mockQueryResult(3)), rejectedExecutorService, 1);
+        List<Object> actual = new LinkedList<>();
+        while (enumerator.moveNext()) {
+            actual.add(enumerator.current()[0]);
+        }
+        assertThat(actual, is(Arrays.<Object>asList(1, 2, 3)));
+        enumerator.close();
+    }
+    
+    @Test
+    public void assertCloseBeforeConsumed() throws SQLException {
+        QueryResult queryResult1 = mockQueryResult(1, 2, 3);
+        QueryResult queryResult2 = mockQueryResult(4, 5);
+        FederatePrefetchRowEnumerator enumerator = new FederatePrefetchRowEnumerator(Arrays.asList(queryResult1, queryResult2), executorService, 1);
+        assertTrue(enumerator.moveNext());
+        enumerator.close();
+        verify(queryResult1).close();
+        verify(queryResult2).close();
+    }
+    
+    private QueryResult mockQueryResult(final Integer... values) throws SQLException {
+        QueryResult result = mock(QueryResult.class);
+        QueryResultMetaData metaData = mock(QueryResultMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(1);
+        when(result.getMetaData()).thenReturn(metaData);
+        Boolean[] nextResults = new Boolean[values.length];
+        Arrays.fill(nextResults, true);
+        nextResults[values.length - 1] = false;
+        when(result.next()).thenReturn(true, nextResults);
+        when(result.getValue(1, Object.class)).thenReturn(values[0], Arrays.copyOfRange(values, 1, values.length));
+        return result;
+    }
+}
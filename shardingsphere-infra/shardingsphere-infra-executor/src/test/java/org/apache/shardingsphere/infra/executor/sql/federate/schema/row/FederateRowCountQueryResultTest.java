@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.federate.schema.row;
+
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.infra.optimize.core.metadata.FederateTableMetadata;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class FederateRowCountQueryResultTest {
+    
+    @Mock
+    private QueryResult queryResult;
+    
+    @Test
+    public void assertUpdateRowCountAfterFullScan() throws SQLException {
+        when(queryResult.next()).thenReturn(true, true, false);
+        FederateTableMetadata metadata = createTableMetadata();
+        QueryResult actual = new FederateRowCountQueryResult(queryResult, metadata, new DataNode("ds_0", "t_order_0"));
+        while (actual.next()) {
+            assertNull(metadata.getRowCount());
+        }
+        assertThat(metadata.getRowCount(), is(2d));
+    }
+    
+    @Test
+    public void assertNotUpdateRowCountBeforeFullScan() throws SQLException {
+        when(queryResult.next()).thenReturn(true);
+        FederateTableMetadata metadata = createTableMetadata();
+        QueryResult actual = new FederateRowCountQueryResult(queryResult, metadata, new DataNode("ds_0", "t_order_0"));
+        actual.next();
+        actual.close();
+        assertNull(metadata.getRowCount());
+    }
+    
+    @Test
+    public void assertUpdateRowCountPerDataNode() throws SQLException {
+        FederateTableMetadata metadata = createTableMetadata();
+        when(queryResult.next()).thenReturn(true, true, false);
+        scan(new FederateRowCountQueryResult(queryResult, metadata, new DataNode("ds_0", "t_order_0")));
+        when(queryResult.next()).thenReturn(true, true, true, false);
+        scan(new FederateRowCountQueryResult(queryResult, metadata, new DataNode("ds_1", "t_order_1")));
+        assertThat(metadata.getRowCount(), is(5d));
+        when(queryResult.next()).thenReturn(true, false);
+        scan(new FederateRowCountQueryResult(queryResult, metadata, new DataNode("ds_0", "t_order_0")));
+        assertThat(metadata.getRowCount(), is(4d));
+    }
+    
+    private void scan(final QueryResult queryResult) throws SQLException {
+        while (queryResult.next()) {
+            queryResult.getValue(1, Object.class);
+        }
+    }
+    
+    private FederateTableMetadata createTableMetadata() {
+        return new FederateTableMetadata("t_order", new TableMetaData(Collections.singletonList(new ColumnMetaData("order_id", Types.INTEGER, true, false, false)), Collections.emptyList()));
+    }
+}
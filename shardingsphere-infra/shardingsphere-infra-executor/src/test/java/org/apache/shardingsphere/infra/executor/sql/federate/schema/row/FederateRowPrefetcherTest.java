@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.federate.schema.row;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class FederateRowPrefetcherTest {
+    
+    @Test(timeout = 10000L)
+    public void assertNextAfterPrefetcherInterrupted() throws SQLException, InterruptedException {
+        QueryResult queryResult = mockEndlessQueryResult();
+        FederateRowPrefetcher prefetcher = new FederateRowPrefetcher(queryResult, 1);
+        AtomicBoolean interruptStatusRestored = new AtomicBoolean();
+        Thread prefetchThread = new Thread(() -> {
+            prefetcher.run();
+            interruptStatusRestored.set(Thread.currentThread().isInterrupted());
+        });
+        prefetchThread.start();
+        while (Thread.State.WAITING != prefetchThread.getState()) {
+            Thread.sleep(10L);
+        }
+        prefetchThread.interrupt();
+        SQLException actual = null;
+        try {
+            while (null != prefetcher.next()) {
+                continue;
+            }
+        } catch (final SQLException ex) {
+            actual = ex;
+        }
+        assertThat(actual.getMessage(), is("Prefetch rows of federate query failed."));
+        prefetchThread.join();
+        assertTrue(interruptStatusRestored.get());
+        prefetcher.close();
+        verify(queryResult).close();
+    }
+    
+    private QueryResult mockEndlessQueryResult() throws SQLException {
+        QueryResult result = mock(QueryResult.class);
+        QueryResultMetaData metaData = mock(QueryResultMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(1);
+        when(result.getMetaData()).thenReturn(metaData);
+        when(result.next()).thenReturn(true);
+        when(result.getValue(1, Object.class)).thenReturn(1);
+        return result;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.federate.schema.table.generator;
+
+import org.apache.calcite.DataContext;
+import org.apache.calcite.jdbc.JavaTypeFactoryImpl;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rel.type.RelDataTypeFactory;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class FederateColocatedJoinSQLGeneratorTest {
+    
+    private static final List<String> ORDER_COLUMN_NAMES = Arrays.asList("order_id", "user_id", "status");
+    
+    private static final List<String> ORDER_ITEM_COLUMN_NAMES = Arrays.asList("item_id", "order_id", "user_id");
+    
+    private final RelDataTypeFactory typeFactory = new JavaTypeFactoryImpl();
+    
+    private final RexBuilder rexBuilder = new RexBuilder(typeFactory);
+    
+    private final RelDataType intType = typeFactory.createSqlType(SqlTypeName.INTEGER);
+    
+    @Test
+    public void assertGenerateWithoutFilters() {
+        FederateColocatedJoin join = new FederateColocatedJoin(Collections.emptyList(), new int[]{0, 2}, Collections.emptyList(), new int[]{0}, new int[]{0, 1}, new int[]{1, 2});
+        FederateColocatedJoinSQLGenerator generator = new FederateColocatedJoinSQLGenerator(mock(DataContext.class), join, ORDER_COLUMN_NAMES, ORDER_ITEM_COLUMN_NAMES);
+        assertTrue(generator.isExact());
+        assertThat(generator.generate("t_order_0", "t_order_item_0"), 
+                is("SELECT l.order_id, l.status, r.item_id FROM t_order_0 l INNER JOIN t_order_item_0 r ON l.order_id = r.order_id AND l.user_id = r.user_id"));
+    }
+    
+    @Test
+    public void assertGenerateWithFilters() {
+        RexNode orderFilter = rexBuilder.makeCall(SqlStdOperatorTable.GREATER_THAN, rexBuilder.makeInputRef(intType, 1), rexBuilder.makeExactLiteral(BigDecimal.TEN));
+        RexNode itemFilter = rexBuilder.makeCall(SqlStdOperatorTable.LESS_THAN, rexBuilder.makeInputRef(intType, 0), rexBuilder.makeExactLiteral(BigDecimal.ONE));
+        FederateColocatedJoin join = new FederateColocatedJoin(
+                Collections.singletonList(orderFilter), new int[]{0}, Collections.singletonList(itemFilter), new int[]{0}, new int[]{0}, new int[]{1});
+        FederateColocatedJoinSQLGenerator generator = new FederateColocatedJoinSQLGenerator(mock(DataContext.class), join, ORDER_COLUMN_NAMES, ORDER_ITEM_COLUMN_NAMES);
+        assertTrue(generator.isExact());
+        assertThat(generator.generate("t_order_0", "t_order_item_0"), 
+                is("SELECT l.order_id, r.item_id FROM t_order_0 l INNER JOIN t_order_item_0 r ON l.order_id = r.order_id WHERE l.user_id > 10 AND r.item_id < 1"));
+    }
+    
+    @Test
+    public void assertIsNotExactWithUnsupportedFilter() {
+        RexNode filter = rexBuilder.makeCall(SqlStdOperatorTable.EQUALS, rexBuilder.makeInputRef(intType, 0), rexBuilder.makeInputRef(intType, 1));
+        FederateColocatedJoin join = new FederateColocatedJoin(Collections.singletonList(filter), new int[]{0}, Collections.emptyList(), new int[]{0}, new int[]{0}, new int[]{1});
+        assertFalse(new FederateColocatedJoinSQLGenerator(mock(DataContext.class), join, ORDER_COLUMN_NAMES, ORDER_ITEM_COLUMN_NAMES).isExact());
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.federate.schema.table.generator;
+
+import org.apache.calcite.DataContext;
+import org.apache.calcite.jdbc.JavaTypeFactoryImpl;
+import org.apache.calcite.rel.RelFieldCollation;
+import org.apache.calcite.rel.RelFieldCollation.Direction;
+import org.apache.calcite.rel.RelFieldCollation.NullDirection;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rel.type.RelDataTypeFactory;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.calcite.util.DateString;
+import org.apache.calcite.util.TimestampString;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class FederateExecutionSQLGeneratorTest {
+    
+    private static final List<String> COLUMN_NAMES = Arrays.asList("order_id", "user_id", "status");
+    
+    private final RelDataTypeFactory typeFactory = new JavaTypeFactoryImpl();
+    
+    private final RexBuilder rexBuilder = new RexBuilder(typeFactory);
+    
+    private final RelDataType intType = typeFactory.createSqlType(SqlTypeName.INTEGER);
+    
+    private final RelDataType dateType = typeFactory.createSqlType(SqlTypeName.DATE);
+    
+    private final RelDataType timestampType = typeFactory.createSqlType(SqlTypeName.TIMESTAMP, 3);
+    
+    private final RelDataType varcharType = typeFactory.createSqlType(SqlTypeName.VARCHAR);
+    
+    @Test
+    public void assertGenerateWithoutFilters() {
+        FederateExecutionSQLGenerator generator = new FederateExecutionSQLGenerator(mock(DataContext.class), Collections.emptyList(), new int[]{0, 2}, COLUMN_NAMES);
+        assertThat(generator.generate("t_order_0"), is("SELECT order_id, status FROM t_order_0"));
+    }
+    
+    @Test
+    public void assertGenerateWithComparisonFilters() {
+        RexNode userIdFilter = rexBuilder.makeCall(SqlStdOperatorTable.GREATER_THAN, rexBuilder.makeInputRef(intType, 1), rexBuilder.makeExactLiteral(BigDecimal.TEN));
+        RexNode statusFilter = rexBuilder.makeCall(SqlStdOperatorTable.EQUALS, rexBuilder.makeInputRef(varcharType, 2), rexBuilder.makeLiteral("O'K"));
+        FederateExecutionSQLGenerator generator = new FederateExecutionSQLGenerator(mock(DataContext.class), Arrays.asList(userIdFilter, statusFilter), null, COLUMN_NAMES);
+        assertThat(generator.generate("t_order_0"), is("SELECT order_id, user_id, status FROM t_order_0 WHERE user_id > 10 AND status = 'O''K'"));
+    }
+    
+    @Test
+    public void assertGenerateWithDynamicParameter() {
+        DataContext root = mock(DataContext.class);
+        when(root.get("?0")).thenReturn(1);
+        RexNode filter = rexBuilder.makeCall(SqlStdOperatorTable.EQUALS, rexBuilder.makeInputRef(intType, 0), rexBuilder.makeDynamicParam(intType, 0));
+        FederateExecutionSQLGenerator generator = new FederateExecutionSQLGenerator(root, Collections.singletonList(filter), new int[]{0}, COLUMN_NAMES);
+        assertThat(generator.generate("t_order_0"), is("SELECT order_id FROM t_order_0 WHERE order_id = 1"));
+    }
+    
+    @Test
+    public void assertGenerateWithPartialConjunction() {
+        RexNode pushable = rexBuilder.makeCall(SqlStdOperatorTable.LESS_THAN, rexBuilder.makeInputRef(intType, 0), rexBuilder.makeExactLiteral(BigDecimal.ONE));
+        RexNode unsupported = rexBuilder.makeCall(SqlStdOperatorTable.EQUALS, rexBuilder.makeInputRef(intType, 0), rexBuilder.makeInputRef(intType, 1));
+        RexNode filter = rexBuilder.makeCall(SqlStdOperatorTable.AND, pushable, unsupported);
+        FederateExecutionSQLGenerator generator = new FederateExecutionSQLGenerator(mock(DataContext.class), Collections.singletonList(filter), new int[]{0}, COLUMN_NAMES);
+        assertThat(generator.generate("t_order_0"), is("SELECT order_id FROM t_order_0 WHERE (order_id < 1)"));
+    }
+    
+    @Test
+    public void assertGenerateWithoutNegatedCharacterComparison() {
+        RexNode equals = rexBuilder.makeCall(SqlStdOperatorTable.EQUALS, rexBuilder.makeInputRef(varcharType, 2), rexBuilder.makeLiteral("OK"));
+        RexNode filter = rexBuilder.makeCall(SqlStdOperatorTable.NOT, equals);
+        FederateExecutionSQLGenerator generator = new FederateExecutionSQLGenerator(mock(DataContext.class), Collections.singletonList(filter), new int[]{0}, COLUMN_NAMES);
+        assertThat(generator.generate("t_order_0"), is("SELECT order_id FROM t_order_0"));
+    }
+    
+    @Test
+    public void assertGenerateWithInCondition() {
+        FederateExecutionSQLGenerator generator = new FederateExecutionSQLGenerator(mock(DataContext.class), Collections.emptyList(), new int[]{0}, COLUMN_NAMES, 
+                new FederateInCondition(1, SqlTypeName.BIGINT, Arrays.asList(1L, 2L)), null);
+        assertThat(generator.generate("t_order_0"), is("SELECT order_id FROM t_order_0 WHERE user_id IN (1, 2)"));
+    }
+    
+    @Test
+    public void assertGenerateWithUnsupportedInConditionValue() {
+        FederateExecutionSQLGenerator generator = new FederateExecutionSQLGenerator(mock(DataContext.class), Collections.emptyList(), new int[]{0}, COLUMN_NAMES, 
+                new FederateInCondition(1, SqlTypeName.BIGINT, Arrays.asList(1L, new Object())), null);
+        assertThat(generator.generate("t_order_0"), is("SELECT order_id FROM t_order_0"));
+    }
+    
+    @Test
+    public void assertGenerateWithLimit() {
+        FederateSortLimit sortLimit = new FederateSortLimit(Collections.emptyList(), null, rexBuilder.makeExactLiteral(BigDecimal.TEN));
+        FederateExecutionSQLGenerator generator = new FederateExecutionSQLGenerator(mock(DataContext.class), Collections.emptyList(), new int[]{0}, COLUMN_NAMES, null, sortLimit);
+        assertThat(generator.generate("t_order_0"), is("SELECT order_id FROM t_order_0 LIMIT 10"));
+    }
+    
+    @Test
+    public void assertGenerateWithSortAndLimit() {
+        RexNode filter = rexBuilder.makeCall(SqlStdOperatorTable.GREATER_THAN, rexBuilder.makeInputRef(intType, 1), rexBuilder.makeExactLiteral(BigDecimal.ONE));
+        FederateSortLimit sortLimit = new FederateSortLimit(Arrays.asList(new RelFieldCollation(1, Direction.DESCENDING), new RelFieldCollation(0, Direction.ASCENDING, NullDirection.LAST)), 
+                rexBuilder.makeExactLiteral(BigDecimal.ONE), rexBuilder.makeExactLiteral(BigDecimal.TEN));
+        FederateExecutionSQLGenerator generator = new FederateExecutionSQLGenerator(mock(DataContext.class), Collections.singletonList(filter), new int[]{0}, COLUMN_NAMES, null, sortLimit);
+        assertThat(generator.generate("t_order_0"), is("SELECT order_id FROM t_order_0 WHERE user_id > 1 "
+                + "ORDER BY CASE WHEN user_id IS NULL THEN 0 ELSE 1 END, user_id DESC, CASE WHEN order_id IS NULL THEN 1 ELSE 0 END, order_id ASC LIMIT 11"));
+    }
+    
+    @Test
+    public void assertGenerateWithDynamicLimit() {
+        DataContext root = mock(DataContext.class);
+        when(root.get("?0")).thenReturn(5);
+        FederateSortLimit sortLimit = new FederateSortLimit(Collections.emptyList(), null, rexBuilder.makeDynamicParam(intType, 0));
+        FederateExecutionSQLGenerator generator = new FederateExecutionSQLGenerator(root, Collections.emptyList(), new int[]{0}, COLUMN_NAMES, null, sortLimit);
+        assertThat(generator.generate("t_order_0"), is("SELECT order_id FROM t_order_0 LIMIT 5"));
+    }
+    
+    @Test
+    public void assertGenerateWithoutLimitForCharacterComparison() {
+        RexNode filter = rexBuilder.makeCall(SqlStdOperatorTable.EQUALS, rexBuilder.makeInputRef(varcharType, 2), rexBuilder.makeLiteral("OK"));
+        FederateSortLimit sortLimit = new FederateSortLimit(Collections.emptyList(), null, rexBuilder.makeExactLiteral(BigDecimal.TEN));
+        FederateExecutionSQLGenerator generator = new FederateExecutionSQLGenerator(mock(DataContext.class), Collections.singletonList(filter), new int[]{0}, COLUMN_NAMES, null, sortLimit);
+        assertThat(generator.generate("t_order_0"), is("SELECT order_id FROM t_order_0 WHERE status = 'OK'"));
+    }
+    
+    @Test
+    public void assertGenerateWithDateComparison() {
+        RexNode filter = rexBuilder.makeCall(SqlStdOperatorTable.GREATER_THAN, rexBuilder.makeInputRef(dateType, 2), rexBuilder.makeDateLiteral(new DateString("2021-01-01")));
+        FederateExecutionSQLGenerator generator = new FederateExecutionSQLGenerator(mock(DataContext.class), Collections.singletonList(filter), new int[]{0}, COLUMN_NAMES);
+        assertThat(generator.generate("t_order_0"), is("SELECT order_id FROM t_order_0 WHERE status > DATE '2021-01-01'"));
+    }
+    
+    @Test
+    public void assertGenerateWithTimestampComparisonAndLimit() {
+        RexNode filter = rexBuilder.makeCall(SqlStdOperatorTable.LESS_THAN, 
+                rexBuilder.makeInputRef(timestampType, 2), rexBuilder.makeTimestampLiteral(new TimestampString("2021-01-01 10:20:30.5"), 3));
+        FederateSortLimit sortLimit = new FederateSortLimit(Collections.emptyList(), null, rexBuilder.makeExactLiteral(BigDecimal.TEN));
+        FederateExecutionSQLGenerator generator = new FederateExecutionSQLGenerator(mock(DataContext.class), Collections.singletonList(filter), new int[]{0}, COLUMN_NAMES, null, sortLimit);
+        assertThat(generator.generate("t_order_0"), is("SELECT order_id FROM t_order_0 WHERE status < TIMESTAMP '2021-01-01 10:20:30.500' LIMIT 10"));
+    }
+    
+    @Test
+    public void assertGenerateWithDynamicDateParameter() {
+        DataContext root = mock(DataContext.class);
+        when(root.get("?0")).thenReturn(18628);
+        RexNode filter = rexBuilder.makeCall(SqlStdOperatorTable.EQUALS, rexBuilder.makeInputRef(dateType, 2), rexBuilder.makeDynamicParam(dateType, 0));
+        FederateExecutionSQLGenerator generator = new FederateExecutionSQLGenerator(root, Collections.singletonList(filter), new int[]{0}, COLUMN_NAMES);
+        assertThat(generator.generate("t_order_0"), is("SELECT order_id FROM t_order_0 WHERE status = DATE '2021-01-01'"));
+    }
+    
+    @Test
+    public void assertGenerateWithDateInCondition() {
+        FederateExecutionSQLGenerator generator = new FederateExecutionSQLGenerator(mock(DataContext.class), Collections.emptyList(), new int[]{0}, COLUMN_NAMES, 
+                new FederateInCondition(2, SqlTypeName.DATE, Collections.singletonList(18628)), null);
+        assertThat(generator.generate("t_order_0"), is("SELECT order_id FROM t_order_0 WHERE status IN (DATE '2021-01-01')"));
+    }
+}
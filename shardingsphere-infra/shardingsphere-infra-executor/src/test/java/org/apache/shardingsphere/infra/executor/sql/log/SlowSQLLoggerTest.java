@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.log;
+
+import org.apache.shardingsphere.infra.executor.sql.trace.SQLExecutionPhase;
+import org.apache.shardingsphere.infra.executor.sql.trace.SQLExecutionTrace;
+import org.apache.shardingsphere.infra.executor.sql.trace.ShardExecutionTrace;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public final class SlowSQLLoggerTest {
+    
+    @Test
+    public void assertFormat() {
+        SQLExecutionTrace trace = new SQLExecutionTrace();
+        trace.addSQL("SELECT * FROM t_order");
+        trace.record(SQLExecutionPhase.PARSE, TimeUnit.MICROSECONDS.toNanos(10L));
+        trace.record(SQLExecutionPhase.EXECUTE, TimeUnit.MICROSECONDS.toNanos(300L));
+        trace.record(SQLExecutionPhase.EXECUTE, TimeUnit.MICROSECONDS.toNanos(200L));
+        trace.increaseRowCount(2L);
+        trace.addShardTrace(new ShardExecutionTrace("ds_0", "SELECT * FROM t_order_0", TimeUnit.MICROSECONDS.toNanos(400L), -1L));
+        trace.addShardTrace(new ShardExecutionTrace("ds_1", "UPDATE t_order_1 SET status = 1", TimeUnit.MICROSECONDS.toNanos(100L), 3L));
+        assertThat(SlowSQLLogger.format(trace, TimeUnit.MILLISECONDS.toNanos(12L)),
+                is("elapsed_ms=12 parse_us=10 bind_us=0 route_us=0 rewrite_us=0 connection_us=0 execute_us=500 merge_us=0 write_us=0 rows=2"
+                + " shards=2 [data_source=ds_0 elapsed_us=400 sql=SELECT * FROM t_order_0] [data_source=ds_1 elapsed_us=100 rows=3 sql=UPDATE t_order_1 SET status = 1]"
+                + " logic_sql=SELECT * FROM t_order"));
+    }
+    
+    @Test
+    public void assertNotLogIfFast() {
+        assertFalse(SlowSQLLogger.logIfSlow(new SQLExecutionTrace(), TimeUnit.MINUTES.toMillis(1L)));
+    }
+}
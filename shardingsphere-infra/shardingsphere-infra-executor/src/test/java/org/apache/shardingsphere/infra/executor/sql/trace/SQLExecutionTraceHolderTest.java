@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.trace;
+
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorDataMap;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SQLExecutionTraceHolderTest {
+    
+    @After
+    public void tearDown() {
+        SQLExecutionTraceHolder.finish();
+    }
+    
+    @Test
+    public void assertPhaseIgnoredWithoutTrace() {
+        assertThat(SQLExecutionTraceHolder.begin(), is(0L));
+        SQLExecutionTraceHolder.end(SQLExecutionPhase.PARSE, 0L);
+        assertFalse(SQLExecutionTraceHolder.get().isPresent());
+    }
+    
+    @Test
+    public void assertRecordPhase() {
+        SQLExecutionTraceHolder.start();
+        long beginNanos = SQLExecutionTraceHolder.begin();
+        assertTrue(beginNanos > 0L);
+        SQLExecutionTraceHolder.end(SQLExecutionPhase.ROUTE, beginNanos);
+        Optional<SQLExecutionTrace> actual = SQLExecutionTraceHolder.get(ExecutorDataMap.getValue());
+        assertTrue(actual.isPresent());
+        assertTrue(actual.get().getPhaseNanos(SQLExecutionPhase.ROUTE) >= 0L);
+        assertThat(actual.get().getPhaseNanos(SQLExecutionPhase.PARSE), is(0L));
+    }
+    
+    @Test
+    public void assertFinish() {
+        SQLExecutionTraceHolder.start();
+        assertTrue(SQLExecutionTraceHolder.finish().isPresent());
+        assertFalse(SQLExecutionTraceHolder.get().isPresent());
+        assertFalse(SQLExecutionTraceHolder.finish().isPresent());
+    }
+}
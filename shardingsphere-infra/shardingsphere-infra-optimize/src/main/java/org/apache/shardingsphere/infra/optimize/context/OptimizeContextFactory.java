@@ -51,6 +51,7 @@ import org.apache.shardingsphere.infra.database.type.dialect.SQL92DatabaseType;
 import org.apache.shardingsphere.infra.database.type.dialect.SQLServerDatabaseType;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.apache.shardingsphere.infra.optimize.core.metadata.FederateSchemaMetadatas;
 import org.apache.shardingsphere.infra.optimize.core.plan.PlannerInitializer;
 
@@ -95,6 +96,26 @@ public final class OptimizeContextFactory {
                 .withParserFactory(SqlParserImpl.FACTORY);
     }
     
+    private OptimizeContextFactory(final OptimizeContextFactory optimizeContextFactory, final FederateSchemaMetadatas schemaMetadatas) {
+        properties.putAll(optimizeContextFactory.properties);
+        typeFactory = optimizeContextFactory.typeFactory;
+        cluster = optimizeContextFactory.cluster;
+        this.schemaMetadatas = schemaMetadatas;
+        connectionConfig = optimizeContextFactory.connectionConfig;
+        parserConfig = optimizeContextFactory.parserConfig;
+    }
+    
+    /**
+     * Copy optimize context factory with federate schema metadata of the schema renewed.
+     *
+     * @param schemaName schema name
+     * @param tables tables of the schema
+     * @return copied optimize context factory
+     */
+    public OptimizeContextFactory copyWith(final String schemaName, final Map<String, TableMetaData> tables) {
+        return new OptimizeContextFactory(this, schemaMetadatas.copyWith(schemaName, tables));
+    }
+    
     private void initProperties(final DatabaseType databaseType) {
         // TODO Logic could be improved.
         if (databaseType instanceof MySQLDatabaseType || databaseType == null) {
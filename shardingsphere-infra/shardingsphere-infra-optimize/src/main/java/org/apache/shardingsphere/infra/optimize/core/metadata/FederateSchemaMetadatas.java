@@ -18,9 +18,11 @@
 package org.apache.shardingsphere.infra.optimize.core.metadata;
 
 import lombok.Getter;
+import lombok.Synchronized;
 import org.apache.commons.collections4.map.LinkedMap;
 import org.apache.shardingsphere.infra.database.DefaultSchema;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 
 import java.util.Map;
 import java.util.Map.Entry;
@@ -31,12 +33,60 @@ import java.util.Map.Entry;
 @Getter
 public final class FederateSchemaMetadatas {
     
-    private final Map<String, FederateSchemaMetadata> schemas = new LinkedMap<>();
+    private volatile Map<String, FederateSchemaMetadata> schemas;
     
     public FederateSchemaMetadatas(final Map<String, ShardingSphereMetaData> metaDataMap) {
+        Map<String, FederateSchemaMetadata> loadedSchemas = new LinkedMap<>();
         for (Entry<String, ShardingSphereMetaData> each : metaDataMap.entrySet()) {
-            schemas.put(each.getKey(), new FederateSchemaMetadata(each.getKey(), each.getValue().getSchema().getTables()));
+            loadedSchemas.put(each.getKey(), new FederateSchemaMetadata(each.getKey(), each.getValue().getSchema().getTables()));
         }
+        schemas = loadedSchemas;
+    }
+    
+    private FederateSchemaMetadatas(final FederateSchemaMetadatas schemaMetadatas, final String schemaName, final Map<String, TableMetaData> tables) {
+        Map<String, FederateSchemaMetadata> copiedSchemas = new LinkedMap<>(schemaMetadatas.schemas);
+        copiedSchemas.put(schemaName, new FederateSchemaMetadata(schemaName, tables));
+        schemas = copiedSchemas;
+    }
+    
+    /**
+     * Copy schema metadatas with the schema renewed.
+     * 
+     * <p>These schema metadatas are unchanged, so the copy can be published together with the meta data it is built from.</p>
+     * 
+     * @param schemaName schema name
+     * @param tables tables of the schema
+     * @return copied schema metadatas
+     */
+    public FederateSchemaMetadatas copyWith(final String schemaName, final Map<String, TableMetaData> tables) {
+        return new FederateSchemaMetadatas(this, schemaName, tables);
+    }
+    
+    /**
+     * Renew schema metadata.
+     * 
+     * <p>The schemas are copied on write, so readers never observe a half updated map.</p>
+     * 
+     * @param schemaName schema name
+     * @param tables tables of the schema
+     */
+    @Synchronized
+    public void renew(final String schemaName, final Map<String, TableMetaData> tables) {
+        Map<String, FederateSchemaMetadata> result = new LinkedMap<>(schemas);
+        result.put(schemaName, new FederateSchemaMetadata(schemaName, tables));
+        schemas = result;
+    }
+    
+    /**
+     * Remove schema metadata.
+     * 
+     * @param schemaName schema name
+     */
+    @Synchronized
+    public void remove(final String schemaName) {
+        Map<String, FederateSchemaMetadata> result = new LinkedMap<>(schemas);
+        result.remove(schemaName);
+        schemas = result;
     }
     
     /**
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.optimize.core.metadata;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.calcite.rel.type.RelDataTypeFactory;
 import org.apache.calcite.rel.type.RelDataTypeImpl;
@@ -24,12 +25,14 @@ import org.apache.calcite.rel.type.RelDataTypeSystem;
 import org.apache.calcite.rel.type.RelProtoDataType;
 import org.apache.calcite.sql.type.SqlTypeFactoryImpl;
 import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Federate table metadata.
@@ -45,6 +48,9 @@ public final class FederateTableMetadata {
     
     private final List<String> columnNames = new ArrayList<>();
     
+    @Getter(AccessLevel.NONE)
+    private final Map<DataNode, Long> dataNodeRowCounts = new ConcurrentHashMap<>();
+    
     public FederateTableMetadata(final String name, final TableMetaData tableMetaData) {
         this.name = name;
         relProtoDataType = createRelDataType(tableMetaData);
@@ -59,4 +65,23 @@ public final class FederateTableMetadata {
         }
         return RelDataTypeImpl.proto(fieldInfo.build());
     }
+    
+    /**
+     * Update row count observed from a full scan of an actual table.
+     *
+     * @param dataNode data node of actual table
+     * @param rowCount row count
+     */
+    public void updateRowCount(final DataNode dataNode, final long rowCount) {
+        dataNodeRowCounts.put(dataNode, rowCount);
+    }
+    
+    /**
+     * Get row count, which is the sum of row counts observed from data nodes.
+     *
+     * @return row count, null if no data node has been fully scanned
+     */
+    public Double getRowCount() {
+        return dataNodeRowCounts.isEmpty() ? null : (double) dataNodeRowCounts.values().stream().mapToLong(Long::longValue).sum();
+    }
 }
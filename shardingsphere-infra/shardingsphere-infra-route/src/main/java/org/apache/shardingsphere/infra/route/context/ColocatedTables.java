@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.route.context;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Co-located tables.
+ * 
+ * <p>Rows of co-located tables which are equal on join columns are always stored in data nodes of the same data node group,
+ * so co-located tables joined on each pair of their join columns in the same position can be joined in each data node group separately.
+ * Join columns and data node groups are keyed by lower case logic table names.</p>
+ */
+@RequiredArgsConstructor
+@Getter
+public final class ColocatedTables {
+    
+    private final Map<String, List<String>> joinColumns;
+    
+    private final Collection<Map<String, DataNode>> dataNodeGroups;
+    
+    /**
+     * Judge whether contains logic table.
+     * 
+     * @param logicTable logic table name
+     * @return contains logic table or not
+     */
+    public boolean containsTable(final String logicTable) {
+        return joinColumns.containsKey(logicTable.toLowerCase());
+    }
+    
+    /**
+     * Get join columns.
+     * 
+     * @param logicTable logic table name
+     * @return join column names
+     */
+    public List<String> getJoinColumns(final String logicTable) {
+        return joinColumns.get(logicTable.toLowerCase());
+    }
+}
@@ -46,6 +46,8 @@ public final class RouteContext {
     
     private final Map<Class<? extends ShardingSphereRule>, RouteStageContext> routeStageContexts = new LinkedHashMap<>();
     
+    private final Collection<ColocatedTables> colocatedTables = new LinkedList<>();
+    
     @Setter
     private boolean isFederated;
     
@@ -136,6 +138,17 @@ public final class RouteContext {
         return Optional.empty();
     }
     
+    /**
+     * Find co-located tables which contain both logic tables.
+     *
+     * @param logicTableName logic table name
+     * @param otherLogicTableName other logic table name
+     * @return co-located tables
+     */
+    public Optional<ColocatedTables> findColocatedTables(final String logicTableName, final String otherLogicTableName) {
+        return colocatedTables.stream().filter(each -> each.containsTable(logicTableName) && each.containsTable(otherLogicTableName)).findFirst();
+    }
+    
     /**
      * Put route unit.
      *
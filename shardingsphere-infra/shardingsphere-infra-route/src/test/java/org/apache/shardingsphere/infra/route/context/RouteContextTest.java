@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.route.context;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import org.junit.Before;
 import org.junit.Test;
@@ -111,4 +112,13 @@ public final class RouteContextTest {
     public void assertTableMapperNotFound() {
         assertFalse(singleRouteContext.findTableMapper(DATASOURCE_NAME_1, ACTUAL_TABLE).isPresent());
     }
+    
+    @Test
+    public void assertFindColocatedTables() {
+        List<String> joinColumns = Collections.singletonList("order_id");
+        ColocatedTables colocatedTables = new ColocatedTables(ImmutableMap.of("t_order", joinColumns, "t_order_item", joinColumns), Collections.emptyList());
+        multiRouteContext.getColocatedTables().add(colocatedTables);
+        assertThat(multiRouteContext.findColocatedTables("T_ORDER", "t_order_item"), is(Optional.of(colocatedTables)));
+        assertFalse(multiRouteContext.findColocatedTables("t_order", "t_user").isPresent());
+    }
 }
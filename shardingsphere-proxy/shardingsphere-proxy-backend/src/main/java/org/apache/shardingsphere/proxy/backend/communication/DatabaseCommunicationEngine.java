@@ -21,20 +21,34 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.binder.LogicSQL;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.kernel.KernelProcessor;
 import org.apache.shardingsphere.infra.context.metadata.refresher.MetadataRefreshEngine;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.update.UpdateResult;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.JDBCDriverType;
+import org.apache.shardingsphere.infra.executor.sql.trace.SQLExecutionPhase;
+import org.apache.shardingsphere.infra.executor.sql.trace.SQLExecutionTraceHolder;
 import org.apache.shardingsphere.infra.merge.MergeEngine;
+import org.apache.shardingsphere.infra.merge.engine.ResultProcessEngine;
+import org.apache.shardingsphere.infra.merge.engine.decorator.ResultDecoratorEngine;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.rule.type.DataNodeContainedRule;
+import org.apache.shardingsphere.infra.spi.ordered.OrderedSPIRegistry;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.SessionState;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.SessionStateRecorder;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.SessionVariable;
+import org.apache.shardingsphere.proxy.backend.communication.memory.MemoryPool;
+import org.apache.shardingsphere.proxy.backend.communication.memory.MemoryReservation;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.exception.MemoryLimitExceededException;
 import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseCell;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseCellReader;
 import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
 import org.apache.shardingsphere.proxy.backend.response.data.impl.BinaryQueryResponseCell;
 import org.apache.shardingsphere.proxy.backend.response.data.impl.TextQueryResponseCell;
@@ -51,6 +65,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
@@ -59,7 +74,7 @@ import java.util.stream.Collectors;
  * Database communication engine.
  */
 @RequiredArgsConstructor
-public final class DatabaseCommunicationEngine {
+public final class DatabaseCommunicationEngine implements QueryResponseCellReader {
     
     private final String driverType;
     
@@ -75,8 +90,18 @@ public final class DatabaseCommunicationEngine {
     
     private MergedResult mergedResult;
     
+    private boolean passthrough;
+    
     private ProxyLockEngine proxyLockEngine;
     
+    private int connectionId;
+    
+    private MemoryReservation memoryReservation;
+    
+    private long rowCount;
+    
+    private final SessionState sessionState;
+    
     private final Collection<Statement> cachedStatements = new CopyOnWriteArrayList<>();
     
     private final Collection<ResultSet> cachedResultSets = new CopyOnWriteArrayList<>();
@@ -85,6 +110,8 @@ public final class DatabaseCommunicationEngine {
         this.driverType = driverType;
         this.metaData = metaData;
         this.logicSQL = logicSQL;
+        connectionId = backendConnection.getConnectionId();
+        sessionState = backendConnection.getSessionState();
         proxySQLExecutor = new ProxySQLExecutor(driverType, backendConnection, this);
         kernelProcessor = new KernelProcessor();
         proxyLockEngine = new ProxyLockEngine(proxySQLExecutor, new MetadataRefreshEngine(metaData,
@@ -110,6 +137,19 @@ public final class DatabaseCommunicationEngine {
         cachedResultSets.add(resultSet);
     }
     
+    /**
+     * Reserve memory of query result rows while they are being loaded.
+     *
+     * @param size size to be reserved in bytes
+     * @throws MemoryLimitExceededException memory limit exceeded exception
+     */
+    public synchronized void reserveMemory(final long size) {
+        if (null == memoryReservation) {
+            memoryReservation = MemoryPool.getInstance().register(connectionId, logicSQL.getSql());
+        }
+        memoryReservation.reserve(size);
+    }
+    
     /**
      * Execute to database.
      *
@@ -122,21 +162,54 @@ public final class DatabaseCommunicationEngine {
             return new UpdateResponseHeader(executionContext.getSqlStatementContext().getSqlStatement());
         }
         proxySQLExecutor.checkExecutePrerequisites(executionContext);
-        Collection<ExecuteResult> executeResults = proxyLockEngine.execute(executionContext);
+        closeMemoryReservation();
+        if (isMultipleResultsQuery(executionContext)) {
+            memoryReservation = MemoryPool.getInstance().admit(connectionId, logicSQL.getSql());
+        }
+        Collection<ExecuteResult> executeResults = execute(executionContext);
         ExecuteResult executeResultSample = executeResults.iterator().next();
         return executeResultSample instanceof QueryResult
                 ? processExecuteQuery(executionContext, executeResults.stream().map(each -> (QueryResult) each).collect(Collectors.toList()), (QueryResult) executeResultSample)
                 : processExecuteUpdate(executionContext, executeResults.stream().map(each -> (UpdateResult) each).collect(Collectors.toList()));
     }
     
+    private Collection<ExecuteResult> execute(final ExecutionContext executionContext) throws SQLException {
+        if (!ProxyContext.getInstance().getMetaDataContexts().getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_BACKEND_CONNECTION_MULTIPLEXING_ENABLED)) {
+            return proxyLockEngine.execute(executionContext);
+        }
+        Map<String, SessionVariable> variables = sessionState.getVariables();
+        SessionStateRecorder.record(sessionState, logicSQL.getSqlStatementContext().getSqlStatement(), logicSQL.getSql());
+        try {
+            return proxyLockEngine.execute(executionContext);
+        } catch (final SQLException ex) {
+            sessionState.restore(variables);
+            throw ex;
+        }
+    }
+    
+    private boolean isMultipleResultsQuery(final ExecutionContext executionContext) {
+        return executionContext.getSqlStatementContext() instanceof SelectStatementContext && (executionContext.getExecutionUnits().size() > 1 || executionContext.getRouteContext().isFederated());
+    }
+    
     private QueryResponseHeader processExecuteQuery(final ExecutionContext executionContext, final List<QueryResult> queryResults, final QueryResult queryResultSample) throws SQLException {
         queryHeaders = createQueryHeaders(executionContext, queryResultSample);
         mergedResult = mergeQuery(executionContext.getSqlStatementContext(), queryResults);
+        passthrough = isPassthrough(queryResults);
         return new QueryResponseHeader(queryHeaders);
     }
     
+    private boolean isPassthrough(final List<QueryResult> queryResults) {
+        return !isBinary() && 1 == queryResults.size() && metaData.getResource().getDatabaseType() instanceof MySQLDatabaseType
+                && ProxyContext.getInstance().getMetaDataContexts().getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_BACKEND_QUERY_PASSTHROUGH_ENABLED)
+                && !isResultDecorated();
+    }
+    
+    private boolean isResultDecorated() {
+        return OrderedSPIRegistry.getRegisteredServices(metaData.getRuleMetaData().getRules(), ResultProcessEngine.class).values().stream().anyMatch(each -> each instanceof ResultDecoratorEngine);
+    }
+    
     private List<QueryHeader> createQueryHeaders(final ExecutionContext executionContext, final QueryResult queryResultSample) throws SQLException {
-        int columnCount = getColumnCount(executionContext, queryResultSample);
+        int columnCount = getQueryColumnCount(executionContext, queryResultSample);
         List<QueryHeader> result = new ArrayList<>(columnCount);
         for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
             result.add(createQueryHeader(executionContext, queryResultSample, metaData, columnIndex));
@@ -151,7 +224,7 @@ public final class DatabaseCommunicationEngine {
                 : QueryHeaderBuilder.build(queryResultSample.getMetaData(), metaData, columnIndex);
     }
     
-    private int getColumnCount(final ExecutionContext executionContext, final QueryResult queryResultSample) throws SQLException {
+    private int getQueryColumnCount(final ExecutionContext executionContext, final QueryResult queryResultSample) throws SQLException {
         return hasSelectExpandProjections(executionContext.getSqlStatementContext())
                 ? ((SelectStatementContext) executionContext.getSqlStatementContext()).getProjectionsContext().getExpandProjections().size() : queryResultSample.getMetaData().getColumnCount();
     }
@@ -164,7 +237,10 @@ public final class DatabaseCommunicationEngine {
     private MergedResult mergeQuery(final SQLStatementContext<?> sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
         MergeEngine mergeEngine = new MergeEngine(ProxyContext.getInstance().getMetaDataContexts().getMetaData(metaData.getName()).getResource().getDatabaseType(),
                 metaData.getSchema(), ProxyContext.getInstance().getMetaDataContexts().getProps(), metaData.getRuleMetaData().getRules());
-        return mergeEngine.merge(queryResults, sqlStatementContext);
+        long beginNanos = SQLExecutionTraceHolder.begin();
+        MergedResult result = mergeEngine.merge(queryResults, sqlStatementContext);
+        SQLExecutionTraceHolder.end(SQLExecutionPhase.MERGE, beginNanos);
+        return result;
     }
     
     private UpdateResponseHeader processExecuteUpdate(final ExecutionContext executionContext, final Collection<UpdateResult> updateResults) {
@@ -192,7 +268,11 @@ public final class DatabaseCommunicationEngine {
      * @throws SQLException SQL exception
      */
     public boolean next() throws SQLException {
-        return null != mergedResult && mergedResult.next();
+        boolean result = null != mergedResult && mergedResult.next();
+        if (result) {
+            rowCount++;
+        }
+        return result;
     }
     
     /**
@@ -205,7 +285,7 @@ public final class DatabaseCommunicationEngine {
         List<QueryResponseCell> cells = new ArrayList<>(queryHeaders.size());
         boolean isBinary = isBinary();
         for (int columnIndex = 1; columnIndex <= queryHeaders.size(); columnIndex++) {
-            Object data = mergedResult.getValue(columnIndex, Object.class);
+            Object data = getCellData(columnIndex);
             if (isBinary) {
                 cells.add(new BinaryQueryResponseCell(queryHeaders.get(columnIndex - 1).getColumnType(), data));
             } else {
@@ -219,12 +299,24 @@ public final class DatabaseCommunicationEngine {
         return JDBCDriverType.PREPARED_STATEMENT.equals(driverType);
     }
     
+    @Override
+    public int getColumnCount() {
+        return queryHeaders.size();
+    }
+    
+    @Override
+    public Object getCellData(final int columnIndex) throws SQLException {
+        return mergedResult.getValue(columnIndex, passthrough ? byte[].class : Object.class);
+    }
+    
     /**
      * Close database communication engine.
      *
      * @throws SQLException SQL exception
      */
     public void close() throws SQLException {
+        closeMemoryReservation();
+        reportRowCount();
         Collection<SQLException> result = new LinkedList<>();
         result.addAll(closeResultSets());
         result.addAll(closeStatements());
@@ -236,6 +328,20 @@ public final class DatabaseCommunicationEngine {
         throw ex;
     }
     
+    private void reportRowCount() {
+        if (0 != rowCount) {
+            SQLExecutionTraceHolder.get().ifPresent(optional -> optional.increaseRowCount(rowCount));
+            rowCount = 0;
+        }
+    }
+    
+    private synchronized void closeMemoryReservation() {
+        if (null != memoryReservation) {
+            memoryReservation.close();
+            memoryReservation = null;
+        }
+    }
+    
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
         for (ResultSet each : cachedResultSets) {
@@ -23,6 +23,8 @@ import org.apache.shardingsphere.infra.binder.LogicSQL;
 import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.JDBCDriverType;
+import org.apache.shardingsphere.infra.executor.sql.trace.SQLExecutionPhase;
+import org.apache.shardingsphere.infra.executor.sql.trace.SQLExecutionTraceHolder;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
@@ -83,7 +85,10 @@ public final class DatabaseCommunicationEngineFactory {
     }
     
     private LogicSQL createLogicSQL(final SQLStatement sqlStatement, final String sql, final List<Object> parameters, final ShardingSphereMetaData metaData) {
+        long beginNanos = SQLExecutionTraceHolder.begin();
         SQLStatementContext<?> sqlStatementContext = SQLStatementContextFactory.newInstance(metaData.getSchema(), parameters, sqlStatement);
+        SQLExecutionTraceHolder.end(SQLExecutionPhase.BIND, beginNanos);
+        SQLExecutionTraceHolder.get().ifPresent(optional -> optional.addSQL(sql));
         return new LogicSQL(sqlStatementContext, sql, parameters);
     }
 }
@@ -23,12 +23,15 @@ import com.google.common.collect.Multimap;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.shardingsphere.db.protocol.parameter.TypeUnspecifiedSQLParameter;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.federate.execute.FederateExecutor;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.ExecutorJDBCManager;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
+import org.apache.shardingsphere.infra.executor.sql.trace.SQLExecutionPhase;
+import org.apache.shardingsphere.infra.executor.sql.trace.SQLExecutionTraceHolder;
 import org.apache.shardingsphere.infra.metadata.user.Grantee;
 import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
 import org.apache.shardingsphere.infra.spi.typed.TypedSPIRegistry;
@@ -50,6 +53,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Backend connection.
@@ -82,6 +86,13 @@ public final class BackendConnection implements ExecutorJDBCManager {
     
     private final ConnectionStatus connectionStatus = new ConnectionStatus();
     
+    private final SessionState sessionState = new SessionState();
+    
+    private final AtomicInteger pendingCommandCount = new AtomicInteger();
+    
+    @Setter
+    private volatile boolean resourceHeld;
+    
     private final TransactionStatus transactionStatus;
     
     public BackendConnection(final TransactionType initialTransactionType) {
@@ -102,8 +113,11 @@ public final class BackendConnection implements ExecutorJDBCManager {
     
     @Override
     public List<Connection> getConnections(final String dataSourceName, final int connectionSize, final ConnectionMode connectionMode) throws SQLException {
-        return transactionStatus.isInTransaction()
-                ? getConnectionsWithTransaction(dataSourceName, connectionSize, connectionMode) : getConnectionsWithoutTransaction(dataSourceName, connectionSize, connectionMode);
+        long beginNanos = SQLExecutionTraceHolder.begin();
+        List<Connection> result = transactionStatus.isInTransaction() || resourceHeld || isSessionPinned()
+                ? getConnectionsWithTransaction(dataSourceName, connectionSize, connectionMode) : acquireConnections(dataSourceName, connectionSize, connectionMode);
+        SQLExecutionTraceHolder.end(SQLExecutionPhase.CONNECTION_ACQUIRE, beginNanos);
+        return result;
     }
     
     private List<Connection> getConnectionsWithTransaction(final String dataSourceName, final int connectionSize, final ConnectionMode connectionMode) throws SQLException {
@@ -114,41 +128,53 @@ public final class BackendConnection implements ExecutorJDBCManager {
         List<Connection> result;
         if (connections.size() >= connectionSize) {
             result = new ArrayList<>(connections).subList(0, connectionSize);
+            replaySessionState(result);
         } else if (!connections.isEmpty()) {
             result = new ArrayList<>(connectionSize);
             result.addAll(connections);
-            List<Connection> newConnections = createNewConnections(dataSourceName, connectionSize - connections.size(), connectionMode);
-            result.addAll(newConnections);
-            synchronized (cachedConnections) {
-                cachedConnections.putAll(dataSourceName, newConnections);
-            }
+            replaySessionState(result);
+            result.addAll(createNewConnections(dataSourceName, connectionSize - connections.size(), connectionMode));
         } else {
             result = createNewConnections(dataSourceName, connectionSize, connectionMode);
-            synchronized (cachedConnections) {
-                cachedConnections.putAll(dataSourceName, result);
-            }
         }
         return result;
     }
     
+    private void replaySessionState(final Collection<Connection> connections) throws SQLException {
+        if (!isMultiplexingEnabled()) {
+            return;
+        }
+        for (Connection each : connections) {
+            BackendConnectionMultiplexer.getInstance().replay(each, sessionState);
+        }
+    }
+    
     private List<Connection> createNewConnections(final String dataSourceName, final int connectionSize, final ConnectionMode connectionMode) throws SQLException {
-        Preconditions.checkNotNull(schemaName, "Current schema is null.");
-        List<Connection> result = ProxyContext.getInstance().getBackendDataSource().getConnections(schemaName, dataSourceName, connectionSize, connectionMode);
+        List<Connection> result = acquireConnections(dataSourceName, connectionSize, connectionMode);
         for (Connection each : result) {
             replayMethodsInvocation(each);
         }
         return result;
     }
     
-    private List<Connection> getConnectionsWithoutTransaction(final String dataSourceName, final int connectionSize, final ConnectionMode connectionMode) throws SQLException {
+    private List<Connection> acquireConnections(final String dataSourceName, final int connectionSize, final ConnectionMode connectionMode) throws SQLException {
         Preconditions.checkNotNull(schemaName, "Current schema is null.");
         List<Connection> result = ProxyContext.getInstance().getBackendDataSource().getConnections(schemaName, dataSourceName, connectionSize, connectionMode);
         synchronized (cachedConnections) {
             cachedConnections.putAll(dataSourceName, result);
         }
+        if (isMultiplexingEnabled()) {
+            for (Connection each : result) {
+                BackendConnectionMultiplexer.getInstance().acquire(each, sessionState);
+            }
+        }
         return result;
     }
     
+    private boolean isMultiplexingEnabled() {
+        return ProxyContext.getInstance().getMetaDataContexts().getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_BACKEND_CONNECTION_MULTIPLEXING_ENABLED);
+    }
+    
     private void replayMethodsInvocation(final Connection target) {
         for (ConnectionPostProcessor each : connectionPostProcessors) {
             each.process(target);
@@ -201,6 +227,15 @@ public final class BackendConnection implements ExecutorJDBCManager {
         return transactionStatus.isInTransaction() && (TransactionType.LOCAL == transactionStatus.getTransactionType() || TransactionType.XA == transactionStatus.getTransactionType());
     }
     
+    /**
+     * Whether session is pinned to its connections, because its session state can not be re-applied to other connections.
+     *
+     * @return true or false
+     */
+    public boolean isSessionPinned() {
+        return sessionState.isPinned();
+    }
+    
     /**
      * Get connection size.
      *
@@ -250,7 +285,7 @@ public final class BackendConnection implements ExecutorJDBCManager {
                 if (forceRollback && transactionStatus.isInTransaction()) {
                     each.rollback();
                 }
-                each.close();
+                BackendConnectionMultiplexer.getInstance().release(each);
             } catch (final SQLException ex) {
                 result.add(ex);
             }
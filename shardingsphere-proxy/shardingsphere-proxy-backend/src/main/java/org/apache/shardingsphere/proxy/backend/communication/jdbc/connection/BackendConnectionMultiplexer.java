@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.connection;
+
+import com.google.common.collect.MapMaker;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Backend connection multiplexer, which shares pooled connections between sessions and re-applies session state lazily.
+ * 
+ * <p>A physical connection is held by one session at a time, so session state applied to it is tracked by a concurrent map without locking.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BackendConnectionMultiplexer {
+    
+    private static final BackendConnectionMultiplexer INSTANCE = new BackendConnectionMultiplexer();
+    
+    private final ConcurrentMap<Connection, Map<String, SessionVariable>> appliedVariables = new MapMaker().weakKeys().makeMap();
+    
+    /**
+     * Get backend connection multiplexer.
+     *
+     * @return backend connection multiplexer
+     */
+    public static BackendConnectionMultiplexer getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Acquire connection borrowed from pool for session.
+     *
+     * @param connection connection borrowed from pool
+     * @param sessionState session state
+     * @throws SQLException SQL exception
+     */
+    public void acquire(final Connection connection, final SessionState sessionState) throws SQLException {
+        replay(connection, sessionState);
+    }
+    
+    /**
+     * Replay session state on connection if it differs from the session state applied to the same physical connection last time.
+     *
+     * @param connection connection
+     * @param sessionState session state
+     * @throws SQLException SQL exception
+     */
+    public void replay(final Connection connection, final SessionState sessionState) throws SQLException {
+        Map<String, SessionVariable> variables = sessionState.getVariables();
+        if (variables.isEmpty() && appliedVariables.isEmpty()) {
+            return;
+        }
+        Connection physicalConnection = getPhysicalConnection(connection);
+        Map<String, SessionVariable> applied = appliedVariables.getOrDefault(physicalConnection, Collections.emptyMap());
+        if (variables.equals(applied)) {
+            return;
+        }
+        Map<String, SessionVariable> result = new LinkedHashMap<>(applied);
+        try {
+            for (SessionVariable each : applied.values()) {
+                if (!variables.containsKey(each.getName())) {
+                    execute(connection, each.getResetSQL());
+                    result.remove(each.getName());
+                }
+            }
+            for (SessionVariable each : variables.values()) {
+                if (!each.equals(applied.get(each.getName()))) {
+                    execute(connection, each.getApplySQL());
+                    result.put(each.getName(), each);
+                }
+            }
+        } finally {
+            if (result.isEmpty()) {
+                appliedVariables.remove(physicalConnection);
+            } else {
+                appliedVariables.put(physicalConnection, result);
+            }
+        }
+    }
+    
+    private Connection getPhysicalConnection(final Connection connection) throws SQLException {
+        Connection result = connection.isWrapperFor(Connection.class) ? connection.unwrap(Connection.class) : null;
+        return null == result ? connection : result;
+    }
+    
+    /**
+     * Execute SQL to replay session state.
+     *
+     * @param connection connection
+     * @param sql SQL to replay session state
+     * @throws SQLException SQL exception
+     */
+    public void execute(final Connection connection, final String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+    
+    /**
+     * Release connection back to pool.
+     *
+     * @param connection connection to be released
+     * @throws SQLException SQL exception
+     */
+    public void release(final Connection connection) throws SQLException {
+        connection.close();
+    }
+}
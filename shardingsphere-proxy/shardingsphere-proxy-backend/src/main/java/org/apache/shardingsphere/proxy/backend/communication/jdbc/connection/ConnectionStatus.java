@@ -47,8 +47,6 @@ public final class ConnectionStatus {
      * Wait until connection release.
      */
     public void waitUntilConnectionRelease() {
-        while (isUsing) {
-            resourceLock.doAwait();
-        }
+        resourceLock.doAwaitUntil(() -> !isUsing);
     }
 }
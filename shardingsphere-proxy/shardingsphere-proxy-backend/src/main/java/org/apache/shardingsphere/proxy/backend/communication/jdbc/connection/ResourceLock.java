@@ -19,30 +19,34 @@ package org.apache.shardingsphere.proxy.backend.communication.jdbc.connection;
 
 import lombok.SneakyThrows;
 
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
 
 /**
  * Resource lock.
  */
 public final class ResourceLock {
     
-    private static final long DEFAULT_TIMEOUT_MILLISECONDS = 200L;
-    
     private final Lock lock = new ReentrantLock();
     
     private final Condition condition = lock.newCondition();
     
     /**
-     * Await.
+     * Await until condition satisfied.
+     * 
+     * <p>Condition is checked while holding lock, whoever makes it satisfied must call {@link #doNotify()} afterwards, so no notification is lost.</p>
+     *
+     * @param satisfied condition to await
      */
     @SneakyThrows(InterruptedException.class)
-    public void doAwait() {
+    public void doAwaitUntil(final BooleanSupplier satisfied) {
         lock.lock();
         try {
-            condition.await(DEFAULT_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS);
+            while (!satisfied.getAsBoolean()) {
+                condition.await();
+            }
         } finally {
             lock.unlock();
         }
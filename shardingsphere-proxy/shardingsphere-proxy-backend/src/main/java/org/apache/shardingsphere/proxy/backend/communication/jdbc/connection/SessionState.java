@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.connection;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Session state of backend connection, which is re-applied to pooled connections shared by sessions.
+ */
+public final class SessionState {
+    
+    @Getter
+    private volatile Map<String, SessionVariable> variables = Collections.emptyMap();
+    
+    @Getter
+    @Setter
+    private volatile boolean pinned;
+    
+    /**
+     * Record session variables.
+     *
+     * @param sessionVariables session variables to be recorded
+     */
+    public synchronized void record(final Collection<SessionVariable> sessionVariables) {
+        Map<String, SessionVariable> result = new LinkedHashMap<>(variables);
+        for (SessionVariable each : sessionVariables) {
+            result.remove(each.getName());
+            result.put(each.getName(), each);
+        }
+        variables = Collections.unmodifiableMap(result);
+    }
+    
+    /**
+     * Remove session variable.
+     *
+     * @param name name of session variable to be removed
+     */
+    public synchronized void remove(final String name) {
+        Map<String, SessionVariable> result = new LinkedHashMap<>(variables);
+        result.remove(name);
+        variables = Collections.unmodifiableMap(result);
+    }
+    
+    /**
+     * Restore session variables.
+     *
+     * @param variables session variables to be restored
+     */
+    public synchronized void restore(final Map<String, SessionVariable> variables) {
+        this.variables = variables;
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.connection;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dal.VariableAssignSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dal.SetStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.ddl.CreateTableStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.tcl.SetTransactionStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dal.MySQLSetStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dal.PostgreSQLResetParameterStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dal.PostgreSQLSetStatement;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Session state recorder, which records session state changed by SQL statements.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SessionStateRecorder {
+    
+    private static final Pattern CREATE_TEMPORARY_TABLE_PATTERN = Pattern.compile("^\\s*CREATE\\s+((GLOBAL|LOCAL)\\s+)?TEMP(ORARY)?\\s+TABLE\\s", Pattern.CASE_INSENSITIVE);
+    
+    private static final Pattern RESET_PATTERN = Pattern.compile("^\\s*RESET\\s+(\\S+?)\\s*;?\\s*$", Pattern.CASE_INSENSITIVE);
+    
+    private static final Collection<String> NON_SESSION_SCOPES = new HashSet<>(Arrays.asList("global", "persist", "persist_only", "local"));
+    
+    /**
+     * Record session state changed by SQL statement.
+     * 
+     * <p>Session variables are recorded to be re-applied to pooled connections, and session is pinned to its connections if its state can not be re-applied.
+     * Transaction characteristics are not variables which can be reset to server default, so set transaction statement pins the session as well.</p>
+     *
+     * @param sessionState session state
+     * @param sqlStatement SQL statement
+     * @param sql SQL
+     */
+    public static void record(final SessionState sessionState, final SQLStatement sqlStatement, final String sql) {
+        if (sqlStatement instanceof CreateTableStatement && CREATE_TEMPORARY_TABLE_PATTERN.matcher(sql).find() || sqlStatement instanceof SetTransactionStatement) {
+            sessionState.setPinned(true);
+        } else if (sqlStatement instanceof PostgreSQLResetParameterStatement) {
+            recordReset(sessionState, sql);
+        } else if (sqlStatement instanceof SetStatement) {
+            Optional<Collection<SessionVariable>> sessionVariables = createSessionVariables((SetStatement) sqlStatement, sql);
+            if (sessionVariables.isPresent()) {
+                sessionState.record(sessionVariables.get());
+            } else {
+                sessionState.setPinned(true);
+            }
+        }
+    }
+    
+    private static void recordReset(final SessionState sessionState, final String sql) {
+        Matcher matcher = RESET_PATTERN.matcher(sql);
+        if (!matcher.find()) {
+            sessionState.setPinned(true);
+        } else if ("all".equalsIgnoreCase(matcher.group(1))) {
+            sessionState.restore(Collections.emptyMap());
+        } else {
+            sessionState.remove(matcher.group(1).toLowerCase());
+        }
+    }
+    
+    private static Optional<Collection<SessionVariable>> createSessionVariables(final SetStatement setStatement, final String sql) {
+        if (setStatement.getVariableAssigns().isEmpty() || setStatement.getParameterCount() > 0 || !(setStatement instanceof MySQLSetStatement || setStatement instanceof PostgreSQLSetStatement)) {
+            return Optional.empty();
+        }
+        Collection<SessionVariable> result = new LinkedList<>();
+        for (VariableAssignSegment each : setStatement.getVariableAssigns()) {
+            if (null == each.getVariable() || each.getStopIndex() <= each.getStartIndex()) {
+                return Optional.empty();
+            }
+            String scope = null == each.getVariable().getScope() ? "" : each.getVariable().getScope().toLowerCase();
+            if (setStatement instanceof MySQLSetStatement && "local".equals(scope)) {
+                scope = "session";
+            }
+            String name = getVariableName(each.getVariable().getVariable());
+            if (NON_SESSION_SCOPES.contains(scope) || NON_SESSION_SCOPES.contains(name.substring(0, Math.max(name.indexOf('.'), 0)))) {
+                continue;
+            }
+            result.add(createSessionVariable(setStatement, name, sql.substring(each.getStartIndex(), each.getStopIndex() + 1)));
+        }
+        return Optional.of(result);
+    }
+    
+    private static String getVariableName(final String variable) {
+        String result = variable.toLowerCase();
+        if (result.startsWith("@@")) {
+            result = result.substring(2);
+            for (String each : Arrays.asList("session.", "local.")) {
+                if (result.startsWith(each)) {
+                    return result.substring(each.length());
+                }
+            }
+        }
+        return result;
+    }
+    
+    private static SessionVariable createSessionVariable(final SetStatement setStatement, final String name, final String assignment) {
+        String applySQL = "SET " + assignment;
+        if (setStatement instanceof PostgreSQLSetStatement) {
+            return new SessionVariable(name, applySQL, "RESET " + name);
+        }
+        if (name.startsWith("@")) {
+            return new SessionVariable(name, applySQL, "SET " + name + " = NULL");
+        }
+        if ("charset".equals(name)) {
+            return new SessionVariable(name, applySQL, "SET NAMES DEFAULT");
+        }
+        return new SessionVariable(name, applySQL, "SET SESSION " + name + " = DEFAULT");
+    }
+}
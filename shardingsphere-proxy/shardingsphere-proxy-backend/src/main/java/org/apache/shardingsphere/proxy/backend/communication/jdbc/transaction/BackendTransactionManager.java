@@ -53,9 +53,11 @@ public final class BackendTransactionManager implements TransactionManager {
             connection.getTransactionStatus().setInTransaction(true);
             TransactionHolder.setInTransaction();
             connection.closeDatabaseCommunicationEngines();
-            connection.closeConnections(false);
+            if (!connection.isSessionPinned() || !isLocalTransaction()) {
+                connection.closeConnections(false);
+            }
         }
-        if (TransactionType.LOCAL == transactionType || null == shardingTransactionManager) {
+        if (isLocalTransaction()) {
             localTransactionManager.begin();
         } else {
             shardingTransactionManager.begin();
@@ -66,7 +68,7 @@ public final class BackendTransactionManager implements TransactionManager {
     public void commit() throws SQLException {
         if (connection.getTransactionStatus().isInTransaction()) {
             try {
-                if (TransactionType.LOCAL == transactionType || null == shardingTransactionManager) {
+                if (isLocalTransaction()) {
                     localTransactionManager.commit();
                 } else {
                     shardingTransactionManager.commit();
@@ -82,7 +84,7 @@ public final class BackendTransactionManager implements TransactionManager {
     public void rollback() throws SQLException {
         if (connection.getTransactionStatus().isInTransaction()) {
             try {
-                if (TransactionType.LOCAL == transactionType || null == shardingTransactionManager) {
+                if (isLocalTransaction()) {
                     localTransactionManager.rollback();
                 } else {
                     shardingTransactionManager.rollback();
@@ -99,7 +101,7 @@ public final class BackendTransactionManager implements TransactionManager {
         if (!connection.getTransactionStatus().isInTransaction()) {
             return;
         }
-        if (TransactionType.LOCAL == transactionType || null == shardingTransactionManager) {
+        if (isLocalTransaction()) {
             localTransactionManager.setSavepoint(savepointName);
         }
         // TODO Non-local transaction manager
@@ -110,7 +112,7 @@ public final class BackendTransactionManager implements TransactionManager {
         if (!connection.getTransactionStatus().isInTransaction()) {
             return;
         }
-        if (TransactionType.LOCAL == transactionType || null == shardingTransactionManager) {
+        if (isLocalTransaction()) {
             localTransactionManager.rollbackTo(savepointName);
         }
         // TODO Non-local transaction manager
@@ -121,9 +123,13 @@ public final class BackendTransactionManager implements TransactionManager {
         if (!connection.getTransactionStatus().isInTransaction()) {
             return;
         }
-        if (TransactionType.LOCAL == transactionType || null == shardingTransactionManager) {
+        if (isLocalTransaction()) {
             localTransactionManager.releaseSavepoint(savepointName);
         }
         // TODO Non-local transaction manager
     }
+    
+    private boolean isLocalTransaction() {
+        return TransactionType.LOCAL == transactionType || null == shardingTransactionManager;
+    }
 }
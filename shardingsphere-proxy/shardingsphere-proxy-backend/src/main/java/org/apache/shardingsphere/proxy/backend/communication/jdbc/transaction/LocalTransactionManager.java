@@ -19,6 +19,7 @@ package org.apache.shardingsphere.proxy.backend.communication.jdbc.transaction;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.ConnectionPostProcessor;
 
 import java.sql.Connection;
 import java.sql.SQLException;
@@ -35,19 +36,24 @@ public final class LocalTransactionManager implements TransactionManager {
     
     @Override
     public void begin() {
-        connection.getConnectionPostProcessors().add(target -> {
+        ConnectionPostProcessor autoCommitDisabler = target -> {
             try {
                 target.setAutoCommit(false);
             } catch (final SQLException ex) {
                 throw new RuntimeException(ex);
             }
-        });
+        };
+        if (connection.isSessionPinned()) {
+            connection.getCachedConnections().values().forEach(autoCommitDisabler::process);
+        }
+        connection.getConnectionPostProcessors().add(autoCommitDisabler);
     }
     
     @Override
     public void commit() throws SQLException {
         if (connection.getTransactionStatus().isInTransaction()) {
             Collection<SQLException> exceptions = new LinkedList<>(commitConnections());
+            exceptions.addAll(restorePinnedConnections());
             throwSQLExceptionIfNecessary(exceptions);
         }
     }
@@ -70,6 +76,7 @@ public final class LocalTransactionManager implements TransactionManager {
     public void rollback() throws SQLException {
         if (connection.getTransactionStatus().isInTransaction()) {
             Collection<SQLException> exceptions = new LinkedList<>(rollbackConnections());
+            exceptions.addAll(restorePinnedConnections());
             throwSQLExceptionIfNecessary(exceptions);
         }
     }
@@ -88,6 +95,22 @@ public final class LocalTransactionManager implements TransactionManager {
         return result;
     }
     
+    private Collection<SQLException> restorePinnedConnections() {
+        Collection<SQLException> result = new LinkedList<>();
+        if (!connection.isSessionPinned()) {
+            return result;
+        }
+        for (Connection each : connection.getCachedConnections().values()) {
+            try {
+                each.setAutoCommit(true);
+            } catch (final SQLException ex) {
+                result.add(ex);
+            }
+        }
+        connection.getConnectionPostProcessors().clear();
+        return result;
+    }
+    
     @Override
     public void setSavepoint(final String savepointName) throws SQLException {
         if (!connection.getTransactionStatus().isInTransaction()) {
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.memory;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.exception.MemoryAdmissionTimeoutException;
+import org.apache.shardingsphere.proxy.backend.exception.MemoryLimitExceededException;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Memory pool shared by all queries of proxy.
+ * 
+ * <p>Queries reserve the memory of results they hold from the pool, and release it when closed.
+ * A query exceeding the pool size is rejected, and new queries merging results of multiple data nodes wait until the pool is not exhausted.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MemoryPool {
+    
+    private static final MemoryPool INSTANCE = new MemoryPool();
+    
+    private final Collection<MemoryReservation> reservations = new LinkedHashSet<>();
+    
+    private long reservedSize;
+    
+    /**
+     * Get memory pool instance.
+     * 
+     * @return memory pool instance
+     */
+    public static MemoryPool getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Admit query, wait until memory pool is not exhausted.
+     * 
+     * @param connectionId connection ID
+     * @param sql SQL
+     * @return memory reservation of query
+     * @throws MemoryAdmissionTimeoutException memory admission timeout exception
+     */
+    public synchronized MemoryReservation admit(final int connectionId, final String sql) {
+        long poolSize = getPoolSize();
+        if (poolSize > 0 && reservedSize >= poolSize) {
+            waitForRelease(poolSize, ProxyContext.getInstance().getMetaDataContexts().getProps().<Long>getValue(ConfigurationPropertyKey.PROXY_MEMORY_ADMISSION_TIMEOUT_MILLISECONDS));
+        }
+        return register(connectionId, sql);
+    }
+    
+    private void waitForRelease(final long poolSize, final long timeoutMilliseconds) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMilliseconds);
+        try {
+            while (reservedSize >= poolSize) {
+                long remainingMilliseconds = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMilliseconds <= 0) {
+                    throw new MemoryAdmissionTimeoutException(timeoutMilliseconds);
+                }
+                wait(remainingMilliseconds);
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new MemoryAdmissionTimeoutException(timeoutMilliseconds);
+        }
+    }
+    
+    /**
+     * Register memory reservation of query without waiting.
+     * 
+     * @param connectionId connection ID
+     * @param sql SQL
+     * @return memory reservation of query
+     */
+    public synchronized MemoryReservation register(final int connectionId, final String sql) {
+        MemoryReservation result = new MemoryReservation(this, connectionId, sql);
+        reservations.add(result);
+        return result;
+    }
+    
+    synchronized void reserve(final MemoryReservation reservation, final long size) {
+        if (!reservations.contains(reservation)) {
+            return;
+        }
+        long poolSize = getPoolSize();
+        if (poolSize > 0 && reservedSize + size > poolSize) {
+            throw new MemoryLimitExceededException(size, poolSize);
+        }
+        reservedSize += size;
+        reservation.increaseReservedSize(size);
+    }
+    
+    synchronized void release(final MemoryReservation reservation) {
+        if (reservations.remove(reservation)) {
+            reservedSize -= reservation.getReservedSize();
+            notifyAll();
+        }
+    }
+    
+    /**
+     * Get reserved size of all queries.
+     * 
+     * @return reserved size in bytes
+     */
+    public synchronized long getReservedSize() {
+        return reservedSize;
+    }
+    
+    /**
+     * Get memory reservations.
+     * 
+     * @return memory reservations
+     */
+    public synchronized Collection<MemoryReservation> getReservations() {
+        return Collections.unmodifiableCollection(new LinkedHashSet<>(reservations));
+    }
+    
+    private long getPoolSize() {
+        return ProxyContext.getInstance().getMetaDataContexts().getProps().<Long>getValue(ConfigurationPropertyKey.PROXY_MEMORY_POOL_SIZE);
+    }
+}
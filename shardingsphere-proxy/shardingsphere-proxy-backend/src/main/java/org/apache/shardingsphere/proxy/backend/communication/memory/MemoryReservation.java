@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.memory;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Memory reserved by a query from memory pool.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+@Getter
+public final class MemoryReservation implements AutoCloseable {
+    
+    @Getter(AccessLevel.NONE)
+    private final MemoryPool memoryPool;
+    
+    private final int connectionId;
+    
+    private final String sql;
+    
+    private volatile long reservedSize;
+    
+    /**
+     * Reserve memory.
+     *
+     * @param size size to be reserved in bytes
+     */
+    public void reserve(final long size) {
+        memoryPool.reserve(this, size);
+    }
+    
+    void increaseReservedSize(final long size) {
+        reservedSize += size;
+    }
+    
+    @Override
+    public void close() {
+        memoryPool.release(this);
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.response.data;
+
+import java.sql.SQLException;
+
+/**
+ * Query response cell reader.
+ *
+ * <p>Read cell data of current row directly, without creating query response row for each row.</p>
+ */
+public interface QueryResponseCellReader {
+    
+    /**
+     * Get column count.
+     *
+     * @return column count
+     */
+    int getColumnCount();
+    
+    /**
+     * Get cell data of current row.
+     *
+     * @param columnIndex column index, starts from 1
+     * @return cell data
+     * @throws SQLException SQL exception
+     */
+    Object getCellData(int columnIndex) throws SQLException;
+}
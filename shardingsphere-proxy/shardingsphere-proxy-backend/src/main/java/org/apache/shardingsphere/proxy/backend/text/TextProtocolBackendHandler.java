@@ -17,11 +17,13 @@
 
 package org.apache.shardingsphere.proxy.backend.text;
 
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseCellReader;
 import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
 
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Optional;
 
 /**
  * Text protocol backend handler.
@@ -56,6 +58,17 @@ public interface TextProtocolBackendHandler {
         return Collections.emptyList();
     }
     
+    /**
+     * Get query response cell reader.
+     *
+     * <p>Rows can be read by cell reader directly instead of {@linkplain #getRowData()}, if cell reader is present.</p>
+     *
+     * @return query response cell reader
+     */
+    default Optional<QueryResponseCellReader> getQueryResponseCellReader() {
+        return Optional.empty();
+    }
+    
     /**
      * Close handler.
      *
@@ -23,12 +23,14 @@ import org.apache.shardingsphere.proxy.backend.communication.DatabaseCommunicati
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.exception.RuleNotExistedException;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseCellReader;
 import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
 import org.apache.shardingsphere.proxy.backend.text.data.DatabaseBackendHandler;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Optional;
 
 /**
  * Database backend handler with assigned schema.
@@ -65,6 +67,11 @@ public final class SchemaAssignedDatabaseBackendHandler implements DatabaseBacke
         return databaseCommunicationEngine.getQueryResponseRow().getData();
     }
     
+    @Override
+    public Optional<QueryResponseCellReader> getQueryResponseCellReader() {
+        return Optional.of(databaseCommunicationEngine);
+    }
+    
     @Override
     public void close() throws SQLException {
         databaseCommunicationEngine.close();
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.proxy.backend.text.distsql.ral;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.distsql.parser.statement.ral.show.ShowMemoryReservationsStatement;
 import org.apache.shardingsphere.scaling.distsql.statement.CheckScalingJobStatement;
 import org.apache.shardingsphere.scaling.distsql.statement.DropScalingJobStatement;
 import org.apache.shardingsphere.scaling.distsql.statement.ResetScalingJobStatement;
@@ -30,6 +31,7 @@ import org.apache.shardingsphere.proxy.backend.text.TextProtocolBackendHandler;
 import org.apache.shardingsphere.proxy.backend.text.distsql.ral.impl.CheckScalingJobBackendHandler;
 import org.apache.shardingsphere.proxy.backend.text.distsql.ral.impl.DropScalingJobBackendHandler;
 import org.apache.shardingsphere.proxy.backend.text.distsql.ral.impl.ResetScalingJobBackendHandler;
+import org.apache.shardingsphere.proxy.backend.text.distsql.ral.impl.ShowMemoryReservationsBackendHandler;
 import org.apache.shardingsphere.proxy.backend.text.distsql.ral.impl.ShowScalingJobListBackendHandler;
 import org.apache.shardingsphere.proxy.backend.text.distsql.ral.impl.ShowScalingJobStatusBackendHandler;
 import org.apache.shardingsphere.proxy.backend.text.distsql.ral.impl.StartScalingJobBackendHandler;
@@ -51,6 +53,9 @@ public final class RALBackendHandlerFactory {
      * @return RAL backend handler
      */
     public static Optional<TextProtocolBackendHandler> newInstance(final SQLStatement sqlStatement) {
+        if (sqlStatement instanceof ShowMemoryReservationsStatement) {
+            return Optional.of(new ShowMemoryReservationsBackendHandler());
+        }
         if (sqlStatement instanceof ShowScalingJobListStatement) {
             return Optional.of(new ShowScalingJobListBackendHandler());
         }
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.text.distsql.ral.impl;
+
+import org.apache.shardingsphere.proxy.backend.communication.memory.MemoryPool;
+import org.apache.shardingsphere.proxy.backend.communication.memory.MemoryReservation;
+import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
+import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
+import org.apache.shardingsphere.proxy.backend.response.header.query.impl.QueryHeader;
+import org.apache.shardingsphere.proxy.backend.text.TextProtocolBackendHandler;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Show memory reservations backend handler.
+ */
+public final class ShowMemoryReservationsBackendHandler implements TextProtocolBackendHandler {
+    
+    private Iterator<Collection<Object>> data;
+    
+    @Override
+    public ResponseHeader execute() {
+        Map<Integer, long[]> reservations = new TreeMap<>();
+        for (MemoryReservation each : MemoryPool.getInstance().getReservations()) {
+            long[] queryCountAndReservedSize = reservations.computeIfAbsent(each.getConnectionId(), key -> new long[2]);
+            queryCountAndReservedSize[0]++;
+            queryCountAndReservedSize[1] += each.getReservedSize();
+        }
+        data = reservations.entrySet().stream().map(each -> (Collection<Object>) Arrays.<Object>asList(each.getKey(), each.getValue()[0], each.getValue()[1])).iterator();
+        return new QueryResponseHeader(Arrays.asList(
+                new QueryHeader("", "", "connection_id", "", Types.INTEGER, "INTEGER", 11, 0, false, false, false, false),
+                new QueryHeader("", "", "query_count", "", Types.BIGINT, "BIGINT", 20, 0, false, false, false, false),
+                new QueryHeader("", "", "reserved_bytes", "", Types.BIGINT, "BIGINT", 20, 0, false, false, false, false)));
+    }
+    
+    @Override
+    public boolean next() {
+        return data.hasNext();
+    }
+    
+    @Override
+    public Collection<Object> getRowData() {
+        return data.next();
+    }
+}
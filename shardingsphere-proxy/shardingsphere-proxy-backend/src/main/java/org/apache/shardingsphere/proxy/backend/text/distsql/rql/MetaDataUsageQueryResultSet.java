@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.text.distsql.rql;
+
+import org.apache.shardingsphere.distsql.parser.statement.rql.show.ShowMetaDataUsageStatement;
+import org.apache.shardingsphere.infra.distsql.RQLResultSet;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.IndexMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * Result set for show meta data usage.
+ */
+public final class MetaDataUsageQueryResultSet implements RQLResultSet {
+    
+    private static final int TABLE_META_DATA_SIZE = 256;
+    
+    private static final int MAP_ENTRY_SIZE = 48;
+    
+    private static final int COLUMN_META_DATA_SIZE = 32;
+    
+    private static final int INDEX_META_DATA_SIZE = 16;
+    
+    private static final int STRING_SIZE = 40;
+    
+    private Iterator<Collection<Object>> data;
+    
+    @Override
+    public void init(final ShardingSphereMetaData metaData, final SQLStatement sqlStatement) {
+        Collection<TableMetaData> tables = metaData.getSchema().getTables().values();
+        Set<TableMetaData> distinctTables = Collections.newSetFromMap(new IdentityHashMap<>(tables.size()));
+        distinctTables.addAll(tables);
+        Set<ColumnMetaData> distinctColumns = Collections.newSetFromMap(new IdentityHashMap<>());
+        long columnCount = 0;
+        long estimatedSize = 0;
+        long estimatedSizeWithoutSharing = 0;
+        for (TableMetaData each : tables) {
+            columnCount += each.getColumns().size();
+            estimatedSizeWithoutSharing += estimateSize(each, true);
+        }
+        for (TableMetaData each : distinctTables) {
+            estimatedSize += estimateSize(each, false);
+            for (ColumnMetaData column : each.getColumns().values()) {
+                if (distinctColumns.add(column)) {
+                    estimatedSize += estimateSize(column);
+                }
+            }
+        }
+        data = Collections.<Collection<Object>>singletonList(
+                Arrays.asList(tables.size(), distinctTables.size(), columnCount, distinctColumns.size(), estimatedSize, estimatedSizeWithoutSharing)).iterator();
+    }
+    
+    private long estimateSize(final TableMetaData tableMetaData, final boolean includeColumns) {
+        long result = TABLE_META_DATA_SIZE + (long) MAP_ENTRY_SIZE * (tableMetaData.getColumns().size() + tableMetaData.getIndexes().size());
+        for (IndexMetaData each : tableMetaData.getIndexes().values()) {
+            result += INDEX_META_DATA_SIZE + estimateSize(each.getName());
+        }
+        if (includeColumns) {
+            for (ColumnMetaData each : tableMetaData.getColumns().values()) {
+                result += estimateSize(each);
+            }
+        }
+        return result;
+    }
+    
+    private long estimateSize(final ColumnMetaData columnMetaData) {
+        return COLUMN_META_DATA_SIZE + estimateSize(columnMetaData.getName());
+    }
+    
+    private long estimateSize(final String value) {
+        return STRING_SIZE + 2L * value.length();
+    }
+    
+    @Override
+    public Collection<String> getColumnNames() {
+        return Arrays.asList("tables", "table_meta_data_instances", "columns", "column_meta_data_instances", "estimated_size_bytes", "estimated_size_without_sharing_bytes");
+    }
+    
+    @Override
+    public boolean next() {
+        return data.hasNext();
+    }
+    
+    @Override
+    public Collection<Object> getRowData() {
+        return data.next();
+    }
+    
+    @Override
+    public String getType() {
+        return ShowMetaDataUsageStatement.class.getCanonicalName();
+    }
+}
@@ -26,6 +26,7 @@ import org.apache.shardingsphere.infra.database.type.dialect.H2DatabaseType;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryMergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
@@ -37,6 +38,8 @@ import org.apache.shardingsphere.infra.metadata.schema.model.IndexMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.communication.memory.MemoryPool;
+import org.apache.shardingsphere.proxy.backend.communication.memory.MemoryReservation;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.response.header.query.impl.QueryHeaderBuilder;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
@@ -130,6 +133,19 @@ public final class DatabaseCommunicationEngineTest {
         }
     }
     
+    @Test
+    public void assertTextProtocolQueryResponseRowWithPassthrough() throws SQLException, NoSuchFieldException {
+        DatabaseCommunicationEngine engine =
+                DatabaseCommunicationEngineFactory.getInstance().newTextProtocolInstance(mock(MySQLStatement.class), "schemaName", backendConnection);
+        FieldSetter.setField(engine, engine.getClass().getDeclaredField("queryHeaders"), Collections.singletonList(QueryHeaderBuilder.build(createQueryResultMetaData(), createMetaData(), 1)));
+        MergedResult mergedResult = mock(MergedResult.class);
+        byte[] expected = "1".getBytes();
+        when(mergedResult.getValue(1, byte[].class)).thenReturn(expected);
+        FieldSetter.setField(engine, engine.getClass().getDeclaredField("mergedResult"), mergedResult);
+        FieldSetter.setField(engine, engine.getClass().getDeclaredField("passthrough"), true);
+        assertThat(engine.getQueryResponseRow().getData(), is(Collections.<Object>singletonList(expected)));
+    }
+    
     private ShardingSphereMetaData createMetaData() {
         ShardingSphereMetaData result = mock(ShardingSphereMetaData.class, RETURNS_DEEP_STUBS);
         ColumnMetaData columnMetaData = new ColumnMetaData("order_id", Types.INTEGER, true, false, false);
@@ -179,6 +195,28 @@ public final class DatabaseCommunicationEngineTest {
         assertThat(actual.iterator().next(), is(resultSet));
     }
     
+    @Test
+    public void assertCloseWithMemoryReservation() throws SQLException, NoSuchFieldException {
+        DatabaseCommunicationEngine engine =
+                DatabaseCommunicationEngineFactory.getInstance().newTextProtocolInstance(mock(MySQLStatement.class), "schemaName", backendConnection);
+        MemoryReservation memoryReservation = MemoryPool.getInstance().register(1, "SELECT 1");
+        FieldSetter.setField(engine, engine.getClass().getDeclaredField("memoryReservation"), memoryReservation);
+        engine.close();
+        assertFalse(MemoryPool.getInstance().getReservations().contains(memoryReservation));
+    }
+    
+    @Test
+    public void assertReserveMemoryWhileLoading() throws SQLException {
+        DatabaseCommunicationEngine engine =
+                DatabaseCommunicationEngineFactory.getInstance().newTextProtocolInstance(mock(MySQLStatement.class), "schemaName", backendConnection);
+        long originalReservedSize = MemoryPool.getInstance().getReservedSize();
+        engine.reserveMemory(64L);
+        engine.reserveMemory(36L);
+        assertThat(MemoryPool.getInstance().getReservedSize(), is(originalReservedSize + 100L));
+        engine.close();
+        assertThat(MemoryPool.getInstance().getReservedSize(), is(originalReservedSize));
+    }
+    
     @Test
     public void assertCloseCorrectly() throws SQLException {
         DatabaseCommunicationEngine engine =
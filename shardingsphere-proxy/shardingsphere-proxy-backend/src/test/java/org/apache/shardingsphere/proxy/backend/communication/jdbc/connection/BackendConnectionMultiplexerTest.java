@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.connection;
+
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class BackendConnectionMultiplexerTest {
+    
+    @Test
+    public void assertReplayOnlyIfSessionStateDiffers() throws SQLException {
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(statement);
+        SessionState sessionState = new SessionState();
+        sessionState.record(Collections.singleton(new SessionVariable("@a", "SET @a = 1", "SET @a = NULL")));
+        BackendConnectionMultiplexer.getInstance().acquire(connection, sessionState);
+        BackendConnectionMultiplexer.getInstance().acquire(connection, sessionState);
+        verify(statement, times(1)).execute("SET @a = 1");
+        BackendConnectionMultiplexer.getInstance().acquire(connection, new SessionState());
+        verify(statement).execute("SET @a = NULL");
+        BackendConnectionMultiplexer.getInstance().release(connection);
+        verify(connection).close();
+    }
+    
+    @Test
+    public void assertReplayOnPhysicalConnection() throws SQLException {
+        Connection physicalConnection = mock(Connection.class);
+        Connection pooledConnection = mock(Connection.class);
+        when(pooledConnection.isWrapperFor(Connection.class)).thenReturn(true);
+        when(pooledConnection.unwrap(Connection.class)).thenReturn(physicalConnection);
+        Statement statement = mock(Statement.class);
+        when(pooledConnection.createStatement()).thenReturn(statement);
+        SessionState sessionState = new SessionState();
+        sessionState.record(Collections.singleton(new SessionVariable("sql_mode", "SET sql_mode = 'ANSI'", "SET SESSION sql_mode = DEFAULT")));
+        BackendConnectionMultiplexer.getInstance().acquire(pooledConnection, sessionState);
+        BackendConnectionMultiplexer.getInstance().replay(pooledConnection, sessionState);
+        verify(statement, times(1)).execute(anyString());
+        verify(physicalConnection, never()).createStatement();
+        BackendConnectionMultiplexer.getInstance().replay(pooledConnection, new SessionState());
+    }
+}
@@ -48,6 +48,7 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -327,6 +328,17 @@ public final class BackendConnectionTest {
         assertConnectionsCached("ds1", connectionList);
     }
     
+    @Test
+    public void assertGetConnectionsWithoutReplayWhenMultiplexingDisabled() throws SQLException {
+        backendConnection.getSessionState().record(Collections.singleton(new SessionVariable("@a", "SET @a = 1", "SET @a = NULL")));
+        List<Connection> connectionList = MockConnectionUtil.mockNewConnections(1);
+        when(backendDataSource.getConnections(anyString(), anyString(), eq(1), any())).thenReturn(connectionList);
+        backendConnection.getConnections("ds1", 1, null);
+        backendConnection.getTransactionStatus().setInTransaction(true);
+        backendConnection.getConnections("ds1", 1, null);
+        verify(connectionList.get(0), never()).createStatement();
+    }
+    
     @SuppressWarnings("unchecked")
     @SneakyThrows(ReflectiveOperationException.class)
     private void assertConnectionsCached(final String dataSourceName, final Collection<Connection> collectionList) {
@@ -21,23 +21,24 @@ import org.junit.Test;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.Assert.assertTrue;
 
 public final class ResourceLockTest {
     
     @Test
-    public void assertDoAwait() {
+    public void assertDoAwaitUntilWithSatisfiedCondition() {
         ResourceLock resourceLock = new ResourceLock();
-        long startTime = System.currentTimeMillis();
-        resourceLock.doAwait();
-        assertTrue(System.currentTimeMillis() - startTime >= 200L);
+        AtomicBoolean satisfied = new AtomicBoolean(true);
+        resourceLock.doAwaitUntil(satisfied::get);
+        assertTrue(satisfied.get());
     }
     
-    @Test
+    @Test(timeout = 10000L)
     public void assertDoNotify() {
         ResourceLock resourceLock = new ResourceLock();
-        long startTime = System.currentTimeMillis();
+        AtomicBoolean satisfied = new AtomicBoolean();
         ExecutorService executorService = Executors.newFixedThreadPool(1);
         executorService.submit(() -> {
             try {
@@ -45,8 +46,11 @@ public final class ResourceLockTest {
             } catch (final InterruptedException ignored) {
             }
             resourceLock.doNotify();
+            satisfied.set(true);
+            resourceLock.doNotify();
         });
-        resourceLock.doAwait();
-        assertTrue(System.currentTimeMillis() > startTime);
+        resourceLock.doAwaitUntil(satisfied::get);
+        assertTrue(satisfied.get());
+        executorService.shutdown();
     }
 }
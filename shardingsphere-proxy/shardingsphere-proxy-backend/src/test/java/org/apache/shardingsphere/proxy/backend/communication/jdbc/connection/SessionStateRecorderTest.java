@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.connection;
+
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dal.VariableAssignSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dal.VariableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dal.MySQLSetStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.ddl.MySQLCreateTableStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.tcl.MySQLSetTransactionStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dal.PostgreSQLResetParameterStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dal.PostgreSQLSetStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.tcl.PostgreSQLSetTransactionStatement;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SessionStateRecorderTest {
+    
+    @Test
+    public void assertRecordMySQLSessionVariables() {
+        String sql = "SET @a = 1, SESSION sql_mode = 'ANSI', NAMES utf8mb4";
+        MySQLSetStatement sqlStatement = new MySQLSetStatement();
+        sqlStatement.getVariableAssigns().add(createVariableAssign(sql, "@a = 1", null, "@a"));
+        sqlStatement.getVariableAssigns().add(createVariableAssign(sql, "SESSION sql_mode = 'ANSI'", "SESSION", "sql_mode"));
+        sqlStatement.getVariableAssigns().add(createVariableAssign(sql, "NAMES utf8mb4", null, "charset"));
+        SessionState sessionState = new SessionState();
+        SessionStateRecorder.record(sessionState, sqlStatement, sql);
+        assertFalse(sessionState.isPinned());
+        assertThat(sessionState.getVariables().size(), is(3));
+        assertThat(sessionState.getVariables().get("@a").getApplySQL(), is("SET @a = 1"));
+        assertThat(sessionState.getVariables().get("@a").getResetSQL(), is("SET @a = NULL"));
+        assertThat(sessionState.getVariables().get("sql_mode").getApplySQL(), is("SET SESSION sql_mode = 'ANSI'"));
+        assertThat(sessionState.getVariables().get("sql_mode").getResetSQL(), is("SET SESSION sql_mode = DEFAULT"));
+        assertThat(sessionState.getVariables().get("charset").getResetSQL(), is("SET NAMES DEFAULT"));
+    }
+    
+    @Test
+    public void assertRecordMySQLGlobalVariable() {
+        String sql = "SET GLOBAL max_connections = 10";
+        MySQLSetStatement sqlStatement = new MySQLSetStatement();
+        sqlStatement.getVariableAssigns().add(createVariableAssign(sql, "GLOBAL max_connections = 10", "GLOBAL", "max_connections"));
+        SessionState sessionState = new SessionState();
+        SessionStateRecorder.record(sessionState, sqlStatement, sql);
+        assertFalse(sessionState.isPinned());
+        assertTrue(sessionState.getVariables().isEmpty());
+    }
+    
+    @Test
+    public void assertRecordPostgreSQLSessionVariableAndReset() {
+        String sql = "SET search_path TO public";
+        PostgreSQLSetStatement sqlStatement = new PostgreSQLSetStatement();
+        sqlStatement.getVariableAssigns().add(createVariableAssign(sql, "search_path TO public", null, "search_path"));
+        SessionState sessionState = new SessionState();
+        SessionStateRecorder.record(sessionState, sqlStatement, sql);
+        assertThat(sessionState.getVariables().get("search_path").getApplySQL(), is(sql));
+        assertThat(sessionState.getVariables().get("search_path").getResetSQL(), is("RESET search_path"));
+        SessionStateRecorder.record(sessionState, new PostgreSQLResetParameterStatement(), "RESET search_path");
+        assertTrue(sessionState.getVariables().isEmpty());
+    }
+    
+    @Test
+    public void assertRecordUnrecognizedSetStatement() {
+        SessionState sessionState = new SessionState();
+        SessionStateRecorder.record(sessionState, new MySQLSetStatement(), "SET CHARACTER SET utf8");
+        assertTrue(sessionState.isPinned());
+    }
+    
+    @Test
+    public void assertRecordCreateTemporaryTable() {
+        SessionState sessionState = new SessionState();
+        SQLStatement sqlStatement = new MySQLCreateTableStatement();
+        SessionStateRecorder.record(sessionState, sqlStatement, "CREATE TABLE t_order (id INT)");
+        assertFalse(sessionState.isPinned());
+        SessionStateRecorder.record(sessionState, sqlStatement, "create temporary table t_tmp (id INT)");
+        assertTrue(sessionState.isPinned());
+    }
+    
+    @Test
+    public void assertRecordMySQLSetTransaction() {
+        SessionState sessionState = new SessionState();
+        SessionStateRecorder.record(sessionState, new MySQLSetTransactionStatement(), "SET SESSION TRANSACTION ISOLATION LEVEL READ COMMITTED");
+        assertTrue(sessionState.isPinned());
+        assertTrue(sessionState.getVariables().isEmpty());
+    }
+    
+    @Test
+    public void assertRecordPostgreSQLSetTransaction() {
+        SessionState sessionState = new SessionState();
+        SessionStateRecorder.record(sessionState, new PostgreSQLSetTransactionStatement(), "SET SESSION CHARACTERISTICS AS TRANSACTION ISOLATION LEVEL SERIALIZABLE");
+        assertTrue(sessionState.isPinned());
+    }
+    
+    private VariableAssignSegment createVariableAssign(final String sql, final String assignment, final String scope, final String variableName) {
+        VariableAssignSegment result = new VariableAssignSegment();
+        result.setStartIndex(sql.indexOf(assignment));
+        result.setStopIndex(sql.indexOf(assignment) + assignment.length() - 1);
+        VariableSegment variable = new VariableSegment();
+        variable.setScope(scope);
+        variable.setVariable(variableName);
+        result.setVariable(variable);
+        return result;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.memory;
+
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.context.metadata.MetaDataContexts;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.exception.MemoryAdmissionTimeoutException;
+import org.apache.shardingsphere.proxy.backend.exception.MemoryLimitExceededException;
+import org.apache.shardingsphere.transaction.context.TransactionContexts;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class MemoryPoolTest {
+    
+    @Before
+    public void setUp() {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.PROXY_MEMORY_POOL_SIZE.getKey(), "100");
+        props.setProperty(ConfigurationPropertyKey.PROXY_MEMORY_ADMISSION_TIMEOUT_MILLISECONDS.getKey(), "10");
+        MetaDataContexts metaDataContexts = mock(MetaDataContexts.class);
+        when(metaDataContexts.getProps()).thenReturn(new ConfigurationProperties(props));
+        ProxyContext.getInstance().init(metaDataContexts, mock(TransactionContexts.class));
+    }
+    
+    @Test
+    public void assertReserveAndRelease() {
+        long originalReservedSize = MemoryPool.getInstance().getReservedSize();
+        try (MemoryReservation reservation = MemoryPool.getInstance().admit(1, "SELECT 1")) {
+            reservation.reserve(60);
+            reservation.reserve(20);
+            assertThat(reservation.getReservedSize(), is(80L));
+            assertThat(MemoryPool.getInstance().getReservedSize(), is(originalReservedSize + 80L));
+            assertTrue(MemoryPool.getInstance().getReservations().contains(reservation));
+        }
+        assertThat(MemoryPool.getInstance().getReservedSize(), is(originalReservedSize));
+    }
+    
+    @Test(expected = MemoryLimitExceededException.class)
+    public void assertReserveWithPoolSizeExceeded() {
+        try (MemoryReservation reservation = MemoryPool.getInstance().register(1, "SELECT 1")) {
+            reservation.reserve(101);
+        }
+    }
+    
+    @Test(expected = MemoryAdmissionTimeoutException.class)
+    public void assertAdmitWithExhaustedPool() {
+        try (MemoryReservation reservation = MemoryPool.getInstance().register(1, "SELECT 1")) {
+            reservation.reserve(100);
+            MemoryPool.getInstance().admit(2, "SELECT 2").close();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.text.distsql.rql;
+
+import org.apache.shardingsphere.distsql.parser.statement.rql.show.ShowMetaDataUsageStatement;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.junit.Test;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class MetaDataUsageQueryResultSetTest {
+    
+    @Test
+    public void assertGetRowData() {
+        TableMetaData sharedTableMetaData = new TableMetaData(Collections.singletonList(new ColumnMetaData("id", Types.INTEGER, true, false, false)), Collections.emptyList());
+        Map<String, TableMetaData> tables = new HashMap<>(3, 1);
+        tables.put("t_order_0", sharedTableMetaData);
+        tables.put("t_order_1", sharedTableMetaData);
+        tables.put("t_user", new TableMetaData(Collections.singletonList(new ColumnMetaData("name", Types.VARCHAR, false, false, false)), Collections.emptyList()));
+        ShardingSphereMetaData metaData = mock(ShardingSphereMetaData.class);
+        when(metaData.getSchema()).thenReturn(new ShardingSphereSchema(tables));
+        MetaDataUsageQueryResultSet resultSet = new MetaDataUsageQueryResultSet();
+        resultSet.init(metaData, mock(ShowMetaDataUsageStatement.class));
+        assertTrue(resultSet.next());
+        List<Object> actual = new ArrayList<>(resultSet.getRowData());
+        assertThat(actual.size(), is(resultSet.getColumnNames().size()));
+        assertThat(actual.get(0), is(3));
+        assertThat(actual.get(1), is(2));
+        assertThat(actual.get(2), is(3L));
+        assertThat(actual.get(3), is(2));
+        assertTrue((Long) actual.get(4) < (Long) actual.get(5));
+        assertFalse(resultSet.next());
+    }
+}
@@ -24,18 +24,23 @@ import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.WriteBufferWaterMark;
 import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollChannelOption;
 import io.netty.channel.epoll.EpollEventLoopGroup;
 import io.netty.channel.epoll.EpollServerSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
-import io.netty.handler.logging.LogLevel;
-import io.netty.handler.logging.LoggingHandler;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.proxy.backend.context.BackendExecutorContext;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.frontend.netty.ServerHandlerInitializer;
 import org.apache.shardingsphere.proxy.frontend.protocol.FrontDatabaseProtocolTypeFactory;
 
+import java.util.ArrayList;
+import java.util.Collection;
+
 /**
  * ShardingSphere-Proxy.
  */
@@ -54,12 +59,19 @@ public final class ShardingSphereProxy {
     @SneakyThrows(InterruptedException.class)
     public void start(final int port) {
         try {
-            createEventLoopGroup();
+            ConfigurationProperties props = ProxyContext.getInstance().getMetaDataContexts().getProps();
+            int acceptorSize = getAcceptorSize(props);
+            createEventLoopGroup(acceptorSize, props.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_EXECUTOR_SIZE));
             ServerBootstrap bootstrap = new ServerBootstrap();
-            initServerBootstrap(bootstrap);
-            ChannelFuture future = bootstrap.bind(port).sync();
+            initServerBootstrap(bootstrap, props, acceptorSize > 1);
+            Collection<ChannelFuture> futures = new ArrayList<>(acceptorSize);
+            for (int i = 0; i < acceptorSize; i++) {
+                futures.add(bootstrap.bind(port).sync());
+            }
             log.info("ShardingSphere-Proxy start success.");
-            future.channel().closeFuture().sync();
+            for (ChannelFuture each : futures) {
+                each.channel().closeFuture().sync();
+            }
         } finally {
             workerGroup.shutdownGracefully();
             bossGroup.shutdownGracefully();
@@ -67,20 +79,34 @@ public final class ShardingSphereProxy {
         }
     }
     
-    private void createEventLoopGroup() {
-        bossGroup = Epoll.isAvailable() ? new EpollEventLoopGroup(1) : new NioEventLoopGroup(1);
-        workerGroup = Epoll.isAvailable() ? new EpollEventLoopGroup() : new NioEventLoopGroup();
+    private int getAcceptorSize(final ConfigurationProperties props) {
+        int result = props.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_ACCEPTOR_SIZE);
+        if (result > 1 && !Epoll.isAvailable()) {
+            log.warn("SO_REUSEPORT is only available with epoll, ignore `{}` and start with single acceptor.", ConfigurationPropertyKey.PROXY_FRONTEND_ACCEPTOR_SIZE.getKey());
+            return 1;
+        }
+        return Math.max(result, 1);
     }
     
-    private void initServerBootstrap(final ServerBootstrap bootstrap) {
+    private void createEventLoopGroup(final int acceptorSize, final int executorSize) {
+        bossGroup = Epoll.isAvailable() ? new EpollEventLoopGroup(acceptorSize) : new NioEventLoopGroup(acceptorSize);
+        workerGroup = Epoll.isAvailable() ? new EpollEventLoopGroup(executorSize) : new NioEventLoopGroup(executorSize);
+    }
+    
+    private void initServerBootstrap(final ServerBootstrap bootstrap, final ConfigurationProperties props, final boolean reusePort) {
+        int lowWaterMark = props.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_WRITE_BUFFER_LOW_WATER_MARK);
+        int highWaterMark = props.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_WRITE_BUFFER_HIGH_WATER_MARK);
         bootstrap.group(bossGroup, workerGroup)
                 .channel(Epoll.isAvailable() ? EpollServerSocketChannel.class : NioServerSocketChannel.class)
-                .option(ChannelOption.SO_BACKLOG, 128)
-                .option(ChannelOption.WRITE_BUFFER_WATER_MARK, new WriteBufferWaterMark(8 * 1024 * 1024, 16 * 1024 * 1024))
+                .option(ChannelOption.SO_BACKLOG, props.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_BACKLOG))
                 .option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
+                .childOption(ChannelOption.WRITE_BUFFER_WATER_MARK, new WriteBufferWaterMark(lowWaterMark, highWaterMark))
                 .childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
                 .childOption(ChannelOption.TCP_NODELAY, true)
-                .handler(new LoggingHandler(LogLevel.INFO))
                 .childHandler(new ServerHandlerInitializer(FrontDatabaseProtocolTypeFactory.getDatabaseType()));
+        if (Epoll.isAvailable()) {
+            bootstrap.option(EpollChannelOption.SO_REUSEPORT, reusePort);
+            bootstrap.childOption(EpollChannelOption.TCP_QUICKACK, props.<Boolean>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_TCP_QUICKACK_ENABLED));
+        }
     }
 }
@@ -19,14 +19,20 @@ package org.apache.shardingsphere.proxy.frontend.command;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.concurrent.EventExecutor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.db.protocol.packet.CommandPacket;
 import org.apache.shardingsphere.db.protocol.packet.CommandPacketType;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.sql.log.SlowSQLLogger;
+import org.apache.shardingsphere.infra.executor.sql.trace.SQLExecutionPhase;
+import org.apache.shardingsphere.infra.executor.sql.trace.SQLExecutionTraceHolder;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.ConnectionStatus;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.exception.ExpectedExceptions;
@@ -62,9 +68,13 @@ public final class CommandExecutorTask implements Runnable {
     @Override
     public void run() {
         boolean isNeedFlush = false;
+        long slowQueryLogThreshold = ProxyContext.getInstance().getMetaDataContexts().getProps().<Long>getValue(ConfigurationPropertyKey.PROXY_SLOW_QUERY_LOG_THRESHOLD_MILLISECONDS);
+        if (slowQueryLogThreshold > 0L) {
+            SQLExecutionTraceHolder.start();
+        }
         try (PacketPayload payload = databaseProtocolFrontendEngine.getCodecEngine().createPacketPayload((ByteBuf) message)) {
             ConnectionStatus connectionStatus = backendConnection.getConnectionStatus();
-            if (!backendConnection.getTransactionStatus().isInConnectionHeldTransaction()) {
+            if (!isResourceHeld()) {
                 connectionStatus.waitUntilConnectionRelease();
                 connectionStatus.switchToUsing();
             }
@@ -72,38 +82,60 @@ public final class CommandExecutorTask implements Runnable {
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
+            backendConnection.setResourceHeld(false);
             processException(ex);
         } finally {
             Collection<SQLException> exceptions = closeExecutionResources();
             if (isNeedFlush) {
                 context.flush();
             }
-            if (!backendConnection.getTransactionStatus().isInConnectionHeldTransaction()) {
+            if (!isResourceHeld()) {
                 exceptions.addAll(backendConnection.closeDatabaseCommunicationEngines());
                 exceptions.addAll(backendConnection.closeConnections(false));
             }
             processClosedExceptions(exceptions);
+            SQLExecutionTraceHolder.finish().ifPresent(optional -> SlowSQLLogger.logIfSlow(optional, slowQueryLogThreshold));
+            releasePendingCommand();
+        }
+    }
+    
+    private void releasePendingCommand() {
+        // Writes off the I/O thread are queued as tasks of the event loop, so the command is released after them to keep later inline responses behind.
+        EventExecutor eventLoop = context.executor();
+        if (eventLoop.inEventLoop()) {
+            backendConnection.getPendingCommandCount().decrementAndGet();
+        } else {
+            eventLoop.execute(() -> backendConnection.getPendingCommandCount().decrementAndGet());
         }
     }
     
     private boolean executeCommand(final ChannelHandlerContext context, final PacketPayload payload, final BackendConnection backendConnection) throws SQLException {
         CommandExecuteEngine commandExecuteEngine = databaseProtocolFrontendEngine.getCommandExecuteEngine();
         CommandPacketType type = commandExecuteEngine.getCommandPacketType(payload);
+        backendConnection.setResourceHeld(commandExecuteEngine.isResourceHeld(type));
         CommandPacket commandPacket = commandExecuteEngine.getCommandPacket(payload, type, backendConnection);
         CommandExecutor commandExecutor = commandExecuteEngine.getCommandExecutor(type, commandPacket, backendConnection);
         try {
             Collection<DatabasePacket<?>> responsePackets = commandExecutor.execute();
-            if (responsePackets.isEmpty()) {
-                return false;
-            }
-            responsePackets.forEach(context::write);
-            if (commandExecutor instanceof QueryCommandExecutor) {
-                return commandExecuteEngine.writeQueryData(context, backendConnection, (QueryCommandExecutor) commandExecutor, responsePackets.size());
-            }
+            long beginNanos = SQLExecutionTraceHolder.begin();
+            boolean result = writeResponse(commandExecuteEngine, commandExecutor, responsePackets);
+            SQLExecutionTraceHolder.end(SQLExecutionPhase.WRITE, beginNanos);
+            return result;
         } finally {
             commandExecutor.close();
         }
-        return databaseProtocolFrontendEngine.getFrontendContext().isFlushForPerCommandPacket();
+    }
+    
+    private boolean writeResponse(final CommandExecuteEngine commandExecuteEngine, final CommandExecutor commandExecutor, final Collection<DatabasePacket<?>> responsePackets) throws SQLException {
+        responsePackets.forEach(context::write);
+        if (commandExecutor instanceof QueryCommandExecutor) {
+            return commandExecuteEngine.writeQueryData(context, backendConnection, (QueryCommandExecutor) commandExecutor, responsePackets.size());
+        }
+        return !responsePackets.isEmpty() && databaseProtocolFrontendEngine.getFrontendContext().isFlushForPerCommandPacket();
+    }
+    
+    private boolean isResourceHeld() {
+        return backendConnection.isResourceHeld() || backendConnection.isSessionPinned() || backendConnection.getTransactionStatus().isInConnectionHeldTransaction();
     }
     
     private void processException(final Exception cause) {
@@ -19,9 +19,10 @@ package org.apache.shardingsphere.proxy.frontend.executor;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.transaction.TransactionStatus;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
 
 /**
  * Command executor selector.
@@ -30,16 +31,39 @@ import java.util.concurrent.ExecutorService;
 public final class CommandExecutorSelector {
     
     /**
-     * Get executor service.
+     * Get executor.
      *
      * @param isOccupyThreadForPerConnection is occupy thread for per connection or not
      * @param supportHint is support hint
      * @param transactionType transaction type
      * @param connectionId connection ID
-     * @return executor service
+     * @return executor
      */
-    public static ExecutorService getExecutorService(final boolean isOccupyThreadForPerConnection, final boolean supportHint, final TransactionType transactionType, final int connectionId) {
-        return isOccupyThreadForPerConnection || supportHint || TransactionType.isDistributedTransaction(transactionType)
-                ? ConnectionThreadExecutorGroup.getInstance().get(connectionId) : UserExecutorGroup.getInstance().getExecutorService();
+    public static Executor getExecutor(final boolean isOccupyThreadForPerConnection, final boolean supportHint, final TransactionType transactionType, final int connectionId) {
+        return isConnectionBound(isOccupyThreadForPerConnection, supportHint, transactionType)
+                ? ConnectionMailboxGroup.getInstance().get(connectionId) : UserExecutorGroup.getInstance().getExecutorService();
+    }
+    
+    /**
+     * Judge whether commands are bound to the executor of connection.
+     *
+     * @param isOccupyThreadForPerConnection is occupy thread for per connection or not
+     * @param supportHint is support hint
+     * @param transactionType transaction type
+     * @return commands are bound to the executor of connection or not
+     */
+    public static boolean isConnectionBound(final boolean isOccupyThreadForPerConnection, final boolean supportHint, final TransactionType transactionType) {
+        return isOccupyThreadForPerConnection || supportHint || TransactionType.isDistributedTransaction(transactionType);
+    }
+    
+    /**
+     * Judge whether thread affinity is required.
+     *
+     * @param supportHint is support hint
+     * @param transactionStatus transaction status
+     * @return thread affinity is required or not
+     */
+    public static boolean isThreadAffinityRequired(final boolean supportHint, final TransactionStatus transactionStatus) {
+        return supportHint || TransactionType.isDistributedTransaction(transactionStatus.getTransactionType()) && transactionStatus.isInTransaction();
     }
 }
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.executor;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Connection mailbox.
+ *
+ * <p>
+ * Tasks of one connection are queued in a lock-free mailbox and executed serially by threads borrowed from a shared executor,
+ * so thread count scales with active connections instead of open connections.
+ * While thread affinity is required, such as during XA transaction, the borrowed thread is held by the connection and waits for the next task.
+ * If a task throws, remaining tasks are drained by another borrowed thread.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class ConnectionMailbox implements Executor {
+    
+    private final Executor executor;
+    
+    private final BooleanSupplier threadAffinityRequired;
+    
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    
+    private volatile Thread heldThread;
+    
+    private volatile boolean closed;
+    
+    @Override
+    public void execute(final Runnable task) {
+        tasks.offer(task);
+        if (scheduled.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+            return;
+        }
+        Thread thread = heldThread;
+        if (null != thread) {
+            LockSupport.unpark(thread);
+        }
+    }
+    
+    private void drain() {
+        boolean completed = false;
+        try {
+            drainTasks();
+            completed = true;
+        } finally {
+            if (!completed) {
+                reschedule();
+            }
+        }
+    }
+    
+    private void drainTasks() {
+        while (true) {
+            Runnable task;
+            while (null != (task = tasks.poll())) {
+                task.run();
+            }
+            if (!closed && threadAffinityRequired.getAsBoolean()) {
+                awaitTask();
+                continue;
+            }
+            scheduled.set(false);
+            if (tasks.isEmpty() || !scheduled.compareAndSet(false, true)) {
+                return;
+            }
+        }
+    }
+    
+    private void reschedule() {
+        heldThread = null;
+        scheduled.set(false);
+        if (!tasks.isEmpty() && scheduled.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+    
+    private void awaitTask() {
+        heldThread = Thread.currentThread();
+        if (tasks.isEmpty() && !closed) {
+            LockSupport.park(this);
+        }
+        heldThread = null;
+    }
+    
+    /**
+     * Close mailbox and await termination of queued tasks.
+     */
+    public void closeAndAwaitTermination() {
+        closed = true;
+        CountDownLatch latch = new CountDownLatch(1);
+        execute(latch::countDown);
+        try {
+            latch.await();
+        } catch (final InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.executor;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Connection mailbox group.
+ *
+ * <p>
+ * Manage the mailbox for each backend connection invoking.
+ * This ensure commands of connection are executed in order, and XA transaction framework processed by the same thread during transaction.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ConnectionMailboxGroup {
+    
+    private static final ConnectionMailboxGroup INSTANCE = new ConnectionMailboxGroup();
+    
+    private final Map<Integer, ConnectionMailbox> mailboxes = new ConcurrentHashMap<>();
+    
+    /**
+     * Get connection mailbox group.
+     *
+     * @return connection mailbox group
+     */
+    public static ConnectionMailboxGroup getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Register connection.
+     *
+     * @param connectionId connection id
+     * @param threadAffinityRequired whether commands of connection should be executed by the same thread currently
+     */
+    public void register(final int connectionId, final BooleanSupplier threadAffinityRequired) {
+        mailboxes.put(connectionId, new ConnectionMailbox(UserExecutorGroup.getInstance().getExecutorService(), threadAffinityRequired));
+    }
+    
+    /**
+     * Get mailbox of connection.
+     *
+     * @param connectionId connection id
+     * @return mailbox of current connection
+     */
+    public Executor get(final int connectionId) {
+        return mailboxes.get(connectionId);
+    }
+    
+    /**
+     * Unregister connection and await termination.
+     *
+     * @param connectionId connection id
+     */
+    public void unregisterAndAwaitTermination(final int connectionId) {
+        ConnectionMailbox mailbox = mailboxes.remove(connectionId);
+        if (null != mailbox) {
+            mailbox.closeAndAwaitTermination();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.executor;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watchdog for commands executed inline on I/O threads.
+ *
+ * <p>Commands executed inline must never block, the watchdog reports the stack trace of I/O thread which is blocked by an inline command for too long.</p>
+ */
+@Slf4j
+public final class InlineExecutionWatchdog {
+    
+    private static final String NAME_FORMAT = "Inline-Execution-Watchdog-%d";
+    
+    private static final long CHECK_INTERVAL_MILLISECONDS = 50L;
+    
+    private static final long BLOCKED_THRESHOLD_MILLISECONDS = 100L;
+    
+    private static final InlineExecutionWatchdog INSTANCE = new InlineExecutionWatchdog();
+    
+    private final Map<Thread, InlineExecution> executions = new ConcurrentHashMap<>();
+    
+    private InlineExecutionWatchdog() {
+        Executors.newSingleThreadScheduledExecutor(ExecutorThreadFactoryBuilder.build(NAME_FORMAT))
+                .scheduleWithFixedDelay(this::check, CHECK_INTERVAL_MILLISECONDS, CHECK_INTERVAL_MILLISECONDS, TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Get instance of inline execution watchdog.
+     *
+     * @return inline execution watchdog
+     */
+    public static InlineExecutionWatchdog getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Execute command inline on current thread under watch.
+     *
+     * @param connectionId connection ID
+     * @param command command to be executed
+     */
+    public void execute(final int connectionId, final Runnable command) {
+        Thread currentThread = Thread.currentThread();
+        executions.put(currentThread, new InlineExecution(connectionId, System.nanoTime()));
+        try {
+            command.run();
+        } finally {
+            executions.remove(currentThread);
+        }
+    }
+    
+    private void check() {
+        long currentNanoTime = System.nanoTime();
+        for (Entry<Thread, InlineExecution> entry : executions.entrySet()) {
+            InlineExecution execution = entry.getValue();
+            long blockedMilliseconds = TimeUnit.NANOSECONDS.toMillis(currentNanoTime - execution.startNanoTime);
+            if (!execution.reported && blockedMilliseconds >= BLOCKED_THRESHOLD_MILLISECONDS) {
+                execution.reported = true;
+                log.warn("Inline command of connection {} has blocked I/O thread `{}` for {} ms, inline command should never block, stack trace: {}",
+                        execution.connectionId, entry.getKey().getName(), blockedMilliseconds, getStackTrace(entry.getKey()));
+            }
+        }
+    }
+    
+    private String getStackTrace(final Thread thread) {
+        StringBuilder result = new StringBuilder();
+        for (StackTraceElement each : thread.getStackTrace()) {
+            result.append(System.lineSeparator()).append("\tat ").append(each);
+        }
+        return result.toString();
+    }
+    
+    @RequiredArgsConstructor
+    private static final class InlineExecution {
+        
+        private final int connectionId;
+        
+        private final long startNanoTime;
+        
+        private volatile boolean reported;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.netty;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.ResourceLock;
+
+/**
+ * Channel writability awaiter.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ChannelWritabilityAwaiter {
+    
+    /**
+     * Await until channel is writable or inactive.
+     * 
+     * <p>Pending packets are flushed and reading from channel is paused while awaiting, so no more rows are fetched from backend and no more commands are read from client.
+     * Awaiting thread is woken up by {@link FrontendChannelInboundHandler} when channel becomes writable or inactive.</p>
+     *
+     * @param context channel handler context
+     * @param resourceLock resource lock of backend connection
+     */
+    public static void await(final ChannelHandlerContext context, final ResourceLock resourceLock) {
+        Channel channel = context.channel();
+        if (isWritableOrInactive(channel)) {
+            return;
+        }
+        context.flush();
+        channel.config().setAutoRead(false);
+        try {
+            resourceLock.doAwaitUntil(() -> isWritableOrInactive(channel));
+        } finally {
+            channel.config().setAutoRead(true);
+        }
+    }
+    
+    private static boolean isWritableOrInactive(final Channel channel) {
+        return channel.isWritable() || !channel.isActive();
+    }
+}
@@ -27,7 +27,8 @@ import org.apache.shardingsphere.infra.metadata.user.Grantee;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.frontend.authentication.AuthenticationResult;
-import org.apache.shardingsphere.proxy.frontend.executor.ConnectionThreadExecutorGroup;
+import org.apache.shardingsphere.proxy.frontend.executor.CommandExecutorSelector;
+import org.apache.shardingsphere.proxy.frontend.executor.ConnectionMailboxGroup;
 import org.apache.shardingsphere.proxy.frontend.spi.DatabaseProtocolFrontendEngine;
 import org.apache.shardingsphere.proxy.frontend.state.ProxyStateContext;
 import org.apache.shardingsphere.readwritesplitting.route.impl.PrimaryVisitedManager;
@@ -54,10 +55,15 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
     @Override
     public void channelActive(final ChannelHandlerContext context) {
         int connectionId = databaseProtocolFrontendEngine.getAuthenticationEngine().handshake(context);
-        ConnectionThreadExecutorGroup.getInstance().register(connectionId);
+        ConnectionMailboxGroup.getInstance().register(connectionId, this::isThreadAffinityRequired);
         backendConnection.setConnectionId(connectionId);
     }
     
+    private boolean isThreadAffinityRequired() {
+        boolean supportHint = ProxyContext.getInstance().getMetaDataContexts().getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_HINT_ENABLED);
+        return CommandExecutorSelector.isThreadAffinityRequired(supportHint, backendConnection.getTransactionStatus());
+    }
+    
     @Override
     public void channelRead(final ChannelHandlerContext context, final Object message) {
         if (!authenticated) {
@@ -88,11 +94,12 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
     @Override
     public void channelInactive(final ChannelHandlerContext context) {
         context.fireChannelInactive();
+        backendConnection.getResourceLock().doNotify();
         closeAllResources();
     }
     
     private void closeAllResources() {
-        ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(backendConnection.getConnectionId());
+        ConnectionMailboxGroup.getInstance().unregisterAndAwaitTermination(backendConnection.getConnectionId());
         PrimaryVisitedManager.clear();
         backendConnection.closeDatabaseCommunicationEngines();
         backendConnection.closeConnections(true);
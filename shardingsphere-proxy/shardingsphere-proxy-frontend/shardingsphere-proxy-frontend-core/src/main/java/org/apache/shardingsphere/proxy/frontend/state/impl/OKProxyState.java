@@ -17,28 +17,49 @@
 
 package org.apache.shardingsphere.proxy.frontend.state.impl;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.frontend.command.CommandExecutorTask;
 import org.apache.shardingsphere.proxy.frontend.executor.CommandExecutorSelector;
+import org.apache.shardingsphere.proxy.frontend.executor.InlineExecutionWatchdog;
 import org.apache.shardingsphere.proxy.frontend.spi.DatabaseProtocolFrontendEngine;
 import org.apache.shardingsphere.proxy.frontend.state.ProxyState;
+import org.apache.shardingsphere.transaction.core.TransactionType;
 
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
 
 /**
  * OK proxy state.
+ *
+ * <p>Commands which never block are executed inline on I/O thread if no command of the same connection is pending and the connection is not bound to its executor,
+ * others are submitted to command executors.</p>
  */
 public final class OKProxyState implements ProxyState {
     
     @Override
     public void execute(final ChannelHandlerContext context, final Object message, final DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine, final BackendConnection backendConnection) {
+        CommandExecutorTask commandExecutorTask = new CommandExecutorTask(databaseProtocolFrontendEngine, backendConnection, context, message);
         boolean supportHint = ProxyContext.getInstance().getMetaDataContexts().getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_HINT_ENABLED);
         boolean isOccupyThreadForPerConnection = databaseProtocolFrontendEngine.getFrontendContext().isOccupyThreadForPerConnection();
-        ExecutorService executorService = CommandExecutorSelector.getExecutorService(
-                isOccupyThreadForPerConnection, supportHint, backendConnection.getTransactionStatus().getTransactionType(), backendConnection.getConnectionId());
-        executorService.execute(new CommandExecutorTask(databaseProtocolFrontendEngine, backendConnection, context, message));
+        TransactionType transactionType = backendConnection.getTransactionStatus().getTransactionType();
+        boolean connectionBound = CommandExecutorSelector.isConnectionBound(isOccupyThreadForPerConnection, supportHint, transactionType);
+        if (isInlineExecutable(message, databaseProtocolFrontendEngine, backendConnection, connectionBound)) {
+            backendConnection.getPendingCommandCount().incrementAndGet();
+            InlineExecutionWatchdog.getInstance().execute(backendConnection.getConnectionId(), commandExecutorTask);
+            return;
+        }
+        Executor executor = CommandExecutorSelector.getExecutor(isOccupyThreadForPerConnection, supportHint, transactionType, backendConnection.getConnectionId());
+        backendConnection.getPendingCommandCount().incrementAndGet();
+        executor.execute(commandExecutorTask);
+    }
+    
+    private boolean isInlineExecutable(final Object message, final DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine, 
+                                       final BackendConnection backendConnection, final boolean connectionBound) {
+        // Hint and distributed transaction keep state on the executor of connection, so their commands never run on I/O thread.
+        return !connectionBound && 0 == backendConnection.getPendingCommandCount().get() 
+                && databaseProtocolFrontendEngine.getCommandExecuteEngine().isInlineExecutable((ByteBuf) message, backendConnection);
     }
 }
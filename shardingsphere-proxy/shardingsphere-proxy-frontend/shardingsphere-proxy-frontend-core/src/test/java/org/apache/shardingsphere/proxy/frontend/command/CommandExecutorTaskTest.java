@@ -19,6 +19,8 @@ package org.apache.shardingsphere.proxy.frontend.command;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.ImmediateEventExecutor;
 import org.apache.shardingsphere.db.protocol.codec.DatabasePacketCodecEngine;
 import org.apache.shardingsphere.db.protocol.packet.CommandPacket;
 import org.apache.shardingsphere.db.protocol.packet.CommandPacketType;
@@ -34,17 +36,23 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.sql.SQLException;
 import java.util.Collections;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -96,6 +104,7 @@ public final class CommandExecutorTaskTest {
     @Before
     public void setup() {
         when(backendConnection.closeDatabaseCommunicationEngines()).thenReturn(Collections.emptyList());
+        when(handlerContext.executor()).thenReturn(ImmediateEventExecutor.INSTANCE);
     }
     
     @Test
@@ -142,6 +151,29 @@ public final class CommandExecutorTaskTest {
         verify(backendConnection).closeDatabaseCommunicationEngines();
     }
     
+    @Test
+    public void assertRunWithResourceHeld() throws SQLException {
+        when(engine.getFrontendContext()).thenReturn(frontendContext);
+        when(commandExecutor.execute()).thenReturn(Collections.singletonList(databasePacket));
+        when(executeEngine.getCommandPacket(eq(payload), eq(commandPacketType), eq(backendConnection))).thenReturn(commandPacket);
+        when(executeEngine.getCommandExecutor(eq(commandPacketType), eq(commandPacket), eq(backendConnection))).thenReturn(commandExecutor);
+        when(executeEngine.getCommandPacketType(eq(payload))).thenReturn(commandPacketType);
+        when(executeEngine.isResourceHeld(commandPacketType)).thenReturn(true);
+        when(engine.getCommandExecuteEngine()).thenReturn(executeEngine);
+        when(backendConnection.getConnectionStatus()).thenReturn(connectionStatus);
+        when(backendConnection.isResourceHeld()).thenReturn(false, true);
+        when(codecEngine.createPacketPayload(eq(message))).thenReturn(payload);
+        when(engine.getCodecEngine()).thenReturn(codecEngine);
+        when(backendConnection.closeFederateExecutor()).thenReturn(Collections.emptyList());
+        CommandExecutorTask actual = new CommandExecutorTask(engine, backendConnection, handlerContext, message);
+        actual.run();
+        verify(backendConnection).setResourceHeld(true);
+        verify(connectionStatus).switchToUsing();
+        verify(handlerContext).write(databasePacket);
+        verify(backendConnection, never()).closeDatabaseCommunicationEngines();
+        verify(backendConnection, never()).closeConnections(false);
+    }
+    
     @Test
     public void assertRunByCommandExecutor() throws SQLException {
         when(frontendContext.isFlushForPerCommandPacket()).thenReturn(true);
@@ -182,4 +214,28 @@ public final class CommandExecutorTaskTest {
         verify(handlerContext, atLeast(2)).writeAndFlush(databasePacket);
         verify(backendConnection).closeDatabaseCommunicationEngines();
     }
+    
+    @Test
+    public void assertReleasePendingCommandAfterQueuedWrites() throws SQLException {
+        when(queryCommandExecutor.execute()).thenReturn(Collections.emptyList());
+        when(executeEngine.getCommandPacket(eq(payload), eq(commandPacketType), eq(backendConnection))).thenReturn(commandPacket);
+        when(executeEngine.getCommandExecutor(eq(commandPacketType), eq(commandPacket), eq(backendConnection))).thenReturn(queryCommandExecutor);
+        when(executeEngine.getCommandPacketType(eq(payload))).thenReturn(commandPacketType);
+        when(engine.getCommandExecuteEngine()).thenReturn(executeEngine);
+        when(backendConnection.getConnectionStatus()).thenReturn(connectionStatus);
+        when(codecEngine.createPacketPayload(eq(message))).thenReturn(payload);
+        when(engine.getCodecEngine()).thenReturn(codecEngine);
+        when(backendConnection.closeConnections(false)).thenReturn(Collections.emptyList());
+        when(backendConnection.closeFederateExecutor()).thenReturn(Collections.emptyList());
+        AtomicInteger pendingCommandCount = new AtomicInteger(1);
+        when(backendConnection.getPendingCommandCount()).thenReturn(pendingCommandCount);
+        EventExecutor eventLoop = mock(EventExecutor.class);
+        when(handlerContext.executor()).thenReturn(eventLoop);
+        new CommandExecutorTask(engine, backendConnection, handlerContext, message).run();
+        assertThat(pendingCommandCount.get(), is(1));
+        ArgumentCaptor<Runnable> release = ArgumentCaptor.forClass(Runnable.class);
+        verify(eventLoop).execute(release.capture());
+        release.getValue().run();
+        assertThat(pendingCommandCount.get(), is(0));
+    }
 }
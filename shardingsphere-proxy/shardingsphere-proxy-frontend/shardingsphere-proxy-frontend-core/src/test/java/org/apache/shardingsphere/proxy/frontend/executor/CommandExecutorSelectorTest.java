@@ -17,40 +17,67 @@
 
 package org.apache.shardingsphere.proxy.frontend.executor;
 
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.transaction.TransactionStatus;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 import org.junit.Test;
 
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class CommandExecutorSelectorTest {
     
     @Test
-    public void assertGetExecutorServiceWithLocal() {
+    public void assertGetExecutorWithLocal() {
         int connectionId = 1;
-        assertThat(CommandExecutorSelector.getExecutorService(false, false, TransactionType.LOCAL, connectionId), instanceOf(ExecutorService.class));
+        assertThat(CommandExecutorSelector.getExecutor(false, false, TransactionType.LOCAL, connectionId), instanceOf(Executor.class));
     }
     
     @Test
-    public void assertGetExecutorServiceWithOccupyThreadForPerConnection() {
+    public void assertGetExecutorWithOccupyThreadForPerConnection() {
         int connectionId = 2;
-        ConnectionThreadExecutorGroup.getInstance().register(connectionId);
-        assertThat(CommandExecutorSelector.getExecutorService(true, false, TransactionType.LOCAL, connectionId), instanceOf(ExecutorService.class));
+        ConnectionMailboxGroup.getInstance().register(connectionId, () -> false);
+        assertThat(CommandExecutorSelector.getExecutor(true, false, TransactionType.LOCAL, connectionId), instanceOf(Executor.class));
     }
     
     @Test
-    public void assertGetExecutorServiceWithXA() {
+    public void assertGetExecutorWithXA() {
         int connectionId = 3;
-        ConnectionThreadExecutorGroup.getInstance().register(connectionId);
-        assertThat(CommandExecutorSelector.getExecutorService(false, false, TransactionType.XA, connectionId), instanceOf(ExecutorService.class));
+        ConnectionMailboxGroup.getInstance().register(connectionId, () -> false);
+        assertThat(CommandExecutorSelector.getExecutor(false, false, TransactionType.XA, connectionId), instanceOf(Executor.class));
     }
     
     @Test
-    public void assertGetExecutorServiceWithBASE() {
+    public void assertGetExecutorWithBASE() {
         int connectionId = 4;
-        ConnectionThreadExecutorGroup.getInstance().register(connectionId);
-        assertThat(CommandExecutorSelector.getExecutorService(false, false, TransactionType.BASE, connectionId), instanceOf(ExecutorService.class));
+        ConnectionMailboxGroup.getInstance().register(connectionId, () -> false);
+        assertThat(CommandExecutorSelector.getExecutor(false, false, TransactionType.BASE, connectionId), instanceOf(Executor.class));
+    }
+    
+    @Test
+    public void assertIsThreadAffinityRequiredWithHint() {
+        assertTrue(CommandExecutorSelector.isThreadAffinityRequired(true, new TransactionStatus(TransactionType.LOCAL)));
+    }
+    
+    @Test
+    public void assertIsThreadAffinityRequiredInXATransaction() {
+        TransactionStatus transactionStatus = new TransactionStatus(TransactionType.XA);
+        transactionStatus.setInTransaction(true);
+        assertTrue(CommandExecutorSelector.isThreadAffinityRequired(false, transactionStatus));
+    }
+    
+    @Test
+    public void assertIsThreadAffinityNotRequiredOutOfXATransaction() {
+        assertFalse(CommandExecutorSelector.isThreadAffinityRequired(false, new TransactionStatus(TransactionType.XA)));
+    }
+    
+    @Test
+    public void assertIsThreadAffinityNotRequiredInLocalTransaction() {
+        TransactionStatus transactionStatus = new TransactionStatus(TransactionType.LOCAL);
+        transactionStatus.setInTransaction(true);
+        assertFalse(CommandExecutorSelector.isThreadAffinityRequired(false, transactionStatus));
     }
 }
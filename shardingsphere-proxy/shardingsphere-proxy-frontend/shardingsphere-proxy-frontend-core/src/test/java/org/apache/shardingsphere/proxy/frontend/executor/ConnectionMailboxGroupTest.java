@@ -22,21 +22,21 @@ import org.junit.Test;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 
-public final class ConnectionThreadExecutorGroupTest {
+public final class ConnectionMailboxGroupTest {
     
     @Test
     public void assertRegister() {
         int connectionId = 1;
-        ConnectionThreadExecutorGroup.getInstance().register(connectionId);
-        assertNotNull(ConnectionThreadExecutorGroup.getInstance().get(connectionId));
-        ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
+        ConnectionMailboxGroup.getInstance().register(connectionId, () -> false);
+        assertNotNull(ConnectionMailboxGroup.getInstance().get(connectionId));
+        ConnectionMailboxGroup.getInstance().unregisterAndAwaitTermination(connectionId);
     }
     
     @Test
     public void assertUnregister() {
         int connectionId = 2;
-        ConnectionThreadExecutorGroup.getInstance().register(connectionId);
-        ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
-        assertNull(ConnectionThreadExecutorGroup.getInstance().get(connectionId));
+        ConnectionMailboxGroup.getInstance().register(connectionId, () -> false);
+        ConnectionMailboxGroup.getInstance().unregisterAndAwaitTermination(connectionId);
+        assertNull(ConnectionMailboxGroup.getInstance().get(connectionId));
     }
 }
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.executor;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class ConnectionMailboxTest {
+    
+    private final ExecutorService executorService = Executors.newCachedThreadPool();
+    
+    @After
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+    
+    @Test
+    public void assertExecuteInOrder() {
+        ConnectionMailbox mailbox = new ConnectionMailbox(executorService, () -> false);
+        List<Integer> actual = new ArrayList<>(1000);
+        for (int i = 0; i < 1000; i++) {
+            int each = i;
+            mailbox.execute(() -> actual.add(each));
+        }
+        mailbox.closeAndAwaitTermination();
+        assertThat(actual, is(IntStream.range(0, 1000).boxed().collect(Collectors.toList())));
+    }
+    
+    @Test
+    public void assertExecuteWithThreadAffinity() throws InterruptedException {
+        AtomicBoolean threadAffinityRequired = new AtomicBoolean(true);
+        ConnectionMailbox mailbox = new ConnectionMailbox(executorService, threadAffinityRequired::get);
+        Collection<Thread> actual = new HashSet<>();
+        for (int i = 0; i < 10; i++) {
+            mailbox.execute(() -> actual.add(Thread.currentThread()));
+            Thread.sleep(1L);
+        }
+        mailbox.execute(() -> threadAffinityRequired.set(false));
+        mailbox.closeAndAwaitTermination();
+        assertThat(actual.size(), is(1));
+    }
+    
+    @Test
+    public void assertExecuteAfterTaskThrown() {
+        ConnectionMailbox mailbox = new ConnectionMailbox(executorService, () -> false);
+        List<Integer> actual = new ArrayList<>(2);
+        mailbox.execute(() -> actual.add(0));
+        mailbox.execute(() -> {
+            throw new AssertionError("task failed");
+        });
+        mailbox.execute(() -> actual.add(1));
+        mailbox.closeAndAwaitTermination();
+        assertThat(actual, is(Arrays.asList(0, 1)));
+    }
+}
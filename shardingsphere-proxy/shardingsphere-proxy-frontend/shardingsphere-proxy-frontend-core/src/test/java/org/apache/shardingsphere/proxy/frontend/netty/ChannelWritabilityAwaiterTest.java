@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.netty;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelConfig;
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.ResourceLock;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class ChannelWritabilityAwaiterTest {
+    
+    @Mock
+    private ChannelHandlerContext context;
+    
+    @Mock
+    private Channel channel;
+    
+    @Mock
+    private ChannelConfig channelConfig;
+    
+    @Before
+    public void setUp() {
+        when(context.channel()).thenReturn(channel);
+    }
+    
+    @Test
+    public void assertAwaitWithWritableChannel() {
+        when(channel.isWritable()).thenReturn(true);
+        ResourceLock resourceLock = mock(ResourceLock.class);
+        ChannelWritabilityAwaiter.await(context, resourceLock);
+        verify(context, never()).flush();
+        verify(resourceLock, never()).doAwaitUntil(any());
+    }
+    
+    @Test
+    public void assertAwaitWithInactiveChannel() {
+        when(channel.isActive()).thenReturn(false);
+        ResourceLock resourceLock = mock(ResourceLock.class);
+        ChannelWritabilityAwaiter.await(context, resourceLock);
+        verify(context, never()).flush();
+        verify(resourceLock, never()).doAwaitUntil(any());
+    }
+    
+    @Test(timeout = 10000L)
+    public void assertAwaitUntilChannelWritable() {
+        when(channel.isActive()).thenReturn(true);
+        AtomicBoolean writable = new AtomicBoolean();
+        when(channel.isWritable()).thenAnswer(invocation -> writable.get());
+        when(channel.config()).thenReturn(channelConfig);
+        ResourceLock resourceLock = new ResourceLock();
+        when(channelConfig.setAutoRead(false)).thenAnswer(invocation -> {
+            new Thread(() -> {
+                writable.set(true);
+                resourceLock.doNotify();
+            }).start();
+            return channelConfig;
+        });
+        ChannelWritabilityAwaiter.await(context, resourceLock);
+        InOrder inOrder = inOrder(context, channelConfig);
+        inOrder.verify(context).flush();
+        inOrder.verify(channelConfig).setAutoRead(false);
+        inOrder.verify(channelConfig).setAutoRead(true);
+    }
+}
@@ -18,15 +18,17 @@
 package org.apache.shardingsphere.proxy.frontend.mysql;
 
 import lombok.Getter;
-import org.apache.shardingsphere.db.protocol.codec.DatabasePacketCodecEngine;
 import org.apache.shardingsphere.db.protocol.mysql.codec.MySQLPacketCodecEngine;
-import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.MySQLBinaryStatementRegistry;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.frontend.authentication.AuthenticationEngine;
 import org.apache.shardingsphere.proxy.frontend.command.CommandExecuteEngine;
 import org.apache.shardingsphere.proxy.frontend.context.FrontendContext;
 import org.apache.shardingsphere.proxy.frontend.mysql.authentication.MySQLAuthenticationEngine;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.MySQLCommandExecuteEngine;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.MySQLConnectionContextRegistry;
 import org.apache.shardingsphere.proxy.frontend.spi.DatabaseProtocolFrontendEngine;
 
 /**
@@ -39,12 +41,15 @@ public final class MySQLFrontendEngine implements DatabaseProtocolFrontendEngine
     
     private final AuthenticationEngine authenticationEngine = new MySQLAuthenticationEngine();
     
-    private final CommandExecuteEngine commandExecuteEngine = new MySQLCommandExecuteEngine();
+    private final MySQLPacketCodecEngine codecEngine = new MySQLPacketCodecEngine(
+            ProxyContext.getInstance().getMetaDataContexts().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_MAX_PACKET_SIZE));
     
-    private final DatabasePacketCodecEngine<MySQLPacket> codecEngine = new MySQLPacketCodecEngine();
+    private final CommandExecuteEngine commandExecuteEngine = new MySQLCommandExecuteEngine(codecEngine);
     
     @Override
     public void release(final BackendConnection backendConnection) {
+        MySQLBinaryStatementRegistry.getInstance().unregister(backendConnection.getConnectionId());
+        MySQLConnectionContextRegistry.getInstance().remove(backendConnection.getConnectionId());
     }
     
     @Override
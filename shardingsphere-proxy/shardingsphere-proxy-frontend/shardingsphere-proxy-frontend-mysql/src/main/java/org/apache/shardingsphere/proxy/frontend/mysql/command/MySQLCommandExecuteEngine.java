@@ -17,12 +17,16 @@
 
 package org.apache.shardingsphere.proxy.frontend.mysql.command;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.mysql.codec.MySQLPacketCodecEngine;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacketFactory;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacketType;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacketTypeLoader;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLEofPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.apache.shardingsphere.db.protocol.packet.CommandPacket;
 import org.apache.shardingsphere.db.protocol.packet.CommandPacketType;
@@ -31,20 +35,47 @@ import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseCellReader;
 import org.apache.shardingsphere.proxy.frontend.command.CommandExecuteEngine;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.query.MySQLComQueryPacketExecutor;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.query.MySQLMultiStatementsQueryExecutor;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.query.MySQLTextResultSetRowWriter;
 import org.apache.shardingsphere.proxy.frontend.mysql.err.MySQLErrPacketFactory;
+import org.apache.shardingsphere.proxy.frontend.netty.ChannelWritabilityAwaiter;
 
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.EnumSet;
 import java.util.Optional;
 
 /**
  * Command execute engine for MySQL.
  */
+@RequiredArgsConstructor
 public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
     
+    private static final Collection<MySQLCommandPacketType> INLINE_EXECUTABLE_COMMAND_PACKET_TYPES = EnumSet.of(
+            MySQLCommandPacketType.COM_PING, MySQLCommandPacketType.COM_INIT_DB, MySQLCommandPacketType.COM_STMT_RESET, MySQLCommandPacketType.COM_STMT_CLOSE);
+    
+    private final MySQLPacketCodecEngine codecEngine;
+    
+    @Override
+    public boolean isInlineExecutable(final ByteBuf message, final BackendConnection backendConnection) {
+        if (message.readableBytes() < 2) {
+            return false;
+        }
+        int commandPacketTypeValue = message.getUnsignedByte(message.readerIndex() + 1);
+        for (MySQLCommandPacketType each : INLINE_EXECUTABLE_COMMAND_PACKET_TYPES) {
+            if (each.getValue() == commandPacketTypeValue) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
     @Override
     public MySQLCommandPacketType getCommandPacketType(final PacketPayload payload) {
         return MySQLCommandPacketTypeLoader.getCommandPacketType((MySQLPacketPayload) payload);
@@ -52,7 +83,7 @@ public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
     
     @Override
     public MySQLCommandPacket getCommandPacket(final PacketPayload payload, final CommandPacketType type, final BackendConnection backendConnection) throws SQLException {
-        return MySQLCommandPacketFactory.newInstance((MySQLCommandPacketType) type, (MySQLPacketPayload) payload);
+        return MySQLCommandPacketFactory.newInstance((MySQLCommandPacketType) type, (MySQLPacketPayload) payload, backendConnection.getConnectionId());
     }
     
     @Override
@@ -73,18 +104,57 @@ public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
     @Override
     public boolean writeQueryData(final ChannelHandlerContext context,
                                   final BackendConnection backendConnection, final QueryCommandExecutor queryCommandExecutor, final int headerPackagesCount) throws SQLException {
+        if (queryCommandExecutor instanceof MySQLMultiStatementsQueryExecutor) {
+            writeMultiStatementsData(context, backendConnection, (MySQLMultiStatementsQueryExecutor) queryCommandExecutor, headerPackagesCount);
+            return true;
+        }
         if (ResponseType.QUERY != queryCommandExecutor.getResponseType() || !context.channel().isActive()) {
             return true;
         }
+        Optional<QueryResponseCellReader> cellReader = queryCommandExecutor instanceof MySQLComQueryPacketExecutor
+                ? ((MySQLComQueryPacketExecutor) queryCommandExecutor).getQueryResponseCellReader() : Optional.empty();
+        int lastSequenceId = writeQueryRows(context, backendConnection, queryCommandExecutor, cellReader, headerPackagesCount);
+        context.write(new MySQLEofPacket(lastSequenceId + 1));
+        return true;
+    }
+    
+    private void writeMultiStatementsData(final ChannelHandlerContext context, final BackendConnection backendConnection,
+                                          final MySQLMultiStatementsQueryExecutor queryCommandExecutor, final int headerPackagesCount) throws SQLException {
+        int sequenceId = headerPackagesCount;
+        while (context.channel().isActive()) {
+            if (ResponseType.QUERY == queryCommandExecutor.getResponseType()) {
+                sequenceId = writeQueryRows(context, backendConnection, queryCommandExecutor, queryCommandExecutor.getQueryResponseCellReader(), sequenceId);
+                context.write(new MySQLEofPacket(++sequenceId, 0, queryCommandExecutor.getStatusFlag()));
+            }
+            if (!queryCommandExecutor.hasMoreStatements()) {
+                return;
+            }
+            Collection<DatabasePacket<?>> responsePackets;
+            try {
+                responsePackets = queryCommandExecutor.executeNext(sequenceId);
+                // CHECKSTYLE:OFF
+            } catch (final Exception ex) {
+                // CHECKSTYLE:ON
+                MySQLErrPacket errPacket = MySQLErrPacketFactory.newInstance(ex);
+                context.write(new MySQLErrPacket(sequenceId + 1, errPacket.getErrorCode(), errPacket.getSqlState(), errPacket.getErrorMessage()));
+                return;
+            }
+            responsePackets.forEach(context::write);
+            sequenceId += responsePackets.size();
+        }
+    }
+    
+    private int writeQueryRows(final ChannelHandlerContext context, final BackendConnection backendConnection, final QueryCommandExecutor queryCommandExecutor,
+                               final Optional<QueryResponseCellReader> cellReader, final int headerSequenceId) throws SQLException {
+        if (cellReader.isPresent()) {
+            return writeTextRows(context, backendConnection, queryCommandExecutor, new MySQLTextResultSetRowWriter(cellReader.get()), headerSequenceId);
+        }
         int count = 0;
         int flushThreshold = ProxyContext.getInstance().getMetaDataContexts().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD);
         int currentSequenceId = 0;
         while (queryCommandExecutor.next()) {
             count++;
-            while (!context.channel().isWritable() && context.channel().isActive()) {
-                context.flush();
-                backendConnection.getResourceLock().doAwait();
-            }
+            ChannelWritabilityAwaiter.await(context, backendConnection.getResourceLock());
             DatabasePacket<?> dataValue = queryCommandExecutor.getQueryRowPacket();
             context.write(dataValue);
             if (flushThreshold == count) {
@@ -93,7 +163,41 @@ public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
             }
             currentSequenceId++;
         }
-        context.write(new MySQLEofPacket(++currentSequenceId + headerPackagesCount));
-        return true;
+        return currentSequenceId + headerSequenceId;
+    }
+    
+    private int writeTextRows(final ChannelHandlerContext context, final BackendConnection backendConnection,
+                              final QueryCommandExecutor queryCommandExecutor, final MySQLTextResultSetRowWriter rowWriter, final int headerSequenceId) throws SQLException {
+        int count = 0;
+        int flushThreshold = ProxyContext.getInstance().getMetaDataContexts().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD);
+        int currentSequenceId = 0;
+        MySQLPacketPayload payload = new MySQLPacketPayload(context.alloc().ioBuffer());
+        try {
+            while (queryCommandExecutor.next()) {
+                count++;
+                if (!context.channel().isWritable()) {
+                    payload = writeRows(context, payload);
+                    ChannelWritabilityAwaiter.await(context, backendConnection.getResourceLock());
+                }
+                currentSequenceId += rowWriter.write(payload, currentSequenceId + 1 + headerSequenceId + codecEngine.getSequenceIdOffset());
+                if (flushThreshold == count) {
+                    payload = writeRows(context, payload);
+                    context.flush();
+                    count = 0;
+                }
+            }
+            payload = writeRows(context, payload);
+        } finally {
+            payload.close();
+        }
+        return currentSequenceId + headerSequenceId;
+    }
+    
+    private MySQLPacketPayload writeRows(final ChannelHandlerContext context, final MySQLPacketPayload payload) {
+        if (!payload.getByteBuf().isReadable()) {
+            return payload;
+        }
+        context.write(payload.getByteBuf());
+        return new MySQLPacketPayload(context.alloc().ioBuffer());
     }
 }
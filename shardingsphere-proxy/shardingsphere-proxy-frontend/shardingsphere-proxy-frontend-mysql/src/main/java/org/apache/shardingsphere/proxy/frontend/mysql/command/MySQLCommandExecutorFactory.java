@@ -41,8 +41,11 @@ import org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.prepa
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.reset.MySQLComStmtResetExecutor;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.fieldlist.MySQLComFieldListPacketExecutor;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.query.MySQLComQueryPacketExecutor;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.query.MySQLMultiStatementsQueryExecutor;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.query.MySQLMultiStatementsSplitter;
 
 import java.sql.SQLException;
+import java.util.List;
 
 /**
  * Command executor factory for MySQL.
@@ -70,7 +73,7 @@ public final class MySQLCommandExecutorFactory {
             case COM_FIELD_LIST:
                 return new MySQLComFieldListPacketExecutor((MySQLComFieldListPacket) commandPacket, backendConnection);
             case COM_QUERY:
-                return new MySQLComQueryPacketExecutor((MySQLComQueryPacket) commandPacket, backendConnection);
+                return getComQueryExecutor((MySQLComQueryPacket) commandPacket, backendConnection);
             case COM_PING:
                 return new MySQLComPingExecutor();
             case COM_STMT_PREPARE:
@@ -80,9 +83,17 @@ public final class MySQLCommandExecutorFactory {
             case COM_STMT_RESET:
                 return new MySQLComStmtResetExecutor((MySQLComStmtResetPacket) commandPacket);
             case COM_STMT_CLOSE:
-                return new MySQLComStmtCloseExecutor((MySQLComStmtClosePacket) commandPacket);
+                return new MySQLComStmtCloseExecutor((MySQLComStmtClosePacket) commandPacket, backendConnection);
             default:
                 return new MySQLUnsupportedCommandExecutor(commandPacketType);
         }
     }
+    
+    private static CommandExecutor getComQueryExecutor(final MySQLComQueryPacket packet, final BackendConnection backendConnection) throws SQLException {
+        if (!MySQLConnectionContextRegistry.getInstance().get(backendConnection.getConnectionId()).isMultiStatementsEnabled()) {
+            return new MySQLComQueryPacketExecutor(packet, backendConnection);
+        }
+        List<String> sqls = MySQLMultiStatementsSplitter.split(packet.getSql());
+        return sqls.size() > 1 ? new MySQLMultiStatementsQueryExecutor(sqls, backendConnection) : new MySQLComQueryPacketExecutor(packet, backendConnection);
+    }
 }
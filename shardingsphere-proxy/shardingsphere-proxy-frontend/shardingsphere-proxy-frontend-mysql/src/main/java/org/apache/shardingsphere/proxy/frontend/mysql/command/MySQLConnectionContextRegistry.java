@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * MySQL connection context registry.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MySQLConnectionContextRegistry {
+    
+    private static final MySQLConnectionContextRegistry INSTANCE = new MySQLConnectionContextRegistry();
+    
+    private final ConcurrentMap<Integer, MySQLConnectionContext> connectionContexts = new ConcurrentHashMap<>(1024);
+    
+    /**
+     * Get instance of MySQL connection context registry.
+     *
+     * @return instance of MySQL connection context registry.
+     */
+    public static MySQLConnectionContextRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Get MySQL connection context.
+     *
+     * @param connectionId backend connection id
+     * @return MySQL connection context
+     */
+    public MySQLConnectionContext get(final int connectionId) {
+        return connectionContexts.computeIfAbsent(connectionId, unused -> new MySQLConnectionContext());
+    }
+    
+    /**
+     * Remove MySQL connection context.
+     *
+     * @param connectionId backend connection id
+     * @return Removed MySQL connection context
+     */
+    public MySQLConnectionContext remove(final int connectionId) {
+        return connectionContexts.remove(connectionId);
+    }
+}
@@ -48,8 +48,19 @@ public final class ResponsePacketBuilder {
      * @return query response packets
      */
     public static Collection<DatabasePacket<?>> buildQueryResponsePackets(final QueryResponseHeader queryResponseHeader) {
+        return buildQueryResponsePackets(queryResponseHeader, 0);
+    }
+    
+    /**
+     * Build query response packets.
+     *
+     * @param queryResponseHeader query response header
+     * @param startSequenceId sequence ID before the first packet of response
+     * @return query response packets
+     */
+    public static Collection<DatabasePacket<?>> buildQueryResponsePackets(final QueryResponseHeader queryResponseHeader, final int startSequenceId) {
         Collection<DatabasePacket<?>> result = new LinkedList<>();
-        int sequenceId = 0;
+        int sequenceId = startSequenceId;
         List<QueryHeader> queryHeaders = queryResponseHeader.getQueryHeaders();
         result.add(new MySQLFieldCountPacket(++sequenceId, queryHeaders.size()));
         for (QueryHeader each : queryHeaders) {
@@ -86,4 +97,16 @@ public final class ResponsePacketBuilder {
     public static Collection<DatabasePacket<?>> buildUpdateResponsePackets(final UpdateResponseHeader updateResponseHeader) {
         return Collections.singletonList(new MySQLOKPacket(1, updateResponseHeader.getUpdateCount(), updateResponseHeader.getLastInsertId()));
     }
+    
+    /**
+     * Build update response packets.
+     *
+     * @param updateResponseHeader update response header
+     * @param startSequenceId sequence ID before the first packet of response
+     * @param statusFlag status flag
+     * @return update response packets
+     */
+    public static Collection<DatabasePacket<?>> buildUpdateResponsePackets(final UpdateResponseHeader updateResponseHeader, final int startSequenceId, final int statusFlag) {
+        return Collections.singletonList(new MySQLOKPacket(startSequenceId + 1, updateResponseHeader.getUpdateCount(), updateResponseHeader.getLastInsertId(), statusFlag, 0, ""));
+    }
 }
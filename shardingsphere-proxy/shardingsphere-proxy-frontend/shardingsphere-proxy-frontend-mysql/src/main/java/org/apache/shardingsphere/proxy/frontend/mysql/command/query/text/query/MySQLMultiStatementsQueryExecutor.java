@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.query;
+
+import lombok.Getter;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLStatusFlag;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseCellReader;
+import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
+import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
+import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
+import org.apache.shardingsphere.proxy.backend.text.TextProtocolBackendHandler;
+import org.apache.shardingsphere.proxy.backend.text.TextProtocolBackendHandlerFactory;
+import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.query.builder.ResponsePacketBuilder;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * COM_QUERY command packet executor for MySQL multi statements.
+ * 
+ * <p>Statements are executed one by one on the same backend connection, the next statement is executed after the result of the previous one has been written.</p>
+ */
+public final class MySQLMultiStatementsQueryExecutor implements QueryCommandExecutor {
+    
+    private static final int LAST_RESULT_STATUS_FLAG = MySQLStatusFlag.SERVER_STATUS_AUTOCOMMIT.getValue();
+    
+    private static final int MORE_RESULTS_STATUS_FLAG = MySQLStatusFlag.SERVER_STATUS_AUTOCOMMIT.getValue() | MySQLStatusFlag.SERVER_MORE_RESULTS_EXISTS.getValue();
+    
+    private final Iterator<String> sqls;
+    
+    private final BackendConnection backendConnection;
+    
+    private TextProtocolBackendHandler textProtocolBackendHandler;
+    
+    @Getter
+    private volatile ResponseType responseType;
+    
+    private int currentSequenceId;
+    
+    public MySQLMultiStatementsQueryExecutor(final List<String> sqls, final BackendConnection backendConnection) {
+        this.sqls = sqls.iterator();
+        this.backendConnection = backendConnection;
+    }
+    
+    @Override
+    public Collection<DatabasePacket<?>> execute() throws SQLException {
+        return executeNext(0);
+    }
+    
+    /**
+     * Judge whether there are statements not executed yet.
+     * 
+     * @return has more statements or not
+     */
+    public boolean hasMoreStatements() {
+        return sqls.hasNext();
+    }
+    
+    /**
+     * Execute next statement.
+     * 
+     * @param startSequenceId sequence ID of the last packet written before
+     * @return response header packets of next statement
+     * @throws SQLException SQL exception
+     */
+    public Collection<DatabasePacket<?>> executeNext(final int startSequenceId) throws SQLException {
+        closeTextProtocolBackendHandler();
+        textProtocolBackendHandler = TextProtocolBackendHandlerFactory.newInstance(DatabaseTypeRegistry.getActualDatabaseType("MySQL"), sqls.next(), backendConnection);
+        ResponseHeader responseHeader = textProtocolBackendHandler.execute();
+        if (responseHeader instanceof QueryResponseHeader) {
+            responseType = ResponseType.QUERY;
+            Collection<DatabasePacket<?>> result = ResponsePacketBuilder.buildQueryResponsePackets((QueryResponseHeader) responseHeader, startSequenceId);
+            currentSequenceId = startSequenceId + result.size();
+            return result;
+        }
+        responseType = ResponseType.UPDATE;
+        return ResponsePacketBuilder.buildUpdateResponsePackets((UpdateResponseHeader) responseHeader, startSequenceId, getStatusFlag());
+    }
+    
+    /**
+     * Get status flag for the end of current result.
+     * 
+     * @return status flag
+     */
+    public int getStatusFlag() {
+        return sqls.hasNext() ? MORE_RESULTS_STATUS_FLAG : LAST_RESULT_STATUS_FLAG;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        return textProtocolBackendHandler.next();
+    }
+    
+    @Override
+    public MySQLPacket getQueryRowPacket() throws SQLException {
+        return new MySQLTextResultSetRowPacket(++currentSequenceId, textProtocolBackendHandler.getRowData());
+    }
+    
+    /**
+     * Get query response cell reader of current statement.
+     *
+     * @return query response cell reader
+     */
+    public Optional<QueryResponseCellReader> getQueryResponseCellReader() {
+        return textProtocolBackendHandler.getQueryResponseCellReader();
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        closeTextProtocolBackendHandler();
+    }
+    
+    private void closeTextProtocolBackendHandler() throws SQLException {
+        if (null != textProtocolBackendHandler) {
+            textProtocolBackendHandler.close();
+            textProtocolBackendHandler = null;
+        }
+    }
+}
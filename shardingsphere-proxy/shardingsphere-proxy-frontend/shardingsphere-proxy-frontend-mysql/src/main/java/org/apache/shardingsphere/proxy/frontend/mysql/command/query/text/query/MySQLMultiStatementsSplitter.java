@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.query;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Multi statements splitter for MySQL.
+ * 
+ * <p>Splits SQL of COM_QUERY by top level semicolons. Semicolons inside quoted strings, quoted identifiers and comments are not delimiters.
+ * Semicolons inside compound statement bodies of stored programs created by {@code CREATE PROCEDURE/FUNCTION/TRIGGER/EVENT} are not delimiters either.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MySQLMultiStatementsSplitter {
+    
+    private static final char DELIMITER = ';';
+    
+    private static final Pattern STORED_PROGRAM_PATTERN = Pattern.compile(
+            "\\s*CREATE\\s+(OR\\s+REPLACE\\s+)?(DEFINER\\s*=\\s*\\S+\\s+)?(AGGREGATE\\s+)?(PROCEDURE|FUNCTION|TRIGGER|EVENT)\\b", Pattern.CASE_INSENSITIVE);
+    
+    private static final Collection<String> COMPOUND_END_KEYWORDS = new HashSet<>(Arrays.asList("IF", "LOOP", "WHILE", "REPEAT"));
+    
+    /**
+     * Split SQL into statements.
+     * 
+     * @param sql SQL to be split
+     * @return statements, the original SQL is returned as the only one if it does not contain multiple statements
+     */
+    public static List<String> split(final String sql) {
+        if (sql.indexOf(DELIMITER) < 0) {
+            return Collections.singletonList(sql);
+        }
+        List<String> result = new LinkedList<>();
+        int start = 0;
+        int index = 0;
+        int length = sql.length();
+        boolean storedProgram = isStoredProgram(sql, start);
+        int blockDepth = 0;
+        String previousWord = "";
+        while (index < length) {
+            char each = sql.charAt(index);
+            if ('\'' == each || '"' == each) {
+                index = skipQuoted(sql, index, each, true);
+            } else if ('`' == each) {
+                index = skipQuoted(sql, index, each, false);
+            } else if ('#' == each || isDashComment(sql, index)) {
+                index = skipLine(sql, index);
+            } else if ('/' == each && index + 1 < length && '*' == sql.charAt(index + 1)) {
+                index = skipBlockComment(sql, index);
+            } else if (storedProgram && isWordStart(sql, index)) {
+                int wordEnd = skipWord(sql, index);
+                String word = sql.substring(index, wordEnd);
+                blockDepth += getBlockDepthDelta(word, previousWord, sql, wordEnd);
+                previousWord = word;
+                index = wordEnd;
+            } else if (DELIMITER == each && blockDepth <= 0) {
+                addStatement(result, sql.substring(start, index));
+                start = index + 1;
+                index++;
+                storedProgram = isStoredProgram(sql, start);
+                blockDepth = 0;
+                previousWord = "";
+            } else {
+                index++;
+            }
+        }
+        addStatement(result, sql.substring(start));
+        return result.size() > 1 ? result : Collections.singletonList(sql);
+    }
+    
+    private static boolean isStoredProgram(final String sql, final int start) {
+        return STORED_PROGRAM_PATTERN.matcher(sql).region(start, sql.length()).lookingAt();
+    }
+    
+    private static boolean isWordStart(final String sql, final int index) {
+        return Character.isLetter(sql.charAt(index)) && (0 == index || !isWordPart(sql.charAt(index - 1)));
+    }
+    
+    private static boolean isWordPart(final char each) {
+        return Character.isLetterOrDigit(each) || '_' == each || '$' == each;
+    }
+    
+    private static int skipWord(final String sql, final int wordIndex) {
+        int result = wordIndex;
+        while (result < sql.length() && isWordPart(sql.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private static int getBlockDepthDelta(final String word, final String previousWord, final String sql, final int wordEnd) {
+        // CASE opens a block for both CASE statement and CASE expression, which are closed by END CASE and END respectively.
+        if ("BEGIN".equalsIgnoreCase(word) || "CASE".equalsIgnoreCase(word) && !"END".equalsIgnoreCase(previousWord)) {
+            return 1;
+        }
+        if ("END".equalsIgnoreCase(word) && !COMPOUND_END_KEYWORDS.contains(getNextWord(sql, wordEnd).toUpperCase())) {
+            return -1;
+        }
+        return 0;
+    }
+    
+    private static String getNextWord(final String sql, final int index) {
+        int wordIndex = index;
+        while (wordIndex < sql.length() && Character.isWhitespace(sql.charAt(wordIndex))) {
+            wordIndex++;
+        }
+        return sql.substring(wordIndex, skipWord(sql, wordIndex));
+    }
+    
+    private static int skipQuoted(final String sql, final int quoteIndex, final char quote, final boolean backslashEscaped) {
+        int result = quoteIndex + 1;
+        while (result < sql.length()) {
+            char each = sql.charAt(result);
+            if (backslashEscaped && '\\' == each) {
+                result += 2;
+                continue;
+            }
+            if (quote == each) {
+                return result + 1;
+            }
+            result++;
+        }
+        return result;
+    }
+    
+    private static boolean isDashComment(final String sql, final int index) {
+        return '-' == sql.charAt(index) && index + 1 < sql.length() && '-' == sql.charAt(index + 1) && (index + 2 == sql.length() || Character.isWhitespace(sql.charAt(index + 2)));
+    }
+    
+    private static int skipLine(final String sql, final int commentIndex) {
+        int result = sql.indexOf('\n', commentIndex);
+        return result < 0 ? sql.length() : result + 1;
+    }
+    
+    private static int skipBlockComment(final String sql, final int commentIndex) {
+        int result = sql.indexOf("*/", commentIndex + 2);
+        return result < 0 ? sql.length() : result + 2;
+    }
+    
+    private static void addStatement(final List<String> statements, final String statement) {
+        String trimmed = statement.trim();
+        if (!trimmed.isEmpty()) {
+            statements.add(trimmed);
+        }
+    }
+}
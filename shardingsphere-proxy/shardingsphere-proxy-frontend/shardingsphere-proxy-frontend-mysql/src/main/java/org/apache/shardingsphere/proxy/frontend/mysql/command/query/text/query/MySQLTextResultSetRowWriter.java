@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.query;
+
+import io.netty.buffer.ByteBuf;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.mysql.codec.MySQLPacketSplitter;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseCellReader;
+
+import java.sql.SQLException;
+
+/**
+ * Text result set row writer for MySQL.
+ *
+ * <p>Cells of current row are encoded into byte buffer directly without creating row packet, packet header is reserved and back-patched.
+ * Row reaching 16MB is split into multiple packets.</p>
+ */
+@RequiredArgsConstructor
+public final class MySQLTextResultSetRowWriter {
+    
+    private final QueryResponseCellReader cellReader;
+    
+    /**
+     * Write current row as text result set row packet.
+     *
+     * @param payload packet payload for MySQL
+     * @param sequenceId sequence ID
+     * @return count of packets written
+     * @throws SQLException SQL exception
+     */
+    public int write(final MySQLPacketPayload payload, final int sequenceId) throws SQLException {
+        ByteBuf byteBuf = payload.getByteBuf();
+        int headerIndex = byteBuf.writerIndex();
+        byteBuf.writeMediumLE(0).writeByte(sequenceId);
+        writeCells(payload);
+        return MySQLPacketSplitter.split(byteBuf, headerIndex, sequenceId);
+    }
+    
+    private void writeCells(final MySQLPacketPayload payload) throws SQLException {
+        int columnCount = cellReader.getColumnCount();
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+            MySQLTextResultSetRowPacket.writeValue(payload, cellReader.getCellData(columnIndex));
+        }
+    }
+}
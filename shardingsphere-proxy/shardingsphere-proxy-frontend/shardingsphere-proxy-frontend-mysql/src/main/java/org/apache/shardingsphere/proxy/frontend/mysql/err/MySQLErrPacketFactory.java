@@ -38,6 +38,8 @@ import org.apache.shardingsphere.proxy.backend.exception.InvalidKeyGeneratorsExc
 import org.apache.shardingsphere.proxy.backend.exception.InvalidLoadBalancersException;
 import org.apache.shardingsphere.proxy.backend.exception.InvalidResourceException;
 import org.apache.shardingsphere.proxy.backend.exception.InvalidShardingAlgorithmsException;
+import org.apache.shardingsphere.proxy.backend.exception.MemoryAdmissionTimeoutException;
+import org.apache.shardingsphere.proxy.backend.exception.MemoryLimitExceededException;
 import org.apache.shardingsphere.proxy.backend.exception.NoDatabaseSelectedException;
 import org.apache.shardingsphere.proxy.backend.exception.ReadwriteSplittingRuleNotExistedException;
 import org.apache.shardingsphere.proxy.backend.exception.ResourceInUsedException;
@@ -138,6 +140,12 @@ public final class MySQLErrPacketFactory {
             return new MySQLErrPacket(1, CommonErrorCode.TABLE_LOCKED, exception.getTableName(),
                     exception.getSchemaName());
         }
+        if (cause instanceof MemoryLimitExceededException) {
+            return new MySQLErrPacket(1, CommonErrorCode.MEMORY_LIMIT_EXCEEDED, ((MemoryLimitExceededException) cause).getReservingSize(), ((MemoryLimitExceededException) cause).getPoolSize());
+        }
+        if (cause instanceof MemoryAdmissionTimeoutException) {
+            return new MySQLErrPacket(1, CommonErrorCode.MEMORY_ADMISSION_TIMEOUT, ((MemoryAdmissionTimeoutException) cause).getTimeoutMilliseconds());
+        }
         if (cause instanceof ResourceNotExistedException) {
             return new MySQLErrPacket(1, CommonErrorCode.RESOURCE_NOT_EXIST, ((ResourceNotExistedException) cause).getResourceNames(),
                     ((ResourceNotExistedException) cause).getSchemaName());
@@ -23,6 +23,7 @@ import lombok.SneakyThrows;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLCapabilityFlag;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConnectionPhase;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLServerErrorCode;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.MySQLBinaryStatementRegistry;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLHandshakePacket;
@@ -37,6 +38,7 @@ import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.frontend.authentication.AuthenticationResultBuilder;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.MySQLConnectionContextRegistry;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -49,6 +51,7 @@ import java.util.Optional;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -80,7 +83,9 @@ public final class MySQLAuthenticationEngineTest {
     @Test
     public void assertHandshake() {
         ChannelHandlerContext context = getContext();
-        assertTrue(authenticationEngine.handshake(context) > 0);
+        int connectionId = authenticationEngine.handshake(context);
+        assertTrue(connectionId > 0);
+        assertNotNull(MySQLBinaryStatementRegistry.getInstance().get(connectionId));
         verify(context).writeAndFlush(any(MySQLHandshakePacket.class));
     }
     
@@ -150,6 +155,20 @@ public final class MySQLAuthenticationEngineTest {
         verify(context).writeAndFlush(any(MySQLOKPacket.class));
     }
     
+    @Test
+    public void assertAuthRecordsClientCapabilityFlags() throws NoSuchFieldException, IllegalAccessException {
+        ChannelHandlerContext context = getContext();
+        final int connectionId = authenticationEngine.handshake(context);
+        setConnectionPhase(MySQLConnectionPhase.AUTH_PHASE_FAST_PATH);
+        when(authenticationHandler.login(anyString(), any(), any(), anyString())).thenReturn(Optional.empty());
+        setMetaDataContexts();
+        MySQLPacketPayload payload = getPayload("root", "sharding_db", authResponse);
+        when(payload.readInt4()).thenReturn(MySQLCapabilityFlag.CLIENT_CONNECT_WITH_DB.getValue() | MySQLCapabilityFlag.CLIENT_MULTI_STATEMENTS.getValue());
+        authenticationEngine.authenticate(context, payload);
+        assertTrue(MySQLConnectionContextRegistry.getInstance().get(connectionId).isMultiStatementsEnabled());
+        MySQLConnectionContextRegistry.getInstance().remove(connectionId);
+    }
+    
     private void setMetaDataContexts() throws NoSuchFieldException, IllegalAccessException {
         Field field = ProxyContext.getInstance().getClass().getDeclaredField("metaDataContexts");
         field.setAccessible(true);
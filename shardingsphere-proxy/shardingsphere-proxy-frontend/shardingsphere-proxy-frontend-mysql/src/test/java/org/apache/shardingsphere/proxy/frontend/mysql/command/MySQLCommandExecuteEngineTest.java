@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command;
+
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.mysql.codec.MySQLPacketCodecEngine;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacketType;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class MySQLCommandExecuteEngineTest {
+    
+    @Test
+    public void assertIsInlineExecutableWithPing() {
+        byte[] message = {0, (byte) MySQLCommandPacketType.COM_PING.getValue()};
+        assertTrue(new MySQLCommandExecuteEngine(new MySQLPacketCodecEngine()).isInlineExecutable(Unpooled.wrappedBuffer(message), mock(BackendConnection.class)));
+    }
+    
+    @Test
+    public void assertIsInlineExecutableWithStatementClose() {
+        byte[] message = {0, (byte) MySQLCommandPacketType.COM_STMT_CLOSE.getValue(), 1, 0, 0, 0};
+        assertTrue(new MySQLCommandExecuteEngine(new MySQLPacketCodecEngine()).isInlineExecutable(Unpooled.wrappedBuffer(message), mock(BackendConnection.class)));
+    }
+    
+    @Test
+    public void assertIsNotInlineExecutableWithQuery() {
+        byte[] message = {0, (byte) MySQLCommandPacketType.COM_QUERY.getValue(), 's', 'e', 'l', 'e', 'c', 't', ' ', '1'};
+        assertFalse(new MySQLCommandExecuteEngine(new MySQLPacketCodecEngine()).isInlineExecutable(Unpooled.wrappedBuffer(message), mock(BackendConnection.class)));
+    }
+    
+    @Test
+    public void assertIsNotInlineExecutableWithIncompleteMessage() {
+        assertFalse(new MySQLCommandExecuteEngine(new MySQLPacketCodecEngine()).isInlineExecutable(Unpooled.wrappedBuffer(new byte[]{0}), mock(BackendConnection.class)));
+    }
+}
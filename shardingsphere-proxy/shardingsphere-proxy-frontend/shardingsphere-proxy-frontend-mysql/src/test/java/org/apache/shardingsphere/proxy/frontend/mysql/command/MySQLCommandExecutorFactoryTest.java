@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.proxy.frontend.mysql.command;
 
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLCapabilityFlag;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacketType;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.admin.initdb.MySQLComInitDbPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.close.MySQLComStmtClosePacket;
@@ -45,6 +46,7 @@ import org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.prepa
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.reset.MySQLComStmtResetExecutor;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.fieldlist.MySQLComFieldListPacketExecutor;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.query.MySQLComQueryPacketExecutor;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.query.MySQLMultiStatementsQueryExecutor;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -112,6 +114,32 @@ public final class MySQLCommandExecutorFactoryTest {
         assertThat(MySQLCommandExecutorFactory.newInstance(MySQLCommandPacketType.COM_QUERY, packet, backendConnection), instanceOf(MySQLComQueryPacketExecutor.class));
     }
     
+    @Test
+    public void assertNewInstanceWithComQueryOfMultiStatements() throws SQLException {
+        when(backendConnection.getConnectionId()).thenReturn(1);
+        MySQLConnectionContextRegistry.getInstance().get(1).setClientCapabilityFlags(MySQLCapabilityFlag.CLIENT_MULTI_STATEMENTS.getValue());
+        MySQLComQueryPacket packet = mock(MySQLComQueryPacket.class);
+        when(packet.getSql()).thenReturn("SELECT 1; SELECT 2");
+        try {
+            assertThat(MySQLCommandExecutorFactory.newInstance(MySQLCommandPacketType.COM_QUERY, packet, backendConnection), instanceOf(MySQLMultiStatementsQueryExecutor.class));
+        } finally {
+            MySQLConnectionContextRegistry.getInstance().remove(1);
+        }
+    }
+    
+    @Test
+    public void assertNewInstanceWithComQueryOfMultiStatementsNotNegotiated() throws SQLException {
+        when(backendConnection.getConnectionId()).thenReturn(2);
+        MySQLConnectionContextRegistry.getInstance().get(2).setClientCapabilityFlags(MySQLCapabilityFlag.CLIENT_MULTI_RESULTS.getValue());
+        MySQLComQueryPacket packet = mock(MySQLComQueryPacket.class);
+        when(packet.getSql()).thenReturn("SELECT 1; SELECT 2");
+        try {
+            assertThat(MySQLCommandExecutorFactory.newInstance(MySQLCommandPacketType.COM_QUERY, packet, backendConnection), instanceOf(MySQLComQueryPacketExecutor.class));
+        } finally {
+            MySQLConnectionContextRegistry.getInstance().remove(2);
+        }
+    }
+    
     @Test
     public void assertNewInstanceWithComPing() throws SQLException {
         assertThat(MySQLCommandExecutorFactory.newInstance(MySQLCommandPacketType.COM_PING, mock(CommandPacket.class), backendConnection), instanceOf(MySQLComPingExecutor.class));
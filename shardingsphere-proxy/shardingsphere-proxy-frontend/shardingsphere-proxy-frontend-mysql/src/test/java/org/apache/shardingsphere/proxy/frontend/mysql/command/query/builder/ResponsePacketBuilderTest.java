@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.proxy.frontend.mysql.command.query.builder;
 
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLStatusFlag;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLColumnDefinition41Packet;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLFieldCountPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLEofPacket;
@@ -29,6 +30,8 @@ import org.junit.Test;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.anyOf;
@@ -64,4 +67,26 @@ public final class ResponsePacketBuilderTest {
         assertThat(actualItem.getAffectedRows(), is(10L));
         assertThat(actualItem.getLastInsertId(), is(100L));
     }
+    
+    @Test
+    public void assertBuildQueryResponsePacketsWithStartSequenceId() {
+        QueryHeader queryHeader = new QueryHeader("schema1", "table1", "columnLabel1", "columnName1", 5, "VARCHAR", 4, 6, false, true, false, true);
+        Collection<DatabasePacket<?>> actual = ResponsePacketBuilder.buildQueryResponsePackets(new QueryResponseHeader(Collections.singletonList(queryHeader)), 5);
+        assertThat(actual.size(), is(3));
+        Iterator<DatabasePacket<?>> iterator = actual.iterator();
+        assertThat(((MySQLFieldCountPacket) iterator.next()).getSequenceId(), is(6));
+        assertThat(((MySQLColumnDefinition41Packet) iterator.next()).getSequenceId(), is(7));
+        assertThat(((MySQLEofPacket) iterator.next()).getSequenceId(), is(8));
+    }
+    
+    @Test
+    public void assertBuildUpdateResponsePacketsWithStatusFlag() {
+        UpdateResponseHeader updateResponseHeader = mock(UpdateResponseHeader.class);
+        when(updateResponseHeader.getUpdateCount()).thenReturn(10L);
+        int statusFlag = MySQLStatusFlag.SERVER_STATUS_AUTOCOMMIT.getValue() | MySQLStatusFlag.SERVER_MORE_RESULTS_EXISTS.getValue();
+        MySQLOKPacket actual = (MySQLOKPacket) ResponsePacketBuilder.buildUpdateResponsePackets(updateResponseHeader, 3, statusFlag).iterator().next();
+        assertThat(actual.getSequenceId(), is(4));
+        assertThat(actual.getAffectedRows(), is(10L));
+        assertThat(actual.getStatusFlag(), is(statusFlag));
+    }
 }
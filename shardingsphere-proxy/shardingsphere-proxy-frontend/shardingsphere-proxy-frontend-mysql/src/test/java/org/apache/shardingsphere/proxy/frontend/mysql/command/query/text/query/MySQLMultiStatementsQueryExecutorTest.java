@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.query;
+
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLStatusFlag;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class MySQLMultiStatementsQueryExecutorTest {
+    
+    @Test
+    public void assertExecuteStatementsInOrder() throws SQLException {
+        MySQLMultiStatementsQueryExecutor executor = new MySQLMultiStatementsQueryExecutor(Arrays.asList("/* first */", "/* second */"), mock(BackendConnection.class));
+        Collection<DatabasePacket<?>> actualFirst = executor.execute();
+        assertThat(executor.getResponseType(), is(ResponseType.UPDATE));
+        assertOKPacket(actualFirst, 1, MySQLStatusFlag.SERVER_STATUS_AUTOCOMMIT.getValue() | MySQLStatusFlag.SERVER_MORE_RESULTS_EXISTS.getValue());
+        assertTrue(executor.hasMoreStatements());
+        Collection<DatabasePacket<?>> actualSecond = executor.executeNext(1);
+        assertOKPacket(actualSecond, 2, MySQLStatusFlag.SERVER_STATUS_AUTOCOMMIT.getValue());
+        assertFalse(executor.hasMoreStatements());
+        executor.close();
+    }
+    
+    private void assertOKPacket(final Collection<DatabasePacket<?>> actual, final int expectedSequenceId, final int expectedStatusFlag) {
+        assertThat(actual.size(), is(1));
+        MySQLOKPacket actualPacket = (MySQLOKPacket) actual.iterator().next();
+        assertThat(actualPacket.getSequenceId(), is(expectedSequenceId));
+        assertThat(actualPacket.getStatusFlag(), is(expectedStatusFlag));
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.query;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class MySQLMultiStatementsSplitterTest {
+    
+    @Test
+    public void assertSplitSingleStatement() {
+        assertThat(MySQLMultiStatementsSplitter.split("SELECT 1"), is(Collections.singletonList("SELECT 1")));
+    }
+    
+    @Test
+    public void assertSplitSingleStatementWithTrailingDelimiter() {
+        assertThat(MySQLMultiStatementsSplitter.split("SELECT 1; "), is(Collections.singletonList("SELECT 1; ")));
+    }
+    
+    @Test
+    public void assertSplitMultiStatements() {
+        assertThat(MySQLMultiStatementsSplitter.split("SELECT 1;UPDATE t_order SET status = 1 ; ;SELECT 2;"), is(Arrays.asList("SELECT 1", "UPDATE t_order SET status = 1", "SELECT 2")));
+    }
+    
+    @Test
+    public void assertSplitWithDelimiterInQuotes() {
+        assertThat(MySQLMultiStatementsSplitter.split("SELECT 'a;b', \"c;\\\";d\", `e;f` FROM t; SELECT 'it''s;'"),
+                is(Arrays.asList("SELECT 'a;b', \"c;\\\";d\", `e;f` FROM t", "SELECT 'it''s;'")));
+    }
+    
+    @Test
+    public void assertSplitWithDelimiterInComments() {
+        assertThat(MySQLMultiStatementsSplitter.split("SELECT 1 /* a; b */; SELECT 2 -- c; d\n; SELECT 3 # e; f\n"),
+                is(Arrays.asList("SELECT 1 /* a; b */", "SELECT 2 -- c; d", "SELECT 3 # e; f")));
+    }
+    
+    @Test
+    public void assertSplitWithDoubleMinusNotComment() {
+        assertThat(MySQLMultiStatementsSplitter.split("SELECT 1--1; SELECT 2"), is(Arrays.asList("SELECT 1--1", "SELECT 2")));
+    }
+    
+    @Test
+    public void assertSplitWithCreateProcedure() {
+        String createProcedure = "CREATE DEFINER=`root`@`%` PROCEDURE p(IN n INT) BEGIN DECLARE i INT DEFAULT 0; "
+                + "IF n > 0 THEN SET i = CASE WHEN n > 1 THEN 1 ELSE 0 END; END IF; CASE i WHEN 1 THEN SELECT 1; ELSE SELECT 2; END CASE; "
+                + "lbl: WHILE i < n DO SET i = i + 1; END WHILE lbl; END";
+        assertThat(MySQLMultiStatementsSplitter.split(createProcedure + "; CALL p(1)"), is(Arrays.asList(createProcedure, "CALL p(1)")));
+    }
+    
+    @Test
+    public void assertSplitWithCreateTrigger() {
+        String createTrigger = "create trigger t_order_trigger before insert on t_order for each row begin set new.status = 'a;b'; set new.user_id = 1; end";
+        assertThat(MySQLMultiStatementsSplitter.split("SELECT 1; " + createTrigger + ";"), is(Arrays.asList("SELECT 1", createTrigger)));
+    }
+    
+    @Test
+    public void assertSplitWithTransactionBegin() {
+        assertThat(MySQLMultiStatementsSplitter.split("BEGIN; SELECT 1; COMMIT"), is(Arrays.asList("BEGIN", "SELECT 1", "COMMIT")));
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.query;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseCellReader;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class MySQLTextResultSetRowWriterTest {
+    
+    @Mock
+    private QueryResponseCellReader cellReader;
+    
+    @Test
+    public void assertWrite() throws SQLException {
+        when(cellReader.getColumnCount()).thenReturn(2);
+        when(cellReader.getCellData(1)).thenReturn("foo");
+        when(cellReader.getCellData(2)).thenReturn(null);
+        ByteBuf byteBuf = Unpooled.buffer();
+        MySQLPacketPayload payload = new MySQLPacketPayload(byteBuf);
+        MySQLTextResultSetRowWriter rowWriter = new MySQLTextResultSetRowWriter(cellReader);
+        assertThat(rowWriter.write(payload, 3), is(1));
+        assertThat(rowWriter.write(payload, 4), is(1));
+        assertRow(payload, 3);
+        assertRow(payload, 4);
+        assertFalse(byteBuf.isReadable());
+    }
+    
+    private void assertRow(final MySQLPacketPayload payload, final int expectedSequenceId) {
+        assertThat(payload.getByteBuf().readMediumLE(), is(5));
+        assertThat(payload.readInt1(), is(expectedSequenceId));
+        assertThat(payload.readStringLenenc(), is("foo"));
+        assertThat(payload.readInt1(), is(0xfb));
+    }
+}
@@ -23,6 +23,8 @@ import org.apache.shardingsphere.infra.config.exception.ShardingSphereConfigurat
 import org.apache.shardingsphere.proxy.backend.exception.CircuitBreakException;
 import org.apache.shardingsphere.proxy.backend.exception.DBCreateExistsException;
 import org.apache.shardingsphere.proxy.backend.exception.DBDropExistsException;
+import org.apache.shardingsphere.proxy.backend.exception.MemoryAdmissionTimeoutException;
+import org.apache.shardingsphere.proxy.backend.exception.MemoryLimitExceededException;
 import org.apache.shardingsphere.proxy.backend.exception.NoDatabaseSelectedException;
 import org.apache.shardingsphere.proxy.backend.exception.ShardingTableRuleNotExistedException;
 import org.apache.shardingsphere.proxy.backend.exception.ShardingTableRulesInUsedException;
@@ -220,6 +222,24 @@ public final class MySQLErrPacketFactoryTest {
         assertThat(actual.getErrorMessage(), is("Unsupported command: [No reason]"));
     }
     
+    @Test
+    public void assertNewInstanceWithMemoryLimitExceededException() {
+        MySQLErrPacket actual = MySQLErrPacketFactory.newInstance(new MemoryLimitExceededException(200L, 100L));
+        assertThat(actual.getSequenceId(), is(1));
+        assertThat(actual.getErrorCode(), is(1401));
+        assertThat(actual.getSqlState(), is("C1401"));
+        assertThat(actual.getErrorMessage(), is("Can not reserve 200 bytes, proxy memory pool size of 100 bytes exceeded"));
+    }
+    
+    @Test
+    public void assertNewInstanceWithMemoryAdmissionTimeoutException() {
+        MySQLErrPacket actual = MySQLErrPacketFactory.newInstance(new MemoryAdmissionTimeoutException(3000L));
+        assertThat(actual.getSequenceId(), is(1));
+        assertThat(actual.getErrorCode(), is(1402));
+        assertThat(actual.getSqlState(), is("C1402"));
+        assertThat(actual.getErrorMessage(), is("Proxy memory pool exhausted, admission wait timeout of 3000 ms exceeded"));
+    }
+    
     @Test
     public void assertNewInstanceWithOtherException() {
         MySQLErrPacket actual = MySQLErrPacketFactory.newInstance(new RuntimeException("No reason"));
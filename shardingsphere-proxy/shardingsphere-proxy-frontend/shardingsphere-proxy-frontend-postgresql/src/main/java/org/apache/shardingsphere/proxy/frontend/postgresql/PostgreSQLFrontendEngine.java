@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.proxy.frontend.postgresql;
 
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.db.protocol.codec.DatabasePacketCodecEngine;
 import org.apache.shardingsphere.db.protocol.postgresql.codec.PostgreSQLPacketCodecEngine;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
@@ -28,12 +29,17 @@ import org.apache.shardingsphere.proxy.frontend.command.CommandExecuteEngine;
 import org.apache.shardingsphere.proxy.frontend.context.FrontendContext;
 import org.apache.shardingsphere.proxy.frontend.postgresql.authentication.PostgreSQLAuthenticationEngine;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.PostgreSQLCommandExecuteEngine;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.PostgreSQLConnectionContext;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.PostgreSQLConnectionContextRegistry;
 import org.apache.shardingsphere.proxy.frontend.spi.DatabaseProtocolFrontendEngine;
 
+import java.sql.SQLException;
+
 /**
  * Frontend engine for PostgreSQL.
  */
 @Getter
+@Slf4j
 public final class PostgreSQLFrontendEngine implements DatabaseProtocolFrontendEngine {
     
     private final FrontendContext frontendContext = new FrontendContext(true, false);
@@ -47,6 +53,15 @@ public final class PostgreSQLFrontendEngine implements DatabaseProtocolFrontendE
     @Override
     public void release(final BackendConnection backendConnection) {
         PostgreSQLBinaryStatementRegistry.getInstance().unregister(backendConnection.getConnectionId());
+        PostgreSQLConnectionContext connectionContext = PostgreSQLConnectionContextRegistry.getInstance().remove(backendConnection.getConnectionId());
+        if (null == connectionContext) {
+            return;
+        }
+        try {
+            connectionContext.abortCopyIn();
+        } catch (final SQLException ex) {
+            log.error("Abort copy in failed.", ex);
+        }
     }
     
     @Override
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.proxy.frontend.postgresql.command;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import org.apache.shardingsphere.db.protocol.packet.CommandPacket;
 import org.apache.shardingsphere.db.protocol.packet.CommandPacketType;
@@ -37,12 +38,18 @@ import org.apache.shardingsphere.proxy.frontend.command.CommandExecuteEngine;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
+import org.apache.shardingsphere.proxy.frontend.netty.ChannelWritabilityAwaiter;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.PostgreSQLCommand;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.binary.execute.PostgreSQLComExecuteExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.binary.sync.PostgreSQLComSyncExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy.PostgreSQLComCopyDoneExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy.PostgreSQLComCopyInExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.text.PostgreSQLComQueryExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.err.PostgreSQLErrPacketFactory;
 
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.EnumSet;
 import java.util.Optional;
 
 /**
@@ -50,6 +57,38 @@ import java.util.Optional;
  */
 public final class PostgreSQLCommandExecuteEngine implements CommandExecuteEngine {
     
+    private static final Collection<PostgreSQLCommandPacketType> PIPELINED_COMMAND_PACKET_TYPES = EnumSet.of(
+            PostgreSQLCommandPacketType.PARSE_COMMAND, PostgreSQLCommandPacketType.BIND_COMMAND, PostgreSQLCommandPacketType.DESCRIBE_COMMAND,
+            PostgreSQLCommandPacketType.EXECUTE_COMMAND, PostgreSQLCommandPacketType.CLOSE_COMMAND, PostgreSQLCommandPacketType.FLUSH_COMMAND, PostgreSQLCommandPacketType.COPY_DATA);
+    
+    private static final byte PREPARED_STATEMENT_CLOSE_TYPE = 'S';
+    
+    @Override
+    public boolean isInlineExecutable(final ByteBuf message, final BackendConnection backendConnection) {
+        if (!message.isReadable()) {
+            return false;
+        }
+        int commandPacketTypeValue = message.getUnsignedByte(message.readerIndex());
+        if (PostgreSQLCommandPacketType.SYNC_COMMAND.getValue() == commandPacketTypeValue) {
+            return !backendConnection.isResourceHeld();
+        }
+        if (PostgreSQLCommandPacketType.CLOSE_COMMAND.getValue() == commandPacketTypeValue) {
+            return isPreparedStatementClose(message) || !backendConnection.isResourceHeld();
+        }
+        return false;
+    }
+    
+    private boolean isPreparedStatementClose(final ByteBuf message) {
+        // Closing a portal closes its JDBC result set and statement, which may block on backend I/O.
+        int closeTypeIndex = message.readerIndex() + 5;
+        return message.writerIndex() > closeTypeIndex && PREPARED_STATEMENT_CLOSE_TYPE == message.getByte(closeTypeIndex);
+    }
+    
+    @Override
+    public boolean isResourceHeld(final CommandPacketType type) {
+        return PIPELINED_COMMAND_PACKET_TYPES.contains(type);
+    }
+    
     @Override
     public PostgreSQLCommandPacketType getCommandPacketType(final PacketPayload payload) {
         return PostgreSQLCommandPacketTypeLoader.getCommandPacketType((PostgreSQLPacketPayload) payload);
@@ -68,7 +107,13 @@ public final class PostgreSQLCommandExecuteEngine implements CommandExecuteEngin
     
     @Override
     public DatabasePacket<?> getErrorPacket(final Exception cause, final BackendConnection backendConnection) {
-        PostgreSQLConnectionContextRegistry.getInstance().get(backendConnection.getConnectionId()).getPendingExecutors().clear();
+        PostgreSQLConnectionContext connectionContext = PostgreSQLConnectionContextRegistry.getInstance().get(backendConnection.getConnectionId());
+        connectionContext.getPendingExecutors().clear();
+        try {
+            connectionContext.abortCopyIn();
+        } catch (final SQLException ex) {
+            cause.addSuppressed(ex);
+        }
         return PostgreSQLErrPacketFactory.newInstance(cause);
     }
     
@@ -80,9 +125,14 @@ public final class PostgreSQLCommandExecuteEngine implements CommandExecuteEngin
     @Override
     public boolean writeQueryData(final ChannelHandlerContext context,
                                   final BackendConnection backendConnection, final QueryCommandExecutor queryCommandExecutor, final int headerPackagesCount) throws SQLException {
-        if (queryCommandExecutor instanceof PostgreSQLComSyncExecutor) {
+        if (queryCommandExecutor instanceof PostgreSQLComSyncExecutor || queryCommandExecutor instanceof PostgreSQLComCopyInExecutor || queryCommandExecutor instanceof PostgreSQLComCopyDoneExecutor) {
             return true;
         }
+        if (queryCommandExecutor instanceof PostgreSQLComExecuteExecutor) {
+            writeDataPackets(context, backendConnection, queryCommandExecutor);
+            context.write(((PostgreSQLComExecuteExecutor) queryCommandExecutor).createExecutionCompletedPacket());
+            return false;
+        }
         if (ResponseType.QUERY == queryCommandExecutor.getResponseType() && !context.channel().isActive()) {
             context.write(new PostgreSQLCommandCompletePacket(PostgreSQLCommand.SELECT.name(), 0));
             return true;
@@ -113,10 +163,7 @@ public final class PostgreSQLCommandExecuteEngine implements CommandExecuteEngin
         int proxyFrontendFlushThreshold = ProxyContext.getInstance().getMetaDataContexts().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD);
         while (queryCommandExecutor.next()) {
             flushCount++;
-            while (!context.channel().isWritable() && context.channel().isActive()) {
-                context.flush();
-                backendConnection.getResourceLock().doAwait();
-            }
+            ChannelWritabilityAwaiter.await(context, backendConnection.getResourceLock());
             DatabasePacket<?> resultValue = queryCommandExecutor.getQueryRowPacket();
             context.write(resultValue);
             if (proxyFrontendFlushThreshold == flushCount) {
@@ -26,6 +26,8 @@ import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.bin
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.close.PostgreSQLComClosePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.execute.PostgreSQLComExecutePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.parse.PostgreSQLComParsePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLComCopyDataPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLComCopyFailPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.text.PostgreSQLComQueryPacket;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
@@ -37,10 +39,16 @@ import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.binary.
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.binary.execute.PostgreSQLComExecuteExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.binary.parse.PostgreSQLComParseExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.binary.sync.PostgreSQLComSyncExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy.PostgreSQLComCopyDataExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy.PostgreSQLComCopyDoneExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy.PostgreSQLComCopyFailExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy.PostgreSQLComCopyInExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy.PostgreSQLCopyInStatement;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.text.PostgreSQLComQueryExecutor;
 
 import java.sql.SQLException;
 import java.util.Collections;
+import java.util.Optional;
 
 /**
  * Command executor factory for PostgreSQL.
@@ -64,7 +72,7 @@ public final class PostgreSQLCommandExecutorFactory {
         log.debug("Execute packet type: {}, value: {}", commandPacketType, commandPacket);
         switch (commandPacketType) {
             case SIMPLE_QUERY:
-                return new PostgreSQLComQueryExecutor(connectionContext, (PostgreSQLComQueryPacket) commandPacket, backendConnection);
+                return createQueryExecutor((PostgreSQLComQueryPacket) commandPacket, backendConnection, connectionContext);
             case PARSE_COMMAND:
                 return new PostgreSQLComParseExecutor(connectionContext, (PostgreSQLComParsePacket) commandPacket, backendConnection);
             case BIND_COMMAND:
@@ -80,6 +88,12 @@ public final class PostgreSQLCommandExecutorFactory {
             case CLOSE_COMMAND:
                 connectionContext.getPendingExecutors().add(new PostgreSQLComCloseExecutor(connectionContext, (PostgreSQLComClosePacket) commandPacket, backendConnection));
                 break;
+            case COPY_DATA:
+                return new PostgreSQLComCopyDataExecutor(connectionContext, (PostgreSQLComCopyDataPacket) commandPacket);
+            case COPY_DONE:
+                return new PostgreSQLComCopyDoneExecutor(connectionContext, backendConnection);
+            case COPY_FAIL:
+                return new PostgreSQLComCopyFailExecutor(connectionContext, (PostgreSQLComCopyFailPacket) commandPacket);
             case TERMINATE:
                 return new PostgreSQLComTerminationExecutor();
             default:
@@ -87,4 +101,11 @@ public final class PostgreSQLCommandExecutorFactory {
         }
         return Collections::emptyList;
     }
+    
+    private static CommandExecutor createQueryExecutor(final PostgreSQLComQueryPacket comQueryPacket,
+                                                       final BackendConnection backendConnection, final PostgreSQLConnectionContext connectionContext) throws SQLException {
+        Optional<PostgreSQLCopyInStatement> copyInStatement = PostgreSQLCopyInStatement.parse(comQueryPacket.getSql());
+        return copyInStatement.isPresent()
+                ? new PostgreSQLComCopyInExecutor(connectionContext, copyInStatement.get(), backendConnection) : new PostgreSQLComQueryExecutor(connectionContext, comQueryPacket, backendConnection);
+    }
 }
@@ -27,6 +27,7 @@ import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.binary.PostgreSQLPortal;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.binary.describe.PostgreSQLComDescribeExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy.PostgreSQLCopyInWriter;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.EmptyStatement;
 
@@ -54,6 +55,8 @@ public final class PostgreSQLConnectionContext {
     @Getter
     private long updateCount;
     
+    private PostgreSQLCopyInWriter copyInWriter;
+    
     /**
      * Create a portal.
      *
@@ -146,6 +149,29 @@ public final class PostgreSQLConnectionContext {
         return Optional.ofNullable(sqlStatement);
     }
     
+    /**
+     * Get copy in writer.
+     *
+     * @return copy in writer, present only in copy in mode
+     */
+    public Optional<PostgreSQLCopyInWriter> getCopyInWriter() {
+        return Optional.ofNullable(copyInWriter);
+    }
+    
+    /**
+     * Abort copy in if connection is in copy in mode.
+     *
+     * @throws SQLException SQL exception
+     */
+    public void abortCopyIn() throws SQLException {
+        if (null == copyInWriter) {
+            return;
+        }
+        PostgreSQLCopyInWriter abortedCopyInWriter = copyInWriter;
+        copyInWriter = null;
+        abortedCopyInWriter.abort();
+    }
+    
     /**
      * Clear context.
      */
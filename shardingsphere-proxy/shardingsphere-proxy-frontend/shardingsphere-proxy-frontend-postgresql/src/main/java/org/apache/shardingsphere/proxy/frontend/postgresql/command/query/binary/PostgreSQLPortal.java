@@ -22,6 +22,7 @@ import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
 import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLBinaryColumnType;
 import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLValueFormat;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.bind.protocol.PostgreSQLBinaryProtocolValueFactory;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.text.PostgreSQLDataRowPacket;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.proxy.backend.communication.DatabaseCommunicationEngine;
@@ -29,8 +30,9 @@ import org.apache.shardingsphere.proxy.backend.communication.DatabaseCommunicati
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseCell;
 import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
-import org.apache.shardingsphere.proxy.backend.response.data.impl.BinaryQueryResponseCell;
 import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
+import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
+import org.apache.shardingsphere.proxy.backend.response.header.query.impl.QueryHeader;
 import org.apache.shardingsphere.proxy.backend.text.TextProtocolBackendHandler;
 import org.apache.shardingsphere.proxy.backend.text.TextProtocolBackendHandlerFactory;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
@@ -38,8 +40,10 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.EmptyStatem
 import org.apache.shardingsphere.sql.parser.sql.common.statement.tcl.TCLStatement;
 
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -54,6 +58,12 @@ public final class PostgreSQLPortal {
     
     private final TextProtocolBackendHandler textProtocolBackendHandler;
     
+    private ResponseHeader responseHeader;
+    
+    private List<PostgreSQLBinaryColumnType> columnTypes = Collections.emptyList();
+    
+    private List<PostgreSQLValueFormat> columnFormats = Collections.emptyList();
+    
     public PostgreSQLPortal(final SQLStatement sqlStatement, final String sql, final List<Object> parameters, final List<PostgreSQLValueFormat> resultFormats,
                             final BackendConnection backendConnection) throws SQLException {
         this.resultFormats = resultFormats;
@@ -73,7 +83,38 @@ public final class PostgreSQLPortal {
      * @throws SQLException SQL exception
      */
     public ResponseHeader execute() throws SQLException {
-        return null != databaseCommunicationEngine ? databaseCommunicationEngine.execute() : textProtocolBackendHandler.execute();
+        responseHeader = null != databaseCommunicationEngine ? databaseCommunicationEngine.execute() : textProtocolBackendHandler.execute();
+        if (responseHeader instanceof QueryResponseHeader) {
+            initColumnFormats(((QueryResponseHeader) responseHeader).getQueryHeaders());
+        }
+        return responseHeader;
+    }
+    
+    private void initColumnFormats(final List<QueryHeader> queryHeaders) {
+        columnTypes = new ArrayList<>(queryHeaders.size());
+        columnFormats = new ArrayList<>(queryHeaders.size());
+        for (int i = 0; i < queryHeaders.size(); i++) {
+            PostgreSQLBinaryColumnType columnType = PostgreSQLValueFormat.BINARY == getRequestedValueFormat(i) ? findBinaryResultColumnType(queryHeaders.get(i)) : null;
+            columnTypes.add(columnType);
+            columnFormats.add(null == columnType ? PostgreSQLValueFormat.TEXT : PostgreSQLValueFormat.BINARY);
+        }
+    }
+    
+    private PostgreSQLValueFormat getRequestedValueFormat(final int columnIndex) {
+        return resultFormats.isEmpty() ? PostgreSQLValueFormat.TEXT : resultFormats.get(resultFormats.size() > columnIndex ? columnIndex : 0);
+    }
+    
+    private PostgreSQLBinaryColumnType findBinaryResultColumnType(final QueryHeader queryHeader) {
+        if (Types.ARRAY == queryHeader.getColumnType()) {
+            return null;
+        }
+        PostgreSQLBinaryColumnType result;
+        try {
+            result = PostgreSQLBinaryColumnType.valueOfJDBCType(queryHeader.getColumnType(), queryHeader.getColumnTypeName());
+        } catch (final IllegalArgumentException ignored) {
+            return null;
+        }
+        return PostgreSQLBinaryProtocolValueFactory.isBinaryResultSupported(result) ? result : null;
     }
     
     /**
@@ -100,20 +141,16 @@ public final class PostgreSQLPortal {
     private List<Object> getData(final QueryResponseRow queryResponseRow) {
         Collection<QueryResponseCell> cells = queryResponseRow.getCells();
         List<Object> result = new ArrayList<>(cells.size());
-        List<QueryResponseCell> columns = new ArrayList<>(cells);
-        for (int i = 0; i < columns.size(); i++) {
-            PostgreSQLValueFormat format = determineValueFormat(i);
-            result.add(PostgreSQLValueFormat.BINARY == format ? createBinaryCell(columns.get(i)) : columns.get(i).getData());
+        int columnIndex = 0;
+        for (QueryResponseCell each : cells) {
+            result.add(isBinaryValueFormat(columnIndex) ? new BinaryCell(columnTypes.get(columnIndex), each.getData()) : each.getData());
+            columnIndex++;
         }
         return result;
     }
     
-    private PostgreSQLValueFormat determineValueFormat(final int columnIndex) {
-        return resultFormats.isEmpty() ? PostgreSQLValueFormat.TEXT : resultFormats.get(columnIndex % resultFormats.size());
-    }
-    
-    private BinaryCell createBinaryCell(final QueryResponseCell cell) {
-        return new BinaryCell(PostgreSQLBinaryColumnType.valueOfJDBCType(((BinaryQueryResponseCell) cell).getJdbcType()), cell.getData());
+    private boolean isBinaryValueFormat(final int columnIndex) {
+        return columnIndex < columnFormats.size() && PostgreSQLValueFormat.BINARY == columnFormats.get(columnIndex);
     }
     
     /**
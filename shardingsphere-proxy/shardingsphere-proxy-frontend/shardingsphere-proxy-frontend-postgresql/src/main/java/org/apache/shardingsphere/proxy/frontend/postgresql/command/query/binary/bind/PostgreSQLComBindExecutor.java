@@ -19,6 +19,7 @@ package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.binary
 
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLValueFormat;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLColumnDescription;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLRowDescriptionPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.bind.PostgreSQLBindCompletePacket;
@@ -56,7 +57,8 @@ public final class PostgreSQLComBindExecutor implements CommandExecutor {
         result.add(new PostgreSQLBindCompletePacket());
         ResponseHeader responseHeader = portal.execute();
         if (responseHeader instanceof QueryResponseHeader) {
-            connectionContext.getDescribeExecutor().ifPresent(describeExecutor -> describeExecutor.setRowDescriptionPacket(createRowDescriptionPacket((QueryResponseHeader) responseHeader)));
+            connectionContext.getDescribeExecutor().ifPresent(
+                describeExecutor -> describeExecutor.setRowDescriptionPacket(createRowDescriptionPacket((QueryResponseHeader) responseHeader, portal.getColumnFormats())));
         }
         if (responseHeader instanceof UpdateResponseHeader) {
             connectionContext.setUpdateCount(((UpdateResponseHeader) responseHeader).getUpdateCount());
@@ -64,16 +66,17 @@ public final class PostgreSQLComBindExecutor implements CommandExecutor {
         return result;
     }
     
-    private PostgreSQLRowDescriptionPacket createRowDescriptionPacket(final QueryResponseHeader queryResponseHeader) {
-        Collection<PostgreSQLColumnDescription> columnDescriptions = createColumnDescriptions(queryResponseHeader);
+    private PostgreSQLRowDescriptionPacket createRowDescriptionPacket(final QueryResponseHeader queryResponseHeader, final List<PostgreSQLValueFormat> columnFormats) {
+        Collection<PostgreSQLColumnDescription> columnDescriptions = createColumnDescriptions(queryResponseHeader, columnFormats);
         return new PostgreSQLRowDescriptionPacket(columnDescriptions.size(), columnDescriptions);
     }
     
-    private Collection<PostgreSQLColumnDescription> createColumnDescriptions(final QueryResponseHeader queryResponseHeader) {
+    private Collection<PostgreSQLColumnDescription> createColumnDescriptions(final QueryResponseHeader queryResponseHeader, final List<PostgreSQLValueFormat> columnFormats) {
         Collection<PostgreSQLColumnDescription> result = new LinkedList<>();
         int columnIndex = 0;
         for (QueryHeader each : queryResponseHeader.getQueryHeaders()) {
-            result.add(new PostgreSQLColumnDescription(each.getColumnName(), ++columnIndex, each.getColumnType(), each.getColumnLength(), each.getColumnTypeName()));
+            PostgreSQLValueFormat valueFormat = columnIndex < columnFormats.size() ? columnFormats.get(columnIndex) : PostgreSQLValueFormat.TEXT;
+            result.add(new PostgreSQLColumnDescription(each.getColumnName(), ++columnIndex, each.getColumnType(), each.getColumnLength(), each.getColumnTypeName(), valueFormat));
         }
         return result;
     }
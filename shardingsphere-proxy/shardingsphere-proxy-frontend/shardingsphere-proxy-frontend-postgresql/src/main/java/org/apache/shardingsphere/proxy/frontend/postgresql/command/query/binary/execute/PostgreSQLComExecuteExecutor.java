@@ -19,15 +19,18 @@ package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.binary
 
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLEmptyQueryResponsePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.execute.PostgreSQLComExecutePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.execute.PostgreSQLPortalSuspendedPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLIdentifierPacket;
+import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.PostgreSQLConnectionContext;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.PostgreSQLCommand;
-import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.binary.PostgreSQLPortal;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.EmptyStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.tcl.CommitStatement;
@@ -36,13 +39,12 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.tcl.RollbackSta
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.LinkedList;
-import java.util.Optional;
 
 /**
  * Command execute executor for PostgreSQL.
  */
 @RequiredArgsConstructor
-public final class PostgreSQLComExecuteExecutor implements CommandExecutor {
+public final class PostgreSQLComExecuteExecutor implements QueryCommandExecutor {
     
     private final PostgreSQLConnectionContext connectionContext;
     
@@ -57,30 +59,34 @@ public final class PostgreSQLComExecuteExecutor implements CommandExecutor {
             result.addAll(each.execute());
         }
         connectionContext.getPendingExecutors().clear();
-        result.addAll(doExecute());
-        result.add(createExecutionCompletedPacket());
         return result;
     }
     
-    private Collection<? extends DatabasePacket<?>> doExecute() throws SQLException {
-        Collection<DatabasePacket<?>> result = new LinkedList<>();
-        while (!isPortalSuspended()) {
-            Optional<DatabasePacket<?>> packet = getPacketFromPortal();
-            if (!packet.isPresent()) {
-                break;
-            }
-            dataRows++;
-            result.add(packet.get());
+    @Override
+    public ResponseType getResponseType() {
+        return connectionContext.getPortal(packet.getPortal()).getResponseHeader() instanceof QueryResponseHeader ? ResponseType.QUERY : ResponseType.UPDATE;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (isPortalSuspended() || !connectionContext.getPortal(packet.getPortal()).next()) {
+            return false;
         }
-        return result;
+        dataRows++;
+        return true;
     }
     
-    private Optional<DatabasePacket<?>> getPacketFromPortal() throws SQLException {
-        PostgreSQLPortal portal = connectionContext.getPortal(packet.getPortal());
-        return portal.next() ? Optional.of(portal.nextPacket()) : Optional.empty();
+    @Override
+    public PostgreSQLPacket getQueryRowPacket() throws SQLException {
+        return connectionContext.getPortal(packet.getPortal()).nextPacket();
     }
     
-    private PostgreSQLIdentifierPacket createExecutionCompletedPacket() {
+    /**
+     * Create execution completed packet, which should be written after all query row packets.
+     *
+     * @return execution completed packet
+     */
+    public PostgreSQLIdentifierPacket createExecutionCompletedPacket() {
         if (isPortalSuspended()) {
             return new PostgreSQLPortalSuspendedPacket();
         }
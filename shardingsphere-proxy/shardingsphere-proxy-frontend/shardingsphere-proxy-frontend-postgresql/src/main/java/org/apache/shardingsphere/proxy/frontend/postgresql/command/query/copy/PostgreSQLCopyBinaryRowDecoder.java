@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLBinaryColumnType;
+import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLErrorCode;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.bind.protocol.PostgreSQLBinaryProtocolValue;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.bind.protocol.PostgreSQLBinaryProtocolValueFactory;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Binary format row decoder of copy data for PostgreSQL.
+ *
+ * @see <a href="https://www.postgresql.org/docs/13/sql-copy.html">Binary Format</a>
+ */
+public final class PostgreSQLCopyBinaryRowDecoder implements PostgreSQLCopyRowDecoder {
+    
+    private static final byte[] SIGNATURE = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xff, '\r', '\n', 0};
+    
+    private static final int HEADER_LENGTH = SIGNATURE.length + 8;
+    
+    private final List<PostgreSQLBinaryProtocolValue> binaryProtocolValues;
+    
+    private final ByteBuf cumulation = Unpooled.buffer();
+    
+    private final PostgreSQLPacketPayload payload = new PostgreSQLPacketPayload(cumulation);
+    
+    private boolean headerDecoded;
+    
+    private boolean trailerDecoded;
+    
+    public PostgreSQLCopyBinaryRowDecoder(final List<Integer> columnTypes) throws SQLException {
+        binaryProtocolValues = new ArrayList<>(columnTypes.size());
+        for (int each : columnTypes) {
+            binaryProtocolValues.add(getBinaryProtocolValue(each));
+        }
+    }
+    
+    private PostgreSQLBinaryProtocolValue getBinaryProtocolValue(final int columnType) throws SQLException {
+        try {
+            return PostgreSQLBinaryProtocolValueFactory.getBinaryProtocolValue(PostgreSQLBinaryColumnType.valueOfJDBCType(columnType));
+        } catch (final IllegalArgumentException ex) {
+            throw new SQLException(String.format("Binary COPY of JDBC type '%s' is not supported", columnType), PostgreSQLErrorCode.FEATURE_NOT_SUPPORTED.getErrorCode(), ex);
+        }
+    }
+    
+    @Override
+    public List<List<Object>> decode(final ByteBuf data) throws SQLException {
+        cumulation.writeBytes(data);
+        List<List<Object>> result = new LinkedList<>();
+        if (!headerDecoded && !decodeHeader()) {
+            return result;
+        }
+        while (!trailerDecoded && cumulation.readableBytes() >= 2) {
+            short fieldCount = cumulation.getShort(cumulation.readerIndex());
+            if (-1 == fieldCount) {
+                cumulation.skipBytes(2);
+                trailerDecoded = true;
+                break;
+            }
+            if (fieldCount != binaryProtocolValues.size()) {
+                throw new SQLException(String.format("Expected %d columns but got %d in COPY data", binaryProtocolValues.size(), fieldCount), PostgreSQLErrorCode.BAD_COPY_FILE_FORMAT.getErrorCode());
+            }
+            if (!isTupleReadable(fieldCount)) {
+                break;
+            }
+            cumulation.skipBytes(2);
+            result.add(decodeTuple());
+        }
+        cumulation.discardReadBytes();
+        return result;
+    }
+    
+    private boolean decodeHeader() throws SQLException {
+        if (cumulation.readableBytes() < HEADER_LENGTH) {
+            return false;
+        }
+        if (!ByteBufUtil.equals(Unpooled.wrappedBuffer(SIGNATURE), 0, cumulation, cumulation.readerIndex(), SIGNATURE.length)) {
+            throw new SQLException("COPY file signature not recognized", PostgreSQLErrorCode.BAD_COPY_FILE_FORMAT.getErrorCode());
+        }
+        int headerExtensionLength = cumulation.getInt(cumulation.readerIndex() + HEADER_LENGTH - 4);
+        if (cumulation.readableBytes() < HEADER_LENGTH + headerExtensionLength) {
+            return false;
+        }
+        cumulation.skipBytes(HEADER_LENGTH + headerExtensionLength);
+        headerDecoded = true;
+        return true;
+    }
+    
+    private boolean isTupleReadable(final int fieldCount) {
+        int index = cumulation.readerIndex() + 2;
+        for (int i = 0; i < fieldCount; i++) {
+            if (cumulation.writerIndex() < index + 4) {
+                return false;
+            }
+            index += 4 + Math.max(cumulation.getInt(index), 0);
+        }
+        return cumulation.writerIndex() >= index;
+    }
+    
+    private List<Object> decodeTuple() {
+        List<Object> result = new ArrayList<>(binaryProtocolValues.size());
+        for (PostgreSQLBinaryProtocolValue each : binaryProtocolValues) {
+            int length = payload.readInt4();
+            if (-1 == length) {
+                result.add(null);
+                continue;
+            }
+            int valueStartIndex = cumulation.readerIndex();
+            result.add(each.read(payload, length));
+            cumulation.readerIndex(valueStartIndex + length);
+        }
+        return result;
+    }
+    
+    @Override
+    public List<List<Object>> decodeRemaining() throws SQLException {
+        if (cumulation.isReadable()) {
+            throw new SQLException("Unexpected end of COPY data", PostgreSQLErrorCode.BAD_COPY_FILE_FORMAT.getErrorCode());
+        }
+        return Collections.emptyList();
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLErrorCode;
+import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLValueFormat;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Copy in statement for PostgreSQL, which is {@code COPY table [(column, ...)] FROM STDIN [[WITH] options]}.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public final class PostgreSQLCopyInStatement {
+    
+    private static final Pattern COPY_IN_PATTERN = Pattern.compile(
+            "^\\s*COPY\\s+((?:\"[^\"]+\"|[\\w$]+)(?:\\.(?:\"[^\"]+\"|[\\w$]+))?)\\s*(?:\\(([^)]*)\\))?\\s*FROM\\s+STDIN\\b(.*?)[\\s;]*$", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    
+    private final String tableName;
+    
+    private final List<String> columnNames;
+    
+    private final PostgreSQLValueFormat format;
+    
+    /**
+     * Parse copy in statement.
+     *
+     * @param sql SQL
+     * @return copy in statement, empty if SQL is not copy in statement
+     * @throws SQLException SQL exception
+     */
+    public static Optional<PostgreSQLCopyInStatement> parse(final String sql) throws SQLException {
+        Matcher matcher = COPY_IN_PATTERN.matcher(sql);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        return Optional.of(new PostgreSQLCopyInStatement(matcher.group(1), parseColumnNames(matcher.group(2)), parseFormat(matcher.group(3))));
+    }
+    
+    private static List<String> parseColumnNames(final String columnNames) {
+        if (null == columnNames || columnNames.trim().isEmpty()) {
+            return Collections.emptyList();
+        }
+        return Arrays.stream(columnNames.split(",")).map(String::trim).collect(Collectors.toList());
+    }
+    
+    private static PostgreSQLValueFormat parseFormat(final String options) throws SQLException {
+        PostgreSQLValueFormat result = PostgreSQLValueFormat.TEXT;
+        for (String each : options.replaceAll("[(),]", " ").trim().split("\\s+")) {
+            switch (each.toUpperCase()) {
+                case "":
+                case "WITH":
+                case "FORMAT":
+                case "TEXT":
+                    break;
+                case "BINARY":
+                    result = PostgreSQLValueFormat.BINARY;
+                    break;
+                default:
+                    throw new SQLException(String.format("COPY option '%s' is not supported", each), PostgreSQLErrorCode.FEATURE_NOT_SUPPORTED.getErrorCode());
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Get unquoted table name without schema.
+     *
+     * @return unquoted table name
+     */
+    public String getUnquotedTableName() {
+        return unquote(tableName.substring(tableName.lastIndexOf('.') + 1));
+    }
+    
+    /**
+     * Unquote identifier.
+     *
+     * @param identifier identifier
+     * @return unquoted identifier, which is lower case if not quoted
+     */
+    public static String unquote(final String identifier) {
+        return identifier.startsWith("\"") && identifier.endsWith("\"") ? identifier.substring(1, identifier.length() - 1) : identifier.toLowerCase();
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import io.netty.buffer.ByteBuf;
+import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLErrorCode;
+import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLValueFormat;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.proxy.backend.communication.DatabaseCommunicationEngine;
+import org.apache.shardingsphere.proxy.backend.communication.DatabaseCommunicationEngineFactory;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.transaction.BackendTransactionManager;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Copy in writer for PostgreSQL.
+ *
+ * <p>Decoded rows are buffered and written as multiple rows insert statement once buffer is full,
+ * so that sharding, key generation and encrypt rules are applied to each row like inserting from client.</p>
+ *
+ * <p>Copy is all-or-nothing: if no transaction is active, one is begun at copy in and committed at copy done,
+ * and it is rolled back once copy fails, an error occurs or the connection is closed.</p>
+ */
+public final class PostgreSQLCopyInWriter {
+    
+    private static final int MAX_BUFFERED_ROWS = 1000;
+    
+    private static final int MAX_PARAMETERS = Short.MAX_VALUE;
+    
+    private final PostgreSQLCopyInStatement copyInStatement;
+    
+    private final BackendConnection backendConnection;
+    
+    private final List<String> columnNames;
+    
+    private final PostgreSQLCopyRowDecoder rowDecoder;
+    
+    private final int maxBufferedRows;
+    
+    private final List<List<Object>> bufferedRows;
+    
+    private long copiedRows;
+    
+    private BackendTransactionManager transactionManager;
+    
+    public PostgreSQLCopyInWriter(final PostgreSQLCopyInStatement copyInStatement, final BackendConnection backendConnection) throws SQLException {
+        this.copyInStatement = copyInStatement;
+        this.backendConnection = backendConnection;
+        TableMetaData tableMetaData = getTableMetaData();
+        columnNames = copyInStatement.getColumnNames().isEmpty() ? new ArrayList<>(tableMetaData.getColumns().keySet()) : copyInStatement.getColumnNames();
+        List<Integer> columnTypes = getColumnTypes(tableMetaData);
+        rowDecoder = PostgreSQLValueFormat.BINARY == copyInStatement.getFormat() ? new PostgreSQLCopyBinaryRowDecoder(columnTypes) : new PostgreSQLCopyTextRowDecoder(columnTypes);
+        maxBufferedRows = Math.max(1, Math.min(MAX_BUFFERED_ROWS, MAX_PARAMETERS / Math.max(1, columnNames.size())));
+        bufferedRows = new ArrayList<>(maxBufferedRows);
+    }
+    
+    private TableMetaData getTableMetaData() throws SQLException {
+        TableMetaData result = ProxyContext.getInstance().getMetaData(backendConnection.getSchemaName()).getSchema().get(copyInStatement.getUnquotedTableName());
+        if (null == result) {
+            throw new SQLException(String.format("Relation '%s' does not exist", copyInStatement.getTableName()), PostgreSQLErrorCode.UNDEFINED_TABLE.getErrorCode());
+        }
+        return result;
+    }
+    
+    private List<Integer> getColumnTypes(final TableMetaData tableMetaData) throws SQLException {
+        List<Integer> result = new ArrayList<>(columnNames.size());
+        for (String each : columnNames) {
+            ColumnMetaData columnMetaData = tableMetaData.getColumns().get(PostgreSQLCopyInStatement.unquote(each));
+            if (null == columnMetaData) {
+                throw new SQLException(String.format("Column '%s' of relation '%s' does not exist", each, copyInStatement.getTableName()), PostgreSQLErrorCode.UNDEFINED_COLUMN.getErrorCode());
+            }
+            result.add(columnMetaData.getDataType());
+        }
+        return result;
+    }
+    
+    /**
+     * Get column count.
+     *
+     * @return column count
+     */
+    public int getColumnCount() {
+        return columnNames.size();
+    }
+    
+    /**
+     * Begin copy in, starting a transaction if there is no active one.
+     */
+    public void begin() {
+        if (backendConnection.getTransactionStatus().isInTransaction()) {
+            return;
+        }
+        transactionManager = new BackendTransactionManager(backendConnection);
+        transactionManager.begin();
+    }
+    
+    /**
+     * Write copy data.
+     *
+     * @param data copy data
+     * @throws SQLException SQL exception
+     */
+    public void write(final ByteBuf data) throws SQLException {
+        try {
+            bufferRows(rowDecoder.decode(data));
+        } catch (final SQLException ex) {
+            abortQuietly(ex);
+            throw ex;
+        }
+    }
+    
+    /**
+     * Finish copy in.
+     *
+     * @return count of copied rows
+     * @throws SQLException SQL exception
+     */
+    public long finish() throws SQLException {
+        try {
+            bufferRows(rowDecoder.decodeRemaining());
+            flush();
+        } catch (final SQLException ex) {
+            abortQuietly(ex);
+            throw ex;
+        }
+        if (null != transactionManager) {
+            BackendTransactionManager ownedTransactionManager = transactionManager;
+            transactionManager = null;
+            ownedTransactionManager.commit();
+        }
+        return copiedRows;
+    }
+    
+    /**
+     * Abort copy in, discarding buffered rows and rolling back the transaction begun by copy in.
+     *
+     * @throws SQLException SQL exception
+     */
+    public void abort() throws SQLException {
+        bufferedRows.clear();
+        if (null != transactionManager) {
+            BackendTransactionManager ownedTransactionManager = transactionManager;
+            transactionManager = null;
+            ownedTransactionManager.rollback();
+        }
+    }
+    
+    private void abortQuietly(final SQLException cause) {
+        try {
+            abort();
+        } catch (final SQLException ex) {
+            cause.addSuppressed(ex);
+        }
+    }
+    
+    private void bufferRows(final List<List<Object>> rows) throws SQLException {
+        for (List<Object> each : rows) {
+            bufferedRows.add(each);
+            if (maxBufferedRows == bufferedRows.size()) {
+                flush();
+            }
+        }
+    }
+    
+    private void flush() throws SQLException {
+        if (bufferedRows.isEmpty()) {
+            return;
+        }
+        String sql = createInsertSQL(bufferedRows.size());
+        List<Object> parameters = new ArrayList<>(bufferedRows.size() * columnNames.size());
+        bufferedRows.forEach(parameters::addAll);
+        DatabaseCommunicationEngine databaseCommunicationEngine = DatabaseCommunicationEngineFactory.getInstance().newBinaryProtocolInstance(parseSQL(sql), sql, parameters, backendConnection);
+        try {
+            databaseCommunicationEngine.execute();
+        } finally {
+            databaseCommunicationEngine.close();
+        }
+        copiedRows += bufferedRows.size();
+        bufferedRows.clear();
+    }
+    
+    private String createInsertSQL(final int rowCount) {
+        String values = String.format("(%s)", String.join(", ", Collections.nCopies(columnNames.size(), "?")));
+        return String.format("INSERT INTO %s (%s) VALUES %s", copyInStatement.getTableName(), String.join(", ", columnNames), String.join(", ", Collections.nCopies(rowCount, values)));
+    }
+    
+    private SQLStatement parseSQL(final String sql) {
+        ShardingSphereMetaData metaData = ProxyContext.getInstance().getMetaData(backendConnection.getSchemaName());
+        return new ShardingSphereSQLParserEngine(DatabaseTypeRegistry.getTrunkDatabaseTypeName(metaData.getResource().getDatabaseType())).parse(sql, true);
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import io.netty.buffer.ByteBuf;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Row decoder of copy data for PostgreSQL.
+ */
+public interface PostgreSQLCopyRowDecoder {
+    
+    /**
+     * Decode rows completed in copy data, incomplete row is kept until following copy data arrived.
+     *
+     * @param data copy data
+     * @return decoded rows
+     * @throws SQLException SQL exception
+     */
+    List<List<Object>> decode(ByteBuf data) throws SQLException;
+    
+    /**
+     * Decode rows remained after all copy data arrived.
+     *
+     * @return decoded rows
+     * @throws SQLException SQL exception
+     */
+    List<List<Object>> decodeRemaining() throws SQLException;
+}
@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLErrorCode;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.bind.PostgreSQLTypeUnspecifiedSQLParameter;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Text format row decoder of copy data for PostgreSQL.
+ *
+ * <p>Rows are terminated by newline and columns are separated by tab, {@code \N} stands for null and backslash escapes are decoded.</p>
+ */
+@RequiredArgsConstructor
+public final class PostgreSQLCopyTextRowDecoder implements PostgreSQLCopyRowDecoder {
+    
+    private static final String NULL_VALUE = "\\N";
+    
+    private static final String END_OF_DATA = "\\.";
+    
+    private static final Charset CLIENT_ENCODING = StandardCharsets.UTF_8;
+    
+    private final List<Integer> columnTypes;
+    
+    private final ByteBuf cumulation = Unpooled.buffer();
+    
+    @Override
+    public List<List<Object>> decode(final ByteBuf data) throws SQLException {
+        cumulation.writeBytes(data);
+        List<List<Object>> result = new LinkedList<>();
+        int lineEndIndex = indexOfLineEnd();
+        while (-1 != lineEndIndex) {
+            String line = cumulation.toString(cumulation.readerIndex(), lineEndIndex - cumulation.readerIndex(), CLIENT_ENCODING);
+            cumulation.readerIndex(lineEndIndex + 1);
+            decodeLine(line, result);
+            lineEndIndex = indexOfLineEnd();
+        }
+        cumulation.discardReadBytes();
+        return result;
+    }
+    
+    private int indexOfLineEnd() {
+        return cumulation.indexOf(cumulation.readerIndex(), cumulation.writerIndex(), (byte) '\n');
+    }
+    
+    @Override
+    public List<List<Object>> decodeRemaining() throws SQLException {
+        if (!cumulation.isReadable()) {
+            return Collections.emptyList();
+        }
+        List<List<Object>> result = new LinkedList<>();
+        decodeLine(cumulation.toString(CLIENT_ENCODING), result);
+        cumulation.clear();
+        return result;
+    }
+    
+    private void decodeLine(final String line, final List<List<Object>> rows) throws SQLException {
+        String row = line.endsWith("\r") ? line.substring(0, line.length() - 1) : line;
+        if (END_OF_DATA.equals(row)) {
+            return;
+        }
+        String[] values = row.split("\t", -1);
+        if (values.length != columnTypes.size()) {
+            throw new SQLException(String.format("Expected %d columns but got %d in COPY data", columnTypes.size(), values.length), PostgreSQLErrorCode.BAD_COPY_FILE_FORMAT.getErrorCode());
+        }
+        List<Object> result = new ArrayList<>(values.length);
+        for (int i = 0; i < values.length; i++) {
+            result.add(NULL_VALUE.equals(values[i]) ? null : convert(unescape(values[i]), columnTypes.get(i)));
+        }
+        rows.add(result);
+    }
+    
+    private String unescape(final String value) {
+        if (-1 == value.indexOf('\\')) {
+            return value;
+        }
+        StringBuilder result = new StringBuilder(value.length());
+        ByteArrayOutputStream escapedBytes = new ByteArrayOutputStream();
+        int index = 0;
+        while (index < value.length()) {
+            char each = value.charAt(index);
+            if ('\\' == each && index < value.length() - 1) {
+                index = unescape(value, index + 1, result, escapedBytes) + 1;
+            } else {
+                appendEscapedBytes(escapedBytes, result);
+                result.append(each);
+                index++;
+            }
+        }
+        appendEscapedBytes(escapedBytes, result);
+        return result.toString();
+    }
+    
+    private int unescape(final String value, final int index, final StringBuilder result, final ByteArrayOutputStream escapedBytes) {
+        char each = value.charAt(index);
+        int radix = 'x' == each ? 16 : 8;
+        int start = 16 == radix ? index + 1 : index;
+        int end = start;
+        while (end < value.length() && end < start + (16 == radix ? 2 : 3) && Character.digit(value.charAt(end), radix) >= 0) {
+            end++;
+        }
+        if (start < end) {
+            escapedBytes.write(Integer.parseInt(value.substring(start, end), radix));
+            return end - 1;
+        }
+        appendEscapedBytes(escapedBytes, result);
+        result.append(unescape(each));
+        return index;
+    }
+    
+    private char unescape(final char escaped) {
+        switch (escaped) {
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'v':
+                return (char) 0x0b;
+            default:
+                return escaped;
+        }
+    }
+    
+    private void appendEscapedBytes(final ByteArrayOutputStream escapedBytes, final StringBuilder result) {
+        // Octal and hexadecimal escapes stand for bytes of client encoding, so consecutive ones may compose one multibyte character.
+        if (escapedBytes.size() > 0) {
+            result.append(new String(escapedBytes.toByteArray(), CLIENT_ENCODING));
+            escapedBytes.reset();
+        }
+    }
+    
+    private Object convert(final String value, final int columnType) throws SQLException {
+        try {
+            switch (columnType) {
+                case Types.TINYINT:
+                case Types.SMALLINT:
+                case Types.INTEGER:
+                    return Integer.parseInt(value);
+                case Types.BIGINT:
+                    return Long.parseLong(value);
+                case Types.REAL:
+                    return Float.parseFloat(value);
+                case Types.FLOAT:
+                case Types.DOUBLE:
+                    return Double.parseDouble(value);
+                case Types.NUMERIC:
+                case Types.DECIMAL:
+                    return new BigDecimal(value);
+                case Types.CHAR:
+                case Types.VARCHAR:
+                case Types.LONGVARCHAR:
+                case Types.NCHAR:
+                case Types.NVARCHAR:
+                    return value;
+                default:
+                    return new PostgreSQLTypeUnspecifiedSQLParameter(value);
+            }
+        } catch (final NumberFormatException ex) {
+            throw new SQLException(String.format("Invalid number '%s' in COPY data", value), PostgreSQLErrorCode.BAD_COPY_FILE_FORMAT.getErrorCode(), ex);
+        }
+    }
+}
@@ -17,9 +17,13 @@
 
 package org.apache.shardingsphere.proxy.frontend.postgresql.command;
 
+import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelConfig;
 import io.netty.channel.ChannelHandlerContext;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacketType;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.execute.PostgreSQLPortalSuspendedPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLReadyForQueryPacket;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
@@ -27,12 +31,14 @@ import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.Res
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.transaction.TransactionStatus;
 import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.binary.execute.PostgreSQLComExecuteExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.binary.sync.PostgreSQLComSyncExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.text.PostgreSQLComQueryExecutor;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
@@ -42,6 +48,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -71,6 +78,58 @@ public final class PostgreSQLCommandExecuteEngineTest {
         when(backendConnection.getTransactionStatus()).thenReturn(new TransactionStatus(TransactionType.LOCAL));
     }
     
+    @Test
+    public void assertIsInlineExecutableWithSync() {
+        assertTrue(new PostgreSQLCommandExecuteEngine().isInlineExecutable(Unpooled.wrappedBuffer(new byte[]{'S', 0, 0, 0, 4}), backendConnection));
+    }
+    
+    @Test
+    public void assertIsNotInlineExecutableWithSyncWhenResourceHeld() {
+        when(backendConnection.isResourceHeld()).thenReturn(true);
+        assertFalse(new PostgreSQLCommandExecuteEngine().isInlineExecutable(Unpooled.wrappedBuffer(new byte[]{'S', 0, 0, 0, 4}), backendConnection));
+    }
+    
+    @Test
+    public void assertIsInlineExecutableWithClose() {
+        assertTrue(new PostgreSQLCommandExecuteEngine().isInlineExecutable(Unpooled.wrappedBuffer(new byte[]{'C', 0, 0, 0, 6, 'S', 0}), backendConnection));
+    }
+    
+    @Test
+    public void assertIsInlineExecutableWithPortalClose() {
+        assertTrue(new PostgreSQLCommandExecuteEngine().isInlineExecutable(Unpooled.wrappedBuffer(new byte[]{'C', 0, 0, 0, 6, 'P', 0}), backendConnection));
+    }
+    
+    @Test
+    public void assertIsNotInlineExecutableWithPortalCloseWhenResourceHeld() {
+        when(backendConnection.isResourceHeld()).thenReturn(true);
+        assertFalse(new PostgreSQLCommandExecuteEngine().isInlineExecutable(Unpooled.wrappedBuffer(new byte[]{'C', 0, 0, 0, 6, 'P', 0}), backendConnection));
+    }
+    
+    @Test
+    public void assertIsInlineExecutableWithPreparedStatementCloseWhenResourceHeld() {
+        assertTrue(new PostgreSQLCommandExecuteEngine().isInlineExecutable(Unpooled.wrappedBuffer(new byte[]{'C', 0, 0, 0, 6, 'S', 0}), backendConnection));
+    }
+    
+    @Test
+    public void assertIsNotInlineExecutableWithExecute() {
+        assertFalse(new PostgreSQLCommandExecuteEngine().isInlineExecutable(Unpooled.wrappedBuffer(new byte[]{'E', 0, 0, 0, 9, 0, 0, 0, 0, 0}), backendConnection));
+    }
+    
+    @Test
+    public void assertIsResourceHeldWithPipelinedCommand() {
+        assertTrue(new PostgreSQLCommandExecuteEngine().isResourceHeld(PostgreSQLCommandPacketType.EXECUTE_COMMAND));
+    }
+    
+    @Test
+    public void assertIsNotResourceHeldWithSync() {
+        assertFalse(new PostgreSQLCommandExecuteEngine().isResourceHeld(PostgreSQLCommandPacketType.SYNC_COMMAND));
+    }
+    
+    @Test
+    public void assertIsNotResourceHeldWithSimpleQuery() {
+        assertFalse(new PostgreSQLCommandExecuteEngine().isResourceHeld(PostgreSQLCommandPacketType.SIMPLE_QUERY));
+    }
+    
     @Test
     public void assertSimpleQueryWithUpdateResponseWriteQueryData() throws SQLException {
         PostgreSQLComQueryExecutor comQueryExecutor = mock(PostgreSQLComQueryExecutor.class);
@@ -114,6 +173,8 @@ public final class PostgreSQLCommandExecuteEngineTest {
         when(channel.isActive()).thenReturn(true);
         when(queryCommandExecutor.next()).thenReturn(true, false);
         when(channel.isWritable()).thenReturn(false, true);
+        ChannelConfig channelConfig = mock(ChannelConfig.class);
+        when(channel.config()).thenReturn(channelConfig);
         ResourceLock resourceLock = mock(ResourceLock.class);
         when(backendConnection.getResourceLock()).thenReturn(resourceLock);
         PostgreSQLPacket packet = mock(PostgreSQLPacket.class);
@@ -121,10 +182,29 @@ public final class PostgreSQLCommandExecuteEngineTest {
         PostgreSQLCommandExecuteEngine commandExecuteEngine = new PostgreSQLCommandExecuteEngine();
         boolean actual = commandExecuteEngine.writeQueryData(channelHandlerContext, backendConnection, queryCommandExecutor, 0);
         assertTrue(actual);
-        verify(resourceLock).doAwait();
+        verify(channelConfig).setAutoRead(false);
+        verify(resourceLock).doAwaitUntil(any());
+        verify(channelConfig).setAutoRead(true);
         verify(channelHandlerContext).write(packet);
         verify(channelHandlerContext).write(isA(PostgreSQLCommandCompletePacket.class));
         verify(channelHandlerContext).flush();
         verify(channelHandlerContext).write(isA(PostgreSQLReadyForQueryPacket.class));
     }
+    
+    @Test
+    public void assertWriteQueryDataWithComExecute() throws SQLException {
+        PostgreSQLComExecuteExecutor comExecuteExecutor = mock(PostgreSQLComExecuteExecutor.class);
+        when(comExecuteExecutor.next()).thenReturn(true, false);
+        when(channel.isWritable()).thenReturn(true);
+        PostgreSQLPacket packet = mock(PostgreSQLPacket.class);
+        when(comExecuteExecutor.getQueryRowPacket()).thenReturn(packet);
+        PostgreSQLPortalSuspendedPacket portalSuspendedPacket = new PostgreSQLPortalSuspendedPacket();
+        when(comExecuteExecutor.createExecutionCompletedPacket()).thenReturn(portalSuspendedPacket);
+        boolean actual = new PostgreSQLCommandExecuteEngine().writeQueryData(channelHandlerContext, backendConnection, comExecuteExecutor, 0);
+        assertFalse(actual);
+        InOrder inOrder = inOrder(channelHandlerContext);
+        inOrder.verify(channelHandlerContext).write(packet);
+        inOrder.verify(channelHandlerContext).write(portalSuspendedPacket);
+        verify(channelHandlerContext, never()).write(isA(PostgreSQLReadyForQueryPacket.class));
+    }
 }
@@ -17,23 +17,34 @@
 
 package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.binary.bind;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLValueFormat;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLRowDescriptionPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.bind.PostgreSQLBindCompletePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.bind.PostgreSQLComBindPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
+import org.apache.shardingsphere.proxy.backend.response.header.query.impl.QueryHeader;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.PostgreSQLConnectionContext;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.binary.PostgreSQLPortal;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.binary.describe.PostgreSQLComDescribeExecutor;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
@@ -41,6 +52,7 @@ import static org.junit.Assert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -104,4 +116,19 @@ public final class PostgreSQLComBindExecutorTest {
         assertThat(actual.iterator().next(), is(instanceOf(PostgreSQLBindCompletePacket.class)));
         verify(portal).execute();
     }
+    
+    @Test
+    public void assertExecuteBindPacketWithBinaryResultFormat() throws SQLException {
+        QueryHeader queryHeader = new QueryHeader("schema", "t_order", "order_id", "order_id", Types.INTEGER, "int4", 11, 0, true, true, true, false);
+        when(portal.execute()).thenReturn(new QueryResponseHeader(Collections.singletonList(queryHeader)));
+        when(portal.getColumnFormats()).thenReturn(Collections.singletonList(PostgreSQLValueFormat.BINARY));
+        PostgreSQLComDescribeExecutor describeExecutor = mock(PostgreSQLComDescribeExecutor.class);
+        when(connectionContext.getDescribeExecutor()).thenReturn(Optional.of(describeExecutor));
+        new PostgreSQLComBindExecutor(connectionContext, bindPacket, backendConnection).execute();
+        ArgumentCaptor<PostgreSQLRowDescriptionPacket> rowDescriptionPacket = ArgumentCaptor.forClass(PostgreSQLRowDescriptionPacket.class);
+        verify(describeExecutor).setRowDescriptionPacket(rowDescriptionPacket.capture());
+        ByteBuf byteBuf = Unpooled.buffer();
+        rowDescriptionPacket.getValue().write(new PostgreSQLPacketPayload(byteBuf));
+        assertThat(byteBuf.getShort(byteBuf.writerIndex() - 2), is((short) PostgreSQLValueFormat.BINARY.getCode()));
+    }
 }
@@ -21,9 +21,14 @@ import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLEmptyQueryResponsePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.execute.PostgreSQLComExecutePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.execute.PostgreSQLPortalSuspendedPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.text.PostgreSQLDataRowPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLIdentifierPacket;
+import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
+import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
 import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.PostgreSQLConnectionContext;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.binary.PostgreSQLPortal;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.EmptyStatement;
@@ -37,14 +42,18 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -75,26 +84,56 @@ public final class PostgreSQLComExecuteExecutorTest {
     }
     
     @Test
-    public void assertExecuteQuery() throws SQLException {
+    public void assertExecuteWithPendingExecutors() throws SQLException {
         when(connectionContext.getPendingExecutors()).thenReturn(new ArrayList<>(Collections.singletonList(queryCommandExecutor)));
         when(queryCommandExecutor.execute()).thenReturn(Collections.singletonList(postgreSQLPacket));
+        Collection<DatabasePacket<?>> actual = new PostgreSQLComExecuteExecutor(connectionContext, packet).execute();
+        assertThat(actual.size(), is(1));
+        assertThat(actual.iterator().next(), is(postgreSQLPacket));
+        assertTrue(connectionContext.getPendingExecutors().isEmpty());
+    }
+    
+    @Test
+    public void assertGetResponseType() {
+        when(portal.getResponseHeader()).thenReturn(mock(QueryResponseHeader.class));
+        assertThat(new PostgreSQLComExecuteExecutor(connectionContext, packet).getResponseType(), is(ResponseType.QUERY));
+        when(portal.getResponseHeader()).thenReturn(mock(UpdateResponseHeader.class));
+        assertThat(new PostgreSQLComExecuteExecutor(connectionContext, packet).getResponseType(), is(ResponseType.UPDATE));
+    }
+    
+    @Test
+    public void assertStreamQuery() throws SQLException {
         when(portal.next()).thenReturn(true, false);
         when(portal.nextPacket()).thenReturn(dataRowPacket);
         PostgreSQLComExecuteExecutor actual = new PostgreSQLComExecuteExecutor(connectionContext, packet);
-        Collection<DatabasePacket<?>> actualPackets = actual.execute();
-        assertThat(actualPackets.size(), is(3));
-        Iterator<DatabasePacket<?>> actualPacketsIterator = actualPackets.iterator();
-        assertThat(actualPacketsIterator.next(), is(postgreSQLPacket));
-        assertThat(actualPacketsIterator.next(), is(dataRowPacket));
-        assertThat(actualPacketsIterator.next(), instanceOf(PostgreSQLCommandCompletePacket.class));
+        assertTrue(actual.next());
+        assertThat(actual.getQueryRowPacket(), is(dataRowPacket));
+        assertFalse(actual.next());
+        PostgreSQLIdentifierPacket actualCompletedPacket = actual.createExecutionCompletedPacket();
+        assertThat(actualCompletedPacket, instanceOf(PostgreSQLCommandCompletePacket.class));
+        verify(connectionContext).clearContext();
     }
     
     @Test
-    public void assertExecuteUpdate() throws SQLException {
+    public void assertStreamQueryWithMaxRows() throws SQLException {
+        when(packet.getMaxRows()).thenReturn(1);
+        when(portal.next()).thenReturn(true);
+        PostgreSQLComExecuteExecutor actual = new PostgreSQLComExecuteExecutor(connectionContext, packet);
+        assertTrue(actual.next());
+        assertFalse(actual.next());
+        assertThat(actual.createExecutionCompletedPacket(), instanceOf(PostgreSQLPortalSuspendedPacket.class));
+        actual.close();
+        verify(portal, times(1)).next();
+        verify(portal, never()).close();
+    }
+    
+    @Test
+    public void assertStreamUpdate() throws SQLException {
         when(connectionContext.getSqlStatement()).thenReturn(Optional.of(mock(EmptyStatement.class)));
-        when(portal.next()).thenReturn(false);
-        Collection<DatabasePacket<?>> actual = new PostgreSQLComExecuteExecutor(connectionContext, packet).execute();
-        assertThat(actual.size(), is(1));
-        assertThat(actual.iterator().next(), is(instanceOf(PostgreSQLEmptyQueryResponsePacket.class)));
+        PostgreSQLComExecuteExecutor actual = new PostgreSQLComExecuteExecutor(connectionContext, packet);
+        assertFalse(actual.next());
+        assertThat(actual.createExecutionCompletedPacket(), instanceOf(PostgreSQLEmptyQueryResponsePacket.class));
+        actual.close();
+        verify(portal).close();
     }
 }
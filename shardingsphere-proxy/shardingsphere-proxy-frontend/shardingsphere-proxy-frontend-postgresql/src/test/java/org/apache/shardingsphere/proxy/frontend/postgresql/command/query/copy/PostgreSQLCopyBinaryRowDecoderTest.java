@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class PostgreSQLCopyBinaryRowDecoderTest {
+    
+    private static final byte[] SIGNATURE = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xff, '\r', '\n', 0};
+    
+    @Test
+    public void assertDecode() throws SQLException {
+        ByteBuf data = Unpooled.buffer().writeBytes(SIGNATURE).writeInt(0).writeInt(0);
+        data.writeShort(2).writeInt(8).writeLong(1L).writeInt(3).writeBytes("foo".getBytes(StandardCharsets.UTF_8));
+        data.writeShort(2).writeInt(8).writeLong(2L).writeInt(-1);
+        data.writeShort(-1);
+        PostgreSQLCopyBinaryRowDecoder decoder = new PostgreSQLCopyBinaryRowDecoder(Arrays.asList(Types.BIGINT, Types.VARCHAR));
+        assertTrue(decoder.decode(data.readSlice(30)).isEmpty());
+        List<List<Object>> actual = decoder.decode(data.readSlice(20));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0), is(Arrays.asList(1L, "foo")));
+        actual = decoder.decode(data);
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).get(0), is(2L));
+        assertThat(actual.get(0).get(1), nullValue());
+        assertTrue(decoder.decodeRemaining().isEmpty());
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertDecodeWithWrongSignature() throws SQLException {
+        new PostgreSQLCopyBinaryRowDecoder(Collections.singletonList(Types.INTEGER)).decode(Unpooled.wrappedBuffer(new byte[19]));
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertDecodeRemainingWithIncompleteTuple() throws SQLException {
+        PostgreSQLCopyBinaryRowDecoder decoder = new PostgreSQLCopyBinaryRowDecoder(Collections.singletonList(Types.INTEGER));
+        decoder.decode(Unpooled.buffer().writeBytes(SIGNATURE).writeInt(0).writeInt(0).writeShort(1).writeInt(4));
+        decoder.decodeRemaining();
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertNewInstanceWithUnsupportedType() throws SQLException {
+        new PostgreSQLCopyBinaryRowDecoder(Collections.singletonList(Types.BLOB));
+    }
+}
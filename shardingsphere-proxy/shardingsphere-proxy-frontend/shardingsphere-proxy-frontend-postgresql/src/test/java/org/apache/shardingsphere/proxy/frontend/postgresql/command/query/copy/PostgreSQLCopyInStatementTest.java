@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLValueFormat;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class PostgreSQLCopyInStatementTest {
+    
+    @Test
+    public void assertParseWithoutColumns() throws SQLException {
+        Optional<PostgreSQLCopyInStatement> actual = PostgreSQLCopyInStatement.parse("COPY t_order FROM STDIN;");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getTableName(), is("t_order"));
+        assertTrue(actual.get().getColumnNames().isEmpty());
+        assertThat(actual.get().getFormat(), is(PostgreSQLValueFormat.TEXT));
+    }
+    
+    @Test
+    public void assertParseWithColumnsAndBinaryFormat() throws SQLException {
+        Optional<PostgreSQLCopyInStatement> actual = PostgreSQLCopyInStatement.parse("copy public.\"T_Order\" (order_id, \"User_Id\") from stdin with (format binary)");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getTableName(), is("public.\"T_Order\""));
+        assertThat(actual.get().getUnquotedTableName(), is("T_Order"));
+        assertThat(actual.get().getColumnNames(), is(Arrays.asList("order_id", "\"User_Id\"")));
+        assertThat(actual.get().getFormat(), is(PostgreSQLValueFormat.BINARY));
+    }
+    
+    @Test
+    public void assertParseWithLegacyBinaryOption() throws SQLException {
+        assertThat(PostgreSQLCopyInStatement.parse("COPY t_order FROM STDIN BINARY").map(PostgreSQLCopyInStatement::getFormat).orElse(null), is(PostgreSQLValueFormat.BINARY));
+    }
+    
+    @Test
+    public void assertParseWithNonCopyInStatement() throws SQLException {
+        assertFalse(PostgreSQLCopyInStatement.parse("SELECT * FROM t_order").isPresent());
+        assertFalse(PostgreSQLCopyInStatement.parse("COPY t_order TO STDOUT").isPresent());
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertParseWithUnsupportedOption() throws SQLException {
+        PostgreSQLCopyInStatement.parse("COPY t_order FROM STDIN WITH (FORMAT csv)");
+    }
+    
+    @Test
+    public void assertUnquote() {
+        assertThat(PostgreSQLCopyInStatement.unquote("Order_Id"), is("order_id"));
+        assertThat(PostgreSQLCopyInStatement.unquote("\"Order_Id\""), is("Order_Id"));
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import io.netty.buffer.Unpooled;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLComCopyDataPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLComCopyFailPacket;
+import org.apache.shardingsphere.infra.context.metadata.MetaDataContexts;
+import org.apache.shardingsphere.infra.database.type.dialect.PostgreSQLDatabaseType;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.proxy.backend.communication.DatabaseCommunicationEngine;
+import org.apache.shardingsphere.proxy.backend.communication.DatabaseCommunicationEngineFactory;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.PostgreSQLConnectionContext;
+import org.apache.shardingsphere.transaction.context.TransactionContexts;
+import org.apache.shardingsphere.transaction.core.TransactionType;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class PostgreSQLCopyInWriterTest {
+    
+    private final List<Object> pendingRows = new LinkedList<>();
+    
+    private final List<Object> committedRows = new LinkedList<>();
+    
+    @Mock
+    private DatabaseCommunicationEngineFactory databaseCommunicationEngineFactory;
+    
+    @Mock
+    private Connection connection;
+    
+    private MetaDataContexts originalMetaDataContexts;
+    
+    private TransactionContexts originalTransactionContexts;
+    
+    private DatabaseCommunicationEngineFactory originalDatabaseCommunicationEngineFactory;
+    
+    private BackendConnection backendConnection;
+    
+    @Before
+    public void setUp() throws SQLException {
+        originalMetaDataContexts = ProxyContext.getInstance().getMetaDataContexts();
+        originalTransactionContexts = ProxyContext.getInstance().getTransactionContexts();
+        MetaDataContexts metaDataContexts = mock(MetaDataContexts.class);
+        when(metaDataContexts.getAllSchemaNames()).thenReturn(Collections.singletonList("schema"));
+        ShardingSphereMetaData metaData = mock(ShardingSphereMetaData.class, RETURNS_DEEP_STUBS);
+        when(metaData.getSchema().get("t_order")).thenReturn(new TableMetaData(Collections.singletonList(new ColumnMetaData("order_id", Types.INTEGER, true, false, false)), Collections.emptyList()));
+        when(metaData.getResource().getDatabaseType()).thenReturn(new PostgreSQLDatabaseType());
+        when(metaDataContexts.getMetaData("schema")).thenReturn(metaData);
+        ProxyContext.getInstance().init(metaDataContexts, mock(TransactionContexts.class));
+        backendConnection = new BackendConnection(TransactionType.LOCAL);
+        backendConnection.setCurrentSchema("schema");
+        originalDatabaseCommunicationEngineFactory = setDatabaseCommunicationEngineFactory(databaseCommunicationEngineFactory);
+        when(databaseCommunicationEngineFactory.newBinaryProtocolInstance(any(), anyString(), anyList(), any())).thenAnswer(invocation -> mockDatabaseCommunicationEngine(invocation.getArgument(2)));
+        doAnswer(invocation -> {
+            pendingRows.clear();
+            return null;
+        }).when(connection).rollback();
+        doAnswer(invocation -> {
+            committedRows.addAll(pendingRows);
+            pendingRows.clear();
+            return null;
+        }).when(connection).commit();
+    }
+    
+    private DatabaseCommunicationEngine mockDatabaseCommunicationEngine(final List<Object> parameters) throws SQLException {
+        DatabaseCommunicationEngine result = mock(DatabaseCommunicationEngine.class);
+        when(result.execute()).thenAnswer(invocation -> {
+            if (!backendConnection.getCachedConnections().containsValue(connection)) {
+                backendConnection.getCachedConnections().put("ds", connection);
+            }
+            pendingRows.addAll(parameters);
+            if (!backendConnection.getTransactionStatus().isInTransaction()) {
+                committedRows.addAll(pendingRows);
+                pendingRows.clear();
+            }
+            return null;
+        });
+        return result;
+    }
+    
+    @After
+    public void tearDown() {
+        ProxyContext.getInstance().init(originalMetaDataContexts, originalTransactionContexts);
+        setDatabaseCommunicationEngineFactory(originalDatabaseCommunicationEngineFactory);
+    }
+    
+    @SneakyThrows
+    private static DatabaseCommunicationEngineFactory setDatabaseCommunicationEngineFactory(final DatabaseCommunicationEngineFactory factory) {
+        Field field = DatabaseCommunicationEngineFactory.class.getDeclaredField("INSTANCE");
+        field.setAccessible(true);
+        Field modifiers = Field.class.getDeclaredField("modifiers");
+        modifiers.setAccessible(true);
+        modifiers.setInt(field, field.getModifiers() & ~Modifier.FINAL);
+        DatabaseCommunicationEngineFactory result = (DatabaseCommunicationEngineFactory) field.get(null);
+        field.set(null, factory);
+        return result;
+    }
+    
+    @Test
+    public void assertCopyDoneCommitsAllRows() throws SQLException {
+        PostgreSQLCopyInWriter copyInWriter = createCopyInWriter();
+        copyInWriter.write(Unpooled.wrappedBuffer(createRows(1001).getBytes(StandardCharsets.UTF_8)));
+        assertThat(pendingRows.size(), is(1000));
+        assertTrue(committedRows.isEmpty());
+        assertThat(copyInWriter.finish(), is(1001L));
+        assertThat(committedRows.size(), is(1001));
+        assertFalse(backendConnection.getTransactionStatus().isInTransaction());
+    }
+    
+    @Test
+    public void assertCopyFailAfterFlushedBatchLeavesNoRows() throws SQLException {
+        PostgreSQLConnectionContext connectionContext = new PostgreSQLConnectionContext();
+        connectionContext.setCopyInWriter(createCopyInWriter());
+        new PostgreSQLComCopyDataExecutor(connectionContext, mockCopyDataPacket(createRows(1001))).execute();
+        assertThat(pendingRows.size(), is(1000));
+        try {
+            new PostgreSQLComCopyFailExecutor(connectionContext, mockCopyFailPacket()).execute();
+            fail("Expected SQLException for copy fail.");
+        } catch (final SQLException ignored) {
+        }
+        verify(connection).rollback();
+        verify(connection, never()).commit();
+        assertTrue(pendingRows.isEmpty());
+        assertTrue(committedRows.isEmpty());
+        assertFalse(connectionContext.getCopyInWriter().isPresent());
+        assertFalse(backendConnection.getTransactionStatus().isInTransaction());
+    }
+    
+    @Test
+    public void assertCopyInJoinsActiveTransaction() throws SQLException {
+        backendConnection.getTransactionStatus().setInTransaction(true);
+        PostgreSQLCopyInWriter copyInWriter = createCopyInWriter();
+        copyInWriter.write(Unpooled.wrappedBuffer(createRows(1).getBytes(StandardCharsets.UTF_8)));
+        copyInWriter.finish();
+        verify(connection, never()).commit();
+        assertThat(pendingRows.size(), is(1));
+        assertTrue(backendConnection.getTransactionStatus().isInTransaction());
+    }
+    
+    private PostgreSQLCopyInWriter createCopyInWriter() throws SQLException {
+        PostgreSQLCopyInWriter result = new PostgreSQLCopyInWriter(PostgreSQLCopyInStatement.parse("COPY t_order (order_id) FROM STDIN").get(), backendConnection);
+        result.begin();
+        return result;
+    }
+    
+    private static String createRows(final int rowCount) {
+        StringBuilder result = new StringBuilder();
+        for (int i = 1; i <= rowCount; i++) {
+            result.append(i).append('\n');
+        }
+        return result.toString();
+    }
+    
+    private static PostgreSQLComCopyDataPacket mockCopyDataPacket(final String rows) {
+        PostgreSQLComCopyDataPacket result = mock(PostgreSQLComCopyDataPacket.class);
+        when(result.getData()).thenReturn(Unpooled.wrappedBuffer(rows.getBytes(StandardCharsets.UTF_8)));
+        return result;
+    }
+    
+    private static PostgreSQLComCopyFailPacket mockCopyFailPacket() {
+        PostgreSQLComCopyFailPacket result = mock(PostgreSQLComCopyFailPacket.class);
+        when(result.getErrorMessage()).thenReturn("aborted by client");
+        return result;
+    }
+}
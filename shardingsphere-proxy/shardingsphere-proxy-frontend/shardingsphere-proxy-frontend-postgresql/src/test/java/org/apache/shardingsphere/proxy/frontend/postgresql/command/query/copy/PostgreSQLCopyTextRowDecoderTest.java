@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.binary.bind.PostgreSQLTypeUnspecifiedSQLParameter;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class PostgreSQLCopyTextRowDecoderTest {
+    
+    private final PostgreSQLCopyTextRowDecoder decoder = new PostgreSQLCopyTextRowDecoder(Arrays.asList(Types.INTEGER, Types.VARCHAR, Types.NUMERIC, Types.DATE));
+    
+    @Test
+    public void assertDecodeRowsAcrossData() throws SQLException {
+        assertThat(decode("1\tfoo\t1.5\t2021-01-01\n2\tb").size(), is(1));
+        List<List<Object>> actual = decode("ar\t\\N\t2021-01-02\n");
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).get(0), is(2));
+        assertThat(actual.get(0).get(1), is("bar"));
+        assertThat(actual.get(0).get(2), nullValue());
+        assertThat(actual.get(0).get(3), instanceOf(PostgreSQLTypeUnspecifiedSQLParameter.class));
+        assertThat(actual.get(0).get(3).toString(), is("2021-01-02"));
+    }
+    
+    @Test
+    public void assertDecodeWithEscapes() throws SQLException {
+        List<List<Object>> actual = decode("1\ta\\tb\\nc\\\\d\\101\\x42\t0\t\\N\n\\.\n");
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).get(1), is("a\tb\nc\\dAB"));
+        assertThat(actual.get(0).get(2), is(BigDecimal.ZERO));
+    }
+    
+    @Test
+    public void assertDecodeWithMultibyteEscapes() throws SQLException {
+        List<List<Object>> actual = decode("1\t\\344\\xb8\\xad\\346\\x96\\x87\\n\t0\t\\N\n");
+        assertThat(actual.get(0).get(1), is("中文\n"));
+    }
+    
+    @Test
+    public void assertDecodeRemaining() throws SQLException {
+        assertTrue(decode("1\tfoo\t1\t\\N").isEmpty());
+        List<List<Object>> actual = decoder.decodeRemaining();
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).get(1), is("foo"));
+        assertTrue(decoder.decodeRemaining().isEmpty());
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertDecodeWithWrongColumnCount() throws SQLException {
+        decode("1\tfoo\n");
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertDecodeWithInvalidNumber() throws SQLException {
+        decode("foo\tfoo\t1\t\\N\n");
+    }
+    
+    private List<List<Object>> decode(final String data) throws SQLException {
+        return decoder.decode(Unpooled.wrappedBuffer(data.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.proxy.frontend.command;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import org.apache.shardingsphere.db.protocol.packet.CommandPacket;
 import org.apache.shardingsphere.db.protocol.packet.CommandPacketType;
@@ -34,6 +35,33 @@ import java.util.Optional;
  */
 public interface CommandExecuteEngine {
     
+    /**
+     * Judge whether command of message can be executed inline on I/O thread.
+     *
+     * <p>Only commands which never block, such as ping or statement bookkeeping in memory, can be executed inline.
+     * The message should be peeked only, reader index must not be changed.</p>
+     *
+     * @param message message
+     * @param backendConnection backend connection
+     * @return can be executed inline or not
+     */
+    default boolean isInlineExecutable(final ByteBuf message, final BackendConnection backendConnection) {
+        return false;
+    }
+    
+    /**
+     * Judge whether backend resources should be held after command of type executed.
+     *
+     * <p>Commands pipelined by client can hold backend connections and execution context until the command which terminates pipeline,
+     * to avoid acquiring and releasing backend connections for each command.</p>
+     *
+     * @param type command packet type
+     * @return backend resources should be held or not
+     */
+    default boolean isResourceHeld(final CommandPacketType type) {
+        return false;
+    }
+    
     /**
      * Get command packet type.
      *